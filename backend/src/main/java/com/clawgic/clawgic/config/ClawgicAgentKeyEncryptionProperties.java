@@ -27,4 +27,11 @@ public class ClawgicAgentKeyEncryptionProperties {
             DEFAULT_LOCAL_DEV_KEY_BASE64
     ));
     private int maxPlaintextLength = 4096;
+
+    /**
+     * Decrypted keys kept in memory (as wiped-on-eviction {@code char[]}) so debate turns skip envelope parsing and
+     * AES-GCM. Zero entries or TTL disables the cache.
+     */
+    private int decryptedCacheMaxEntries = 256;
+    private long decryptedCacheTtlSeconds = 300;
 }
@@ -34,9 +34,48 @@ public class ClawgicProviderProperties {
     private int maxTokensPerWord = 2;
     private int minResponseTokens = 64;
 
+    /**
+     * Stream live provider responses (SSE) and stop reading at the word limit or turn deadline. Live providers
+     * always stream while hedging is enabled, so a cancelled hedge loser stops reading.
+     */
+    private boolean streamingEnabled = true;
+
+    /**
+     * Words per simulated chunk and delay between chunks for the mock provider's streamed responses.
+     */
+    private int mockStreamChunkWords = 4;
+    private long mockStreamChunkDelayMs = 0L;
+
     /**
      * Optional per-agent provider-key-ref model override.
      * Example key: team/openai/primary -> gpt-4.1-mini
      */
     private Map<String, String> keyRefModels = new LinkedHashMap<>();
+
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Hedged debate turns: when a turn is still running at the given latency percentile of recent turns for the
+     * same provider and model, a second request is raced against it and the loser is cancelled.
+     */
+    @Getter
+    @Setter
+    public static class Hedging {
+        private boolean enabled = false;
+        private double latencyPercentile = 0.95d;
+        private int latencyWindowSize = 200;
+        private int minSamples = 20;
+        private long minDelayMs = 500L;
+
+        /**
+         * Hedge credits earned per hedge-eligible turn, and the most that can be banked; each hedge spends one.
+         */
+        private double budgetRatio = 0.1d;
+        private double budgetBurst = 5d;
+
+        /**
+         * Model to hedge with, keyed by the primary model. Without an entry the hedge reuses the primary model.
+         */
+        private Map<String, String> fallbackModels = new LinkedHashMap<>();
+    }
 }
@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Clawgic runtime feature flags and execution defaults.
@@ -46,6 +48,7 @@ public class ClawgicRuntimeProperties {
     private Tournament tournament = new Tournament();
     private Worker worker = new Worker();
     private Debate debate = new Debate();
+    private Spectator spectator = new Spectator();
 
     @Getter
     @Setter
@@ -54,6 +57,8 @@ public class ClawgicRuntimeProperties {
         private int defaultEntryWindowMinutes = 60;
         private BigDecimal judgeFeeUsdcPerCompletedMatch = new BigDecimal("0.250000");
         private BigDecimal systemRetentionRate = new BigDecimal("0.000000");
+        private long lobbySnapshotTtlMs = 2_000;
+        private long entryReservationTtlSeconds = 120;
     }
 
     @Getter
@@ -65,6 +70,14 @@ public class ClawgicRuntimeProperties {
         private String queueMode = "redis";
         private String redisQueueKey = "clawgic:judge:queue";
         private long redisPopTimeoutSeconds = 1;
+        private boolean notifyEnabled = true;
+        private long notifyWaitMs = 5_000;
+        private long notifyReconnectDelayMs = 5_000;
+        private long fallbackPollIntervalMs = 60_000;
+        private int maxConcurrentMatchExecutions = 4;
+        private int maxMatchExecutionsPerTick = 64;
+        private int maxResumedMatchesPerTick = 16;
+        private Map<String, Double> schedulingTierWeights = new LinkedHashMap<>(Map.of("STANDARD", 1.0));
     }
 
     @Getter
@@ -74,5 +87,15 @@ public class ClawgicRuntimeProperties {
         private int maxResponseWords = 180;
         private int maxResponseTokens = 512;
         private int providerTimeoutSeconds = 15;
+        private int executionLeaseSeconds = 60;
+    }
+
+    @Getter
+    @Setter
+    public static class Spectator {
+        private int subscriberBufferSize = 256;
+        private long sseTimeoutMs = 1_800_000;
+        private boolean relayEnabled = true;
+        private int relayBufferSize = 1_024;
     }
 }
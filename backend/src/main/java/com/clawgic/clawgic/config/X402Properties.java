@@ -35,6 +35,21 @@ public class X402Properties {
     private String paymentHeaderName = "X-PAYMENT";
     private long nonceTtlSeconds = 300L;
 
+    /**
+     * When true, paid entries return 202 once the authorization is recorded and the signature is verified on a
+     * bounded pool of {@code verifier-pool-size} threads; clients poll the returned status URL. When false,
+     * verification runs inside the entry request.
+     */
+    private boolean asyncVerificationEnabled = false;
+    private int verifierPoolSize = 4;
+    private int verifierQueueCapacity = 256;
+
+    /**
+     * Signer recoveries remembered by (authorization nonce, signature hash) so idempotent retries of the same
+     * header skip ecrecover; entries live for {@code nonce-ttl-seconds}. Zero disables the cache.
+     */
+    private int verificationCacheMaxEntries = 4096;
+
     /**
      * EIP-3009/EIP-712 domain values used for signature verification.
      * Defaults match USDC TransferWithAuthorization.
@@ -45,8 +45,12 @@ public class ClawgicAgentController {
     @GetMapping("/leaderboard")
     public ResponseEntity<ClawgicAgentResponses.AgentLeaderboardPage> getLeaderboard(
             @RequestParam(defaultValue = "0") int offset,
-            @RequestParam(defaultValue = "25") int limit
+            @RequestParam(defaultValue = "25") int limit,
+            @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            return ResponseEntity.ok(clawgicAgentService.getLeaderboardAfter(cursor, limit));
+        }
         return ResponseEntity.ok(clawgicAgentService.getLeaderboard(offset, limit));
     }
 
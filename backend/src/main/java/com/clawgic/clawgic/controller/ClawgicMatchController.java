@@ -3,11 +3,14 @@ package com.clawgic.clawgic.controller;
 import com.clawgic.clawgic.dto.ClawgicMatchResponses;
 import com.clawgic.clawgic.dto.ClawgicTournamentResponses;
 import com.clawgic.clawgic.service.ClawgicMatchService;
+import com.clawgic.clawgic.service.ClawgicMatchSpectatorFeed;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,9 +20,14 @@ import java.util.UUID;
 public class ClawgicMatchController {
 
     private final ClawgicMatchService clawgicMatchService;
+    private final ClawgicMatchSpectatorFeed clawgicMatchSpectatorFeed;
 
-    public ClawgicMatchController(ClawgicMatchService clawgicMatchService) {
+    public ClawgicMatchController(
+            ClawgicMatchService clawgicMatchService,
+            ClawgicMatchSpectatorFeed clawgicMatchSpectatorFeed
+    ) {
         this.clawgicMatchService = clawgicMatchService;
+        this.clawgicMatchSpectatorFeed = clawgicMatchSpectatorFeed;
     }
 
     @GetMapping("/matches/{matchId}")
@@ -27,6 +35,12 @@ public class ClawgicMatchController {
         return ResponseEntity.ok(clawgicMatchService.getMatchDetail(matchId));
     }
 
+    @GetMapping(value = "/matches/{matchId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatch(@PathVariable UUID matchId) {
+        clawgicMatchService.requireMatch(matchId);
+        return clawgicMatchSpectatorFeed.subscribe(matchId, () -> clawgicMatchService.findMatchStatus(matchId));
+    }
+
     @GetMapping("/tournaments/{tournamentId}/matches")
     public ResponseEntity<List<ClawgicMatchResponses.MatchSummary>> listTournamentMatches(
             @PathVariable UUID tournamentId
@@ -3,20 +3,29 @@ package com.clawgic.clawgic.controller;
 import com.clawgic.clawgic.dto.ClawgicTournamentRequests;
 import com.clawgic.clawgic.dto.ClawgicTournamentResponses;
 import com.clawgic.clawgic.dto.ClawgicMatchResponses;
+import com.clawgic.clawgic.model.ClawgicTournamentStatus;
+import com.clawgic.clawgic.model.TournamentEntrySubmissionState;
 import com.clawgic.clawgic.service.ClawgicTournamentService;
 import com.clawgic.clawgic.web.X402PaymentRequiredInterceptor;
+import com.clawgic.service.ImmutableResponseCache;
+import com.clawgic.service.KeysetCursor;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -24,9 +33,14 @@ import java.util.UUID;
 public class ClawgicTournamentController {
 
     private final ClawgicTournamentService clawgicTournamentService;
+    private final ImmutableResponseCache immutableResponseCache;
 
-    public ClawgicTournamentController(ClawgicTournamentService clawgicTournamentService) {
+    public ClawgicTournamentController(
+            ClawgicTournamentService clawgicTournamentService,
+            ImmutableResponseCache immutableResponseCache
+    ) {
         this.clawgicTournamentService = clawgicTournamentService;
+        this.immutableResponseCache = immutableResponseCache;
     }
 
     @PostMapping
@@ -43,19 +57,43 @@ public class ClawgicTournamentController {
     }
 
     @GetMapping("/results")
-    public ResponseEntity<List<ClawgicTournamentResponses.TournamentSummary>> listTournamentsForResults() {
-        return ResponseEntity.ok(clawgicTournamentService.listTournamentsForResults());
+    public ResponseEntity<List<ClawgicTournamentResponses.TournamentSummary>> listTournamentsForResults(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        ClawgicTournamentResponses.TournamentSummaryPage page =
+                clawgicTournamentService.listTournamentsForResults(cursor, limit);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            ok.header(KeysetCursor.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(page.tournaments());
     }
 
     @GetMapping("/{tournamentId}/results")
-    public ResponseEntity<ClawgicTournamentResponses.TournamentResults> getTournamentResults(
-            @PathVariable UUID tournamentId
+    public ResponseEntity<?> getTournamentResults(
+            @PathVariable UUID tournamentId,
+            @RequestHeader HttpHeaders requestHeaders
     ) {
-        return ResponseEntity.ok(clawgicTournamentService.getTournamentResults(tournamentId));
+        String cacheKey = ClawgicTournamentResponses.TournamentResults.cacheKey(tournamentId);
+        Optional<ImmutableResponseCache.CachedResponse> cached = immutableResponseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return immutableResponseCache.serve(cached.get(), requestHeaders);
+        }
+
+        ClawgicTournamentResponses.TournamentResults results = clawgicTournamentService.getTournamentResults(tournamentId);
+        if (results.tournament().status() == ClawgicTournamentStatus.COMPLETED) {
+            return immutableResponseCache.serve(immutableResponseCache.put(cacheKey, results), requestHeaders);
+        }
+        return ResponseEntity.ok(results);
     }
 
+    /**
+     * Returns 201 with the entry, or 202 with a {@code Location} to poll when the x402 payment is verified
+     * asynchronously.
+     */
     @PostMapping("/{tournamentId}/enter")
-    public ResponseEntity<ClawgicTournamentResponses.TournamentEntry> enterTournament(
+    public ResponseEntity<?> enterTournament(
             @PathVariable UUID tournamentId,
             @Valid @RequestBody ClawgicTournamentRequests.EnterTournamentRequest request,
             @RequestAttribute(
@@ -63,15 +101,38 @@ public class ClawgicTournamentController {
                     required = false
             ) String paymentHeaderValue
     ) {
+        if (clawgicTournamentService.isAsyncPaymentVerificationEnabled()) {
+            ClawgicTournamentResponses.TournamentEntrySubmission submission =
+                    clawgicTournamentService.submitTournamentEntry(tournamentId, request, paymentHeaderValue);
+            if (submission.state() == TournamentEntrySubmissionState.CONFIRMED) {
+                return ResponseEntity.status(HttpStatus.CREATED).body(submission.entry());
+            }
+            return ResponseEntity.accepted()
+                    .location(entrySubmissionUri(tournamentId, submission.paymentAuthorizationId()))
+                    .body(submission);
+        }
+
         ClawgicTournamentResponses.TournamentEntry entry =
                 clawgicTournamentService.enterTournament(tournamentId, request, paymentHeaderValue);
         return ResponseEntity.status(HttpStatus.CREATED).body(entry);
     }
 
+    @GetMapping("/{tournamentId}/entry-submissions/{paymentAuthorizationId}")
+    public ResponseEntity<ClawgicTournamentResponses.TournamentEntrySubmission> getEntrySubmission(
+            @PathVariable UUID tournamentId,
+            @PathVariable UUID paymentAuthorizationId
+    ) {
+        return ResponseEntity.ok(clawgicTournamentService.getEntrySubmission(tournamentId, paymentAuthorizationId));
+    }
+
     @PostMapping("/{tournamentId}/bracket")
     public ResponseEntity<List<ClawgicMatchResponses.MatchSummary>> createMvpBracket(
             @PathVariable UUID tournamentId
     ) {
         return ResponseEntity.status(HttpStatus.CREATED).body(clawgicTournamentService.createMvpBracket(tournamentId));
     }
+
+    private static URI entrySubmissionUri(UUID tournamentId, UUID paymentAuthorizationId) {
+        return URI.create("/api/clawgic/tournaments/" + tournamentId + "/entry-submissions/" + paymentAuthorizationId);
+    }
 }
@@ -67,12 +67,17 @@ public final class ClawgicAgentResponses {
     ) {
     }
 
+    /**
+     * Offset pages carry {@code total}; cursor pages skip the count and leave it null.
+     * {@code nextCursor} continues either kind of page with keyset pagination.
+     */
     public record AgentLeaderboardPage(
             List<AgentLeaderboardEntry> entries,
             int offset,
             int limit,
-            long total,
-            boolean hasMore
+            Long total,
+            boolean hasMore,
+            String nextCursor
     ) {
     }
 }
@@ -1,11 +1,15 @@
 package com.clawgic.clawgic.dto;
 
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
@@ -31,8 +35,37 @@ public final class ClawgicTournamentRequests {
             @NotNull(message = "baseEntryFeeUsdc is required")
             @DecimalMin(value = "0.0", inclusive = true, message = "baseEntryFeeUsdc must be non-negative")
             @Digits(integer = 12, fraction = 6, message = "baseEntryFeeUsdc supports up to 6 decimal places")
-            BigDecimal baseEntryFeeUsdc
+            BigDecimal baseEntryFeeUsdc,
+
+            @Min(value = 2, message = "bracketSize must be at least 2")
+            @Max(value = 1024, message = "bracketSize must be at most 1024")
+            Integer bracketSize,
+
+            ClawgicTournamentFormat format,
+
+            @Min(value = 1, message = "swissRounds must be at least 1")
+            Integer swissRounds,
+
+            @Pattern(
+                    regexp = "^[A-Za-z0-9_]{1,32}$",
+                    message = "schedulingTier must be 1-32 letters, digits or underscores"
+            )
+            String schedulingTier
     ) {
+        public CreateTournamentRequest(
+                String topic,
+                OffsetDateTime startTime,
+                OffsetDateTime entryCloseTime,
+                BigDecimal baseEntryFeeUsdc
+        ) {
+            this(topic, startTime, entryCloseTime, baseEntryFeeUsdc, null, null, null, null);
+        }
+
+        @AssertTrue(message = "swissRounds is only supported for SWISS tournaments")
+        public boolean isSwissRoundsOnlyForSwissFormat() {
+            return swissRounds == null || format == ClawgicTournamentFormat.SWISS;
+        }
+
         @AssertTrue(message = "entryCloseTime must be on or before startTime")
         public boolean isEntryCloseTimeBeforeOrEqualStartTime() {
             if (entryCloseTime == null || startTime == null) {
@@ -2,9 +2,11 @@ package com.clawgic.clawgic.dto;
 
 import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import com.clawgic.clawgic.model.ClawgicTournamentEntryStatus;
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import com.clawgic.clawgic.model.DebatePhase;
 import com.clawgic.clawgic.model.TournamentEntryState;
+import com.clawgic.clawgic.model.TournamentEntrySubmissionState;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -37,6 +39,12 @@ public final class ClawgicTournamentResponses {
     ) {
     }
 
+    public record TournamentSummaryPage(
+            List<TournamentSummary> tournaments,
+            String nextCursor
+    ) {
+    }
+
     public record TournamentDetail(
             UUID tournamentId,
             String topic,
@@ -52,7 +60,9 @@ public final class ClawgicTournamentResponses {
             OffsetDateTime createdAt,
             OffsetDateTime updatedAt,
             OffsetDateTime startedAt,
-            OffsetDateTime completedAt
+            OffsetDateTime completedAt,
+            ClawgicTournamentFormat format,
+            Integer swissRounds
     ) {
     }
 
@@ -64,17 +74,37 @@ public final class ClawgicTournamentResponses {
             ClawgicTournamentEntryStatus status,
             Integer seedPosition,
             Integer seedSnapshotElo,
+            Integer swissByes,
             OffsetDateTime createdAt,
             OffsetDateTime updatedAt
     ) {
     }
 
+    /**
+     * Outcome of a paid entry whose payment is verified asynchronously; {@code entry} is set once CONFIRMED.
+     */
+    public record TournamentEntrySubmission(
+            UUID paymentAuthorizationId,
+            UUID tournamentId,
+            UUID agentId,
+            TournamentEntrySubmissionState state,
+            String failureReason,
+            TournamentEntry entry
+    ) {
+    }
+
     public record TournamentResults(
             TournamentDetail tournament,
             List<TournamentEntry> entries,
             List<ClawgicMatchResponses.MatchDetail> matches,
             List<ClawgicPaymentResponses.StakingLedgerSummary> settlement
     ) {
+        /**
+         * Key of a completed tournament's results in the immutable response cache.
+         */
+        public static String cacheKey(UUID tournamentId) {
+            return "clawgic-tournament-results:" + tournamentId;
+        }
     }
 
     public record BracketMatchStatus(
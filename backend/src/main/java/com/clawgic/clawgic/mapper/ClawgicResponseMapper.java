@@ -16,6 +16,7 @@ import com.clawgic.clawgic.model.ClawgicTournamentEntry;
 import com.clawgic.clawgic.model.ClawgicUser;
 import com.clawgic.clawgic.model.TournamentEntryState;
 import com.clawgic.clawgic.repository.ClawgicAgentLeaderboardRow;
+import com.clawgic.clawgic.repository.ClawgicTournamentSummaryRow;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -140,31 +141,53 @@ public class ClawgicResponseMapper {
         );
     }
 
+    public ClawgicTournamentResponses.TournamentSummary toTournamentSummaryResponse(ClawgicTournamentSummaryRow row) {
+        return new ClawgicTournamentResponses.TournamentSummary(
+                row.getTournamentId(),
+                row.getTopic(),
+                row.getStatus(),
+                row.getBracketSize(),
+                row.getMaxEntries(),
+                null,
+                row.getStartTime(),
+                row.getEntryCloseTime(),
+                row.getBaseEntryFeeUsdc(),
+                row.getWinnerAgentId(),
+                row.getMatchesCompleted(),
+                row.getMatchesForfeited(),
+                null,
+                null,
+                null,
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+        );
+    }
+
     public ClawgicTournamentResponses.TournamentSummary toTournamentSummaryResponse(
-            ClawgicTournament tournament,
+            ClawgicTournamentSummaryRow row,
             int currentEntries,
             boolean canEnter,
             TournamentEntryState entryState,
             String entryStateReason
     ) {
         return new ClawgicTournamentResponses.TournamentSummary(
-                tournament.getTournamentId(),
-                tournament.getTopic(),
-                tournament.getStatus(),
-                tournament.getBracketSize(),
-                tournament.getMaxEntries(),
+                row.getTournamentId(),
+                row.getTopic(),
+                row.getStatus(),
+                row.getBracketSize(),
+                row.getMaxEntries(),
                 currentEntries,
-                tournament.getStartTime(),
-                tournament.getEntryCloseTime(),
-                tournament.getBaseEntryFeeUsdc(),
-                tournament.getWinnerAgentId(),
-                tournament.getMatchesCompleted(),
-                tournament.getMatchesForfeited(),
+                row.getStartTime(),
+                row.getEntryCloseTime(),
+                row.getBaseEntryFeeUsdc(),
+                row.getWinnerAgentId(),
+                row.getMatchesCompleted(),
+                row.getMatchesForfeited(),
                 canEnter,
                 entryState,
                 entryStateReason,
-                tournament.getCreatedAt(),
-                tournament.getUpdatedAt()
+                row.getCreatedAt(),
+                row.getUpdatedAt()
         );
     }
 
@@ -192,7 +215,9 @@ public class ClawgicResponseMapper {
                 tournament.getCreatedAt(),
                 tournament.getUpdatedAt(),
                 tournament.getStartedAt(),
-                tournament.getCompletedAt()
+                tournament.getCompletedAt(),
+                tournament.getFormat(),
+                tournament.getSwissRounds()
         );
     }
 
@@ -205,6 +230,7 @@ public class ClawgicResponseMapper {
                 entry.getStatus(),
                 entry.getSeedPosition(),
                 entry.getSeedSnapshotElo(),
+                entry.getSwissByes(),
                 entry.getCreatedAt(),
                 entry.getUpdatedAt()
         );
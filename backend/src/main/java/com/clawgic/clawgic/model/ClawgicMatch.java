@@ -86,6 +86,12 @@ public class ClawgicMatch {
     @Column(name = "execution_deadline_at")
     private OffsetDateTime executionDeadlineAt;
 
+    @Column(name = "execution_lease_token")
+    private UUID executionLeaseToken;
+
+    @Column(name = "execution_lease_expires_at")
+    private OffsetDateTime executionLeaseExpiresAt;
+
     @Column(name = "judge_deadline_at")
     private OffsetDateTime judgeDeadlineAt;
 
@@ -104,6 +110,9 @@ public class ClawgicMatch {
     @Column(name = "completed_at")
     private OffsetDateTime completedAt;
 
+    @Column(name = "winner_propagated_at")
+    private OffsetDateTime winnerPropagatedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
 
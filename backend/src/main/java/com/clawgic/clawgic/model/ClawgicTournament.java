@@ -30,6 +30,16 @@ public class ClawgicTournament {
     @Column(name = "status", nullable = false, length = 32)
     private ClawgicTournamentStatus status = ClawgicTournamentStatus.SCHEDULED;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 32)
+    private ClawgicTournamentFormat format = ClawgicTournamentFormat.SINGLE_ELIMINATION;
+
+    @Column(name = "swiss_rounds")
+    private Integer swissRounds;
+
+    @Column(name = "scheduling_tier", nullable = false, length = 32)
+    private String schedulingTier = "STANDARD";
+
     @Column(name = "bracket_size", nullable = false)
     private Integer bracketSize = 4;
 
@@ -41,6 +41,9 @@ public class ClawgicTournamentEntry {
     @Column(name = "seed_snapshot_elo", nullable = false)
     private Integer seedSnapshotElo = 1000;
 
+    @Column(name = "swiss_byes", nullable = false)
+    private Integer swissByes = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
 
@@ -0,0 +1,6 @@
+package com.clawgic.clawgic.model;
+
+public enum ClawgicTournamentFormat {
+    SINGLE_ELIMINATION,
+    SWISS
+}
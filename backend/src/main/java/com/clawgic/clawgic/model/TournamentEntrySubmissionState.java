@@ -0,0 +1,7 @@
+package com.clawgic.clawgic.model;
+
+public enum TournamentEntrySubmissionState {
+    PENDING,
+    CONFIRMED,
+    REJECTED
+}
@@ -18,6 +18,7 @@ import java.util.Objects;
 
 /**
  * Optional live Anthropic adapter for Clawgic debate turns.
+ * Streams messages by default ({@code clawgic.provider.streaming-enabled}) and always while hedging is enabled.
  */
 @Component
 public class AnthropicClawgicDebateProviderClient implements ClawgicDebateProviderClient {
@@ -25,8 +26,10 @@ public class AnthropicClawgicDebateProviderClient implements ClawgicDebateProvid
     private static final String MESSAGES_PATH = "/v1/messages";
     private static final String ANTHROPIC_API_KEY_HEADER = "x-api-key";
     private static final String ANTHROPIC_VERSION_HEADER = "anthropic-version";
+    private static final String MESSAGE_STOP_EVENT = "message_stop";
 
     private final RestClient restClient;
+    private final RestClient streamingRestClient;
     private final ObjectMapper objectMapper;
     private final ClawgicProviderProperties clawgicProviderProperties;
 
@@ -55,6 +58,11 @@ public class AnthropicClawgicDebateProviderClient implements ClawgicDebateProvid
                 .requestFactory(newRequestFactory(clawgicProviderProperties))
                 .baseUrl(clawgicProviderProperties.getAnthropicBaseUrl())
                 .build();
+        this.streamingRestClient = restClientBuilder
+                .clone()
+                .requestFactory(ClawgicProviderStreamSupport.newStreamingRequestFactory(clawgicProviderProperties))
+                .baseUrl(clawgicProviderProperties.getAnthropicBaseUrl())
+                .build();
     }
 
     @Override
@@ -70,6 +78,15 @@ public class AnthropicClawgicDebateProviderClient implements ClawgicDebateProvid
         }
 
         String userPrompt = ClawgicProviderPromptComposer.toUserPrompt(request);
+        if (ClawgicProviderStreamSupport.useStreaming(clawgicProviderProperties)) {
+            return ClawgicProviderRetrySupport.execute(
+                    "Anthropic",
+                    clawgicProviderProperties.getRetryMaxAttempts(),
+                    clawgicProviderProperties.getRetryBackoffMs(),
+                    () -> executeStreamingRequest(request, userPrompt)
+            );
+        }
+
         String responseBody = ClawgicProviderRetrySupport.execute(
                 "Anthropic",
                 clawgicProviderProperties.getRetryMaxAttempts(),
@@ -81,6 +98,49 @@ public class AnthropicClawgicDebateProviderClient implements ClawgicDebateProvid
     }
 
     private String executeRequest(ClawgicProviderTurnRequest request, String userPrompt) {
+        return restClient.post()
+                .uri(MESSAGES_PATH)
+                .header(ANTHROPIC_API_KEY_HEADER, request.providerApiKey())
+                .header(ANTHROPIC_VERSION_HEADER, clawgicProviderProperties.getAnthropicVersion())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(buildPayload(request, userPrompt))
+                .retrieve()
+                .body(String.class);
+    }
+
+    /**
+     * Streams the message and stops reading as soon as the word budget or turn deadline is reached; leaving
+     * {@code exchange} closes the response, which cancels the rest of the generation.
+     */
+    private ClawgicProviderTurnResponse executeStreamingRequest(
+            ClawgicProviderTurnRequest request,
+            String userPrompt
+    ) {
+        ObjectNode payload = buildPayload(request, userPrompt);
+        payload.put("stream", true);
+        ClawgicProviderStreamCollector collector =
+                new ClawgicProviderStreamCollector(request.maxWords(), request.deadline(), request.listener());
+
+        return streamingRestClient.post()
+                .uri(MESSAGES_PATH)
+                .header(ANTHROPIC_API_KEY_HEADER, request.providerApiKey())
+                .header(ANTHROPIC_VERSION_HEADER, clawgicProviderProperties.getAnthropicVersion())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(payload)
+                .exchange((httpRequest, response) -> {
+                    ClawgicProviderStreamSupport.requireSuccess(response);
+                    ClawgicProviderStreamSupport.readEvents(response.getBody(), event -> {
+                        if (MESSAGE_STOP_EVENT.equals(event.event())) {
+                            return false;
+                        }
+                        return collector.accept(AnthropicResponseParser.extractStreamDelta(objectMapper, event.data()));
+                    });
+                    return collector.toResponse("Anthropic", request.model());
+                });
+    }
+
+    private ObjectNode buildPayload(ClawgicProviderTurnRequest request, String userPrompt) {
         ObjectNode payload = objectMapper.createObjectNode();
         payload.put("model", request.model());
         payload.put("temperature", clawgicProviderProperties.getAnthropicTemperature());
@@ -94,15 +154,7 @@ public class AnthropicClawgicDebateProviderClient implements ClawgicDebateProvid
         messageContent.addObject()
                 .put("type", "text")
                 .put("text", userPrompt);
-
-        return restClient.post()
-                .uri(MESSAGES_PATH)
-                .header(ANTHROPIC_API_KEY_HEADER, request.providerApiKey())
-                .header(ANTHROPIC_VERSION_HEADER, clawgicProviderProperties.getAnthropicVersion())
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .body(payload)
-                .retrieve()
-                .body(String.class);
+        return payload;
     }
 
     private int resolveMaxTokens(int maxWords) {
@@ -6,7 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.util.StringUtils;
 
 /**
- * Parses text completions from Anthropic Messages API responses.
+ * Parses text completions from Anthropic Messages API responses and streamed events.
  */
 final class AnthropicResponseParser {
 
@@ -49,6 +49,30 @@ final class AnthropicResponseParser {
         return text.toString();
     }
 
+    /**
+     * Text delta carried by one streamed Messages API event; null for every event other than a
+     * {@code content_block_delta} with a {@code text_delta}.
+     */
+    static String extractStreamDelta(ObjectMapper objectMapper, String eventJson) {
+        JsonNode root = parseTree(objectMapper, eventJson);
+        String eventType = root.path("type").asText("");
+        if ("error".equals(eventType)) {
+            JsonNode error = root.path("error");
+            throw new IllegalStateException(
+                    "Anthropic stream error: " + error.path("message").asText(error.toString())
+            );
+        }
+        if (!"content_block_delta".equals(eventType)) {
+            return null;
+        }
+        JsonNode delta = root.path("delta");
+        if (!"text_delta".equals(delta.path("type").asText(""))) {
+            return null;
+        }
+        JsonNode text = delta.path("text");
+        return text.isTextual() ? text.textValue() : null;
+    }
+
     private static JsonNode parseTree(ObjectMapper objectMapper, String responseBody) {
         try {
             return objectMapper.readTree(responseBody);
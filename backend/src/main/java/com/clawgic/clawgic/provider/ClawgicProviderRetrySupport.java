@@ -37,7 +37,8 @@ final class ClawgicProviderRetrySupport {
                 }
                 sleepBackoff(backoffMs, attempt);
             } catch (ResourceAccessException ex) {
-                if (attempt >= maxAttempts) {
+                // An interrupted call was cancelled (timed out or lost a hedge race); do not start another.
+                if (attempt >= maxAttempts || Thread.currentThread().isInterrupted()) {
                     throw new IllegalStateException(
                             providerName + " provider request failed: " + ex.getMessage(),
                             ex
@@ -0,0 +1,107 @@
+package com.clawgic.clawgic.provider;
+
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Accumulates streamed text deltas for one debate turn and tells the reader when to stop: as soon as a word past
+ * {@code maxWords} starts, or once the turn deadline passes. Whatever was collected up to that point is the turn.
+ * Every kept piece of text is also handed to the turn listener as it arrives.
+ */
+final class ClawgicProviderStreamCollector {
+
+    private final int maxWords;
+    private final Instant deadline;
+    private final ClawgicProviderTurnListener listener;
+    private final Clock clock;
+    private final long startedNanos = System.nanoTime();
+    private final StringBuilder text = new StringBuilder();
+
+    private int startedWords;
+    private boolean inWord;
+    private Duration timeToFirstToken;
+    private ClawgicProviderTurnResponse.Cutoff cutoff = ClawgicProviderTurnResponse.Cutoff.NONE;
+
+    ClawgicProviderStreamCollector(int maxWords, Instant deadline) {
+        this(maxWords, deadline, ClawgicProviderTurnListener.NONE, Clock.systemUTC());
+    }
+
+    ClawgicProviderStreamCollector(int maxWords, Instant deadline, ClawgicProviderTurnListener listener) {
+        this(maxWords, deadline, listener, Clock.systemUTC());
+    }
+
+    ClawgicProviderStreamCollector(int maxWords, Instant deadline, Clock clock) {
+        this(maxWords, deadline, ClawgicProviderTurnListener.NONE, clock);
+    }
+
+    ClawgicProviderStreamCollector(
+            int maxWords,
+            Instant deadline,
+            ClawgicProviderTurnListener listener,
+            Clock clock
+    ) {
+        if (maxWords <= 0) {
+            throw new IllegalArgumentException("maxWords must be greater than zero");
+        }
+        this.maxWords = maxWords;
+        this.deadline = deadline;
+        this.listener = listener == null ? ClawgicProviderTurnListener.NONE : listener;
+        this.clock = clock;
+    }
+
+    /**
+     * Appends a text delta (null or empty for keep-alive events) and returns whether to keep reading.
+     */
+    boolean accept(String delta) {
+        if (delta != null && !delta.isEmpty()) {
+            if (timeToFirstToken == null) {
+                timeToFirstToken = Duration.ofNanos(System.nanoTime() - startedNanos);
+            }
+            for (int i = 0; i < delta.length(); i++) {
+                if (Character.isWhitespace(delta.charAt(i))) {
+                    inWord = false;
+                    continue;
+                }
+                if (!inWord) {
+                    if (startedWords == maxWords) {
+                        append(delta.substring(0, i));
+                        cutoff = ClawgicProviderTurnResponse.Cutoff.WORD_LIMIT;
+                        return false;
+                    }
+                    startedWords++;
+                    inWord = true;
+                }
+            }
+            append(delta);
+        }
+        if (deadline != null && !clock.instant().isBefore(deadline)) {
+            cutoff = ClawgicProviderTurnResponse.Cutoff.DEADLINE;
+            return false;
+        }
+        return true;
+    }
+
+    private void append(String kept) {
+        if (kept.isEmpty()) {
+            return;
+        }
+        int offset = text.length();
+        text.append(kept);
+        listener.onTextDelta(offset, kept);
+    }
+
+    ClawgicProviderTurnResponse toResponse(String providerName, String model) {
+        if (!StringUtils.hasText(text)) {
+            if (cutoff == ClawgicProviderTurnResponse.Cutoff.DEADLINE) {
+                throw new IllegalStateException(
+                        providerName + " provider stream produced no text before the turn deadline"
+                );
+            }
+            throw new IllegalArgumentException(providerName + " provider stream did not include any text");
+        }
+        return new ClawgicProviderTurnResponse(text.toString(), model, timeToFirstToken, cutoff);
+    }
+}
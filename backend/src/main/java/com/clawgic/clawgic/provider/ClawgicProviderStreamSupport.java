@@ -0,0 +1,110 @@
+package com.clawgic.clawgic.provider;
+
+import com.clawgic.clawgic.config.ClawgicProviderProperties;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Server-sent event plumbing shared by the streaming provider adapters.
+ */
+final class ClawgicProviderStreamSupport {
+
+    private static final String DATA_FIELD = "data:";
+    private static final String EVENT_FIELD = "event:";
+
+    private ClawgicProviderStreamSupport() {
+    }
+
+    /**
+     * Hedged turns always stream: the loser of a hedge race is cancelled by interrupting its thread, and only the JDK
+     * client gives up a pending request or a blocked body read on interrupt. A non-streaming
+     * {@code HttpURLConnection} read would keep the losing request running until the provider finished it.
+     */
+    static boolean useStreaming(ClawgicProviderProperties properties) {
+        return properties.isStreamingEnabled() || properties.getHedging().isEnabled();
+    }
+
+    /**
+     * Request factory backed by the JDK HTTP client: closing a response before the end of its body cancels the
+     * exchange instead of draining the remaining tokens the way {@code HttpURLConnection} does.
+     */
+    static JdkClientHttpRequestFactory newStreamingRequestFactory(ClawgicProviderProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(Math.max(1, properties.getConnectTimeoutMs())))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(Math.max(1, properties.getReadTimeoutMs())));
+        return factory;
+    }
+
+    /**
+     * Error statuses are not raised automatically inside {@code exchange}; map them to the exception the retry
+     * policy understands.
+     */
+    static void requireSuccess(ClientHttpResponse response) throws IOException {
+        if (!response.getStatusCode().isError()) {
+            return;
+        }
+        byte[] body = response.getBody().readAllBytes();
+        throw new RestClientResponseException(
+                "Provider stream request failed with status " + response.getStatusCode().value(),
+                response.getStatusCode(),
+                response.getStatusText(),
+                response.getHeaders(),
+                body,
+                StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Dispatches events from an SSE body until {@code onEvent} returns false or the body ends. Multi-line data is
+     * joined with newlines; comments and unknown fields are ignored. An interrupted reader (a cancelled hedge
+     * loser) stops: a blocked read of a JDK client body fails, and an interrupt between lines is caught here.
+     */
+    static void readEvents(InputStream body, Predicate<SseEvent> onEvent) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String eventName = null;
+        StringBuilder data = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Provider stream read interrupted");
+            }
+            if (line.isEmpty()) {
+                if (data != null && !onEvent.test(new SseEvent(eventName, data.toString()))) {
+                    return;
+                }
+                eventName = null;
+                data = null;
+                continue;
+            }
+            if (line.startsWith(DATA_FIELD)) {
+                data = data == null ? new StringBuilder() : data.append('\n');
+                data.append(stripLeadingSpace(line.substring(DATA_FIELD.length())));
+            } else if (line.startsWith(EVENT_FIELD)) {
+                eventName = stripLeadingSpace(line.substring(EVENT_FIELD.length()));
+            }
+        }
+        if (data != null) {
+            onEvent.test(new SseEvent(eventName, data.toString()));
+        }
+    }
+
+    private static String stripLeadingSpace(String value) {
+        return value.startsWith(" ") ? value.substring(1) : value;
+    }
+
+    record SseEvent(String event, String data) {
+    }
+}
@@ -4,12 +4,15 @@ import com.clawgic.clawgic.model.DebatePhase;
 import com.clawgic.clawgic.model.DebateTranscriptMessage;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Provider-agnostic turn input built by the debate execution service.
+ * {@code deadline} is optional; streaming providers stop reading and keep what they have once it passes.
+ * {@code listener} receives the turn text as it streams in; absent means {@link ClawgicProviderTurnListener#NONE}.
  */
 public record ClawgicProviderTurnInput(
         UUID matchId,
@@ -18,8 +21,35 @@ public record ClawgicProviderTurnInput(
         String topic,
         String systemPrompt,
         List<DebateTranscriptMessage> transcript,
-        int maxWords
+        int maxWords,
+        Instant deadline,
+        ClawgicProviderTurnListener listener
 ) {
+    public ClawgicProviderTurnInput(
+            UUID matchId,
+            UUID agentId,
+            DebatePhase phase,
+            String topic,
+            String systemPrompt,
+            List<DebateTranscriptMessage> transcript,
+            int maxWords
+    ) {
+        this(matchId, agentId, phase, topic, systemPrompt, transcript, maxWords, null, null);
+    }
+
+    public ClawgicProviderTurnInput(
+            UUID matchId,
+            UUID agentId,
+            DebatePhase phase,
+            String topic,
+            String systemPrompt,
+            List<DebateTranscriptMessage> transcript,
+            int maxWords,
+            Instant deadline
+    ) {
+        this(matchId, agentId, phase, topic, systemPrompt, transcript, maxWords, deadline, null);
+    }
+
     public ClawgicProviderTurnInput {
         Objects.requireNonNull(matchId, "matchId is required");
         Objects.requireNonNull(agentId, "agentId is required");
@@ -35,5 +65,7 @@ public record ClawgicProviderTurnInput(
         if (maxWords <= 0) {
             throw new IllegalArgumentException("maxWords must be greater than zero");
         }
+
+        listener = listener == null ? ClawgicProviderTurnListener.NONE : listener;
     }
 }
@@ -0,0 +1,15 @@
+package com.clawgic.clawgic.provider;
+
+/**
+ * Receives the text of a turn as a streaming provider produces it. {@code offset} is the position of the delta in
+ * the turn text; a retried provider attempt starts again at offset 0. Called on the provider thread, so
+ * implementations must return quickly and must not throw.
+ */
+@FunctionalInterface
+public interface ClawgicProviderTurnListener {
+
+    ClawgicProviderTurnListener NONE = (_, _) -> {
+    };
+
+    void onTextDelta(int offset, String delta);
+}
@@ -5,6 +5,7 @@ import com.clawgic.clawgic.model.DebateTranscriptMessage;
 import org.jspecify.annotations.NonNull;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -22,8 +23,67 @@ public record ClawgicProviderTurnRequest(
         int maxWords,
         String model,
         String providerApiKey,
-        String providerKeyRef
+        String providerKeyRef,
+        Instant deadline,
+        ClawgicProviderTurnListener listener
 ) {
+    public ClawgicProviderTurnRequest(
+            UUID matchId,
+            UUID agentId,
+            DebatePhase phase,
+            String topic,
+            String systemPrompt,
+            List<DebateTranscriptMessage> transcript,
+            int maxWords,
+            String model,
+            String providerApiKey,
+            String providerKeyRef
+    ) {
+        this(
+                matchId,
+                agentId,
+                phase,
+                topic,
+                systemPrompt,
+                transcript,
+                maxWords,
+                model,
+                providerApiKey,
+                providerKeyRef,
+                null,
+                null
+        );
+    }
+
+    public ClawgicProviderTurnRequest(
+            UUID matchId,
+            UUID agentId,
+            DebatePhase phase,
+            String topic,
+            String systemPrompt,
+            List<DebateTranscriptMessage> transcript,
+            int maxWords,
+            String model,
+            String providerApiKey,
+            String providerKeyRef,
+            Instant deadline
+    ) {
+        this(
+                matchId,
+                agentId,
+                phase,
+                topic,
+                systemPrompt,
+                transcript,
+                maxWords,
+                model,
+                providerApiKey,
+                providerKeyRef,
+                deadline,
+                null
+        );
+    }
+
     public ClawgicProviderTurnRequest {
         Objects.requireNonNull(matchId, "matchId is required");
         Objects.requireNonNull(agentId, "agentId is required");
@@ -52,6 +112,7 @@ public record ClawgicProviderTurnRequest(
 
         providerApiKey = StringUtils.hasText(providerApiKey) ? providerApiKey.trim() : null;
         providerKeyRef = StringUtils.hasText(providerKeyRef) ? providerKeyRef.trim() : null;
+        listener = listener == null ? ClawgicProviderTurnListener.NONE : listener;
     }
 
     public static ClawgicProviderTurnRequest fromInput(
@@ -71,7 +132,9 @@ public record ClawgicProviderTurnRequest(
                 input.maxWords(),
                 model,
                 providerApiKey,
-                providerKeyRef
+                providerKeyRef,
+                input.deadline(),
+                input.listener()
         );
     }
 
@@ -2,13 +2,22 @@ package com.clawgic.clawgic.provider;
 
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+
 /**
  * Provider turn output normalized for transcript persistence.
+ * {@code timeToFirstToken} is set by streaming providers only; {@code cutoff} records why a stream was cut short.
  */
 public record ClawgicProviderTurnResponse(
         String content,
-        String model
+        String model,
+        Duration timeToFirstToken,
+        Cutoff cutoff
 ) {
+    public ClawgicProviderTurnResponse(String content, String model) {
+        this(content, model, null, Cutoff.NONE);
+    }
+
     public ClawgicProviderTurnResponse {
         if (!StringUtils.hasText(content)) {
             throw new IllegalArgumentException("content is required");
@@ -19,5 +28,13 @@ public record ClawgicProviderTurnResponse(
             throw new IllegalArgumentException("model is required");
         }
         model = model.trim();
+
+        cutoff = cutoff == null ? Cutoff.NONE : cutoff;
+    }
+
+    public enum Cutoff {
+        NONE,
+        WORD_LIMIT,
+        DEADLINE
     }
 }
@@ -1,7 +1,9 @@
 package com.clawgic.clawgic.provider;
 
+import com.clawgic.clawgic.config.ClawgicProviderProperties;
 import com.clawgic.clawgic.model.ClawgicProviderType;
 import com.clawgic.clawgic.model.DebateTranscriptMessage;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.nio.ByteBuffer;
@@ -13,6 +15,7 @@ import java.util.Locale;
 
 /**
  * Deterministic local mock provider for reproducible tests and demos.
+ * Responses are streamed in simulated chunks ({@code clawgic.provider.mock-stream-chunk-*}).
  */
 @Component
 public class MockClawgicDebateProviderClient implements ClawgicDebateProviderClient {
@@ -49,6 +52,17 @@ public class MockClawgicDebateProviderClient implements ClawgicDebateProviderCli
             "This response is intentionally bounded for stable replay."
     );
 
+    private final ClawgicProviderProperties clawgicProviderProperties;
+
+    public MockClawgicDebateProviderClient() {
+        this(new ClawgicProviderProperties());
+    }
+
+    @Autowired
+    public MockClawgicDebateProviderClient(ClawgicProviderProperties clawgicProviderProperties) {
+        this.clawgicProviderProperties = clawgicProviderProperties;
+    }
+
     @Override
     public ClawgicProviderType providerType() {
         return ClawgicProviderType.MOCK;
@@ -74,8 +88,40 @@ public class MockClawgicDebateProviderClient implements ClawgicDebateProviderCli
                 + "Transcript anchor: " + transcriptSnippet + ". "
                 + closer;
 
-        String boundedResponse = trimToWordLimit(response, request.maxWords());
-        return new ClawgicProviderTurnResponse(boundedResponse, request.model());
+        return streamInChunks(response, request);
+    }
+
+    /**
+     * Feeds the response through the same collector as the live streaming adapters, a few words at a time, so word
+     * cutoffs, turn deadlines and time-to-first-token behave as they do against a real provider.
+     */
+    private ClawgicProviderTurnResponse streamInChunks(String response, ClawgicProviderTurnRequest request) {
+        ClawgicProviderStreamCollector collector =
+                new ClawgicProviderStreamCollector(request.maxWords(), request.deadline(), request.listener());
+        List<String> words = List.of(response.trim().split("\\s+"));
+        int chunkWords = Math.max(1, clawgicProviderProperties.getMockStreamChunkWords());
+        for (int start = 0; start < words.size(); start += chunkWords) {
+            sleepBetweenChunks();
+            int end = Math.min(words.size(), start + chunkWords);
+            String chunk = String.join(" ", words.subList(start, end)) + (end < words.size() ? " " : "");
+            if (!collector.accept(chunk)) {
+                break;
+            }
+        }
+        return collector.toResponse("Mock", request.model());
+    }
+
+    private void sleepBetweenChunks() {
+        long delayMs = clawgicProviderProperties.getMockStreamChunkDelayMs();
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mock provider stream interrupted", ex);
+        }
     }
 
     private static String buildSeed(ClawgicProviderTurnRequest request) {
@@ -136,20 +182,4 @@ public class MockClawgicDebateProviderClient implements ClawgicDebateProviderCli
         }
         return builder.toString();
     }
-
-    private static String trimToWordLimit(String value, int maxWords) {
-        String normalized = value.trim();
-        String[] words = normalized.split("\\s+");
-        if (words.length <= maxWords) {
-            return normalized;
-        }
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < maxWords; i++) {
-            if (i > 0) {
-                builder.append(' ');
-            }
-            builder.append(words[i]);
-        }
-        return builder.toString();
-    }
 }
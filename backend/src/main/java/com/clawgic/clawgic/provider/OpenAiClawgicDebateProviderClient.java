@@ -18,13 +18,16 @@ import java.util.Objects;
 
 /**
  * Live OpenAI adapter for Clawgic debate turns.
+ * Streams completions by default ({@code clawgic.provider.streaming-enabled}) and always while hedging is enabled.
  */
 @Component
 public class OpenAiClawgicDebateProviderClient implements ClawgicDebateProviderClient {
 
     private static final String CHAT_COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final String STREAM_DONE_MARKER = "[DONE]";
 
     private final RestClient restClient;
+    private final RestClient streamingRestClient;
     private final ObjectMapper objectMapper;
     private final ClawgicProviderProperties clawgicProviderProperties;
 
@@ -53,6 +56,11 @@ public class OpenAiClawgicDebateProviderClient implements ClawgicDebateProviderC
                 .requestFactory(newRequestFactory(clawgicProviderProperties))
                 .baseUrl(clawgicProviderProperties.getOpenaiBaseUrl())
                 .build();
+        this.streamingRestClient = restClientBuilder
+                .clone()
+                .requestFactory(ClawgicProviderStreamSupport.newStreamingRequestFactory(clawgicProviderProperties))
+                .baseUrl(clawgicProviderProperties.getOpenaiBaseUrl())
+                .build();
     }
 
     @Override
@@ -68,6 +76,15 @@ public class OpenAiClawgicDebateProviderClient implements ClawgicDebateProviderC
         }
 
         String userPrompt = ClawgicProviderPromptComposer.toUserPrompt(request);
+        if (ClawgicProviderStreamSupport.useStreaming(clawgicProviderProperties)) {
+            return ClawgicProviderRetrySupport.execute(
+                    "OpenAI",
+                    clawgicProviderProperties.getRetryMaxAttempts(),
+                    clawgicProviderProperties.getRetryBackoffMs(),
+                    () -> executeStreamingRequest(request, userPrompt)
+            );
+        }
+
         String responseBody = ClawgicProviderRetrySupport.execute(
                 "OpenAI",
                 clawgicProviderProperties.getRetryMaxAttempts(),
@@ -79,6 +96,47 @@ public class OpenAiClawgicDebateProviderClient implements ClawgicDebateProviderC
     }
 
     private String executeRequest(ClawgicProviderTurnRequest request, String userPrompt) {
+        return restClient.post()
+                .uri(CHAT_COMPLETIONS_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + request.providerApiKey())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(buildPayload(request, userPrompt))
+                .retrieve()
+                .body(String.class);
+    }
+
+    /**
+     * Streams the completion and stops reading as soon as the word budget or turn deadline is reached; leaving
+     * {@code exchange} closes the response, which cancels the rest of the generation.
+     */
+    private ClawgicProviderTurnResponse executeStreamingRequest(
+            ClawgicProviderTurnRequest request,
+            String userPrompt
+    ) {
+        ObjectNode payload = buildPayload(request, userPrompt);
+        payload.put("stream", true);
+        ClawgicProviderStreamCollector collector =
+                new ClawgicProviderStreamCollector(request.maxWords(), request.deadline(), request.listener());
+
+        return streamingRestClient.post()
+                .uri(CHAT_COMPLETIONS_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + request.providerApiKey())
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(payload)
+                .exchange((httpRequest, response) -> {
+                    ClawgicProviderStreamSupport.requireSuccess(response);
+                    ClawgicProviderStreamSupport.readEvents(response.getBody(), event -> {
+                        if (STREAM_DONE_MARKER.equals(event.data())) {
+                            return false;
+                        }
+                        return collector.accept(OpenAiResponseParser.extractStreamDelta(objectMapper, event.data()));
+                    });
+                    return collector.toResponse("OpenAI", request.model());
+                });
+    }
+
+    private ObjectNode buildPayload(ClawgicProviderTurnRequest request, String userPrompt) {
         ObjectNode payload = objectMapper.createObjectNode();
         payload.put("model", request.model());
         payload.put("temperature", clawgicProviderProperties.getOpenaiTemperature());
@@ -91,14 +149,7 @@ public class OpenAiClawgicDebateProviderClient implements ClawgicDebateProviderC
         messages.addObject()
                 .put("role", "user")
                 .put("content", userPrompt);
-
-        return restClient.post()
-                .uri(CHAT_COMPLETIONS_PATH)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + request.providerApiKey())
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .body(payload)
-                .retrieve()
-                .body(String.class);
+        return payload;
     }
 
     private int resolveMaxTokens(int maxWords) {
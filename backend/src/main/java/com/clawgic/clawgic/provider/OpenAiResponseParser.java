@@ -6,7 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.util.StringUtils;
 
 /**
- * Parses assistant text from OpenAI chat completion JSON responses.
+ * Parses assistant text from OpenAI chat completion JSON responses and streamed chunks.
  */
 final class OpenAiResponseParser {
 
@@ -31,6 +31,24 @@ final class OpenAiResponseParser {
         throw new IllegalArgumentException("OpenAI response missing choices[0].message.content text");
     }
 
+    /**
+     * Text delta carried by one streamed {@code chat.completion.chunk}; null for chunks without content
+     * (role announcements, finish reasons).
+     */
+    static String extractStreamDelta(ObjectMapper objectMapper, String chunkJson) {
+        JsonNode root = parseTree(objectMapper, chunkJson);
+        JsonNode error = root.path("error");
+        if (!error.isMissingNode() && !error.isNull()) {
+            throw new IllegalStateException("OpenAI stream error: " + error.path("message").asText(error.toString()));
+        }
+        JsonNode choices = root.path("choices");
+        if (!choices.isArray() || choices.isEmpty()) {
+            return null;
+        }
+        JsonNode content = choices.get(0).path("delta").path("content");
+        return content.isTextual() ? content.textValue() : null;
+    }
+
     private static JsonNode parseTree(ObjectMapper objectMapper, String responseBody) {
         try {
             return objectMapper.readTree(responseBody);
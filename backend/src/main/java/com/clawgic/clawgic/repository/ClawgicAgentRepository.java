@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,17 +21,17 @@ public interface ClawgicAgentRepository extends JpaRepository<ClawgicAgent, UUID
                 agent.wallet_address AS walletAddress,
                 agent.name AS name,
                 agent.avatar_url AS avatarUrl,
-                COALESCE(elo.current_elo, 1000) AS currentElo,
-                COALESCE(elo.matches_played, 0) AS matchesPlayed,
-                COALESCE(elo.matches_won, 0) AS matchesWon,
-                COALESCE(elo.matches_forfeited, 0) AS matchesForfeited,
+                elo.current_elo AS currentElo,
+                elo.matches_played AS matchesPlayed,
+                elo.matches_won AS matchesWon,
+                elo.matches_forfeited AS matchesForfeited,
                 elo.last_updated AS lastUpdated,
                 agent.created_at AS createdAt
-            FROM clawgic_agents agent
-            LEFT JOIN clawgic_agent_elo elo ON elo.agent_id = agent.agent_id
+            FROM clawgic_agent_elo elo
+            JOIN clawgic_agents agent ON agent.agent_id = elo.agent_id
             ORDER BY
-                COALESCE(elo.current_elo, 1000) DESC,
-                COALESCE(elo.matches_played, 0) DESC,
+                elo.current_elo DESC,
+                elo.matches_played DESC,
                 agent.created_at ASC,
                 agent.agent_id ASC
             LIMIT :limit OFFSET :offset
@@ -40,6 +41,45 @@ public interface ClawgicAgentRepository extends JpaRepository<ClawgicAgent, UUID
             @Param("offset") int offset
     );
 
-    @Query(value = "SELECT COUNT(*) FROM clawgic_agents", nativeQuery = true)
+    /**
+     * Keyset page of the leaderboard: rows ranked strictly after the given sort key,
+     * in the same order as {@link #findLeaderboardRows}. The {@code (current_elo, matches_played)}
+     * row comparison is a range on {@code idx_clawgic_agent_elo_leaderboard_order}; the
+     * {@code created_at, agent_id} tie-break (ascending, so not part of one row comparison with the
+     * descending prefix) only filters the boundary group sharing the cursor's ELO and match count.
+     */
+    @Query(value = """
+            SELECT
+                agent.agent_id AS agentId,
+                agent.wallet_address AS walletAddress,
+                agent.name AS name,
+                agent.avatar_url AS avatarUrl,
+                elo.current_elo AS currentElo,
+                elo.matches_played AS matchesPlayed,
+                elo.matches_won AS matchesWon,
+                elo.matches_forfeited AS matchesForfeited,
+                elo.last_updated AS lastUpdated,
+                agent.created_at AS createdAt
+            FROM clawgic_agent_elo elo
+            JOIN clawgic_agents agent ON agent.agent_id = elo.agent_id
+            WHERE (elo.current_elo, elo.matches_played) <= (:currentElo, :matchesPlayed)
+              AND ((elo.current_elo, elo.matches_played) < (:currentElo, :matchesPlayed)
+                   OR (agent.created_at, agent.agent_id) > (:createdAt, :agentId))
+            ORDER BY
+                elo.current_elo DESC,
+                elo.matches_played DESC,
+                agent.created_at ASC,
+                agent.agent_id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ClawgicAgentLeaderboardRow> findLeaderboardRowsAfter(
+            @Param("currentElo") int currentElo,
+            @Param("matchesPlayed") int matchesPlayed,
+            @Param("createdAt") Instant createdAt,
+            @Param("agentId") UUID agentId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT COUNT(*) FROM clawgic_agent_elo", nativeQuery = true)
     long countLeaderboardAgents();
 }
@@ -0,0 +1,60 @@
+package com.clawgic.clawgic.repository;
+
+import com.clawgic.clawgic.model.ClawgicMatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserts a whole bracket in one JDBC batch. Spring Data {@code save} on an assigned-id entity merges, which costs a
+ * SELECT per row before each INSERT; a 512-entry bracket would otherwise take over a thousand round trips.
+ * Rows must be ordered so every {@code next_match_id} refers to a row inserted earlier in the batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClawgicMatchBatchInsertRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO clawgic_matches (
+                match_id,
+                tournament_id,
+                agent1_id,
+                agent2_id,
+                bracket_round,
+                bracket_position,
+                next_match_id,
+                next_match_agent_slot,
+                status,
+                transcript_json,
+                judge_retry_count,
+                created_at,
+                updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS JSONB), ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ClawgicMatch> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, matches, matches.size(), (statement, match) -> {
+            statement.setObject(1, match.getMatchId());
+            statement.setObject(2, match.getTournamentId());
+            statement.setObject(3, match.getAgent1Id(), Types.OTHER);
+            statement.setObject(4, match.getAgent2Id(), Types.OTHER);
+            statement.setObject(5, match.getBracketRound(), Types.INTEGER);
+            statement.setObject(6, match.getBracketPosition(), Types.INTEGER);
+            statement.setObject(7, match.getNextMatchId(), Types.OTHER);
+            statement.setObject(8, match.getNextMatchAgentSlot(), Types.INTEGER);
+            statement.setString(9, match.getStatus().name());
+            statement.setString(10, match.getTranscriptJson() == null ? "[]" : match.getTranscriptJson().toString());
+            statement.setInt(11, match.getJudgeRetryCount() == null ? 0 : match.getJudgeRetryCount());
+            statement.setObject(12, match.getCreatedAt());
+            statement.setObject(13, match.getUpdatedAt());
+        });
+    }
+}
@@ -4,11 +4,14 @@ import com.clawgic.clawgic.model.ClawgicMatch;
 import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,10 +26,16 @@ public interface ClawgicMatchRepository extends JpaRepository<ClawgicMatch, UUID
 
     List<ClawgicMatch> findByStatusOrderByUpdatedAtAsc(ClawgicMatchStatus status);
 
-    List<ClawgicMatch> findByStatusInAndWinnerAgentIdIsNotNullAndNextMatchIdIsNotNullOrderByUpdatedAtAsc(
+    List<ClawgicMatch> findByStatusInAndWinnerAgentIdIsNotNullAndNextMatchIdIsNotNullAndWinnerPropagatedAtIsNullOrderByUpdatedAtAsc(
             List<ClawgicMatchStatus> statuses
     );
 
+    @Query("select m.status from ClawgicMatch m where m.matchId = :matchId")
+    Optional<ClawgicMatchStatus> findStatusByMatchId(@Param("matchId") UUID matchId);
+
+    @Query("select min(m.executionLeaseExpiresAt) from ClawgicMatch m where m.status = :status")
+    Optional<OffsetDateTime> findEarliestExecutionLeaseExpiry(@Param("status") ClawgicMatchStatus status);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select m from ClawgicMatch m where m.matchId = :matchId")
     Optional<ClawgicMatch> findByMatchIdForUpdate(@Param("matchId") UUID matchId);
@@ -37,18 +46,100 @@ public interface ClawgicMatchRepository extends JpaRepository<ClawgicMatch, UUID
                     FROM clawgic_matches clawgic_match
                     JOIN clawgic_tournaments tournament
                       ON tournament.tournament_id = clawgic_match.tournament_id
-                    WHERE clawgic_match.status = 'SCHEDULED'
+                    WHERE clawgic_match.match_id = :matchId
+                      AND clawgic_match.status = 'SCHEDULED'
                       AND clawgic_match.agent1_id IS NOT NULL
                       AND clawgic_match.agent2_id IS NOT NULL
                       AND tournament.status = 'IN_PROGRESS'
-                    ORDER BY tournament.start_time ASC,
-                             clawgic_match.bracket_round ASC NULLS LAST,
-                             clawgic_match.bracket_position ASC NULLS LAST,
-                             clawgic_match.created_at ASC
-                    LIMIT 1
-                    FOR UPDATE SKIP LOCKED
+                    FOR UPDATE OF clawgic_match SKIP LOCKED
+                    """,
+            nativeQuery = true
+    )
+    List<ClawgicMatch> claimReadyMatchForExecution(@Param("matchId") UUID matchId);
+
+    @Query(
+            value = """
+                    SELECT match_id
+                    FROM clawgic_matches
+                    WHERE status = 'IN_PROGRESS'
+                      AND (execution_lease_expires_at IS NULL OR execution_lease_expires_at < :now)
+                    ORDER BY execution_lease_expires_at ASC NULLS FIRST
+                    LIMIT :limit
                     """,
             nativeQuery = true
     )
-    List<ClawgicMatch> findNextReadyMatchForExecution();
+    List<UUID> findMatchIdsWithExpiredExecutionLease(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    /**
+     * Takes over an IN_PROGRESS match whose lease expired (or was never written); 1 if this caller now holds it.
+     * Clears the persistence context so the match is re-read with its new lease.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+                    UPDATE clawgic_matches
+                    SET execution_lease_token = :leaseToken,
+                        execution_lease_expires_at = :leaseExpiresAt,
+                        updated_at = :now
+                    WHERE match_id = :matchId
+                      AND status = 'IN_PROGRESS'
+                      AND (execution_lease_expires_at IS NULL OR execution_lease_expires_at < :now)
+                    """,
+            nativeQuery = true
+    )
+    int takeOverExpiredExecutionLease(
+            @Param("matchId") UUID matchId,
+            @Param("leaseToken") UUID leaseToken,
+            @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt,
+            @Param("now") OffsetDateTime now
+    );
+
+    /**
+     * Persists one debate turn and renews the lease, only while {@code leaseToken} still holds it; 0 means another
+     * worker has taken the match over and this one must stop.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE clawgic_matches
+                    SET transcript_json = CAST(:transcriptJson AS jsonb),
+                        phase = :phase,
+                        execution_lease_expires_at = :leaseExpiresAt,
+                        updated_at = :now
+                    WHERE match_id = :matchId
+                      AND status = 'IN_PROGRESS'
+                      AND execution_lease_token = :leaseToken
+                    """,
+            nativeQuery = true
+    )
+    int recordTurnUnderExecutionLease(
+            @Param("matchId") UUID matchId,
+            @Param("leaseToken") UUID leaseToken,
+            @Param("transcriptJson") String transcriptJson,
+            @Param("phase") String phase,
+            @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt,
+            @Param("now") OffsetDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE clawgic_matches
+                    SET execution_lease_expires_at = :leaseExpiresAt,
+                        updated_at = :now
+                    WHERE match_id = :matchId
+                      AND status = 'IN_PROGRESS'
+                      AND execution_lease_token = :leaseToken
+                    """,
+            nativeQuery = true
+    )
+    int renewExecutionLease(
+            @Param("matchId") UUID matchId,
+            @Param("leaseToken") UUID leaseToken,
+            @Param("leaseExpiresAt") OffsetDateTime leaseExpiresAt,
+            @Param("now") OffsetDateTime now
+    );
 }
@@ -0,0 +1,105 @@
+package com.clawgic.clawgic.repository;
+
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the head of every IN_PROGRESS tournament's ready queue without locking, so the fair-share selector can
+ * choose a tournament before claiming one of its matches with {@code FOR UPDATE SKIP LOCKED}. Within a tournament
+ * the latest ready round comes first: it is closest to the final that gates settlement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClawgicReadyMatchQueueRepository {
+
+    private static final String READY_QUEUE_SQL = """
+            SELECT ranked.match_id,
+                   ranked.tournament_id,
+                   ranked.bracket_round,
+                   ranked.ready_at,
+                   ranked.format,
+                   ranked.bracket_size,
+                   ranked.swiss_rounds,
+                   ranked.scheduling_tier,
+                   ranked.start_time
+            FROM (
+                SELECT clawgic_match.match_id,
+                       clawgic_match.tournament_id,
+                       clawgic_match.bracket_round,
+                       GREATEST(clawgic_match.updated_at, COALESCE(tournament.started_at, tournament.start_time))
+                           AS ready_at,
+                       tournament.format,
+                       tournament.bracket_size,
+                       tournament.swiss_rounds,
+                       tournament.scheduling_tier,
+                       tournament.start_time,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY clawgic_match.tournament_id
+                           ORDER BY clawgic_match.bracket_round DESC NULLS LAST,
+                                    clawgic_match.bracket_position ASC NULLS LAST,
+                                    clawgic_match.created_at ASC
+                       ) AS queue_position
+                FROM clawgic_matches clawgic_match
+                JOIN clawgic_tournaments tournament
+                  ON tournament.tournament_id = clawgic_match.tournament_id
+                WHERE clawgic_match.status = 'SCHEDULED'
+                  AND clawgic_match.agent1_id IS NOT NULL
+                  AND clawgic_match.agent2_id IS NOT NULL
+                  AND tournament.status = 'IN_PROGRESS'
+            ) ranked
+            WHERE ranked.queue_position <= ?
+            ORDER BY ranked.tournament_id, ranked.queue_position
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to {@code perTournamentLimit} ready matches per tournament, grouped by tournament in queue order.
+     */
+    public List<ReadyMatchCandidate> findReadyQueueHeads(int perTournamentLimit) {
+        return jdbcTemplate.query(
+                READY_QUEUE_SQL,
+                (resultSet, rowNum) -> new ReadyMatchCandidate(
+                        resultSet.getObject("match_id", UUID.class),
+                        resultSet.getObject("tournament_id", UUID.class),
+                        resultSet.getObject("bracket_round", Integer.class),
+                        resultSet.getObject("ready_at", OffsetDateTime.class),
+                        ClawgicTournamentFormat.valueOf(resultSet.getString("format")),
+                        resultSet.getInt("bracket_size"),
+                        resultSet.getObject("swiss_rounds", Integer.class),
+                        resultSet.getString("scheduling_tier"),
+                        resultSet.getObject("start_time", OffsetDateTime.class)
+                ),
+                Math.max(1, perTournamentLimit)
+        );
+    }
+
+    public record ReadyMatchCandidate(
+            UUID matchId,
+            UUID tournamentId,
+            Integer bracketRound,
+            OffsetDateTime readyAt,
+            ClawgicTournamentFormat format,
+            int bracketSize,
+            Integer swissRounds,
+            String schedulingTier,
+            OffsetDateTime tournamentStartTime
+    ) {
+        /**
+         * Rounds still to be played after this match's round; 0 for an elimination final or the last Swiss round.
+         */
+        public int remainingRounds() {
+            int round = bracketRound == null ? 1 : bracketRound;
+            int totalRounds = format == ClawgicTournamentFormat.SWISS && swissRounds != null
+                    ? swissRounds
+                    : 32 - Integer.numberOfLeadingZeros(Math.max(1, bracketSize - 1));
+            return Math.max(0, totalRounds - round);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.clawgic.clawgic.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Entry slot bookkeeping on {@code clawgic_tournaments.current_entries}, which counts confirmed entries plus live
+ * reservations. Every slot change is a single conditional statement, so concurrent entrants never overbook and
+ * only hold the tournament row for the duration of that statement's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClawgicTournamentEntryReservationRepository {
+
+    private static final String RELEASE_EXPIRED_SQL = """
+            WITH expired AS (
+                DELETE FROM clawgic_tournament_entry_reservations
+                WHERE tournament_id = ?
+                  AND expires_at <= ?
+                RETURNING reservation_id
+            )
+            UPDATE clawgic_tournaments
+            SET current_entries = current_entries - (SELECT COUNT(*) FROM expired)
+            WHERE tournament_id = ?
+              AND EXISTS (SELECT 1 FROM expired)
+            """;
+
+    private static final String EXTEND_LIVE_SQL = """
+            UPDATE clawgic_tournament_entry_reservations
+            SET expires_at = ?
+            WHERE tournament_id = ?
+              AND agent_id = ?
+              AND expires_at > ?
+            RETURNING reservation_id
+            """;
+
+    private static final String CLAIM_SLOT_SQL = """
+            UPDATE clawgic_tournaments
+            SET current_entries = current_entries + 1
+            WHERE tournament_id = ?
+              AND status = 'SCHEDULED'
+              AND current_entries < max_entries
+            """;
+
+    private static final String RELEASE_SLOT_SQL = """
+            UPDATE clawgic_tournaments
+            SET current_entries = current_entries - 1
+            WHERE tournament_id = ?
+              AND current_entries > 0
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO clawgic_tournament_entry_reservations (
+                reservation_id,
+                tournament_id,
+                agent_id,
+                expires_at,
+                created_at
+            )
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (tournament_id, agent_id) DO NOTHING
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM clawgic_tournament_entry_reservations
+            WHERE reservation_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Deletes the tournament's expired reservations and hands their slots back; returns how many were released.
+     */
+    public int releaseExpired(UUID tournamentId, OffsetDateTime now) {
+        return jdbcTemplate.update(RELEASE_EXPIRED_SQL, tournamentId, now, tournamentId);
+    }
+
+    /**
+     * Pushes out the expiry of the agent's live reservation, if it has one.
+     */
+    public Optional<UUID> extendLive(UUID tournamentId, UUID agentId, OffsetDateTime expiresAt, OffsetDateTime now) {
+        List<UUID> reservationIds = jdbcTemplate.query(
+                EXTEND_LIVE_SQL,
+                (resultSet, rowNum) -> resultSet.getObject("reservation_id", UUID.class),
+                expiresAt,
+                tournamentId,
+                agentId,
+                now
+        );
+        return reservationIds.stream().findFirst();
+    }
+
+    /**
+     * Takes one slot if the tournament is still SCHEDULED and below {@code max_entries}.
+     */
+    public boolean claimSlot(UUID tournamentId) {
+        return jdbcTemplate.update(CLAIM_SLOT_SQL, tournamentId) == 1;
+    }
+
+    public void releaseSlot(UUID tournamentId) {
+        jdbcTemplate.update(RELEASE_SLOT_SQL, tournamentId);
+    }
+
+    /**
+     * False when the agent already holds a reservation for the tournament.
+     */
+    public boolean insert(
+            UUID reservationId,
+            UUID tournamentId,
+            UUID agentId,
+            OffsetDateTime expiresAt,
+            OffsetDateTime now
+    ) {
+        return jdbcTemplate.update(INSERT_SQL, reservationId, tournamentId, agentId, expiresAt, now) == 1;
+    }
+
+    /**
+     * Removes the reservation without touching the slot count; false when it was already reclaimed.
+     */
+    public boolean delete(UUID reservationId) {
+        return jdbcTemplate.update(DELETE_SQL, reservationId) == 1;
+    }
+}
@@ -0,0 +1,6 @@
+package com.clawgic.clawgic.repository;
+
+public interface ClawgicTournamentLobbyRow extends ClawgicTournamentSummaryRow {
+
+    Long getCurrentEntries();
+}
@@ -1,8 +1,10 @@
 package com.clawgic.clawgic.repository;
 
+import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import com.clawgic.clawgic.model.ClawgicTournament;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,7 +22,28 @@ public interface ClawgicTournamentRepository extends JpaRepository<ClawgicTourna
             OffsetDateTime now
     );
 
-    List<ClawgicTournament> findByStatusOrderByStartTimeAsc(ClawgicTournamentStatus status);
+    /**
+     * Tournaments in {@code status} whose matches are all in {@code terminalStatuses}, i.e. the only
+     * candidates {@code completeTournamentIfResolved} could still complete.
+     */
+    @Query("""
+            select t.tournamentId
+            from ClawgicTournament t
+            where t.status = :status
+              and exists (select 1 from ClawgicMatch m where m.tournamentId = t.tournamentId)
+              and not exists (
+                  select 1 from ClawgicMatch m
+                  where m.tournamentId = t.tournamentId
+                    and m.status not in :terminalStatuses
+              )
+            order by t.startTime asc
+            """)
+    List<UUID> findTournamentIdsWithOnlyTerminalMatches(
+            @Param("status") ClawgicTournamentStatus status,
+            @Param("terminalStatuses") List<ClawgicMatchStatus> terminalStatuses
+    );
+
+    java.util.Optional<ClawgicTournament> findFirstByStatusOrderByStartTimeAsc(ClawgicTournamentStatus status);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<ClawgicTournament> findByStatusAndStartTimeLessThanEqualOrderByStartTimeAsc(
@@ -28,7 +51,99 @@ public interface ClawgicTournamentRepository extends JpaRepository<ClawgicTourna
             OffsetDateTime now
     );
 
-    List<ClawgicTournament> findByStatusInOrderByStartTimeDesc(List<ClawgicTournamentStatus> statuses);
+    /**
+     * Lobby rows with their entry counts in one grouped query: every tournament in {@code openStatuses}
+     * plus tournaments in {@code completedStatus} that completed after {@code completedAfter}.
+     */
+    @Query("""
+            select
+                t.tournamentId as tournamentId,
+                t.topic as topic,
+                t.status as status,
+                t.bracketSize as bracketSize,
+                t.maxEntries as maxEntries,
+                t.startTime as startTime,
+                t.entryCloseTime as entryCloseTime,
+                t.baseEntryFeeUsdc as baseEntryFeeUsdc,
+                t.winnerAgentId as winnerAgentId,
+                t.matchesCompleted as matchesCompleted,
+                t.matchesForfeited as matchesForfeited,
+                t.createdAt as createdAt,
+                t.updatedAt as updatedAt,
+                count(e.entryId) as currentEntries
+            from ClawgicTournament t
+            left join ClawgicTournamentEntry e on e.tournamentId = t.tournamentId
+            where t.status in :openStatuses
+               or (t.status = :completedStatus and t.completedAt > :completedAfter)
+            group by
+                t.tournamentId,
+                t.topic,
+                t.status,
+                t.bracketSize,
+                t.maxEntries,
+                t.startTime,
+                t.entryCloseTime,
+                t.baseEntryFeeUsdc,
+                t.winnerAgentId,
+                t.matchesCompleted,
+                t.matchesForfeited,
+                t.createdAt,
+                t.updatedAt
+            order by t.startTime desc, t.createdAt desc, t.tournamentId desc
+            """)
+    List<ClawgicTournamentLobbyRow> findLobbyRows(
+            @Param("openStatuses") List<ClawgicTournamentStatus> openStatuses,
+            @Param("completedStatus") ClawgicTournamentStatus completedStatus,
+            @Param("completedAfter") OffsetDateTime completedAfter
+    );
+
+    @Query("""
+            select
+                t.tournamentId as tournamentId,
+                t.topic as topic,
+                t.status as status,
+                t.bracketSize as bracketSize,
+                t.maxEntries as maxEntries,
+                t.startTime as startTime,
+                t.entryCloseTime as entryCloseTime,
+                t.baseEntryFeeUsdc as baseEntryFeeUsdc,
+                t.winnerAgentId as winnerAgentId,
+                t.matchesCompleted as matchesCompleted,
+                t.matchesForfeited as matchesForfeited,
+                t.createdAt as createdAt,
+                t.updatedAt as updatedAt
+            from ClawgicTournament t
+            order by t.startTime desc, t.createdAt desc, t.tournamentId desc
+            """)
+    List<ClawgicTournamentSummaryRow> findResultsSummaries(Limit limit);
+
+    @Query("""
+            select
+                t.tournamentId as tournamentId,
+                t.topic as topic,
+                t.status as status,
+                t.bracketSize as bracketSize,
+                t.maxEntries as maxEntries,
+                t.startTime as startTime,
+                t.entryCloseTime as entryCloseTime,
+                t.baseEntryFeeUsdc as baseEntryFeeUsdc,
+                t.winnerAgentId as winnerAgentId,
+                t.matchesCompleted as matchesCompleted,
+                t.matchesForfeited as matchesForfeited,
+                t.createdAt as createdAt,
+                t.updatedAt as updatedAt
+            from ClawgicTournament t
+            where t.startTime < :startTime
+               or (t.startTime = :startTime and t.createdAt < :createdAt)
+               or (t.startTime = :startTime and t.createdAt = :createdAt and t.tournamentId < :tournamentId)
+            order by t.startTime desc, t.createdAt desc, t.tournamentId desc
+            """)
+    List<ClawgicTournamentSummaryRow> findResultsSummariesAfter(
+            @Param("startTime") OffsetDateTime startTime,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("tournamentId") UUID tournamentId,
+            Limit limit
+    );
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select t from ClawgicTournament t where t.tournamentId = :tournamentId")
@@ -0,0 +1,36 @@
+package com.clawgic.clawgic.repository;
+
+import com.clawgic.clawgic.model.ClawgicTournamentStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public interface ClawgicTournamentSummaryRow {
+
+    UUID getTournamentId();
+
+    String getTopic();
+
+    ClawgicTournamentStatus getStatus();
+
+    Integer getBracketSize();
+
+    Integer getMaxEntries();
+
+    OffsetDateTime getStartTime();
+
+    OffsetDateTime getEntryCloseTime();
+
+    BigDecimal getBaseEntryFeeUsdc();
+
+    UUID getWinnerAgentId();
+
+    Integer getMatchesCompleted();
+
+    Integer getMatchesForfeited();
+
+    OffsetDateTime getCreatedAt();
+
+    OffsetDateTime getUpdatedAt();
+}
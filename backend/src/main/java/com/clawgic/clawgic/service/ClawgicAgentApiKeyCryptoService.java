@@ -3,7 +3,14 @@ package com.clawgic.clawgic.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.clawgic.clawgic.config.ClawgicAgentKeyEncryptionProperties;
 import com.clawgic.clawgic.model.ClawgicAgent;
+import com.clawgic.service.BoundedTtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -11,28 +18,54 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Map;
 
 /**
  * Encrypts/decrypts user-provided provider API keys before they are persisted in Clawgic agent records.
+ * Agent decryptions go through a short-lived {@link ClawgicDecryptedApiKeyCache}; provider clients still need the
+ * key as a {@code String}, so only the cached copy is guaranteed to be wiped.
  */
 @Service
-public class ClawgicAgentApiKeyCryptoService {
+public class ClawgicAgentApiKeyCryptoService implements MeterBinder {
 
     private static final String ENVELOPE_VERSION = "v1";
     private static final String ENVELOPE_ALGORITHM = "AES-256-GCM";
     private static final int AES_KEY_BYTES = 32;
     private static final int GCM_IV_BYTES = 12;
     private static final int GCM_TAG_BITS = 128;
+    private static final String CACHE_NAME = "clawgic-agent-api-keys";
+    private static final String METRIC_PREFIX = "clawgic.agent.api.key.cache";
 
     private final ClawgicAgentKeyEncryptionProperties properties;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final SecureRandom secureRandom = new SecureRandom();
+    private final ClawgicDecryptedApiKeyCache decryptedApiKeys;
 
+    @Autowired
     public ClawgicAgentApiKeyCryptoService(ClawgicAgentKeyEncryptionProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ClawgicAgentApiKeyCryptoService(ClawgicAgentKeyEncryptionProperties properties, Clock clock) {
         this.properties = properties;
+        this.decryptedApiKeys = new ClawgicDecryptedApiKeyCache(
+                properties.getDecryptedCacheMaxEntries(),
+                Duration.ofSeconds(Math.max(0L, properties.getDecryptedCacheTtlSeconds())),
+                clock
+        );
+    }
+
+    @PreDestroy
+    void wipeDecryptedApiKeys() {
+        decryptedApiKeys.clear();
     }
 
     public EncryptedApiKey encryptForStorage(String plaintextApiKey) {
@@ -78,7 +111,15 @@ public class ClawgicAgentApiKeyCryptoService {
         if (!StringUtils.hasText(agent.getApiKeyEncrypted())) {
             throw new IllegalArgumentException("Clawgic agent does not have an encrypted API key");
         }
-        return decryptFromStorage(agent.getApiKeyEncrypted(), agent.getApiKeyEncryptionKeyId());
+        String encryptedValue = agent.getApiKeyEncrypted();
+        String keyId = agent.getApiKeyEncryptionKeyId();
+        if (agent.getAgentId() == null) {
+            return decryptFromStorage(encryptedValue, keyId);
+        }
+        return decryptedApiKeys.get(
+                new ClawgicDecryptedApiKeyCache.CacheKey(agent.getAgentId(), keyId, envelopeHash(encryptedValue)),
+                () -> decryptFromStorage(encryptedValue, keyId).toCharArray()
+        );
     }
 
     public String decryptFromStorage(String encryptedValue, String keyIdFromColumn) {
@@ -109,6 +150,7 @@ public class ClawgicAgentApiKeyCryptoService {
             byte[] plaintextBytes = cipher.doFinal(ciphertext);
 
             String decryptedApiKey = new String(plaintextBytes, StandardCharsets.UTF_8);
+            Arrays.fill(plaintextBytes, (byte) 0);
             return normalizePlaintextApiKey(decryptedApiKey);
         } catch (IllegalArgumentException ex) {
             throw ex;
@@ -117,6 +159,25 @@ public class ClawgicAgentApiKeyCryptoService {
         }
     }
 
+    public BoundedTtlCache.Stats decryptedKeyCacheStats() {
+        return decryptedApiKeys.stats(CACHE_NAME);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", decryptedApiKeys, ClawgicDecryptedApiKeyCache::hitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", decryptedApiKeys, ClawgicDecryptedApiKeyCache::missCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", decryptedApiKeys,
+                        ClawgicDecryptedApiKeyCache::evictionCount)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", decryptedApiKeys, ClawgicDecryptedApiKeyCache::size)
+                .register(registry);
+    }
+
     public String redactForLogs(String plaintextApiKey) {
         if (!StringUtils.hasText(plaintextApiKey)) {
             return "<empty>";
@@ -202,6 +263,16 @@ public class ClawgicAgentApiKeyCryptoService {
         }
     }
 
+    private static String envelopeHash(String encryptedValue) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(encryptedValue.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
     private byte[] storageAad(String keyId) {
         return ("clawgic-agent-api-key|" + ENVELOPE_VERSION + "|" + keyId).getBytes(StandardCharsets.UTF_8);
     }
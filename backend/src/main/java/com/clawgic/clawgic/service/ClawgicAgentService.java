@@ -10,6 +10,7 @@ import com.clawgic.clawgic.repository.ClawgicAgentLeaderboardRow;
 import com.clawgic.clawgic.repository.ClawgicAgentEloRepository;
 import com.clawgic.clawgic.repository.ClawgicAgentRepository;
 import com.clawgic.clawgic.repository.ClawgicUserRepository;
+import com.clawgic.service.KeysetCursor;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -19,7 +20,9 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -122,13 +125,7 @@ public class ClawgicAgentService {
         List<ClawgicAgentLeaderboardRow> rows =
                 clawgicAgentRepository.findLeaderboardRows(normalizedLimit, normalizedOffset);
         long total = clawgicAgentRepository.countLeaderboardAgents();
-        List<ClawgicAgentResponses.AgentLeaderboardEntry> entries = IntStream.range(0, rows.size())
-                .mapToObj(index -> clawgicResponseMapper.toAgentLeaderboardEntry(
-                        rows.get(index),
-                        normalizedOffset + index + 1,
-                        null
-                ))
-                .toList();
+        List<ClawgicAgentResponses.AgentLeaderboardEntry> entries = toLeaderboardEntries(rows, normalizedOffset);
 
         boolean hasMore = normalizedOffset + entries.size() < total;
         return new ClawgicAgentResponses.AgentLeaderboardPage(
@@ -136,10 +133,80 @@ public class ClawgicAgentService {
                 normalizedOffset,
                 normalizedLimit,
                 total,
-                hasMore
+                hasMore,
+                hasMore && !rows.isEmpty() ? nextLeaderboardCursor(rows.getLast(), normalizedOffset + rows.size()) : null
+        );
+    }
+
+    /**
+     * Keyset page following {@code cursor}; constant-time at any depth since it neither skips
+     * rows with OFFSET nor counts the table.
+     */
+    @Transactional(readOnly = true)
+    public ClawgicAgentResponses.AgentLeaderboardPage getLeaderboardAfter(String cursor, int limit) {
+        int normalizedLimit = normalizeLeaderboardLimit(limit);
+        LeaderboardCursor position = decodeLeaderboardCursor(cursor);
+
+        List<ClawgicAgentLeaderboardRow> rows = clawgicAgentRepository.findLeaderboardRowsAfter(
+                position.currentElo(),
+                position.matchesPlayed(),
+                position.createdAt(),
+                position.agentId(),
+                normalizedLimit + 1
+        );
+        boolean hasMore = rows.size() > normalizedLimit;
+        if (hasMore) {
+            rows = rows.subList(0, normalizedLimit);
+        }
+
+        return new ClawgicAgentResponses.AgentLeaderboardPage(
+                toLeaderboardEntries(rows, position.rank()),
+                position.rank(),
+                normalizedLimit,
+                null,
+                hasMore,
+                hasMore ? nextLeaderboardCursor(rows.getLast(), position.rank() + rows.size()) : null
         );
     }
 
+    private List<ClawgicAgentResponses.AgentLeaderboardEntry> toLeaderboardEntries(
+            List<ClawgicAgentLeaderboardRow> rows,
+            int rankOffset
+    ) {
+        return IntStream.range(0, rows.size())
+                .mapToObj(index -> clawgicResponseMapper.toAgentLeaderboardEntry(
+                        rows.get(index),
+                        rankOffset + index + 1,
+                        null
+                ))
+                .toList();
+    }
+
+    private String nextLeaderboardCursor(ClawgicAgentLeaderboardRow lastRow, int lastRank) {
+        return KeysetCursor.encode(
+                lastRow.getCurrentElo(),
+                lastRow.getMatchesPlayed(),
+                lastRow.getCreatedAt(),
+                lastRow.getAgentId(),
+                lastRank
+        );
+    }
+
+    private LeaderboardCursor decodeLeaderboardCursor(String cursor) {
+        try {
+            List<String> key = KeysetCursor.decode(cursor, 5);
+            return new LeaderboardCursor(
+                    Integer.parseInt(key.get(0)),
+                    Integer.parseInt(key.get(1)),
+                    Instant.parse(key.get(2)),
+                    UUID.fromString(key.get(3)),
+                    Integer.parseInt(key.get(4))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor is invalid", ex);
+        }
+    }
+
     private void upsertUser(String walletAddress) {
         if (clawgicUserRepository.existsById(walletAddress)) {
             return;
@@ -205,4 +272,13 @@ public class ClawgicAgentService {
         }
         return limit;
     }
+
+    private record LeaderboardCursor(
+            int currentElo,
+            int matchesPlayed,
+            Instant createdAt,
+            UUID agentId,
+            int rank
+    ) {
+    }
 }
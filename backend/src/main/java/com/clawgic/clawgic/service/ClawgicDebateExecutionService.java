@@ -14,16 +14,22 @@ import com.clawgic.clawgic.provider.ClawgicProviderTurnResponse;
 import com.clawgic.clawgic.repository.ClawgicAgentRepository;
 import com.clawgic.clawgic.repository.ClawgicMatchRepository;
 import com.clawgic.clawgic.repository.ClawgicTournamentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
@@ -33,7 +39,9 @@ import java.util.concurrent.TimeoutException;
 @RequiredArgsConstructor
 public class ClawgicDebateExecutionService {
 
+    private static final Logger log = LoggerFactory.getLogger(ClawgicDebateExecutionService.class);
     private static final int TURNS_PER_PHASE = 2;
+    private static final long STREAM_DEADLINE_HEADROOM_DIVISOR = 10;
     private static final String DEFAULT_SYSTEM_PROMPT = "Debate clearly and challenge weak assumptions.";
     private static final String FORFEIT_REASON_TIMEOUT = "PROVIDER_TIMEOUT";
     private static final String FORFEIT_REASON_AUTH_FAILURE = "PROVIDER_AUTH_FAILURE";
@@ -53,14 +61,23 @@ public class ClawgicDebateExecutionService {
     private final ClawgicAgentRepository clawgicAgentRepository;
     private final ClawgicDebateProviderGateway clawgicDebateProviderGateway;
     private final ClawgicJudgeQueuePublisher clawgicJudgeQueuePublisher;
+    private final ClawgicMatchSpectatorFeed clawgicMatchSpectatorFeed;
     private final ClawgicRuntimeProperties clawgicRuntimeProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
+    /**
+     * Runs a SCHEDULED match start to finish on the calling thread.
+     */
     public ClawgicMatch executeMatch(UUID matchId) {
-        ClawgicMatch match = clawgicMatchRepository.findById(matchId)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "Clawgic match not found: " + matchId
-                ));
+        return continueExecution(startExecution(matchId));
+    }
+
+    /**
+     * Moves a SCHEDULED match to IN_PROGRESS under a fresh execution lease. Call inside the transaction that claimed
+     * the match; the debate itself then runs through {@link #continueExecution(ExecutionLease)} after that commits.
+     */
+    public ExecutionLease startExecution(UUID matchId) {
+        ClawgicMatch match = loadMatch(matchId);
         if (match.getStatus() != ClawgicMatchStatus.SCHEDULED) {
             throw new ResponseStatusException(
                     HttpStatus.CONFLICT,
@@ -74,6 +91,57 @@ public class ClawgicDebateExecutionService {
             );
         }
 
+        OffsetDateTime now = OffsetDateTime.now();
+        ExecutionLease lease = new ExecutionLease(matchId, UUID.randomUUID());
+        match.setStatus(ClawgicMatchStatus.IN_PROGRESS);
+        match.setPhase(DebatePhase.THESIS_DISCOVERY);
+        if (match.getStartedAt() == null) {
+            match.setStartedAt(now);
+        }
+        if (match.getExecutionDeadlineAt() == null) {
+            match.setExecutionDeadlineAt(match.getStartedAt().plusSeconds(resolveExecutionBudgetSeconds()));
+        }
+        match.setTranscriptJson(DebateTranscriptJsonCodec.toJson(decodeTranscript(match)));
+        match.setExecutionLeaseToken(lease.leaseToken());
+        match.setExecutionLeaseExpiresAt(now.plusSeconds(resolveExecutionLeaseSeconds()));
+        match.setUpdatedAt(now);
+        clawgicMatchRepository.saveAndFlush(match);
+        return lease;
+    }
+
+    /**
+     * Takes over an IN_PROGRESS match whose execution lease expired, typically because the node running it died,
+     * and resumes the debate after the last turn persisted in its transcript. Empty when the lease is still live
+     * or another worker took the match over first.
+     */
+    public Optional<ClawgicMatch> resumeExpiredExecution(UUID matchId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        ExecutionLease lease = new ExecutionLease(matchId, UUID.randomUUID());
+        int takenOver = clawgicMatchRepository.takeOverExpiredExecutionLease(
+                matchId,
+                lease.leaseToken(),
+                now.plusSeconds(resolveExecutionLeaseSeconds()),
+                now
+        );
+        if (takenOver == 0) {
+            return Optional.empty();
+        }
+        log.info("Resuming Clawgic match {} after its execution lease expired", matchId);
+        return Optional.of(continueExecution(lease));
+    }
+
+    /**
+     * Plays every turn not yet in the match transcript. Each turn is persisted together with a lease renewal, so a
+     * worker that crashes loses at most the turn it was waiting on, and a worker whose lease was taken over stops
+     * at its next write instead of overwriting the new owner.
+     */
+    public ClawgicMatch continueExecution(ExecutionLease lease) {
+        ClawgicMatch match = loadMatch(lease.matchId());
+        if (!holdsLease(match, lease)) {
+            log.warn("Clawgic match {} is no longer leased to this execution; skipping", lease.matchId());
+            return match;
+        }
+
         ClawgicTournament tournament = clawgicTournamentRepository.findById(match.getTournamentId())
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
@@ -83,58 +151,33 @@ public class ClawgicDebateExecutionService {
         ClawgicAgent agent2 = loadAgent(match.getAgent2Id());
 
         List<DebateTranscriptMessage> transcript = decodeTranscript(match);
-        markExecutionStarted(match, transcript);
+        List<TurnSlot> turnSlots = turnSlots();
+        int nextTurnIndex = resolveNextTurnIndex(match, transcript, turnSlots);
 
         try {
-            for (DebatePhase phase : DebatePhase.orderedValues()) {
-                transcript = executeTurn(
-                        match,
-                        tournament,
-                        agent1,
-                        DebateTranscriptRole.AGENT_1,
-                        phase,
-                        transcript
-                );
+            for (TurnSlot turnSlot : turnSlots.subList(nextTurnIndex, turnSlots.size())) {
                 transcript = executeTurn(
                         match,
+                        lease,
                         tournament,
-                        agent2,
-                        DebateTranscriptRole.AGENT_2,
-                        phase,
+                        turnSlot.role() == DebateTranscriptRole.AGENT_1 ? agent1 : agent2,
+                        turnSlot.role(),
+                        turnSlot.phase(),
                         transcript
                 );
             }
+            return markPendingJudge(match, lease);
         } catch (ProviderTurnFailureException ex) {
-            return markForfeited(match, ex);
-        }
-
-        OffsetDateTime now = OffsetDateTime.now();
-        match.setStatus(ClawgicMatchStatus.PENDING_JUDGE);
-        match.setPhase(DebatePhase.CONCLUSION);
-        match.setJudgeRequestedAt(now);
-        match.setUpdatedAt(now);
-        ClawgicMatch pendingJudgeMatch = clawgicMatchRepository.saveAndFlush(match);
-        clawgicJudgeQueuePublisher.publishMatchReady(pendingJudgeMatch.getMatchId());
-        return pendingJudgeMatch;
-    }
-
-    private void markExecutionStarted(ClawgicMatch match, List<DebateTranscriptMessage> transcript) {
-        OffsetDateTime now = OffsetDateTime.now();
-        match.setStatus(ClawgicMatchStatus.IN_PROGRESS);
-        match.setPhase(DebatePhase.THESIS_DISCOVERY);
-        if (match.getStartedAt() == null) {
-            match.setStartedAt(now);
-        }
-        if (match.getExecutionDeadlineAt() == null) {
-            match.setExecutionDeadlineAt(match.getStartedAt().plusSeconds(resolveExecutionBudgetSeconds()));
+            return markForfeited(match, lease, ex);
+        } catch (ExecutionLeaseLostException ex) {
+            log.warn("Clawgic match {} was taken over by another worker; abandoning this execution", lease.matchId());
+            return loadMatch(lease.matchId());
         }
-        match.setTranscriptJson(DebateTranscriptJsonCodec.toJson(transcript));
-        match.setUpdatedAt(now);
-        clawgicMatchRepository.saveAndFlush(match);
     }
 
     private List<DebateTranscriptMessage> executeTurn(
             ClawgicMatch match,
+            ExecutionLease lease,
             ClawgicTournament tournament,
             ClawgicAgent agent,
             DebateTranscriptRole role,
@@ -148,18 +191,36 @@ public class ClawgicDebateExecutionService {
                 tournament.getTopic(),
                 buildSystemPrompt(agent, phase),
                 transcript,
-                resolveMaxResponseWords()
+                resolveMaxResponseWords(),
+                resolveTurnStreamDeadline(),
+                clawgicMatchSpectatorFeed.turnListener(match.getMatchId(), role, phase)
         );
 
+        clawgicMatchSpectatorFeed.turnStarted(match.getMatchId(), role, phase);
         ClawgicProviderTurnResponse turnResponse = generateTurnWithTimeout(agent, role, phase, turnInput);
 
         List<DebateTranscriptMessage> nextTranscript = new ArrayList<>(transcript);
         nextTranscript.add(new DebateTranscriptMessage(role, phase, turnResponse.content()));
 
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime leaseExpiresAt = now.plusSeconds(resolveExecutionLeaseSeconds());
+        JsonNode transcriptJson = DebateTranscriptJsonCodec.toJson(nextTranscript);
+        int recorded = clawgicMatchRepository.recordTurnUnderExecutionLease(
+                match.getMatchId(),
+                lease.leaseToken(),
+                transcriptJson.toString(),
+                phase.name(),
+                leaseExpiresAt,
+                now
+        );
+        if (recorded == 0) {
+            throw new ExecutionLeaseLostException();
+        }
         match.setPhase(phase);
-        match.setTranscriptJson(DebateTranscriptJsonCodec.toJson(nextTranscript));
-        match.setUpdatedAt(OffsetDateTime.now());
-        clawgicMatchRepository.saveAndFlush(match);
+        match.setTranscriptJson(transcriptJson);
+        match.setExecutionLeaseExpiresAt(leaseExpiresAt);
+        match.setUpdatedAt(now);
+        clawgicMatchSpectatorFeed.turnCompleted(match.getMatchId(), role, phase, turnResponse.content());
         return List.copyOf(nextTranscript);
     }
 
@@ -205,7 +266,31 @@ public class ClawgicDebateExecutionService {
         }
     }
 
-    private ClawgicMatch markForfeited(ClawgicMatch match, ProviderTurnFailureException failure) {
+    private ClawgicMatch markPendingJudge(ClawgicMatch match, ExecutionLease lease) {
+        renewLease(match, lease);
+        OffsetDateTime now = OffsetDateTime.now();
+        match.setStatus(ClawgicMatchStatus.PENDING_JUDGE);
+        match.setPhase(DebatePhase.CONCLUSION);
+        match.setJudgeRequestedAt(now);
+        match.setUpdatedAt(now);
+        releaseLease(match);
+        ClawgicMatch pendingJudgeMatch = clawgicMatchRepository.saveAndFlush(match);
+        clawgicJudgeQueuePublisher.publishMatchReady(pendingJudgeMatch.getMatchId());
+        clawgicMatchSpectatorFeed.matchEnded(pendingJudgeMatch.getMatchId(), pendingJudgeMatch.getStatus());
+        return pendingJudgeMatch;
+    }
+
+    private ClawgicMatch markForfeited(
+            ClawgicMatch match,
+            ExecutionLease lease,
+            ProviderTurnFailureException failure
+    ) {
+        try {
+            renewLease(match, lease);
+        } catch (ExecutionLeaseLostException ex) {
+            log.warn("Clawgic match {} was taken over by another worker; not recording forfeit", lease.matchId());
+            return loadMatch(lease.matchId());
+        }
         OffsetDateTime now = OffsetDateTime.now();
         match.setStatus(ClawgicMatchStatus.FORFEITED);
         match.setPhase(failure.phase());
@@ -214,7 +299,71 @@ public class ClawgicDebateExecutionService {
         match.setForfeitedAt(now);
         match.setUpdatedAt(now);
         match.setJudgeRequestedAt(null);
-        return clawgicMatchRepository.saveAndFlush(match);
+        releaseLease(match);
+        ClawgicMatch forfeitedMatch = clawgicMatchRepository.saveAndFlush(match);
+        applicationEventPublisher.publishEvent(
+                new ClawgicMatchResolvedEvent(forfeitedMatch.getMatchId(), forfeitedMatch.getTournamentId())
+        );
+        clawgicMatchSpectatorFeed.matchEnded(forfeitedMatch.getMatchId(), forfeitedMatch.getStatus());
+        return forfeitedMatch;
+    }
+
+    /**
+     * Renewing right before a terminal write leaves a full lease period in which no other worker can take the
+     * match over, so the unconditional save that follows cannot race a new owner.
+     */
+    private void renewLease(ClawgicMatch match, ExecutionLease lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime leaseExpiresAt = now.plusSeconds(resolveExecutionLeaseSeconds());
+        if (clawgicMatchRepository.renewExecutionLease(match.getMatchId(), lease.leaseToken(), leaseExpiresAt, now)
+                == 0) {
+            throw new ExecutionLeaseLostException();
+        }
+        match.setExecutionLeaseExpiresAt(leaseExpiresAt);
+        match.setUpdatedAt(now);
+    }
+
+    private static void releaseLease(ClawgicMatch match) {
+        match.setExecutionLeaseToken(null);
+        match.setExecutionLeaseExpiresAt(null);
+    }
+
+    private static boolean holdsLease(ClawgicMatch match, ExecutionLease lease) {
+        return match.getStatus() == ClawgicMatchStatus.IN_PROGRESS
+                && lease.leaseToken().equals(match.getExecutionLeaseToken());
+    }
+
+    private static List<TurnSlot> turnSlots() {
+        List<TurnSlot> turnSlots = new ArrayList<>(DebatePhase.orderedValues().size() * TURNS_PER_PHASE);
+        for (DebatePhase phase : DebatePhase.orderedValues()) {
+            turnSlots.add(new TurnSlot(phase, DebateTranscriptRole.AGENT_1));
+            turnSlots.add(new TurnSlot(phase, DebateTranscriptRole.AGENT_2));
+        }
+        return turnSlots;
+    }
+
+    private static int resolveNextTurnIndex(
+            ClawgicMatch match,
+            List<DebateTranscriptMessage> transcript,
+            List<TurnSlot> turnSlots
+    ) {
+        if (transcript.size() > turnSlots.size()) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Match transcript has more turns than the debate allows: " + match.getMatchId()
+            );
+        }
+        for (int i = 0; i < transcript.size(); i++) {
+            DebateTranscriptMessage message = transcript.get(i);
+            TurnSlot expected = turnSlots.get(i);
+            if (message.role() != expected.role() || message.phase() != expected.phase()) {
+                throw new ResponseStatusException(
+                        HttpStatus.CONFLICT,
+                        "Match transcript turn " + i + " is out of order and cannot be resumed: " + match.getMatchId()
+                );
+            }
+        }
+        return transcript.size();
     }
 
     private UUID resolveForfeitWinner(ClawgicMatch match, UUID failingAgentId) {
@@ -250,6 +399,14 @@ public class ClawgicDebateExecutionService {
         return FORFEIT_REASON_PROVIDER_ERROR;
     }
 
+    private ClawgicMatch loadMatch(UUID matchId) {
+        return clawgicMatchRepository.findById(matchId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Clawgic match not found: " + matchId
+                ));
+    }
+
     private ClawgicAgent loadAgent(UUID agentId) {
         return clawgicAgentRepository.findById(agentId)
                 .orElseThrow(() -> new ResponseStatusException(
@@ -292,6 +449,26 @@ public class ClawgicDebateExecutionService {
         return timeoutSeconds;
     }
 
+    /**
+     * Streaming providers stop at this deadline and keep the words they already have. It falls short of the hard
+     * provider timeout so a slow but productive stream ends as a shortened turn instead of a timeout forfeit.
+     */
+    private Instant resolveTurnStreamDeadline() {
+        long timeoutMillis = resolveProviderTimeoutSeconds() * 1_000L;
+        return Instant.now().plusMillis(timeoutMillis - timeoutMillis / STREAM_DEADLINE_HEADROOM_DIVISOR);
+    }
+
+    private int resolveExecutionLeaseSeconds() {
+        int leaseSeconds = clawgicRuntimeProperties.getDebate().getExecutionLeaseSeconds();
+        if (leaseSeconds <= resolveProviderTimeoutSeconds()) {
+            throw new ResponseStatusException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    "clawgic.debate.execution-lease-seconds must be greater than provider-timeout-seconds"
+            );
+        }
+        return leaseSeconds;
+    }
+
     private long resolveExecutionBudgetSeconds() {
         return (long) resolveProviderTimeoutSeconds() * DebatePhase.orderedValues().size() * TURNS_PER_PHASE;
     }
@@ -313,6 +490,22 @@ public class ClawgicDebateExecutionService {
         return promptBuilder.toString();
     }
 
+    /**
+     * Proof that a worker owns an IN_PROGRESS match; every write the debate makes is conditional on the token.
+     */
+    public record ExecutionLease(UUID matchId, UUID leaseToken) {
+    }
+
+    private record TurnSlot(DebatePhase phase, DebateTranscriptRole role) {
+    }
+
+    private static final class ExecutionLeaseLostException extends RuntimeException {
+
+        private ExecutionLeaseLostException() {
+            super("Clawgic match execution lease lost", null, false, false);
+        }
+    }
+
     private static final class ProviderTurnFailureException extends RuntimeException {
 
         private final UUID failingAgentId;
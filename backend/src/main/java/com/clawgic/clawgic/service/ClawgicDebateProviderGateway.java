@@ -6,37 +6,67 @@ import com.clawgic.clawgic.model.ClawgicAgent;
 import com.clawgic.clawgic.model.ClawgicProviderType;
 import com.clawgic.clawgic.provider.ClawgicDebateProviderClient;
 import com.clawgic.clawgic.provider.ClawgicProviderTurnInput;
+import com.clawgic.clawgic.provider.ClawgicProviderTurnListener;
 import com.clawgic.clawgic.provider.ClawgicProviderTurnRequest;
 import com.clawgic.clawgic.provider.ClawgicProviderTurnResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Resolves provider routing per-agent and delegates turn generation to provider clients.
+ * Streamed turns report time-to-first-token and early cutoffs (word limit, turn deadline) as metrics.
+ * With hedging enabled, a turn still running at the configured latency percentile of recent turns for its provider
+ * and model is raced against a second request (the fallback model, or the same model under another key ref);
+ * the first to succeed wins and the other is cancelled by interrupting its thread. Live clients stream whenever
+ * hedging is enabled, and the JDK HTTP client they stream with aborts the losing request on interrupt instead of
+ * reading it to the end. Hedges are capped by a credit budget.
  */
 @Service
 public class ClawgicDebateProviderGateway {
 
+    static final String TIME_TO_FIRST_TOKEN_METRIC = "clawgic.provider.time.to.first.token";
+    static final String STREAM_CUTOFF_METRIC = "clawgic.provider.stream.cutoffs";
+    static final String HEDGE_METRIC = "clawgic.provider.hedges";
+
+    private static final Executor PROVIDER_ATTEMPT_EXECUTOR =
+            task -> Thread.ofVirtual().name("clawgic-provider-attempt-", 0).start(task);
+
     private final Map<ClawgicProviderType, ClawgicDebateProviderClient> providerClientsByType;
     private final ClawgicRuntimeProperties clawgicRuntimeProperties;
     private final ClawgicProviderProperties clawgicProviderProperties;
     private final ClawgicAgentApiKeyCryptoService clawgicAgentApiKeyCryptoService;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> latencyWindowsByRoute = new ConcurrentHashMap<>();
+    private final HedgeBudget hedgeBudget = new HedgeBudget();
 
     public ClawgicDebateProviderGateway(
             List<ClawgicDebateProviderClient> providerClients,
             ClawgicRuntimeProperties clawgicRuntimeProperties,
             ClawgicProviderProperties clawgicProviderProperties,
-            ClawgicAgentApiKeyCryptoService clawgicAgentApiKeyCryptoService
+            ClawgicAgentApiKeyCryptoService clawgicAgentApiKeyCryptoService,
+            MeterRegistry meterRegistry
     ) {
         this.providerClientsByType = indexProviderClients(providerClients);
         this.clawgicRuntimeProperties = clawgicRuntimeProperties;
         this.clawgicProviderProperties = clawgicProviderProperties;
         this.clawgicAgentApiKeyCryptoService = clawgicAgentApiKeyCryptoService;
+        this.meterRegistry = meterRegistry;
     }
 
     public ProviderSelection resolveSelection(ClawgicAgent agent) {
@@ -79,7 +109,169 @@ public class ClawgicDebateProviderGateway {
                 selection.providerKeyRef()
         );
 
-        return providerClient.generateTurn(request);
+        ClawgicProviderTurnResponse response = clawgicProviderProperties.getHedging().isEnabled()
+                ? generateHedged(providerClient, selection, request)
+                : generateTimed(providerClient, selection.effectiveProviderType(), request);
+        recordStreamMetrics(selection.effectiveProviderType(), response);
+        return response;
+    }
+
+    private ClawgicProviderTurnResponse generateTimed(
+            ClawgicDebateProviderClient providerClient,
+            ClawgicProviderType providerType,
+            ClawgicProviderTurnRequest request
+    ) {
+        long startedNanos = System.nanoTime();
+        ClawgicProviderTurnResponse response = providerClient.generateTurn(request);
+        latencyWindow(providerType, request.model()).record(System.nanoTime() - startedNanos);
+        return response;
+    }
+
+    private ClawgicProviderTurnResponse generateHedged(
+            ClawgicDebateProviderClient providerClient,
+            ProviderSelection selection,
+            ClawgicProviderTurnRequest request
+    ) {
+        ClawgicProviderType providerType = selection.effectiveProviderType();
+        ClawgicProviderProperties.Hedging hedging = clawgicProviderProperties.getHedging();
+        Optional<Duration> hedgeDelay = resolveHedgeDelay(latencyWindow(providerType, request.model()), hedging);
+        hedgeBudget.earn(hedging);
+        if (hedgeDelay.isEmpty()) {
+            return generateTimed(providerClient, providerType, request);
+        }
+
+        ExecutorCompletionService<ClawgicProviderTurnResponse> attempts =
+                new ExecutorCompletionService<>(PROVIDER_ATTEMPT_EXECUTOR);
+        long primaryStartedNanos = System.nanoTime();
+        Future<ClawgicProviderTurnResponse> primary =
+                attempts.submit(() -> generateTimed(providerClient, providerType, request));
+        Future<ClawgicProviderTurnResponse> hedge = null;
+        try {
+            if (attempts.poll(hedgeDelay.get().toNanos(), TimeUnit.NANOSECONDS) != null) {
+                return resultOf(primary);
+            }
+            if (!hedgeBudget.trySpend()) {
+                recordHedge(providerType, "BUDGET_EXHAUSTED");
+                return resultOf(primary);
+            }
+            ClawgicProviderTurnRequest hedgeRequest = buildHedgeRequest(selection, request, hedging);
+            hedge = attempts.submit(() -> generateTimed(providerClient, providerType, hedgeRequest));
+
+            Future<ClawgicProviderTurnResponse> first = attempts.take();
+            if (!failed(first)) {
+                boolean hedgeWon = first == hedge;
+                if (hedgeWon) {
+                    // The cancelled primary never reports its latency; its elapsed time is a lower bound for it.
+                    latencyWindow(providerType, request.model()).record(System.nanoTime() - primaryStartedNanos);
+                }
+                recordHedge(providerType, hedgeWon ? "HEDGE_WON" : "PRIMARY_WON");
+                return resultOf(first);
+            }
+            Future<ClawgicProviderTurnResponse> second = attempts.take();
+            if (failed(second)) {
+                recordHedge(providerType, "BOTH_FAILED");
+                return resultOf(primary);
+            }
+            recordHedge(providerType, second == hedge ? "HEDGE_WON" : "PRIMARY_WON");
+            return resultOf(second);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for hedged provider turn", ex);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * The hedge streams silently: spectators already follow the primary, and the winning text arrives with the
+     * completed turn either way.
+     */
+    private ClawgicProviderTurnRequest buildHedgeRequest(
+            ProviderSelection selection,
+            ClawgicProviderTurnRequest request,
+            ClawgicProviderProperties.Hedging hedging
+    ) {
+        String fallbackModel = normalizeOptional(hedging.getFallbackModels().get(request.model()));
+        String hedgeModel = fallbackModel == null ? request.model() : fallbackModel;
+        String hedgeKeyRef = clawgicProviderProperties.getKeyRefModels().entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(selection.providerKeyRef()))
+                .filter(entry -> hedgeModel.equals(normalizeOptional(entry.getValue())))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(request.providerKeyRef());
+        return new ClawgicProviderTurnRequest(
+                request.matchId(),
+                request.agentId(),
+                request.phase(),
+                request.topic(),
+                request.systemPrompt(),
+                request.transcript(),
+                request.maxWords(),
+                hedgeModel,
+                request.providerApiKey(),
+                hedgeKeyRef,
+                request.deadline(),
+                ClawgicProviderTurnListener.NONE
+        );
+    }
+
+    private static Optional<Duration> resolveHedgeDelay(
+            LatencyWindow latencyWindow,
+            ClawgicProviderProperties.Hedging hedging
+    ) {
+        long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, hedging.getMinDelayMs()));
+        return latencyWindow.percentileNanos(hedging.getLatencyPercentile(), Math.max(1, hedging.getMinSamples()))
+                .map(nanos -> Duration.ofNanos(Math.max(nanos, minDelayNanos)));
+    }
+
+    private LatencyWindow latencyWindow(ClawgicProviderType providerType, String model) {
+        return latencyWindowsByRoute.computeIfAbsent(
+                providerType.name() + '|' + model,
+                _ -> new LatencyWindow(Math.max(1, clawgicProviderProperties.getHedging().getLatencyWindowSize()))
+        );
+    }
+
+    private void recordHedge(ClawgicProviderType providerType, String outcome) {
+        meterRegistry.counter(HEDGE_METRIC, "provider", providerType.name(), "outcome", outcome).increment();
+    }
+
+    private static boolean failed(Future<ClawgicProviderTurnResponse> attempt) {
+        return attempt.state() == Future.State.FAILED;
+    }
+
+    private static ClawgicProviderTurnResponse resultOf(Future<ClawgicProviderTurnResponse> attempt)
+            throws InterruptedException {
+        try {
+            return attempt.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Provider turn failed", cause);
+        }
+    }
+
+    private void recordStreamMetrics(ClawgicProviderType providerType, ClawgicProviderTurnResponse response) {
+        if (response.timeToFirstToken() != null) {
+            Timer.builder(TIME_TO_FIRST_TOKEN_METRIC)
+                    .tag("provider", providerType.name())
+                    .register(meterRegistry)
+                    .record(response.timeToFirstToken());
+        }
+        if (response.cutoff() != ClawgicProviderTurnResponse.Cutoff.NONE) {
+            meterRegistry.counter(
+                    STREAM_CUTOFF_METRIC,
+                    "provider", providerType.name(),
+                    "reason", response.cutoff().name()
+            ).increment();
+        }
     }
 
     private String resolveModel(ClawgicProviderType providerType, String providerKeyRef) {
@@ -127,6 +319,61 @@ public class ClawgicDebateProviderGateway {
         return value.trim();
     }
 
+    /**
+     * Latencies of the most recent turns for one provider and model.
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        private synchronized Optional<Long> percentileNanos(double percentile, int minSamples) {
+            if (size < minSamples) {
+                return Optional.empty();
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(Math.clamp(percentile, 0d, 1d) * size);
+            return Optional.of(sorted[Math.clamp(rank - 1, 0, size - 1)]);
+        }
+    }
+
+    /**
+     * Token bucket: each hedge-eligible turn earns {@code budgetRatio} credits up to {@code budgetBurst}; a hedge
+     * spends one, so hedges stay near that fraction of turns even when every turn is slow.
+     */
+    private static final class HedgeBudget {
+        private double credits;
+        private boolean initialized;
+
+        private synchronized void earn(ClawgicProviderProperties.Hedging hedging) {
+            double burst = Math.max(0d, hedging.getBudgetBurst());
+            if (!initialized) {
+                credits = burst;
+                initialized = true;
+            }
+            credits = Math.min(burst, credits + Math.max(0d, hedging.getBudgetRatio()));
+        }
+
+        private synchronized boolean trySpend() {
+            if (credits < 1d) {
+                return false;
+            }
+            credits -= 1d;
+            return true;
+        }
+    }
+
     public record ProviderSelection(
             ClawgicProviderType configuredProviderType,
             ClawgicProviderType effectiveProviderType,
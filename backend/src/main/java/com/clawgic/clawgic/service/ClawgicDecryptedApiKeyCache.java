@@ -0,0 +1,146 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.service.BoundedTtlCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * LRU cache of decrypted agent API keys, keyed by (agentId, key id, envelope hash) so a re-encrypted or rotated key
+ * is never served stale. Plaintext is held as {@code char[]} and zeroed whenever an entry leaves the cache (LRU
+ * eviction, expiry, replacement or {@link #clear()}); callers get a fresh {@code String} copied under the lock, so a
+ * concurrent eviction cannot wipe a key that is being read. A cache built with {@code maxEntries <= 0} or a
+ * non-positive TTL is a pass-through.
+ */
+final class ClawgicDecryptedApiKeyCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<CacheKey, CacheEntry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ClawgicDecryptedApiKeyCache(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl != null ? ttl.toMillis() : 0L;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                boolean evict = size() > ClawgicDecryptedApiKeyCache.this.maxEntries;
+                if (evict) {
+                    eldest.getValue().wipe();
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0 && ttlMillis > 0;
+    }
+
+    /**
+     * Returns the cached key or decrypts it with {@code decryptor}, taking ownership of the returned array. The
+     * decryptor runs outside the lock, so two concurrent misses for the same key may both decrypt; the later result
+     * replaces (and wipes) the earlier one.
+     */
+    String get(CacheKey key, Supplier<char[]> decryptor) {
+        if (!isEnabled()) {
+            misses.increment();
+            char[] plaintext = decryptor.get();
+            String decrypted = new String(plaintext);
+            Arrays.fill(plaintext, '\0');
+            return decrypted;
+        }
+
+        long now = clock.millis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() > now) {
+                hits.increment();
+                return new String(entry.plaintext());
+            }
+            if (entry != null) {
+                entries.remove(key).wipe();
+                evictions.increment();
+            }
+        }
+        misses.increment();
+
+        char[] plaintext = decryptor.get();
+        String decrypted = new String(plaintext);
+        CacheEntry loaded = new CacheEntry(plaintext, clock.millis() + ttlMillis);
+        synchronized (entries) {
+            CacheEntry replaced = entries.put(key, loaded);
+            if (replaced != null) {
+                replaced.wipe();
+            }
+            purgeExpired(clock.millis());
+        }
+        return decrypted;
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.values().forEach(CacheEntry::wipe);
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    BoundedTtlCache.Stats stats(String name) {
+        return new BoundedTtlCache.Stats(name, hitCount(), missCount(), evictionCount(), size());
+    }
+
+    /**
+     * Expired keys of agents that stopped debating would otherwise stay in memory until LRU pressure evicts them.
+     */
+    private void purgeExpired(long now) {
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry entry = iterator.next();
+            if (entry.expiresAtMillis() <= now) {
+                entry.wipe();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    record CacheKey(UUID agentId, String keyId, String envelopeHash) {
+    }
+
+    private record CacheEntry(char[] plaintext, long expiresAtMillis) {
+        private void wipe() {
+            Arrays.fill(plaintext, '\0');
+        }
+    }
+}
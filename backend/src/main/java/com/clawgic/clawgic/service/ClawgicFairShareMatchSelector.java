@@ -0,0 +1,130 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.model.ClawgicMatch;
+import com.clawgic.clawgic.repository.ClawgicMatchRepository;
+import com.clawgic.clawgic.repository.ClawgicReadyMatchQueueRepository;
+import com.clawgic.clawgic.repository.ClawgicReadyMatchQueueRepository.ReadyMatchCandidate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Chooses which IN_PROGRESS tournament runs next using start-time fair queuing. Every claimed match advances its
+ * tournament's finish tag by {@code 1 / weight}, where the weight comes from the tournament's scheduling tier
+ * ({@code clawgic.worker.scheduling-tier-weights}, default 1). The tournament with the lowest start tag
+ * {@code max(finishTag, virtualTime)} goes next, so a tier with weight 4 gets four claims for every one of a
+ * weight-1 tier while both have ready work, and a tournament that sat idle waiting on its own matches rejoins at
+ * the current virtual time instead of being owed a backlog. Equal tags go to the tournament closest to its final,
+ * then the one that started first. Tags live on this node; across nodes each worker is fair locally.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClawgicFairShareMatchSelector {
+
+    private static final String DEFAULT_TIER = "STANDARD";
+
+    private final ClawgicReadyMatchQueueRepository clawgicReadyMatchQueueRepository;
+    private final ClawgicMatchRepository clawgicMatchRepository;
+    private final ClawgicMatchSchedulingMetrics clawgicMatchSchedulingMetrics;
+    private final ClawgicRuntimeProperties clawgicRuntimeProperties;
+
+    private final Map<UUID, Double> finishTagsByTournamentId = new HashMap<>();
+    private double virtualTime;
+
+    /**
+     * Claims the next ready match in fair-share order with {@code FOR UPDATE SKIP LOCKED}; must run inside the
+     * transaction that starts its execution. Matches already claimed by another worker are skipped in favour of the
+     * next candidate in the same tournament, then the next tournament.
+     */
+    public Optional<ClawgicMatch> claimNextReadyMatch() {
+        // The queue is read over plain JDBC, which does not flush pending JPA changes from earlier in this transaction.
+        clawgicMatchRepository.flush();
+        int perTournamentLimit = Math.max(1, clawgicRuntimeProperties.getWorker().getMaxConcurrentMatchExecutions());
+        List<ReadyMatchCandidate> candidates =
+                clawgicReadyMatchQueueRepository.findReadyQueueHeads(perTournamentLimit);
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<UUID, List<ReadyMatchCandidate>> queuesByTournamentId = new LinkedHashMap<>();
+        for (ReadyMatchCandidate candidate : candidates) {
+            queuesByTournamentId.computeIfAbsent(candidate.tournamentId(), _ -> new ArrayList<>()).add(candidate);
+        }
+
+        for (List<ReadyMatchCandidate> queue : orderQueues(queuesByTournamentId.values())) {
+            for (ReadyMatchCandidate candidate : queue) {
+                List<ClawgicMatch> claimed = clawgicMatchRepository.claimReadyMatchForExecution(candidate.matchId());
+                if (claimed.isEmpty()) {
+                    continue;
+                }
+                charge(candidate);
+                clawgicMatchSchedulingMetrics.recordQueueWait(
+                        candidate.tournamentId(),
+                        resolveTier(candidate),
+                        Duration.between(candidate.readyAt(), OffsetDateTime.now())
+                );
+                return Optional.of(claimed.getFirst());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private synchronized List<List<ReadyMatchCandidate>> orderQueues(
+            Iterable<List<ReadyMatchCandidate>> queues
+    ) {
+        Map<UUID, Double> startTags = new HashMap<>();
+        List<List<ReadyMatchCandidate>> ordered = new ArrayList<>();
+        for (List<ReadyMatchCandidate> queue : queues) {
+            UUID tournamentId = queue.getFirst().tournamentId();
+            startTags.put(tournamentId, startTag(tournamentId));
+            ordered.add(queue);
+        }
+        ordered.sort(Comparator
+                .comparingDouble((List<ReadyMatchCandidate> queue) -> startTags.get(queue.getFirst().tournamentId()))
+                .thenComparingInt(queue -> queue.getFirst().remainingRounds())
+                .thenComparing(queue -> queue.getFirst().tournamentStartTime(),
+                        Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(queue -> queue.getFirst().tournamentId()));
+        return ordered;
+    }
+
+    private synchronized void charge(ReadyMatchCandidate candidate) {
+        UUID tournamentId = candidate.tournamentId();
+        double startTag = startTag(tournamentId);
+        finishTagsByTournamentId.put(tournamentId, startTag + 1.0 / resolveWeight(candidate));
+        virtualTime = Math.max(virtualTime, startTag);
+        // Tags at or below the virtual time no longer affect ordering; dropping them bounds the map.
+        finishTagsByTournamentId.values().removeIf(finishTag -> finishTag <= virtualTime);
+    }
+
+    private double startTag(UUID tournamentId) {
+        return Math.max(finishTagsByTournamentId.getOrDefault(tournamentId, 0.0), virtualTime);
+    }
+
+    private double resolveWeight(ReadyMatchCandidate candidate) {
+        String tier = resolveTier(candidate);
+        Map<String, Double> tierWeights = clawgicRuntimeProperties.getWorker().getSchedulingTierWeights();
+        for (Map.Entry<String, Double> entry : tierWeights.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(tier) && entry.getValue() != null && entry.getValue() > 0) {
+                return entry.getValue();
+            }
+        }
+        return 1.0;
+    }
+
+    private static String resolveTier(ReadyMatchCandidate candidate) {
+        String tier = candidate.schedulingTier();
+        return tier == null || tier.isBlank() ? DEFAULT_TIER : tier;
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -48,7 +49,7 @@ public class ClawgicJudgeWorkerService {
     private final ClawgicMatchJudgementRepository clawgicMatchJudgementRepository;
     private final ClawgicJudgeProviderGateway clawgicJudgeProviderGateway;
     private final ClawgicAgentEloService clawgicAgentEloService;
-    private final ClawgicTournamentProgressionService clawgicTournamentProgressionService;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final ClawgicJudgeProperties clawgicJudgeProperties;
     private final TransactionTemplate transactionTemplate;
 
@@ -137,7 +138,9 @@ public class ClawgicJudgeWorkerService {
 
             applyMvpMergePolicy(match, now);
             clawgicMatchRepository.saveAndFlush(match);
-            clawgicTournamentProgressionService.completeTournamentIfResolved(match.getTournamentId(), now);
+            applicationEventPublisher.publishEvent(
+                    new ClawgicMatchResolvedEvent(match.getMatchId(), match.getTournamentId())
+            );
         } catch (IllegalArgumentException ex) {
             persistFailureAndRetry(
                     match,
@@ -0,0 +1,111 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds one connection subscribed to {@code clawgic_lifecycle} (raised by the V21 triggers on match and
+ * tournament status changes) and wakes {@link ClawgicMatchLifecycleScheduler} on every notification batch.
+ * On connection loss the scheduler falls back to its regular poll until the subscription is restored.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        prefix = "clawgic.worker",
+        name = "notify-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class ClawgicLifecycleNotificationListener {
+
+    static final String CHANNEL = "clawgic_lifecycle";
+
+    private static final Logger log = LoggerFactory.getLogger(ClawgicLifecycleNotificationListener.class);
+
+    private final DataSource dataSource;
+    private final ClawgicRuntimeProperties clawgicRuntimeProperties;
+    private final ClawgicMatchLifecycleScheduler clawgicMatchLifecycleScheduler;
+
+    private volatile boolean running = true;
+    private Thread listenerThread;
+
+    @PostConstruct
+    void startListener() {
+        if (!clawgicRuntimeProperties.isEnabled() || !clawgicRuntimeProperties.getWorker().isEnabled()) {
+            return;
+        }
+        listenerThread = Thread.ofVirtual()
+                .name("clawgic-lifecycle-listener")
+                .start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void stopListener() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                clawgicMatchLifecycleScheduler.setNotificationsActive(true);
+                log.info("Listening for Clawgic lifecycle notifications on channel {}", CHANNEL);
+                awaitNotifications(pgConnection);
+            } catch (SQLException ex) {
+                clawgicMatchLifecycleScheduler.setNotificationsActive(false);
+                if (!running) {
+                    return;
+                }
+                log.warn(
+                        "Clawgic lifecycle notification listener lost its connection ({}); falling back to polling",
+                        ex.getMessage()
+                );
+                if (!sleepBeforeReconnect()) {
+                    return;
+                }
+            }
+        }
+        clawgicMatchLifecycleScheduler.setNotificationsActive(false);
+    }
+
+    private void awaitNotifications(PGConnection pgConnection) throws SQLException {
+        int waitMs = (int) Math.max(1L, clawgicRuntimeProperties.getWorker().getNotifyWaitMs());
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(waitMs);
+            if (notifications != null && notifications.length > 0) {
+                clawgicMatchLifecycleScheduler.wake();
+            }
+        }
+    }
+
+    private boolean sleepBeforeReconnect() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(Math.max(100L, clawgicRuntimeProperties.getWorker().getNotifyReconnectDelayMs()));
+            return running;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,12 +1,30 @@
 package com.clawgic.clawgic.service;
 
 import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs lifecycle ticks on wake-up (Postgres notifications, due tournament start times, expiring execution leases)
+ * and on a fixed-rate poll.
+ * While notifications are being received the poll only fires after {@code clawgic.worker.fallback-poll-interval-ms}
+ * without a tick, so idle nodes stop querying every {@code poll-interval-ms}.
+ */
 @Service
 @RequiredArgsConstructor
 public class ClawgicMatchLifecycleScheduler {
@@ -16,26 +34,145 @@ public class ClawgicMatchLifecycleScheduler {
     private final ClawgicRuntimeProperties clawgicRuntimeProperties;
     private final ClawgicMatchLifecycleService clawgicMatchLifecycleService;
 
+    private final ReentrantLock tickLock = new ReentrantLock();
+    private final AtomicBoolean wakePending = new AtomicBoolean();
+    private final ScheduledExecutorService wakeExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("clawgic-lifecycle-wake-", 0).factory()
+    );
+
+    private volatile boolean notificationsActive;
+    private volatile long lastTickNanos = System.nanoTime();
+    private ScheduledFuture<?> timerWake;
+
+    @PreDestroy
+    void stopWakeExecutor() {
+        wakeExecutor.shutdownNow();
+    }
+
     @Scheduled(
             fixedRateString = "${clawgic.worker.poll-interval-ms:10000}",
             initialDelayString = "${clawgic.worker.initial-delay-ms:5000}"
     )
     public void processLifecycleTick() {
-        if (!clawgicRuntimeProperties.isEnabled() || !clawgicRuntimeProperties.getWorker().isEnabled()) {
+        if (!isWorkerEnabled()) {
+            return;
+        }
+        if (notificationsActive && System.nanoTime() - lastTickNanos < fallbackPollIntervalNanos()) {
+            log.debug("Skipping polled Clawgic worker tick because lifecycle notifications are active");
+            return;
+        }
+        runTick();
+    }
+
+    /**
+     * Requests a tick as soon as possible. Requests that arrive before the pending tick starts are coalesced;
+     * a request made while a tick runs schedules exactly one more.
+     */
+    public void wake() {
+        if (!isWorkerEnabled() || !wakePending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            wakeExecutor.execute(() -> {
+                wakePending.set(false);
+                try {
+                    runTick();
+                } catch (RuntimeException ex) {
+                    log.error("Clawgic worker tick triggered by wake-up failed", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            wakePending.set(false);
+        }
+    }
+
+    /**
+     * Called by the notification listener when it (re)subscribes or loses its connection. A fresh subscription
+     * wakes immediately to catch up on anything committed while it was not listening.
+     */
+    void setNotificationsActive(boolean active) {
+        boolean wasActive = notificationsActive;
+        notificationsActive = active;
+        if (active && !wasActive) {
+            wake();
+        }
+    }
+
+    boolean isNotificationsActive() {
+        return notificationsActive;
+    }
+
+    private void runTick() {
+        tickLock.lock();
+        try {
+            ClawgicMatchLifecycleService.TickSummary tickSummary = clawgicMatchLifecycleService.processLifecycleTick();
+            lastTickNanos = System.nanoTime();
+            if (tickSummary.hasWork()) {
+                log.info(
+                        "Clawgic worker tick: tournamentsActivated={}, winnersPropagated={}, tournamentsCompleted={}, "
+                                + "matchesExecuted={}, matchesResumed={}",
+                        tickSummary.tournamentsActivated(),
+                        tickSummary.winnersPropagated(),
+                        tickSummary.tournamentsCompleted(),
+                        tickSummary.matchesExecuted(),
+                        tickSummary.matchesResumed()
+                );
+            } else {
+                log.debug("Clawgic worker tick completed with no state changes");
+            }
+            if (notificationsActive) {
+                // A lease counts as expired only once it is strictly in the past
+                Optional<OffsetDateTime> nextResumableTime = clawgicMatchLifecycleService.findNextExecutionLeaseExpiry()
+                        .map(expiry -> expiry.plusNanos(1_000_000L));
+                scheduleTimerWake(earliest(
+                        clawgicMatchLifecycleService.findNextTournamentActivationTime(),
+                        nextResumableTime
+                ));
+            }
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    /**
+     * Tournament start times and execution lease expiries (a crashed worker's match becoming resumable) pass
+     * without any row changing, so no notification marks them; wake at the earliest LOCKED start time or
+     * IN_PROGRESS lease expiry instead of waiting for the fallback poll.
+     */
+    private void scheduleTimerWake(Optional<OffsetDateTime> nextDueTime) {
+        if (timerWake != null) {
+            timerWake.cancel(false);
+            timerWake = null;
+        }
+        if (nextDueTime.isEmpty()) {
             return;
         }
+        long delayMs = Math.max(0L, Duration.between(OffsetDateTime.now(), nextDueTime.get()).toMillis());
+        if (delayMs >= clawgicRuntimeProperties.getWorker().getFallbackPollIntervalMs()) {
+            return;
+        }
+        try {
+            timerWake = wakeExecutor.schedule(this::wake, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            log.debug("Skipping timed lifecycle wake-up because the scheduler is shutting down");
+        }
+    }
 
-        ClawgicMatchLifecycleService.TickSummary tickSummary = clawgicMatchLifecycleService.processLifecycleTick();
-        if (tickSummary.hasWork()) {
-            log.info(
-                    "Clawgic worker tick: tournamentsActivated={}, winnersPropagated={}, tournamentsCompleted={}, matchesExecuted={}",
-                    tickSummary.tournamentsActivated(),
-                    tickSummary.winnersPropagated(),
-                    tickSummary.tournamentsCompleted(),
-                    tickSummary.matchesExecuted()
-            );
-        } else {
-            log.debug("Clawgic worker tick completed with no state changes");
+    private static Optional<OffsetDateTime> earliest(Optional<OffsetDateTime> left, Optional<OffsetDateTime> right) {
+        if (left.isEmpty()) {
+            return right;
+        }
+        if (right.isEmpty()) {
+            return left;
         }
+        return left.get().isBefore(right.get()) ? left : right;
+    }
+
+    private boolean isWorkerEnabled() {
+        return clawgicRuntimeProperties.isEnabled() && clawgicRuntimeProperties.getWorker().isEnabled();
+    }
+
+    private long fallbackPollIntervalNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(clawgicRuntimeProperties.getWorker().getFallbackPollIntervalMs());
     }
 }
@@ -1,5 +1,6 @@
 package com.clawgic.clawgic.service;
 
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
 import com.clawgic.clawgic.model.ClawgicMatch;
 import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import com.clawgic.clawgic.model.ClawgicTournament;
@@ -10,12 +11,18 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
-import java.util.function.BooleanSupplier;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
 
 @Service
@@ -23,33 +30,53 @@ import java.util.function.IntSupplier;
 public class ClawgicMatchLifecycleService {
 
     private static final Logger log = LoggerFactory.getLogger(ClawgicMatchLifecycleService.class);
-    private static final int MAX_MATCH_EXECUTIONS_PER_TICK = 4;
-    private static final List<ClawgicMatchStatus> WINNER_PROPAGATION_STATUSES =
+    private static final List<ClawgicMatchStatus> TERMINAL_MATCH_STATUSES =
             List.of(ClawgicMatchStatus.COMPLETED, ClawgicMatchStatus.FORFEITED);
 
     private final ClawgicTournamentRepository clawgicTournamentRepository;
     private final ClawgicMatchRepository clawgicMatchRepository;
     private final ClawgicDebateExecutionService clawgicDebateExecutionService;
     private final ClawgicTournamentProgressionService clawgicTournamentProgressionService;
+    private final ClawgicMatchResolutionService clawgicMatchResolutionService;
+    private final ClawgicFairShareMatchSelector clawgicFairShareMatchSelector;
+    private final ClawgicTournamentLobbyCache clawgicTournamentLobbyCache;
+    private final ClawgicRuntimeProperties clawgicRuntimeProperties;
     private final TransactionTemplate transactionTemplate;
 
+    /**
+     * Resolved matches propagate their winner and complete their tournament through
+     * {@link ClawgicMatchResolvedEvent}; the propagation and completion steps here only pick up stragglers.
+     */
     public TickSummary processLifecycleTick() {
         int tournamentsActivated = runIntInTransaction(this::activateDueTournaments);
         int winnersPropagated = runIntInTransaction(this::propagateResolvedMatchWinners);
         int tournamentsCompleted = runIntInTransaction(this::completeResolvedTournaments);
 
-        int matchesExecuted = 0;
-        for (int i = 0; i < MAX_MATCH_EXECUTIONS_PER_TICK; i++) {
-            boolean executed = runBooleanInTransaction(this::executeNextReadyMatch);
-            if (!executed) {
-                break;
-            }
-            matchesExecuted++;
-            winnersPropagated += runIntInTransaction(this::propagateResolvedMatchWinners);
-            tournamentsCompleted += runIntInTransaction(this::completeResolvedTournaments);
-        }
+        int matchesResumed = resumeExpiredExecutions();
+        int matchesExecuted = executeReadyMatches();
+
+        return new TickSummary(
+                tournamentsActivated,
+                winnersPropagated,
+                tournamentsCompleted,
+                matchesExecuted,
+                matchesResumed
+        );
+    }
+
+    /**
+     * Start time of the earliest LOCKED tournament, i.e. when the next activation becomes due.
+     */
+    public Optional<OffsetDateTime> findNextTournamentActivationTime() {
+        return clawgicTournamentRepository.findFirstByStatusOrderByStartTimeAsc(ClawgicTournamentStatus.LOCKED)
+                .map(ClawgicTournament::getStartTime);
+    }
 
-        return new TickSummary(tournamentsActivated, winnersPropagated, tournamentsCompleted, matchesExecuted);
+    /**
+     * Earliest execution lease of an IN_PROGRESS match, i.e. when a crashed worker's match can next be resumed.
+     */
+    public Optional<OffsetDateTime> findNextExecutionLeaseExpiry() {
+        return clawgicMatchRepository.findEarliestExecutionLeaseExpiry(ClawgicMatchStatus.IN_PROGRESS);
     }
 
     private int activateDueTournaments() {
@@ -76,145 +103,125 @@ public class ClawgicMatchLifecycleService {
             activated++;
         }
         clawgicTournamentRepository.saveAll(dueTournaments);
+        if (activated > 0) {
+            clawgicTournamentLobbyCache.invalidate();
+        }
         return activated;
     }
 
     private int propagateResolvedMatchWinners() {
-        List<ClawgicMatch> resolvedMatches =
-                clawgicMatchRepository.findByStatusInAndWinnerAgentIdIsNotNullAndNextMatchIdIsNotNullOrderByUpdatedAtAsc(
-                        WINNER_PROPAGATION_STATUSES
-                );
-        if (resolvedMatches.isEmpty()) {
-            return 0;
-        }
-
-        int propagated = 0;
-        for (ClawgicMatch resolvedMatch : resolvedMatches) {
-            UUID nextMatchId = resolvedMatch.getNextMatchId();
-            if (nextMatchId == null) {
-                continue;
-            }
-
-            ClawgicMatch nextMatch = clawgicMatchRepository.findByMatchIdForUpdate(nextMatchId).orElse(null);
-            if (nextMatch == null) {
-                continue;
-            }
-            if (!resolvedMatch.getTournamentId().equals(nextMatch.getTournamentId())) {
-                log.warn(
-                        "Skipping winner propagation from match {} to {} because tournament ids differ",
-                        resolvedMatch.getMatchId(),
-                        nextMatchId
-                );
-                continue;
-            }
-            if (nextMatch.getStatus() != ClawgicMatchStatus.SCHEDULED) {
-                continue;
-            }
-
-            if (applyWinnerToNextMatch(resolvedMatch, nextMatch)) {
-                nextMatch.setUpdatedAt(OffsetDateTime.now());
-                clawgicMatchRepository.save(nextMatch);
-                propagated++;
-            }
-        }
-
-        return propagated;
+        return clawgicMatchResolutionService.propagatePendingWinners();
     }
 
     private int completeResolvedTournaments() {
-        List<ClawgicTournament> inProgressTournaments =
-                clawgicTournamentRepository.findByStatusOrderByStartTimeAsc(ClawgicTournamentStatus.IN_PROGRESS);
-        if (inProgressTournaments.isEmpty()) {
+        List<UUID> candidateTournamentIds = clawgicTournamentRepository.findTournamentIdsWithOnlyTerminalMatches(
+                ClawgicTournamentStatus.IN_PROGRESS,
+                TERMINAL_MATCH_STATUSES
+        );
+        if (candidateTournamentIds.isEmpty()) {
             return 0;
         }
 
         int completed = 0;
         OffsetDateTime now = OffsetDateTime.now();
-        for (ClawgicTournament tournament : inProgressTournaments) {
-            if (clawgicTournamentProgressionService.completeTournamentIfResolved(tournament.getTournamentId(), now)) {
+        for (UUID tournamentId : candidateTournamentIds) {
+            if (clawgicTournamentProgressionService.completeTournamentIfResolved(tournamentId, now)) {
                 completed++;
             }
         }
         return completed;
     }
 
-    private boolean applyWinnerToNextMatch(ClawgicMatch resolvedMatch, ClawgicMatch nextMatch) {
-        UUID winnerAgentId = resolvedMatch.getWinnerAgentId();
-        Integer nextSlot = resolvedMatch.getNextMatchAgentSlot();
-        if (winnerAgentId == null || nextSlot == null) {
-            return false;
-        }
-
-        if (nextSlot == 1) {
-            return assignWinnerToSlot(
-                    resolvedMatch,
-                    nextMatch,
-                    winnerAgentId,
-                    nextMatch.getAgent1Id(),
-                    true
-            );
+    /**
+     * Resumes IN_PROGRESS matches whose execution lease expired, i.e. whose worker died mid-debate, from the last
+     * turn in their transcript. Runs before new matches are claimed: these started earlier and are closer to
+     * unblocking their next round.
+     */
+    private int resumeExpiredExecutions() {
+        int limit = Math.max(0, clawgicRuntimeProperties.getWorker().getMaxResumedMatchesPerTick());
+        if (limit == 0) {
+            return 0;
         }
-        if (nextSlot == 2) {
-            return assignWinnerToSlot(
-                    resolvedMatch,
-                    nextMatch,
-                    winnerAgentId,
-                    nextMatch.getAgent2Id(),
-                    false
-            );
+        List<UUID> expiredMatchIds =
+                clawgicMatchRepository.findMatchIdsWithExpiredExecutionLease(OffsetDateTime.now(), limit);
+        if (expiredMatchIds.isEmpty()) {
+            return 0;
         }
 
-        log.warn(
-                "Skipping winner propagation for match {} because next slot is invalid: {}",
-                resolvedMatch.getMatchId(),
-                nextSlot
-        );
-        return false;
+        Queue<UUID> pendingMatchIds = new ConcurrentLinkedQueue<>(expiredMatchIds);
+        AtomicInteger resumed = new AtomicInteger();
+        runOnWorkers(expiredMatchIds.size(), () -> {
+            UUID matchId;
+            while ((matchId = pendingMatchIds.poll()) != null) {
+                try {
+                    if (clawgicDebateExecutionService.resumeExpiredExecution(matchId).isPresent()) {
+                        resumed.incrementAndGet();
+                    }
+                } catch (RuntimeException ex) {
+                    log.error("Failed to resume Clawgic match {}", matchId, ex);
+                }
+            }
+        });
+        return resumed.get();
     }
 
-    private boolean assignWinnerToSlot(
-            ClawgicMatch resolvedMatch,
-            ClawgicMatch nextMatch,
-            UUID winnerAgentId,
-            UUID currentAgentId,
-            boolean firstAgentSlot
-    ) {
-        if (currentAgentId == null) {
-            if (firstAgentSlot) {
-                nextMatch.setAgent1Id(winnerAgentId);
-            } else {
-                nextMatch.setAgent2Id(winnerAgentId);
+    /**
+     * Drains ready matches with up to {@code clawgic.worker.max-concurrent-match-executions} workers, each claiming
+     * one match through {@link ClawgicFairShareMatchSelector} in a short transaction that also takes the match's
+     * execution lease, so a whole bracket round runs side by side and concurrent tournaments share the workers by
+     * tier weight. The debate itself runs outside that transaction and persists each turn as it completes.
+     */
+    private int executeReadyMatches() {
+        int budget = Math.max(0, clawgicRuntimeProperties.getWorker().getMaxMatchExecutionsPerTick());
+        AtomicInteger remainingBudget = new AtomicInteger(budget);
+        AtomicInteger executed = new AtomicInteger();
+        runOnWorkers(budget, () -> {
+            while (remainingBudget.getAndDecrement() > 0 && executeNextReadyMatch()) {
+                executed.incrementAndGet();
             }
-            return true;
-        }
-        if (currentAgentId.equals(winnerAgentId)) {
-            return false;
-        }
+        });
+        return executed.get();
+    }
 
-        log.warn(
-                "Skipping winner propagation from match {} to next match {} because slot already has a different agent",
-                resolvedMatch.getMatchId(),
-                nextMatch.getMatchId()
+    /**
+     * Runs {@code worker} on up to {@code clawgic.worker.max-concurrent-match-executions} virtual threads (never more
+     * than {@code maxWorkers}) and waits for all of them. A caller that is already inside a transaction cannot share
+     * it across threads and runs the worker once on its own thread.
+     */
+    private void runOnWorkers(int maxWorkers, Runnable worker) {
+        int workers = Math.min(
+                maxWorkers,
+                Math.max(1, clawgicRuntimeProperties.getWorker().getMaxConcurrentMatchExecutions())
         );
-        return false;
-    }
+        if (workers <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            worker.run();
+            return;
+        }
 
-    private boolean executeNextReadyMatch() {
-        List<ClawgicMatch> readyMatches = clawgicMatchRepository.findNextReadyMatchForExecution();
-        if (readyMatches.isEmpty()) {
-            return false;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> {
+                    try {
+                        worker.run();
+                    } catch (RuntimeException ex) {
+                        log.error("Clawgic match execution worker failed", ex);
+                    }
+                });
+            }
         }
+    }
 
-        ClawgicMatch readyMatch = readyMatches.getFirst();
-        if (readyMatch.getAgent1Id() == null || readyMatch.getAgent2Id() == null) {
+    private boolean executeNextReadyMatch() {
+        ClawgicDebateExecutionService.ExecutionLease lease = transactionTemplate.execute(status ->
+                clawgicFairShareMatchSelector.claimNextReadyMatch()
+                        .map(match -> clawgicDebateExecutionService.startExecution(match.getMatchId()))
+                        .orElse(null)
+        );
+        if (lease == null) {
             return false;
         }
 
-        ClawgicMatch executedMatch = clawgicDebateExecutionService.executeMatch(readyMatch.getMatchId());
-        clawgicTournamentProgressionService.completeTournamentIfResolved(
-                executedMatch.getTournamentId(),
-                OffsetDateTime.now()
-        );
+        clawgicDebateExecutionService.continueExecution(lease);
         return true;
     }
 
@@ -223,19 +230,19 @@ public class ClawgicMatchLifecycleService {
         return value == null ? 0 : value;
     }
 
-    private boolean runBooleanInTransaction(BooleanSupplier work) {
-        Boolean value = transactionTemplate.execute(status -> work.getAsBoolean());
-        return Boolean.TRUE.equals(value);
-    }
-
     public record TickSummary(
             int tournamentsActivated,
             int winnersPropagated,
             int tournamentsCompleted,
-            int matchesExecuted
+            int matchesExecuted,
+            int matchesResumed
     ) {
         public boolean hasWork() {
-            return tournamentsActivated > 0 || winnersPropagated > 0 || tournamentsCompleted > 0 || matchesExecuted > 0;
+            return tournamentsActivated > 0
+                    || winnersPropagated > 0
+                    || tournamentsCompleted > 0
+                    || matchesExecuted > 0
+                    || matchesResumed > 0;
         }
     }
 }
@@ -0,0 +1,164 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.model.ClawgicMatch;
+import com.clawgic.clawgic.model.ClawgicMatchStatus;
+import com.clawgic.clawgic.repository.ClawgicMatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Carries a resolved match's winner into its next bracket match and checks whether that tournament is done.
+ * Runs synchronously on {@link ClawgicMatchResolvedEvent}, joining the judging transaction or, for a forfeit, which
+ * is published outside any transaction, starting its own; {@link #propagatePendingWinners()} is the lifecycle sweep
+ * for matches resolved without the event or whose listener failed.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClawgicMatchResolutionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClawgicMatchResolutionService.class);
+    private static final List<ClawgicMatchStatus> WINNER_PROPAGATION_STATUSES =
+            List.of(ClawgicMatchStatus.COMPLETED, ClawgicMatchStatus.FORFEITED);
+
+    private final ClawgicMatchRepository clawgicMatchRepository;
+    private final ClawgicTournamentProgressionService clawgicTournamentProgressionService;
+
+    @EventListener
+    @Transactional
+    public void onMatchResolved(ClawgicMatchResolvedEvent event) {
+        OffsetDateTime now = OffsetDateTime.now();
+        clawgicMatchRepository.findById(event.matchId())
+                .ifPresent(resolvedMatch -> propagateWinner(resolvedMatch, now));
+        clawgicTournamentProgressionService.completeTournamentIfResolved(event.tournamentId(), now);
+    }
+
+    /**
+     * Propagates every resolved match that has not been marked yet. Returns how many next-match slots were filled.
+     */
+    @Transactional
+    public int propagatePendingWinners() {
+        List<ClawgicMatch> pendingMatches =
+                clawgicMatchRepository
+                        .findByStatusInAndWinnerAgentIdIsNotNullAndNextMatchIdIsNotNullAndWinnerPropagatedAtIsNullOrderByUpdatedAtAsc(
+                                WINNER_PROPAGATION_STATUSES
+                        );
+        if (pendingMatches.isEmpty()) {
+            return 0;
+        }
+
+        int propagated = 0;
+        OffsetDateTime now = OffsetDateTime.now();
+        for (ClawgicMatch pendingMatch : pendingMatches) {
+            if (propagateWinner(pendingMatch, now)) {
+                propagated++;
+            }
+        }
+        return propagated;
+    }
+
+    /**
+     * Fills the resolved match's slot in its next match and marks the match as propagated. The marker is also set
+     * when propagation can never apply (final match, next match already past SCHEDULED, conflicting slot), so the
+     * sweep does not revisit it. Returns whether a slot was filled.
+     */
+    private boolean propagateWinner(ClawgicMatch resolvedMatch, OffsetDateTime now) {
+        if (!WINNER_PROPAGATION_STATUSES.contains(resolvedMatch.getStatus())
+                || resolvedMatch.getWinnerAgentId() == null
+                || resolvedMatch.getWinnerPropagatedAt() != null) {
+            return false;
+        }
+
+        boolean applied = false;
+        UUID nextMatchId = resolvedMatch.getNextMatchId();
+        ClawgicMatch nextMatch = nextMatchId == null
+                ? null
+                : clawgicMatchRepository.findByMatchIdForUpdate(nextMatchId).orElse(null);
+        if (nextMatch != null) {
+            if (!resolvedMatch.getTournamentId().equals(nextMatch.getTournamentId())) {
+                log.warn(
+                        "Skipping winner propagation from match {} to {} because tournament ids differ",
+                        resolvedMatch.getMatchId(),
+                        nextMatchId
+                );
+            } else if (nextMatch.getStatus() == ClawgicMatchStatus.SCHEDULED
+                    && applyWinnerToNextMatch(resolvedMatch, nextMatch)) {
+                nextMatch.setUpdatedAt(now);
+                clawgicMatchRepository.save(nextMatch);
+                applied = true;
+            }
+        }
+
+        resolvedMatch.setWinnerPropagatedAt(now);
+        clawgicMatchRepository.save(resolvedMatch);
+        return applied;
+    }
+
+    private boolean applyWinnerToNextMatch(ClawgicMatch resolvedMatch, ClawgicMatch nextMatch) {
+        UUID winnerAgentId = resolvedMatch.getWinnerAgentId();
+        Integer nextSlot = resolvedMatch.getNextMatchAgentSlot();
+        if (winnerAgentId == null || nextSlot == null) {
+            return false;
+        }
+
+        if (nextSlot == 1) {
+            return assignWinnerToSlot(
+                    resolvedMatch,
+                    nextMatch,
+                    winnerAgentId,
+                    nextMatch.getAgent1Id(),
+                    true
+            );
+        }
+        if (nextSlot == 2) {
+            return assignWinnerToSlot(
+                    resolvedMatch,
+                    nextMatch,
+                    winnerAgentId,
+                    nextMatch.getAgent2Id(),
+                    false
+            );
+        }
+
+        log.warn(
+                "Skipping winner propagation for match {} because next slot is invalid: {}",
+                resolvedMatch.getMatchId(),
+                nextSlot
+        );
+        return false;
+    }
+
+    private boolean assignWinnerToSlot(
+            ClawgicMatch resolvedMatch,
+            ClawgicMatch nextMatch,
+            UUID winnerAgentId,
+            UUID currentAgentId,
+            boolean firstAgentSlot
+    ) {
+        if (currentAgentId == null) {
+            if (firstAgentSlot) {
+                nextMatch.setAgent1Id(winnerAgentId);
+            } else {
+                nextMatch.setAgent2Id(winnerAgentId);
+            }
+            return true;
+        }
+        if (currentAgentId.equals(winnerAgentId)) {
+            return false;
+        }
+
+        log.warn(
+                "Skipping winner propagation from match {} to next match {} because slot already has a different agent",
+                resolvedMatch.getMatchId(),
+                nextMatch.getMatchId()
+        );
+        return false;
+    }
+}
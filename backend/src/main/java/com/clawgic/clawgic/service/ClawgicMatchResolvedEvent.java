@@ -0,0 +1,12 @@
+package com.clawgic.clawgic.service;
+
+import java.util.UUID;
+
+/**
+ * Published synchronously once a match reaches COMPLETED or FORFEITED and has been flushed. A judged match publishes
+ * it inside the judging transaction; a forfeit is saved on its own, outside any transaction, so the forfeit is
+ * already committed when the event arrives. Listeners must not assume an enclosing transaction and should open
+ * their own if they write; the lifecycle sweep picks up anything a failed listener left behind.
+ */
+public record ClawgicMatchResolvedEvent(UUID matchId, UUID tournamentId) {
+}
@@ -0,0 +1,80 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.model.ClawgicTournament;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue wait (ready to claimed) and tournament makespan (started to completed). Meters are tagged by scheduling
+ * tier only, to keep cardinality bounded; per-tournament wait totals are kept on this node and logged with the
+ * makespan when the tournament completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClawgicMatchSchedulingMetrics {
+
+    static final String QUEUE_WAIT_METRIC = "clawgic.match.queue.wait";
+    static final String MAKESPAN_METRIC = "clawgic.tournament.makespan";
+
+    private static final Logger log = LoggerFactory.getLogger(ClawgicMatchSchedulingMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, WaitTotals> waitTotalsByTournamentId = new ConcurrentHashMap<>();
+
+    public void recordQueueWait(UUID tournamentId, String schedulingTier, Duration wait) {
+        Duration clampedWait = wait.isNegative() ? Duration.ZERO : wait;
+        Timer.builder(QUEUE_WAIT_METRIC)
+                .tag("tier", schedulingTier)
+                .register(meterRegistry)
+                .record(clampedWait);
+        waitTotalsByTournamentId.computeIfAbsent(tournamentId, _ -> new WaitTotals()).add(clampedWait.toNanos());
+    }
+
+    public void recordTournamentCompleted(ClawgicTournament tournament) {
+        WaitTotals waitTotals = waitTotalsByTournamentId.remove(tournament.getTournamentId());
+        if (tournament.getStartedAt() == null || tournament.getCompletedAt() == null) {
+            return;
+        }
+        Duration makespan = Duration.between(tournament.getStartedAt(), tournament.getCompletedAt());
+        Timer.builder(MAKESPAN_METRIC)
+                .tag("tier", tournament.getSchedulingTier())
+                .tag("format", tournament.getFormat().name())
+                .register(meterRegistry)
+                .record(makespan.isNegative() ? Duration.ZERO : makespan);
+        if (waitTotals == null) {
+            log.info("Clawgic tournament {} completed: makespan={}", tournament.getTournamentId(), makespan);
+            return;
+        }
+        log.info(
+                "Clawgic tournament {} completed: makespan={}, matchesClaimed={}, meanQueueWait={}, maxQueueWait={}",
+                tournament.getTournamentId(),
+                makespan,
+                waitTotals.count.get(),
+                Duration.ofNanos(waitTotals.totalNanos.get() / Math.max(1L, waitTotals.count.get())),
+                Duration.ofNanos(waitTotals.maxNanos.get())
+        );
+    }
+
+    private static final class WaitTotals {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void add(long waitNanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(waitNanos);
+            maxNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+    }
+}
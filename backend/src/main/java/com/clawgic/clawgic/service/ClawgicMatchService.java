@@ -43,6 +43,16 @@ public class ClawgicMatchService {
         return clawgicResponseMapper.toMatchDetailResponse(match, judgements);
     }
 
+    public void requireMatch(UUID matchId) {
+        if (!clawgicMatchRepository.existsById(matchId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Match not found: " + matchId);
+        }
+    }
+
+    public ClawgicMatchStatus findMatchStatus(UUID matchId) {
+        return clawgicMatchRepository.findStatusByMatchId(matchId).orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public List<ClawgicMatchResponses.MatchSummary> listTournamentMatches(UUID tournamentId) {
         if (!clawgicTournamentRepository.existsById(tournamentId)) {
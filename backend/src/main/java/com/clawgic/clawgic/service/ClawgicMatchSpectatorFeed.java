@@ -0,0 +1,473 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.model.ClawgicMatchStatus;
+import com.clawgic.clawgic.model.DebatePhase;
+import com.clawgic.clawgic.model.DebateTranscriptRole;
+import com.clawgic.clawgic.provider.ClawgicProviderTurnListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pushes live debate progress to spectators of a match, over SSE ({@code GET /api/clawgic/matches/{id}/stream}) or
+ * STOMP ({@code /topic/clawgic/matches/{id}}). Execution threads only append to per-subscriber buffers and never
+ * wait on a client: each buffer keeps at most {@code clawgic.spectator.subscriber-buffer-size} events, dropping the
+ * oldest when full, and is drained to its client by a virtual thread of its own. The next event a lagging
+ * subscriber receives reports how many were dropped before it, so the client knows to refetch the transcript.
+ * Nothing is replayed: spectators load the match detail first and follow the feed from there; an SSE subscriber to
+ * a match whose debate is already over gets its {@code MATCH_ENDED} event at once and the stream completes.
+ * Events other than {@code TURN_DELTA} are also relayed to and from the other nodes through
+ * {@link ClawgicSpectatorRelay}, so spectators may connect to any node; a spectator on a node other than the one
+ * running the debate sees each turn when it completes. Sequence numbers are assigned by the node the spectator is
+ * connected to.
+ */
+@Component
+public class ClawgicMatchSpectatorFeed {
+
+    public static final String STOMP_TOPIC_PREFIX = "/topic/clawgic/matches/";
+
+    private static final Logger log = LoggerFactory.getLogger(ClawgicMatchSpectatorFeed.class);
+
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectMapper objectMapper;
+    private final ClawgicRuntimeProperties clawgicRuntimeProperties;
+    private final ClawgicSpectatorRelay clawgicSpectatorRelay;
+
+    private final Map<UUID, MatchTopic> topicsByMatchId = new ConcurrentHashMap<>();
+    private final Map<StompSubscriptionKey, Subscriber> stompSubscribersByKey = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClawgicMatchSpectatorFeed(
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            ObjectProvider<ObjectMapper> objectMapperProvider,
+            ClawgicRuntimeProperties clawgicRuntimeProperties,
+            ObjectProvider<ClawgicSpectatorRelay> clawgicSpectatorRelayProvider
+    ) {
+        this(
+                clientOutboundChannel,
+                objectMapperProvider.getIfAvailable(ObjectMapper::new),
+                clawgicRuntimeProperties,
+                clawgicSpectatorRelayProvider.getIfAvailable()
+        );
+    }
+
+    ClawgicMatchSpectatorFeed(
+            MessageChannel clientOutboundChannel,
+            ObjectMapper objectMapper,
+            ClawgicRuntimeProperties clawgicRuntimeProperties,
+            ClawgicSpectatorRelay clawgicSpectatorRelay
+    ) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.objectMapper = objectMapper;
+        this.clawgicRuntimeProperties = clawgicRuntimeProperties;
+        this.clawgicSpectatorRelay = clawgicSpectatorRelay;
+        if (clawgicSpectatorRelay != null) {
+            clawgicSpectatorRelay.onRemoteEvent(this::deliver);
+        }
+    }
+
+    public void turnStarted(UUID matchId, DebateTranscriptRole role, DebatePhase phase) {
+        publish(matchId, EventType.TURN_STARTED, role, phase, null, null, null);
+    }
+
+    /**
+     * Forwards streamed provider text as {@code TURN_DELTA} events.
+     */
+    public ClawgicProviderTurnListener turnListener(UUID matchId, DebateTranscriptRole role, DebatePhase phase) {
+        return (offset, delta) -> publish(matchId, EventType.TURN_DELTA, role, phase, offset, delta, null);
+    }
+
+    public void turnCompleted(UUID matchId, DebateTranscriptRole role, DebatePhase phase, String content) {
+        publish(matchId, EventType.TURN_COMPLETED, role, phase, null, content, null);
+    }
+
+    public void matchEnded(UUID matchId, ClawgicMatchStatus status) {
+        publish(matchId, EventType.MATCH_ENDED, null, null, null, null, status);
+    }
+
+    /**
+     * Opens an SSE stream for a match. The current status is read only after the subscriber is registered, so a
+     * debate ending in between is seen either here or as a published {@code MATCH_ENDED}, never missed.
+     */
+    public SseEmitter subscribe(UUID matchId, Supplier<ClawgicMatchStatus> currentStatus) {
+        SseEmitter emitter = new SseEmitter(clawgicRuntimeProperties.getSpectator().getSseTimeoutMs());
+        Subscriber subscriber = new Subscriber(matchId, new SseSink(emitter));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(_ -> unregister(subscriber));
+        register(subscriber);
+
+        ClawgicMatchStatus status;
+        try {
+            status = currentStatus.get();
+        } catch (RuntimeException ex) {
+            unregister(subscriber);
+            throw ex;
+        }
+        if (isDebateOver(status)) {
+            subscriber.offer(event(matchId, EventType.MATCH_ENDED, null, null, null, null, status));
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onStompSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        UUID matchId = parseMatchId(headers.getDestination());
+        if (matchId == null || headers.getSessionId() == null || headers.getSubscriptionId() == null) {
+            return;
+        }
+        StompSubscriptionKey key = new StompSubscriptionKey(headers.getSessionId(), headers.getSubscriptionId());
+        Subscriber subscriber = new Subscriber(matchId, new StompSink(key, headers.getDestination()));
+        Subscriber replaced = stompSubscribersByKey.put(key, subscriber);
+        if (replaced != null) {
+            unregister(replaced);
+        }
+        register(subscriber);
+    }
+
+    @EventListener
+    public void onStompUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if (headers.getSessionId() == null || headers.getSubscriptionId() == null) {
+            return;
+        }
+        Subscriber subscriber = stompSubscribersByKey.remove(
+                new StompSubscriptionKey(headers.getSessionId(), headers.getSubscriptionId())
+        );
+        if (subscriber != null) {
+            unregister(subscriber);
+        }
+    }
+
+    @EventListener
+    public void onStompDisconnect(SessionDisconnectEvent event) {
+        List<StompSubscriptionKey> sessionKeys = stompSubscribersByKey.keySet().stream()
+                .filter(key -> key.sessionId().equals(event.getSessionId()))
+                .toList();
+        for (StompSubscriptionKey key : sessionKeys) {
+            Subscriber subscriber = stompSubscribersByKey.remove(key);
+            if (subscriber != null) {
+                unregister(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Fans an event out to this node's subscribers of its match, numbering it in this node's sequence.
+     */
+    void deliver(SpectatorEvent event) {
+        MatchTopic topic = topicsByMatchId.get(event.matchId());
+        if (topic == null) {
+            return;
+        }
+        SpectatorEvent sequenced = event.withSequence(topic.sequence.incrementAndGet());
+        for (Subscriber subscriber : topic.subscribers) {
+            subscriber.offer(sequenced);
+        }
+    }
+
+    int subscriberCount(UUID matchId) {
+        MatchTopic topic = topicsByMatchId.get(matchId);
+        return topic == null ? 0 : topic.subscribers.size();
+    }
+
+    private void publish(
+            UUID matchId,
+            EventType type,
+            DebateTranscriptRole role,
+            DebatePhase phase,
+            Integer offset,
+            String text,
+            ClawgicMatchStatus status
+    ) {
+        SpectatorEvent event = event(matchId, type, role, phase, offset, text, status);
+        deliver(event);
+        if (clawgicSpectatorRelay != null) {
+            clawgicSpectatorRelay.publish(event);
+        }
+    }
+
+    private static SpectatorEvent event(
+            UUID matchId,
+            EventType type,
+            DebateTranscriptRole role,
+            DebatePhase phase,
+            Integer offset,
+            String text,
+            ClawgicMatchStatus status
+    ) {
+        return new SpectatorEvent(matchId, 0, type, role, phase, offset, text, status, 0, System.currentTimeMillis());
+    }
+
+    private static boolean isDebateOver(ClawgicMatchStatus status) {
+        return status != null && status != ClawgicMatchStatus.SCHEDULED && status != ClawgicMatchStatus.IN_PROGRESS;
+    }
+
+    private void register(Subscriber subscriber) {
+        topicsByMatchId.compute(subscriber.matchId, (_, existing) -> {
+            MatchTopic topic = existing == null ? new MatchTopic() : existing;
+            topic.subscribers.add(subscriber);
+            return topic;
+        });
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.close()) {
+            return;
+        }
+        topicsByMatchId.computeIfPresent(subscriber.matchId, (_, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+    }
+
+    private byte[] toJson(SpectatorEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize Clawgic spectator event", ex);
+        }
+    }
+
+    private static UUID parseMatchId(String destination) {
+        if (destination == null || !destination.startsWith(STOMP_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(STOMP_TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public enum EventType {
+        TURN_STARTED,
+        TURN_DELTA,
+        TURN_COMPLETED,
+        MATCH_ENDED
+    }
+
+    /**
+     * {@code offset} locates a {@code TURN_DELTA} in the turn text; offset 0 after earlier deltas means the
+     * provider call was retried and the turn restarts. {@code dropped} counts events this subscriber missed
+     * immediately before this one.
+     */
+    public record SpectatorEvent(
+            UUID matchId,
+            long sequence,
+            EventType type,
+            DebateTranscriptRole role,
+            DebatePhase phase,
+            Integer offset,
+            String text,
+            ClawgicMatchStatus status,
+            long dropped,
+            long emittedAtEpochMs
+    ) {
+        SpectatorEvent withSequence(long assignedSequence) {
+            return new SpectatorEvent(
+                    matchId,
+                    assignedSequence,
+                    type,
+                    role,
+                    phase,
+                    offset,
+                    text,
+                    status,
+                    dropped,
+                    emittedAtEpochMs
+            );
+        }
+
+        SpectatorEvent withDropped(long droppedBefore) {
+            return new SpectatorEvent(
+                    matchId,
+                    sequence,
+                    type,
+                    role,
+                    phase,
+                    offset,
+                    text,
+                    status,
+                    droppedBefore,
+                    emittedAtEpochMs
+            );
+        }
+    }
+
+    private static final class MatchTopic {
+        private final AtomicLong sequence = new AtomicLong();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    }
+
+    private record StompSubscriptionKey(String sessionId, String subscriptionId) {
+    }
+
+    private interface SpectatorSink {
+        void send(SpectatorEvent event) throws IOException;
+
+        void close();
+    }
+
+    private final class Subscriber {
+        private final UUID matchId;
+        private final SpectatorSink sink;
+        private final int capacity = Math.max(1, clawgicRuntimeProperties.getSpectator().getSubscriberBufferSize());
+        private final ArrayDeque<SpectatorEvent> buffer = new ArrayDeque<>();
+
+        private long dropped;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(UUID matchId, SpectatorSink sink) {
+            this.matchId = matchId;
+            this.sink = sink;
+        }
+
+        private void offer(SpectatorEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() == capacity) {
+                    dropped += 1 + buffer.pollFirst().dropped();
+                }
+                buffer.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            Thread.ofVirtual().name("clawgic-spectator-feed-", 0).start(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                SpectatorEvent next;
+                synchronized (this) {
+                    next = closed ? null : buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    if (dropped > 0) {
+                        next = next.withDropped(next.dropped() + dropped);
+                        dropped = 0;
+                    }
+                }
+                try {
+                    sink.send(next);
+                } catch (IOException | RuntimeException ex) {
+                    log.debug("Dropping Clawgic spectator of match {} after a failed send", matchId, ex);
+                    unregister(this);
+                    return;
+                }
+                if (next.type() == EventType.MATCH_ENDED) {
+                    unregister(this);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns false when already closed.
+         */
+        private boolean close() {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            sink.close();
+            return true;
+        }
+    }
+
+    private final class SseSink implements SpectatorSink {
+        private final SseEmitter emitter;
+
+        private SseSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(SpectatorEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.sequence()))
+                    .name(event.type().name())
+                    .data(new String(toJson(event), StandardCharsets.UTF_8), MediaType.APPLICATION_JSON));
+            if (event.type() == EventType.MATCH_ENDED) {
+                emitter.complete();
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ex) {
+                log.debug("Clawgic spectator SSE stream already closed", ex);
+            }
+        }
+    }
+
+    /**
+     * Sends straight to one STOMP subscription through the client outbound channel, the way the simple broker
+     * delivers, so each subscription keeps its own buffer instead of sharing the broker's fan-out.
+     */
+    private final class StompSink implements SpectatorSink {
+        private final StompSubscriptionKey key;
+        private final String destination;
+
+        private StompSink(StompSubscriptionKey key, String destination) {
+            this.key = key;
+            this.destination = destination;
+        }
+
+        @Override
+        public void send(SpectatorEvent event) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(key.sessionId());
+            headers.setSubscriptionId(key.subscriptionId());
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setLeaveMutable(true);
+            clientOutboundChannel.send(MessageBuilder.createMessage(toJson(event), headers.getMessageHeaders()));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Relays spectator events between nodes over Postgres {@code NOTIFY clawgic_spectator}, so a spectator connected
+ * to one node can follow a match executed on another. Only turn boundaries and match ends are relayed: a
+ * {@code TURN_DELTA} per streamed chunk would cost a database round-trip per token, so remote spectators get a
+ * turn's text in one piece with its {@code TURN_COMPLETED}. Outgoing events are queued like a spectator
+ * subscriber's (at most {@code clawgic.spectator.relay-buffer-size}, dropping the oldest) and sent by a virtual
+ * thread on a connection borrowed for the batch, so execution threads never wait on the database. One connection
+ * stays subscribed to the channel and hands events from other nodes to the {@link ClawgicMatchSpectatorFeed}; a
+ * node ignores its own notifications. Events lost here (queue overflow, payloads over the 8000-byte NOTIFY limit,
+ * a failed send) are reported to remote spectators through the {@code dropped} count of the next relayed event.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "clawgic.spectator",
+        name = "relay-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class ClawgicSpectatorRelay {
+
+    static final String CHANNEL = "clawgic_spectator";
+    static final int MAX_PAYLOAD_BYTES = 7_999;
+
+    private static final Logger log = LoggerFactory.getLogger(ClawgicSpectatorRelay.class);
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ClawgicRuntimeProperties clawgicRuntimeProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ArrayDeque<ClawgicMatchSpectatorFeed.SpectatorEvent> outbox = new ArrayDeque<>();
+
+    private volatile Consumer<ClawgicMatchSpectatorFeed.SpectatorEvent> remoteEventConsumer = _ -> { };
+    private volatile boolean running = true;
+    private long dropped;
+    private boolean draining;
+    private Thread listenerThread;
+
+    @Autowired
+    public ClawgicSpectatorRelay(
+            DataSource dataSource,
+            ObjectProvider<ObjectMapper> objectMapperProvider,
+            ClawgicRuntimeProperties clawgicRuntimeProperties
+    ) {
+        this(dataSource, objectMapperProvider.getIfAvailable(ObjectMapper::new), clawgicRuntimeProperties);
+    }
+
+    ClawgicSpectatorRelay(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            ClawgicRuntimeProperties clawgicRuntimeProperties
+    ) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.clawgicRuntimeProperties = clawgicRuntimeProperties;
+    }
+
+    @PostConstruct
+    void startListener() {
+        if (!clawgicRuntimeProperties.isEnabled()) {
+            return;
+        }
+        listenerThread = Thread.ofVirtual()
+                .name("clawgic-spectator-relay-listener")
+                .start(this::listenLoop);
+    }
+
+    @PreDestroy
+    void stopListener() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    void onRemoteEvent(Consumer<ClawgicMatchSpectatorFeed.SpectatorEvent> consumer) {
+        this.remoteEventConsumer = consumer;
+    }
+
+    /**
+     * Queues an event for the other nodes; never blocks. {@code TURN_DELTA} events stay on this node.
+     */
+    public void publish(ClawgicMatchSpectatorFeed.SpectatorEvent event) {
+        if (!clawgicRuntimeProperties.isEnabled() || !isRelayed(event.type())) {
+            return;
+        }
+        int capacity = Math.max(1, clawgicRuntimeProperties.getSpectator().getRelayBufferSize());
+        synchronized (outbox) {
+            if (outbox.size() == capacity) {
+                dropped += 1 + outbox.pollFirst().dropped();
+            }
+            outbox.addLast(event);
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        startDrain();
+    }
+
+    static boolean isRelayed(ClawgicMatchSpectatorFeed.EventType type) {
+        return type != ClawgicMatchSpectatorFeed.EventType.TURN_DELTA;
+    }
+
+    private void startDrain() {
+        Thread.ofVirtual().name("clawgic-spectator-relay-", 0).start(this::drain);
+    }
+
+    private void drain() {
+        ClawgicMatchSpectatorFeed.SpectatorEvent inFlight = null;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            connection.setAutoCommit(true);
+            while ((inFlight = nextToSend()) != null) {
+                String payload = encodeOrNull(inFlight);
+                if (payload != null) {
+                    statement.setString(1, CHANNEL);
+                    statement.setString(2, payload);
+                    statement.execute();
+                } else {
+                    synchronized (outbox) {
+                        dropped += 1 + inFlight.dropped();
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            log.warn("Failed to relay Clawgic spectator events to other nodes ({})", ex.getMessage());
+            synchronized (outbox) {
+                dropped += outbox.size() + (inFlight == null ? 0 : 1 + inFlight.dropped());
+                outbox.clear();
+            }
+        } finally {
+            // Reset under the lock so an event queued after the last poll is never stranded.
+            boolean pending;
+            synchronized (outbox) {
+                pending = !outbox.isEmpty();
+                draining = pending;
+            }
+            if (pending) {
+                startDrain();
+            }
+        }
+    }
+
+    private ClawgicMatchSpectatorFeed.SpectatorEvent nextToSend() {
+        synchronized (outbox) {
+            ClawgicMatchSpectatorFeed.SpectatorEvent next = outbox.pollFirst();
+            if (next != null && dropped > 0) {
+                next = next.withDropped(next.dropped() + dropped);
+                dropped = 0;
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Returns {@code null} for an event that cannot be relayed, which is then counted as dropped.
+     */
+    private String encodeOrNull(ClawgicMatchSpectatorFeed.SpectatorEvent event) {
+        try {
+            return encode(nodeId, event);
+        } catch (RuntimeException ex) {
+            log.debug("Dropping unserializable Clawgic spectator event of match {}", event.matchId(), ex);
+            return null;
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for relayed Clawgic spectator events on channel {}", CHANNEL);
+                awaitNotifications(pgConnection);
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Clawgic spectator relay lost its connection ({}); reconnecting", ex.getMessage());
+                if (!sleepBeforeReconnect()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitNotifications(PGConnection pgConnection) throws SQLException {
+        int waitMs = (int) Math.max(1L, clawgicRuntimeProperties.getWorker().getNotifyWaitMs());
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(waitMs);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                RelayedEvent relayed = decode(notification.getParameter());
+                if (relayed != null && !nodeId.equals(relayed.origin())) {
+                    remoteEventConsumer.accept(relayed.event());
+                }
+            }
+        }
+    }
+
+    private boolean sleepBeforeReconnect() {
+        try {
+            long delayMs = clawgicRuntimeProperties.getWorker().getNotifyReconnectDelayMs();
+            TimeUnit.MILLISECONDS.sleep(Math.max(100L, delayMs));
+            return running;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code null} when the event does not fit in one notification.
+     */
+    String encode(String origin, ClawgicMatchSpectatorFeed.SpectatorEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(new RelayedEvent(origin, event));
+            return payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES ? null : payload;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize relayed Clawgic spectator event", ex);
+        }
+    }
+
+    RelayedEvent decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, RelayedEvent.class);
+        } catch (JsonProcessingException ex) {
+            log.debug("Ignoring malformed relayed Clawgic spectator event", ex);
+            return null;
+        }
+    }
+
+    record RelayedEvent(String origin, ClawgicMatchSpectatorFeed.SpectatorEvent event) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.clawgic.clawgic.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Pairs one Swiss round. Agents are ranked by score then Elo and each unpaired agent meets the next-ranked agent it
+ * has not played yet, so pairings stay inside a score group whenever the group allows it. Agents left without a
+ * fresh opponent are swapped into an existing pairing, and only play a rematch when no single swap avoids it (late
+ * rounds of a small field). With an odd field the lowest-ranked agent among those with the fewest byes sits out.
+ * <p>
+ * Previous opponents are held as one bit set per agent, so a round over a few thousand agents pairs in
+ * milliseconds without touching the database.
+ */
+@Component
+public class ClawgicSwissPairingEngine {
+
+    private static final Comparator<SwissStanding> RANK_ORDER = Comparator
+            .comparingInt(SwissStanding::score).reversed()
+            .thenComparing(Comparator.comparingInt(SwissStanding::elo).reversed())
+            .thenComparing(SwissStanding::agentId);
+
+    public RoundPairing pair(List<SwissStanding> standings) {
+        if (standings == null || standings.size() < 2) {
+            throw new IllegalArgumentException("Swiss pairing requires at least 2 agents");
+        }
+
+        List<SwissStanding> ranked = new ArrayList<>(standings);
+        ranked.sort(RANK_ORDER);
+
+        UUID byeAgentId = null;
+        if (ranked.size() % 2 == 1) {
+            int byeIndex = resolveByeIndex(ranked);
+            byeAgentId = ranked.remove(byeIndex).agentId();
+        }
+
+        int size = ranked.size();
+        BitSet[] played = buildPlayedMatrix(ranked);
+        int[] partner = new int[size];
+        Arrays.fill(partner, -1);
+
+        List<Integer> unpaired = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (partner[i] >= 0) {
+                continue;
+            }
+            int j = i + 1;
+            while (j < size && (partner[j] >= 0 || played[i].get(j))) {
+                j++;
+            }
+            if (j < size) {
+                partner[i] = j;
+                partner[j] = i;
+            } else {
+                unpaired.add(i);
+            }
+        }
+        repairUnpaired(unpaired, partner, played);
+
+        List<Pairing> pairings = new ArrayList<>(size / 2);
+        for (int i = 0; i < size; i++) {
+            int j = partner[i];
+            if (j > i) {
+                pairings.add(orderSlots(ranked.get(i), ranked.get(j)));
+            }
+        }
+        return new RoundPairing(List.copyOf(pairings), byeAgentId);
+    }
+
+    /**
+     * Greedy pairing leaves agents unpaired only when everyone still free below them is a previous opponent. Each
+     * such agent is first matched with another leftover, then swapped into an existing pairing {@code (x, y)} as
+     * {@code (a, x), (b, y)}, scanning from the bottom of the table up so the swap stays close in rank.
+     */
+    private static void repairUnpaired(List<Integer> unpaired, int[] partner, BitSet[] played) {
+        while (!unpaired.isEmpty()) {
+            int a = unpaired.removeFirst();
+            int freshIndex = -1;
+            for (int k = 0; k < unpaired.size(); k++) {
+                if (!played[a].get(unpaired.get(k))) {
+                    freshIndex = k;
+                    break;
+                }
+            }
+            if (freshIndex >= 0) {
+                link(partner, a, unpaired.remove(freshIndex));
+                continue;
+            }
+
+            int b = unpaired.removeFirst();
+            if (!swapIntoExistingPairing(a, b, partner, played)) {
+                link(partner, a, b);
+            }
+        }
+    }
+
+    private static boolean swapIntoExistingPairing(int a, int b, int[] partner, BitSet[] played) {
+        for (int x = partner.length - 1; x >= 0; x--) {
+            int y = partner[x];
+            if (y < 0 || y < x || x == a || x == b || y == a || y == b) {
+                continue;
+            }
+            if (!played[a].get(x) && !played[b].get(y)) {
+                link(partner, a, x);
+                link(partner, b, y);
+                return true;
+            }
+            if (!played[a].get(y) && !played[b].get(x)) {
+                link(partner, a, y);
+                link(partner, b, x);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void link(int[] partner, int a, int b) {
+        partner[a] = b;
+        partner[b] = a;
+    }
+
+    private static int resolveByeIndex(List<SwissStanding> ranked) {
+        int fewestByes = ranked.stream().mapToInt(SwissStanding::byes).min().orElse(0);
+        for (int i = ranked.size() - 1; i >= 0; i--) {
+            if (ranked.get(i).byes() == fewestByes) {
+                return i;
+            }
+        }
+        return ranked.size() - 1;
+    }
+
+    private static BitSet[] buildPlayedMatrix(List<SwissStanding> ranked) {
+        Map<UUID, Integer> indexByAgentId = new HashMap<>(ranked.size() * 2);
+        for (int i = 0; i < ranked.size(); i++) {
+            indexByAgentId.put(ranked.get(i).agentId(), i);
+        }
+        BitSet[] played = new BitSet[ranked.size()];
+        for (int i = 0; i < ranked.size(); i++) {
+            played[i] = new BitSet(ranked.size());
+            for (UUID opponentId : ranked.get(i).previousOpponentIds()) {
+                Integer opponentIndex = indexByAgentId.get(opponentId);
+                if (opponentIndex != null) {
+                    played[i].set(opponentIndex);
+                }
+            }
+        }
+        return played;
+    }
+
+    /**
+     * Agent 1 speaks first; give that slot to whoever has held it less, falling back to the higher-ranked agent.
+     */
+    private static Pairing orderSlots(SwissStanding higher, SwissStanding lower) {
+        if (lower.agent1Count() < higher.agent1Count()) {
+            return new Pairing(lower.agentId(), higher.agentId());
+        }
+        return new Pairing(higher.agentId(), lower.agentId());
+    }
+
+    public record SwissStanding(
+            UUID agentId,
+            int score,
+            int elo,
+            int byes,
+            int agent1Count,
+            List<UUID> previousOpponentIds
+    ) {
+    }
+
+    public record Pairing(
+            UUID agent1Id,
+            UUID agent2Id
+    ) {
+    }
+
+    public record RoundPairing(
+            List<Pairing> pairings,
+            UUID byeAgentId
+    ) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.model.ClawgicAgentElo;
+import com.clawgic.clawgic.model.ClawgicMatch;
+import com.clawgic.clawgic.model.ClawgicMatchStatus;
+import com.clawgic.clawgic.model.ClawgicTournamentEntry;
+import com.clawgic.clawgic.model.DebateTranscriptJsonCodec;
+import com.clawgic.clawgic.repository.ClawgicAgentEloRepository;
+import com.clawgic.clawgic.repository.ClawgicMatchBatchInsertRepository;
+import com.clawgic.clawgic.repository.ClawgicTournamentEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Round generation and standings for Swiss tournaments. A round's matches are inserted together with no
+ * {@code next_match_id}, so the lifecycle worker executes the whole round concurrently; the next round is paired
+ * once every match of the current one is terminal. Score is wins plus byes.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClawgicSwissTournamentService {
+
+    private final ClawgicSwissPairingEngine clawgicSwissPairingEngine;
+    private final ClawgicTournamentEntryRepository clawgicTournamentEntryRepository;
+    private final ClawgicAgentEloRepository clawgicAgentEloRepository;
+    private final ClawgicMatchBatchInsertRepository clawgicMatchBatchInsertRepository;
+
+    /**
+     * Enough rounds for a single undefeated agent to remain: {@code ceil(log2(entries))}.
+     */
+    public static int defaultRounds(int entryCount) {
+        if (entryCount < 2) {
+            return 1;
+        }
+        return 32 - Integer.numberOfLeadingZeros(entryCount - 1);
+    }
+
+    /**
+     * Pairs round {@code round} from the tournament's played matches, records the bye (if any) on its entry and
+     * batch-inserts the round. Callers hold the tournament row lock so a round is only generated once.
+     */
+    public List<ClawgicMatch> startRound(
+            UUID tournamentId,
+            int round,
+            List<ClawgicMatch> playedMatches,
+            OffsetDateTime now
+    ) {
+        List<ClawgicTournamentEntry> entries =
+                clawgicTournamentEntryRepository.findByTournamentIdOrderByCreatedAtAsc(tournamentId);
+        Map<UUID, ClawgicTournamentEntry> entriesByAgentId = entries.stream()
+                .collect(Collectors.toMap(ClawgicTournamentEntry::getAgentId, Function.identity()));
+
+        List<ClawgicSwissPairingEngine.SwissStanding> standings = buildStandings(entries, playedMatches);
+        ClawgicSwissPairingEngine.RoundPairing roundPairing = clawgicSwissPairingEngine.pair(standings);
+
+        if (roundPairing.byeAgentId() != null) {
+            ClawgicTournamentEntry byeEntry = entriesByAgentId.get(roundPairing.byeAgentId());
+            byeEntry.setSwissByes(nullSafe(byeEntry.getSwissByes()) + 1);
+            byeEntry.setUpdatedAt(now);
+            clawgicTournamentEntryRepository.save(byeEntry);
+        }
+
+        List<ClawgicMatch> roundMatches = new ArrayList<>(roundPairing.pairings().size());
+        for (int i = 0; i < roundPairing.pairings().size(); i++) {
+            ClawgicSwissPairingEngine.Pairing pairing = roundPairing.pairings().get(i);
+            ClawgicMatch match = new ClawgicMatch();
+            match.setMatchId(UUID.randomUUID());
+            match.setTournamentId(tournamentId);
+            match.setAgent1Id(pairing.agent1Id());
+            match.setAgent2Id(pairing.agent2Id());
+            match.setBracketRound(round);
+            match.setBracketPosition(i + 1);
+            match.setStatus(ClawgicMatchStatus.SCHEDULED);
+            match.setTranscriptJson(DebateTranscriptJsonCodec.emptyTranscript());
+            match.setJudgeRetryCount(0);
+            match.setCreatedAt(now);
+            match.setUpdatedAt(now);
+            roundMatches.add(match);
+        }
+        clawgicMatchBatchInsertRepository.insertAll(roundMatches);
+        return roundMatches;
+    }
+
+    /**
+     * Final order: score, then Buchholz (sum of opponents' scores), then current Elo, then seed position.
+     */
+    public List<UUID> rankFinalStandings(UUID tournamentId, List<ClawgicMatch> matches) {
+        List<ClawgicTournamentEntry> entries =
+                clawgicTournamentEntryRepository.findByTournamentIdOrderByCreatedAtAsc(tournamentId);
+        List<ClawgicSwissPairingEngine.SwissStanding> standings = buildStandings(entries, matches);
+        Map<UUID, Integer> scoresByAgentId = standings.stream()
+                .collect(Collectors.toMap(
+                        ClawgicSwissPairingEngine.SwissStanding::agentId,
+                        ClawgicSwissPairingEngine.SwissStanding::score
+                ));
+        Map<UUID, Integer> seedsByAgentId = new HashMap<>();
+        for (ClawgicTournamentEntry entry : entries) {
+            Integer seedPosition = entry.getSeedPosition();
+            seedsByAgentId.put(entry.getAgentId(), seedPosition == null ? Integer.MAX_VALUE : seedPosition);
+        }
+
+        Map<UUID, Integer> buchholzByAgentId = new HashMap<>();
+        for (ClawgicSwissPairingEngine.SwissStanding standing : standings) {
+            int buchholz = 0;
+            for (UUID opponentId : standing.previousOpponentIds()) {
+                buchholz += scoresByAgentId.getOrDefault(opponentId, 0);
+            }
+            buchholzByAgentId.put(standing.agentId(), buchholz);
+        }
+
+        return standings.stream()
+                .sorted(Comparator
+                        .comparingInt(ClawgicSwissPairingEngine.SwissStanding::score).reversed()
+                        .thenComparing(Comparator.comparingInt(
+                                (ClawgicSwissPairingEngine.SwissStanding standing) ->
+                                        buchholzByAgentId.get(standing.agentId())).reversed())
+                        .thenComparing(Comparator.comparingInt(ClawgicSwissPairingEngine.SwissStanding::elo).reversed())
+                        .thenComparingInt(standing -> seedsByAgentId.get(standing.agentId())))
+                .map(ClawgicSwissPairingEngine.SwissStanding::agentId)
+                .toList();
+    }
+
+    private List<ClawgicSwissPairingEngine.SwissStanding> buildStandings(
+            List<ClawgicTournamentEntry> entries,
+            List<ClawgicMatch> matches
+    ) {
+        Map<UUID, Integer> wins = new HashMap<>();
+        Map<UUID, Integer> agent1Counts = new HashMap<>();
+        Map<UUID, List<UUID>> opponents = new HashMap<>();
+        for (ClawgicMatch match : matches) {
+            if (match.getAgent1Id() == null || match.getAgent2Id() == null) {
+                continue;
+            }
+            opponents.computeIfAbsent(match.getAgent1Id(), _ -> new ArrayList<>()).add(match.getAgent2Id());
+            opponents.computeIfAbsent(match.getAgent2Id(), _ -> new ArrayList<>()).add(match.getAgent1Id());
+            agent1Counts.merge(match.getAgent1Id(), 1, Integer::sum);
+            if (match.getWinnerAgentId() != null) {
+                wins.merge(match.getWinnerAgentId(), 1, Integer::sum);
+            }
+        }
+
+        Map<UUID, Integer> currentElos = clawgicAgentEloRepository
+                .findAllById(entries.stream().map(ClawgicTournamentEntry::getAgentId).toList())
+                .stream()
+                .collect(Collectors.toMap(ClawgicAgentElo::getAgentId, ClawgicAgentElo::getCurrentElo));
+
+        List<ClawgicSwissPairingEngine.SwissStanding> standings = new ArrayList<>(entries.size());
+        for (ClawgicTournamentEntry entry : entries) {
+            UUID agentId = entry.getAgentId();
+            int byes = nullSafe(entry.getSwissByes());
+            standings.add(new ClawgicSwissPairingEngine.SwissStanding(
+                    agentId,
+                    wins.getOrDefault(agentId, 0) + byes,
+                    currentElos.getOrDefault(agentId, nullSafe(entry.getSeedSnapshotElo())),
+                    byes,
+                    agent1Counts.getOrDefault(agentId, 0),
+                    opponents.getOrDefault(agentId, List.of())
+            ));
+        }
+        return standings;
+    }
+
+    private static int nullSafe(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
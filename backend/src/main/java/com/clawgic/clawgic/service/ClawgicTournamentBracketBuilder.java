@@ -11,10 +11,17 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Single-elimination bracket for any number of entries. The draw is padded to the next power of two and laid out
+ * in standard seed order (1 v N, 2 v N-1, ... with the top seeds kept apart until the late rounds), so the
+ * {@code drawSize - entries} byes all go to the highest seeds. Bye pairings produce no match; the seeded agent is
+ * placed straight into its second-round slot, which keeps the plan at exactly {@code entries - 1} matches.
+ */
 @Component
 public class ClawgicTournamentBracketBuilder {
 
-    static final int MVP_BRACKET_SIZE = 4;
+    static final int MIN_BRACKET_SIZE = 2;
+    static final int MAX_BRACKET_SIZE = 1024;
     private static final int DEFAULT_ELO = 1000;
 
     private static final Comparator<ClawgicTournamentEntry> SEED_ORDER_COMPARATOR =
@@ -23,16 +30,86 @@ public class ClawgicTournamentBracketBuilder {
                     .thenComparing(ClawgicTournamentEntry::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
                     .thenComparing(ClawgicTournamentEntry::getEntryId, Comparator.nullsLast(Comparator.naturalOrder()));
 
+    /**
+     * Returns the seeded entries and every match of the tree ordered by round then position. Each match's
+     * {@code nextMatchId}/{@code nextMatchAgentSlot} point at the match its winner advances to.
+     */
     public BracketPlan build(UUID tournamentId, List<ClawgicTournamentEntry> entries, OffsetDateTime generatedAt) {
-        if (entries == null || entries.size() != MVP_BRACKET_SIZE) {
-            throw new IllegalArgumentException("Deterministic MVP bracket requires exactly 4 confirmed entries");
+        List<SeededEntry> seededEntries = seed(entries);
+
+        int drawSize = drawSize(seededEntries.size());
+        int rounds = Integer.numberOfTrailingZeros(drawSize);
+
+        // matchIds[round][position], both zero-based; a null first-round id marks a bye pairing.
+        UUID[][] matchIds = new UUID[rounds][];
+        for (int round = 0; round < rounds; round++) {
+            matchIds[round] = new UUID[drawSize >> (round + 1)];
+            for (int position = 0; position < matchIds[round].length; position++) {
+                matchIds[round][position] = UUID.randomUUID();
+            }
+        }
+
+        int[] seedOrder = standardSeedOrder(drawSize);
+        UUID[][] firstRoundAgents = new UUID[matchIds[0].length][2];
+        UUID[][] secondRoundAgents = rounds > 1 ? new UUID[matchIds[1].length][2] : null;
+        for (int position = 0; position < matchIds[0].length; position++) {
+            SeededEntry upper = seedAt(seededEntries, seedOrder[2 * position]);
+            SeededEntry lower = seedAt(seededEntries, seedOrder[2 * position + 1]);
+            if (upper != null && lower != null) {
+                firstRoundAgents[position][0] = upper.agentId();
+                firstRoundAgents[position][1] = lower.agentId();
+                continue;
+            }
+            SeededEntry advancing = upper != null ? upper : lower;
+            matchIds[0][position] = null;
+            secondRoundAgents[position / 2][position % 2] = advancing.agentId();
+        }
+
+        List<PlannedMatch> matches = new ArrayList<>(seededEntries.size() - 1);
+        for (int round = 0; round < rounds; round++) {
+            for (int position = 0; position < matchIds[round].length; position++) {
+                UUID matchId = matchIds[round][position];
+                if (matchId == null) {
+                    continue;
+                }
+                UUID[] agents = round == 0
+                        ? firstRoundAgents[position]
+                        : round == 1 ? secondRoundAgents[position] : new UUID[2];
+                boolean isFinal = round == rounds - 1;
+                matches.add(new PlannedMatch(
+                        matchId,
+                        tournamentId,
+                        agents[0],
+                        agents[1],
+                        round + 1,
+                        position + 1,
+                        isFinal ? null : matchIds[round + 1][position / 2],
+                        isFinal ? null : position % 2 + 1,
+                        generatedAt,
+                        generatedAt
+                ));
+            }
+        }
+
+        return new BracketPlan(seededEntries, List.copyOf(matches));
+    }
+
+    /**
+     * Orders entries by seed Elo (ties by entry time) and numbers them from seed 1. Swiss tournaments use the same
+     * seeding for their first-round pairing and final tie-break.
+     */
+    public List<SeededEntry> seed(List<ClawgicTournamentEntry> entries) {
+        if (entries == null || entries.size() < MIN_BRACKET_SIZE || entries.size() > MAX_BRACKET_SIZE) {
+            throw new IllegalArgumentException(
+                    "Bracket requires between " + MIN_BRACKET_SIZE + " and " + MAX_BRACKET_SIZE + " confirmed entries"
+            );
         }
 
         List<ClawgicTournamentEntry> orderedEntries = new ArrayList<>(entries);
         orderedEntries.sort(SEED_ORDER_COMPARATOR);
         validateEntries(orderedEntries);
 
-        List<SeededEntry> seededEntries = new ArrayList<>(MVP_BRACKET_SIZE);
+        List<SeededEntry> seededEntries = new ArrayList<>(orderedEntries.size());
         for (int i = 0; i < orderedEntries.size(); i++) {
             ClawgicTournamentEntry entry = orderedEntries.get(i);
             seededEntries.add(new SeededEntry(
@@ -42,48 +119,33 @@ public class ClawgicTournamentBracketBuilder {
                     resolveSeedElo(entry)
             ));
         }
+        return List.copyOf(seededEntries);
+    }
 
-        UUID finalMatchId = UUID.randomUUID();
-        List<PlannedMatch> matches = List.of(
-                new PlannedMatch(
-                        UUID.randomUUID(),
-                        tournamentId,
-                        seededEntries.get(0).agentId(),
-                        seededEntries.get(3).agentId(),
-                        1,
-                        1,
-                        finalMatchId,
-                        1,
-                        generatedAt,
-                        generatedAt
-                ),
-                new PlannedMatch(
-                        UUID.randomUUID(),
-                        tournamentId,
-                        seededEntries.get(1).agentId(),
-                        seededEntries.get(2).agentId(),
-                        1,
-                        2,
-                        finalMatchId,
-                        2,
-                        generatedAt,
-                        generatedAt
-                ),
-                new PlannedMatch(
-                        finalMatchId,
-                        tournamentId,
-                        null,
-                        null,
-                        2,
-                        1,
-                        null,
-                        null,
-                        generatedAt,
-                        generatedAt
-                )
-        );
+    static int drawSize(int entryCount) {
+        return Integer.highestOneBit(entryCount - 1) << 1;
+    }
+
+    /**
+     * Seeds (1-based) in draw order for a power-of-two draw: each round-{@code k} pairing sums to
+     * {@code 2^k + 1}, e.g. {@code [1, 8, 4, 5, 2, 7, 3, 6]} for eight.
+     */
+    static int[] standardSeedOrder(int drawSize) {
+        int[] order = {1};
+        while (order.length < drawSize) {
+            int size = order.length * 2;
+            int[] next = new int[size];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = size + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
 
-        return new BracketPlan(List.copyOf(seededEntries), matches);
+    private static SeededEntry seedAt(List<SeededEntry> seededEntries, int seed) {
+        return seed <= seededEntries.size() ? seededEntries.get(seed - 1) : null;
     }
 
     private static int resolveSeedElo(ClawgicTournamentEntry entry) {
@@ -0,0 +1,83 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.repository.ClawgicTournamentEntryReservationRepository;
+import com.clawgic.clawgic.repository.ClawgicTournamentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Holds a tournament slot while an entrant's payment is verified. A reservation lives for
+ * {@code clawgic.tournament.entry-reservation-ttl-seconds}; after that the next entrant of the same tournament
+ * reclaims its slot. Each operation is its own short transaction unless the caller already has one.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClawgicTournamentEntryReservationService {
+
+    private final ClawgicTournamentEntryReservationRepository clawgicTournamentEntryReservationRepository;
+    private final ClawgicTournamentRepository clawgicTournamentRepository;
+    private final ClawgicRuntimeProperties clawgicRuntimeProperties;
+
+    /**
+     * Reserves a slot for the agent, or renews the one it already holds (a retried entry). Empty when the
+     * tournament is full or no longer SCHEDULED.
+     */
+    @Transactional
+    public Optional<Reservation> reserve(UUID tournamentId, UUID agentId) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime expiresAt = now.plusSeconds(resolveTtlSeconds());
+        // Slots are claimed over plain JDBC, which does not flush pending JPA changes from an enclosing transaction.
+        clawgicTournamentRepository.flush();
+        clawgicTournamentEntryReservationRepository.releaseExpired(tournamentId, now);
+
+        Optional<UUID> heldReservationId =
+                clawgicTournamentEntryReservationRepository.extendLive(tournamentId, agentId, expiresAt, now);
+        if (heldReservationId.isPresent()) {
+            return heldReservationId.map(reservationId -> new Reservation(reservationId, tournamentId, agentId));
+        }
+
+        if (!clawgicTournamentEntryReservationRepository.claimSlot(tournamentId)) {
+            return Optional.empty();
+        }
+        UUID reservationId = UUID.randomUUID();
+        if (clawgicTournamentEntryReservationRepository.insert(reservationId, tournamentId, agentId, expiresAt, now)) {
+            return Optional.of(new Reservation(reservationId, tournamentId, agentId));
+        }
+        // A concurrent request for the same agent reserved first; share its slot instead of holding two.
+        clawgicTournamentEntryReservationRepository.releaseSlot(tournamentId);
+        return clawgicTournamentEntryReservationRepository.extendLive(tournamentId, agentId, expiresAt, now)
+                .map(concurrentReservationId -> new Reservation(concurrentReservationId, tournamentId, agentId));
+    }
+
+    /**
+     * Turns the reservation's slot into the entry being created in the caller's transaction. A reservation that
+     * expired and was reclaimed needs a fresh slot; false when none is left.
+     */
+    @Transactional
+    public boolean confirm(Reservation reservation) {
+        if (clawgicTournamentEntryReservationRepository.delete(reservation.reservationId())) {
+            return true;
+        }
+        return clawgicTournamentEntryReservationRepository.claimSlot(reservation.tournamentId());
+    }
+
+    @Transactional
+    public void release(Reservation reservation) {
+        if (clawgicTournamentEntryReservationRepository.delete(reservation.reservationId())) {
+            clawgicTournamentEntryReservationRepository.releaseSlot(reservation.tournamentId());
+        }
+    }
+
+    private long resolveTtlSeconds() {
+        return Math.max(1L, clawgicRuntimeProperties.getTournament().getEntryReservationTtlSeconds());
+    }
+
+    public record Reservation(UUID reservationId, UUID tournamentId, UUID agentId) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.repository.ClawgicTournamentLobbyRow;
+import com.clawgic.service.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived snapshot of the lobby rows so every poll within the TTL shares one grouped query.
+ * Tournament creation, new entries and status transitions drop the snapshot; entry eligibility is
+ * still evaluated per request, so time-based states such as a closed entry window are never stale.
+ */
+@Component
+public class ClawgicTournamentLobbyCache {
+
+    private static final String SNAPSHOT_KEY = "lobby";
+
+    private final BoundedTtlCache<String, List<ClawgicTournamentLobbyRow>> snapshot;
+
+    @Autowired
+    public ClawgicTournamentLobbyCache(ClawgicRuntimeProperties clawgicRuntimeProperties) {
+        this(Duration.ofMillis(clawgicRuntimeProperties.getTournament().getLobbySnapshotTtlMs()), Clock.systemUTC());
+    }
+
+    ClawgicTournamentLobbyCache(Duration ttl, Clock clock) {
+        this.snapshot = new BoundedTtlCache<>("clawgic-lobby", 1, ttl, clock);
+    }
+
+    public List<ClawgicTournamentLobbyRow> get(Supplier<List<ClawgicTournamentLobbyRow>> loader) {
+        return snapshot.get(SNAPSHOT_KEY, _ -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Drops the snapshot now and again after commit, so a poll that reads between the write and
+     * its commit cannot re-cache the pre-write lobby for a full TTL.
+     */
+    public void invalidate() {
+        snapshot.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot.invalidateAll();
+                }
+            });
+        }
+    }
+
+    public BoundedTtlCache.Stats stats() {
+        return snapshot.stats();
+    }
+}
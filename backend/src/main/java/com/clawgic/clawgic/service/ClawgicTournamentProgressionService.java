@@ -3,9 +3,12 @@ package com.clawgic.clawgic.service;
 import com.clawgic.clawgic.model.ClawgicMatch;
 import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import com.clawgic.clawgic.model.ClawgicTournament;
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
+import com.clawgic.clawgic.dto.ClawgicTournamentResponses;
 import com.clawgic.clawgic.repository.ClawgicMatchRepository;
 import com.clawgic.clawgic.repository.ClawgicTournamentRepository;
+import com.clawgic.service.ImmutableResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +30,11 @@ public class ClawgicTournamentProgressionService {
     private final ClawgicTournamentRepository clawgicTournamentRepository;
     private final ClawgicMatchRepository clawgicMatchRepository;
     private final ClawgicSettlementAccountingService clawgicSettlementAccountingService;
+    private final ClawgicTournamentService clawgicTournamentService;
+    private final ClawgicSwissTournamentService clawgicSwissTournamentService;
+    private final ImmutableResponseCache immutableResponseCache;
+    private final ClawgicTournamentLobbyCache clawgicTournamentLobbyCache;
+    private final ClawgicMatchSchedulingMetrics clawgicMatchSchedulingMetrics;
 
     public boolean completeTournamentIfResolved(UUID tournamentId, OffsetDateTime now) {
         ClawgicTournament tournament = clawgicTournamentRepository.findByTournamentIdForUpdate(tournamentId).orElse(null);
@@ -36,10 +44,13 @@ public class ClawgicTournamentProgressionService {
 
         List<ClawgicMatch> matches =
                 clawgicMatchRepository.findByTournamentIdOrderByBracketRoundAscBracketPositionAscCreatedAtAsc(tournamentId);
-        if (matches.isEmpty() || matches.size() < resolveExpectedMatchCount(tournament)) {
+        if (matches.isEmpty() || matches.stream().anyMatch(match -> !isTerminal(match.getStatus()))) {
             return false;
         }
-        if (matches.stream().anyMatch(match -> !isTerminal(match.getStatus()))) {
+        if (tournament.getFormat() == ClawgicTournamentFormat.SWISS) {
+            return advanceSwissTournament(tournament, matches, now);
+        }
+        if (matches.size() < resolveExpectedMatchCount(tournament)) {
             return false;
         }
 
@@ -56,15 +67,64 @@ public class ClawgicTournamentProgressionService {
             return false;
         }
 
-        tournament.setWinnerAgentId(finalMatch.getWinnerAgentId());
+        completeTournament(tournament, finalMatch.getWinnerAgentId(), matches, now);
+        return true;
+    }
+
+    /**
+     * Every match of the latest Swiss round is terminal: pair the next round, or rank the field once the
+     * configured number of rounds has been played.
+     */
+    private boolean advanceSwissTournament(
+            ClawgicTournament tournament,
+            List<ClawgicMatch> matches,
+            OffsetDateTime now
+    ) {
+        UUID tournamentId = tournament.getTournamentId();
+        int playedRounds = matches.stream()
+                .mapToInt(match -> nullSafeOrder(match.getBracketRound()))
+                .max()
+                .orElse(0);
+        int swissRounds = nullSafeOrder(tournament.getSwissRounds());
+        if (playedRounds < swissRounds) {
+            List<ClawgicMatch> roundMatches =
+                    clawgicSwissTournamentService.startRound(tournamentId, playedRounds + 1, matches, now);
+            log.info(
+                    "Paired Swiss round {} of {} for tournament {} with {} matches",
+                    playedRounds + 1,
+                    swissRounds,
+                    tournamentId,
+                    roundMatches.size()
+            );
+            return false;
+        }
+
+        List<UUID> finalStandings = clawgicSwissTournamentService.rankFinalStandings(tournamentId, matches);
+        completeTournament(tournament, finalStandings.getFirst(), matches, now);
+        return true;
+    }
+
+    private void completeTournament(
+            ClawgicTournament tournament,
+            UUID winnerAgentId,
+            List<ClawgicMatch> matches,
+            OffsetDateTime now
+    ) {
+        UUID tournamentId = tournament.getTournamentId();
+        tournament.setWinnerAgentId(winnerAgentId);
         tournament.setMatchesCompleted(countMatchesWithStatus(matches, ClawgicMatchStatus.COMPLETED));
         tournament.setMatchesForfeited(countMatchesWithStatus(matches, ClawgicMatchStatus.FORFEITED));
         tournament.setStatus(ClawgicTournamentStatus.COMPLETED);
         tournament.setCompletedAt(now);
         tournament.setUpdatedAt(now);
         clawgicTournamentRepository.save(tournament);
+        clawgicMatchSchedulingMetrics.recordTournamentCompleted(tournament);
         clawgicSettlementAccountingService.settleTournamentIfCompleted(tournamentId, now);
-        return true;
+        clawgicTournamentLobbyCache.invalidate();
+        immutableResponseCache.putAfterCommit(
+                ClawgicTournamentResponses.TournamentResults.cacheKey(tournamentId),
+                () -> clawgicTournamentService.getTournamentResults(tournamentId)
+        );
     }
 
     private static int resolveExpectedMatchCount(ClawgicTournament tournament) {
@@ -18,35 +18,44 @@ import com.clawgic.clawgic.model.ClawgicStakingLedgerStatus;
 import com.clawgic.clawgic.model.ClawgicTournament;
 import com.clawgic.clawgic.model.ClawgicTournamentEntry;
 import com.clawgic.clawgic.model.ClawgicTournamentEntryStatus;
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import com.clawgic.clawgic.model.DebateTranscriptJsonCodec;
 import com.clawgic.clawgic.model.TournamentEntryState;
+import com.clawgic.clawgic.model.TournamentEntrySubmissionState;
 import com.clawgic.clawgic.repository.ClawgicAgentEloRepository;
 import com.clawgic.clawgic.repository.ClawgicAgentRepository;
 import com.clawgic.clawgic.repository.ClawgicMatchJudgementRepository;
+import com.clawgic.clawgic.repository.ClawgicMatchBatchInsertRepository;
 import com.clawgic.clawgic.repository.ClawgicMatchRepository;
 import com.clawgic.clawgic.repository.ClawgicPaymentAuthorizationRepository;
 import com.clawgic.clawgic.repository.ClawgicStakingLedgerRepository;
 import com.clawgic.clawgic.repository.ClawgicTournamentEntryRepository;
 import com.clawgic.clawgic.repository.ClawgicTournamentRepository;
+import com.clawgic.clawgic.repository.ClawgicTournamentLobbyRow;
+import com.clawgic.clawgic.repository.ClawgicTournamentSummaryRow;
 import com.clawgic.clawgic.web.TournamentEntryConflictException;
 import com.clawgic.clawgic.web.X402PaymentRequestException;
+import com.clawgic.service.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -55,6 +64,7 @@ import java.util.stream.Collectors;
 public class ClawgicTournamentService {
 
     private static final int DEFAULT_ELO = 1000;
+    private static final int MAX_RESULTS_PAGE_SIZE = 200;
     private static final Logger LOGGER = LoggerFactory.getLogger(ClawgicTournamentService.class);
 
     private final ClawgicAgentRepository clawgicAgentRepository;
@@ -66,10 +76,16 @@ public class ClawgicTournamentService {
     private final ClawgicPaymentAuthorizationRepository clawgicPaymentAuthorizationRepository;
     private final ClawgicStakingLedgerRepository clawgicStakingLedgerRepository;
     private final ClawgicTournamentBracketBuilder clawgicTournamentBracketBuilder;
+    private final ClawgicMatchBatchInsertRepository clawgicMatchBatchInsertRepository;
+    private final ClawgicSwissTournamentService clawgicSwissTournamentService;
     private final ClawgicResponseMapper clawgicResponseMapper;
     private final ClawgicRuntimeProperties clawgicRuntimeProperties;
     private final X402Properties x402Properties;
     private final X402PaymentAuthorizationAttemptService x402PaymentAuthorizationAttemptService;
+    private final ClawgicTournamentLobbyCache clawgicTournamentLobbyCache;
+    private final ClawgicTournamentEntryReservationService clawgicTournamentEntryReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final X402PaymentVerificationPipeline x402PaymentVerificationPipeline;
 
     @Transactional
     public ClawgicTournamentResponses.TournamentDetail createTournament(
@@ -86,7 +102,9 @@ public class ClawgicTournamentService {
             );
         }
 
-        int bracketSize = clawgicRuntimeProperties.getTournament().getMvpBracketSize();
+        int bracketSize = request.bracketSize() != null
+                ? request.bracketSize()
+                : clawgicRuntimeProperties.getTournament().getMvpBracketSize();
         if (bracketSize <= 1) {
             throw new ResponseStatusException(
                     HttpStatus.INTERNAL_SERVER_ERROR,
@@ -94,10 +112,31 @@ public class ClawgicTournamentService {
             );
         }
 
+        ClawgicTournamentFormat format = request.format() != null
+                ? request.format()
+                : ClawgicTournamentFormat.SINGLE_ELIMINATION;
+        Integer swissRounds = null;
+        if (format == ClawgicTournamentFormat.SWISS) {
+            swissRounds = request.swissRounds() != null
+                    ? request.swissRounds()
+                    : ClawgicSwissTournamentService.defaultRounds(bracketSize);
+            if (swissRounds >= bracketSize) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "swissRounds must be less than bracketSize"
+                );
+            }
+        }
+
         ClawgicTournament tournament = new ClawgicTournament();
         tournament.setTournamentId(UUID.randomUUID());
         tournament.setTopic(request.topic().trim());
         tournament.setStatus(ClawgicTournamentStatus.SCHEDULED);
+        tournament.setFormat(format);
+        tournament.setSwissRounds(swissRounds);
+        if (request.schedulingTier() != null) {
+            tournament.setSchedulingTier(request.schedulingTier().toUpperCase(Locale.ROOT));
+        }
         tournament.setBracketSize(bracketSize);
         tournament.setMaxEntries(bracketSize);
         tournament.setStartTime(startTime);
@@ -107,50 +146,66 @@ public class ClawgicTournamentService {
         tournament.setUpdatedAt(now);
 
         ClawgicTournament savedTournament = clawgicTournamentRepository.save(tournament);
+        clawgicTournamentLobbyCache.invalidate();
         return clawgicResponseMapper.toTournamentDetailResponse(savedTournament);
     }
 
     @Transactional(readOnly = true)
     public List<ClawgicTournamentResponses.TournamentSummary> listUpcomingTournaments() {
         OffsetDateTime now = OffsetDateTime.now();
-        OffsetDateTime completedCutoff = now.minusHours(24);
-        List<ClawgicTournament> tournaments =
-                clawgicTournamentRepository.findByStatusInOrderByStartTimeDesc(
+        List<ClawgicTournamentLobbyRow> rows = clawgicTournamentLobbyCache.get(() ->
+                clawgicTournamentRepository.findLobbyRows(
                         List.of(
                                 ClawgicTournamentStatus.SCHEDULED,
                                 ClawgicTournamentStatus.LOCKED,
-                                ClawgicTournamentStatus.IN_PROGRESS,
-                                ClawgicTournamentStatus.COMPLETED
-                        )
-                );
-        return tournaments.stream()
-                .filter(tournament -> {
-                    if (tournament.getStatus() == ClawgicTournamentStatus.COMPLETED) {
-                        return tournament.getCompletedAt() != null
-                                && tournament.getCompletedAt().isAfter(completedCutoff);
-                    }
-                    return true;
-                })
-                .map(tournament -> {
-                    int currentEntries = (int) clawgicTournamentEntryRepository
-                            .countByTournamentId(tournament.getTournamentId());
-                    return toEligibilityEnrichedSummary(tournament, currentEntries, now);
-                })
+                                ClawgicTournamentStatus.IN_PROGRESS
+                        ),
+                        ClawgicTournamentStatus.COMPLETED,
+                        now.minusHours(24)
+                )
+        );
+        return rows.stream()
+                .map(row -> toEligibilityEnrichedSummary(row, now))
                 .toList();
     }
 
+    /**
+     * Tournaments for the results page, newest start time first, one keyset page at a time.
+     */
     @Transactional(readOnly = true)
-    public List<ClawgicTournamentResponses.TournamentSummary> listTournamentsForResults() {
-        List<ClawgicTournament> tournaments = clawgicTournamentRepository.findAll(
-                Sort.by(
-                        Sort.Order.desc("startTime"),
-                        Sort.Order.desc("createdAt")
-                )
-        );
-        return clawgicResponseMapper.toTournamentSummaryResponses(
-                tournaments.stream()
-                        .limit(50)
-                        .toList()
+    public ClawgicTournamentResponses.TournamentSummaryPage listTournamentsForResults(String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_RESULTS_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_RESULTS_PAGE_SIZE
+            );
+        }
+
+        List<ClawgicTournamentSummaryRow> rows;
+        if (cursor == null) {
+            rows = clawgicTournamentRepository.findResultsSummaries(Limit.of(limit + 1));
+        } else {
+            List<String> key = decodeResultsCursor(cursor);
+            rows = clawgicTournamentRepository.findResultsSummariesAfter(
+                    OffsetDateTime.parse(key.get(0)),
+                    OffsetDateTime.parse(key.get(1)),
+                    UUID.fromString(key.get(2)),
+                    Limit.of(limit + 1)
+            );
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            ClawgicTournamentSummaryRow last = rows.getLast();
+            nextCursor = KeysetCursor.encode(last.getStartTime(), last.getCreatedAt(), last.getTournamentId());
+        }
+
+        return new ClawgicTournamentResponses.TournamentSummaryPage(
+                rows.stream()
+                        .map(clawgicResponseMapper::toTournamentSummaryResponse)
+                        .toList(),
+                nextCursor
         );
     }
 
@@ -203,7 +258,6 @@ public class ClawgicTournamentService {
         );
     }
 
-    @Transactional(noRollbackFor = {X402PaymentRequestException.class, TournamentEntryConflictException.class})
     public ClawgicTournamentResponses.TournamentEntry enterTournament(
             UUID tournamentId,
             ClawgicTournamentRequests.EnterTournamentRequest request
@@ -211,14 +265,194 @@ public class ClawgicTournamentService {
         return enterTournament(tournamentId, request, null);
     }
 
-    @Transactional(noRollbackFor = {X402PaymentRequestException.class, TournamentEntryConflictException.class})
+    /**
+     * Not transactional as a whole: the slot is reserved and the payment verified in their own short transactions,
+     * so concurrent entrants never wait on each other's verification. The entry, its authorization and its ledger
+     * row are then written together with the reservation's confirmation. A failed entry releases its slot, except
+     * while x402 verification is still pending, when the reservation is kept for the client's retry until it
+     * expires.
+     */
     public ClawgicTournamentResponses.TournamentEntry enterTournament(
             UUID tournamentId,
             ClawgicTournamentRequests.EnterTournamentRequest request,
             String paymentHeaderValue
     ) {
-        UUID agentId = request.agentId();
+        EntryCandidate candidate = openEntry(tournamentId, request.agentId());
+        if (candidate.existingEntry() != null) {
+            return clawgicResponseMapper.toTournamentEntryResponse(candidate.existingEntry());
+        }
+
+        if (!x402Properties.isEnabled()) {
+            requireDevBypassModeEnabled();
+        }
+
+        ClawgicTournamentEntryReservationService.Reservation reservation = reserveSlot(candidate);
+        try {
+            if (x402Properties.isEnabled()) {
+                ClawgicPaymentAuthorization verifiedAuthorization = verifyPaymentAuthorization(
+                        candidate.tournament(),
+                        candidate.agent(),
+                        paymentHeaderValue
+                );
+                return createConfirmedEntry(candidate, reservation, verifiedAuthorization);
+            }
 
+            return transactionTemplate.execute(_ -> {
+                confirmReservation(reservation, candidate);
+                return createBypassedEntry(
+                        candidate.tournament(),
+                        candidate.agent(),
+                        candidate.seedSnapshotElo(),
+                        candidate.now()
+                );
+            });
+        } catch (RuntimeException ex) {
+            if (!(ex instanceof X402PaymentRequestException paymentException
+                    && paymentException.isVerificationPending())) {
+                clawgicTournamentEntryReservationService.release(reservation);
+            }
+            throw ex;
+        }
+    }
+
+    public boolean isAsyncPaymentVerificationEnabled() {
+        return x402Properties.isEnabled() && x402Properties.isAsyncVerificationEnabled();
+    }
+
+    /**
+     * Asynchronous variant of {@link #enterTournament} for x402 entries: reserves the slot, records the
+     * authorization as PENDING_VERIFICATION and hands the signature check to {@link X402PaymentVerificationPipeline}.
+     * The entry is created (or the slot released) by the pipeline; {@link #getEntrySubmission} reports the outcome.
+     * Retrying with the same idempotency key resumes the same authorization and reservation.
+     */
+    public ClawgicTournamentResponses.TournamentEntrySubmission submitTournamentEntry(
+            UUID tournamentId,
+            ClawgicTournamentRequests.EnterTournamentRequest request,
+            String paymentHeaderValue
+    ) {
+        EntryCandidate candidate = openEntry(tournamentId, request.agentId());
+        if (candidate.existingEntry() != null) {
+            return new ClawgicTournamentResponses.TournamentEntrySubmission(
+                    null,
+                    tournamentId,
+                    request.agentId(),
+                    TournamentEntrySubmissionState.CONFIRMED,
+                    null,
+                    clawgicResponseMapper.toTournamentEntryResponse(candidate.existingEntry())
+            );
+        }
+
+        ClawgicTournamentEntryReservationService.Reservation reservation = reserveSlot(candidate);
+        ClawgicPaymentAuthorization authorization;
+        try {
+            authorization = x402PaymentAuthorizationAttemptService.recordPendingVerificationAttempt(
+                    tournamentId,
+                    candidate.agent().getAgentId(),
+                    candidate.agent().getWalletAddress(),
+                    candidate.tournament().getBaseEntryFeeUsdc(),
+                    paymentHeaderValue
+            );
+        } catch (RuntimeException ex) {
+            clawgicTournamentEntryReservationService.release(reservation);
+            throw ex;
+        }
+
+        UUID paymentAuthorizationId = authorization.getPaymentAuthorizationId();
+        if (!x402PaymentVerificationPipeline.submit(
+                paymentAuthorizationId,
+                () -> completeSubmittedEntry(candidate, reservation, paymentAuthorizationId)
+        )) {
+            clawgicTournamentEntryReservationService.release(reservation);
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Payment verification queue is full; retry with the same payment header"
+            );
+        }
+
+        return new ClawgicTournamentResponses.TournamentEntrySubmission(
+                paymentAuthorizationId,
+                tournamentId,
+                candidate.agent().getAgentId(),
+                TournamentEntrySubmissionState.PENDING,
+                null,
+                null
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public ClawgicTournamentResponses.TournamentEntrySubmission getEntrySubmission(
+            UUID tournamentId,
+            UUID paymentAuthorizationId
+    ) {
+        ClawgicPaymentAuthorization authorization = clawgicPaymentAuthorizationRepository
+                .findById(paymentAuthorizationId)
+                .filter(candidate -> tournamentId.equals(candidate.getTournamentId()))
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND,
+                        "Clawgic entry submission not found: " + paymentAuthorizationId
+                ));
+
+        ClawgicTournamentResponses.TournamentEntry entry = null;
+        TournamentEntrySubmissionState state = TournamentEntrySubmissionState.PENDING;
+        if (authorization.getEntryId() != null) {
+            entry = clawgicTournamentEntryRepository.findById(authorization.getEntryId())
+                    .map(clawgicResponseMapper::toTournamentEntryResponse)
+                    .orElse(null);
+            state = TournamentEntrySubmissionState.CONFIRMED;
+        } else if (authorization.getStatus() == ClawgicPaymentAuthorizationStatus.REJECTED) {
+            state = TournamentEntrySubmissionState.REJECTED;
+        }
+
+        return new ClawgicTournamentResponses.TournamentEntrySubmission(
+                paymentAuthorizationId,
+                tournamentId,
+                authorization.getAgentId(),
+                state,
+                state == TournamentEntrySubmissionState.REJECTED ? authorization.getFailureReason() : null,
+                entry
+        );
+    }
+
+    /**
+     * Runs on the verification pipeline. A rejected signature has already been recorded by the attempt service; an
+     * entry that cannot be created after a valid signature is recorded as rejected here. Either way the slot is
+     * released. Unexpected failures release the slot too but leave the authorization as it was, so a retry with the
+     * same payment header resumes it.
+     */
+    private void completeSubmittedEntry(
+            EntryCandidate candidate,
+            ClawgicTournamentEntryReservationService.Reservation reservation,
+            UUID paymentAuthorizationId
+    ) {
+        try {
+            ClawgicPaymentAuthorization verifiedAuthorization =
+                    x402PaymentAuthorizationAttemptService.verifyAndPersistAuthorizationOutcome(
+                            paymentAuthorizationId,
+                            candidate.agent().getWalletAddress(),
+                            candidate.tournament().getBaseEntryFeeUsdc()
+                    );
+            if (verifiedAuthorization.getStatus() != ClawgicPaymentAuthorizationStatus.AUTHORIZED) {
+                clawgicTournamentEntryReservationService.release(reservation);
+                return;
+            }
+            createConfirmedEntry(candidate, reservation, verifiedAuthorization);
+        } catch (X402PaymentRequestException ex) {
+            clawgicTournamentEntryReservationService.release(reservation);
+        } catch (TournamentEntryConflictException ex) {
+            clawgicTournamentEntryReservationService.release(reservation);
+            x402PaymentAuthorizationAttemptService.recordEntryFailure(paymentAuthorizationId, ex.getMessage());
+        } catch (RuntimeException ex) {
+            clawgicTournamentEntryReservationService.release(reservation);
+            throw ex;
+        }
+    }
+
+    /**
+     * Status, entry-window and duplicate checks shared by both entry paths. An existing entry is returned for x402
+     * retries and is a conflict otherwise. The agent is resolved here, before any slot is reserved, so an unknown
+     * agent never holds one.
+     */
+    private EntryCandidate openEntry(UUID tournamentId, UUID agentId) {
         ClawgicTournament tournament = clawgicTournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
@@ -244,7 +478,7 @@ public class ClawgicTournamentService {
                 .orElse(null);
         if (existingEntry != null) {
             if (x402Properties.isEnabled()) {
-                return clawgicResponseMapper.toTournamentEntryResponse(existingEntry);
+                return new EntryCandidate(tournament, null, DEFAULT_ELO, now, existingEntry);
             }
             logEntryConflict("already_entered", tournamentId, agentId, tournament, now);
             throw TournamentEntryConflictException.alreadyEntered(
@@ -252,15 +486,6 @@ public class ClawgicTournamentService {
             );
         }
 
-        List<ClawgicTournamentEntry> currentEntries =
-                clawgicTournamentEntryRepository.findByTournamentIdOrderByCreatedAtAsc(tournamentId);
-        if (currentEntries.size() >= tournament.getMaxEntries()) {
-            logEntryConflict("capacity_reached", tournamentId, agentId, tournament, now);
-            throw TournamentEntryConflictException.capacityReached(
-                    "Tournament is full (" + currentEntries.size() + "/" + tournament.getMaxEntries() + ")"
-            );
-        }
-
         ClawgicAgent agent = clawgicAgentRepository.findById(agentId)
                 .orElseThrow(() -> TournamentEntryConflictException.invalidAgent(
                         "Agent not found: " + agentId
@@ -270,36 +495,90 @@ public class ClawgicTournamentService {
                 .map(ClawgicAgentElo::getCurrentElo)
                 .orElse(DEFAULT_ELO);
 
-        if (x402Properties.isEnabled()) {
-            ClawgicPaymentAuthorization authorization =
-                    x402PaymentAuthorizationAttemptService.recordPendingVerificationAttempt(
-                            tournamentId,
-                            agentId,
-                            agent.getWalletAddress(),
-                            tournament.getBaseEntryFeeUsdc(),
-                            paymentHeaderValue
-                    );
-            ClawgicPaymentAuthorization verifiedAuthorization =
-                    x402PaymentAuthorizationAttemptService.verifyAndPersistAuthorizationOutcome(
-                            authorization.getPaymentAuthorizationId(),
-                            agent.getWalletAddress(),
-                            tournament.getBaseEntryFeeUsdc()
+        return new EntryCandidate(tournament, agent, seedSnapshotElo, now, null);
+    }
+
+    private ClawgicTournamentEntryReservationService.Reservation reserveSlot(EntryCandidate candidate) {
+        ClawgicTournament tournament = candidate.tournament();
+        UUID agentId = candidate.agent().getAgentId();
+        return clawgicTournamentEntryReservationService.reserve(tournament.getTournamentId(), agentId)
+                .orElseThrow(() -> {
+                    logEntryConflict("capacity_reached", tournament.getTournamentId(), agentId, tournament,
+                            candidate.now());
+                    return TournamentEntryConflictException.capacityReached(
+                            "Tournament is full (" + tournament.getMaxEntries() + "/"
+                                    + tournament.getMaxEntries() + ")"
                     );
+                });
+    }
 
+    private ClawgicTournamentResponses.TournamentEntry createConfirmedEntry(
+            EntryCandidate candidate,
+            ClawgicTournamentEntryReservationService.Reservation reservation,
+            ClawgicPaymentAuthorization verifiedAuthorization
+    ) {
+        return transactionTemplate.execute(_ -> {
+            confirmReservation(reservation, candidate);
             return createConfirmedEntryWithAuthorization(
-                    tournament,
-                    agent,
-                    seedSnapshotElo,
-                    now,
+                    candidate.tournament(),
+                    candidate.agent(),
+                    candidate.seedSnapshotElo(),
+                    candidate.now(),
                     verifiedAuthorization,
                     "X402_AUTHORIZED"
             );
+        });
+    }
+
+    private ClawgicPaymentAuthorization verifyPaymentAuthorization(
+            ClawgicTournament tournament,
+            ClawgicAgent agent,
+            String paymentHeaderValue
+    ) {
+        ClawgicPaymentAuthorization authorization =
+                x402PaymentAuthorizationAttemptService.recordPendingVerificationAttempt(
+                        tournament.getTournamentId(),
+                        agent.getAgentId(),
+                        agent.getWalletAddress(),
+                        tournament.getBaseEntryFeeUsdc(),
+                        paymentHeaderValue
+                );
+        ClawgicPaymentAuthorization verifiedAuthorization =
+                x402PaymentAuthorizationAttemptService.verifyAndPersistAuthorizationOutcome(
+                        authorization.getPaymentAuthorizationId(),
+                        agent.getWalletAddress(),
+                        tournament.getBaseEntryFeeUsdc()
+                );
+        if (verifiedAuthorization.getStatus() != ClawgicPaymentAuthorizationStatus.AUTHORIZED) {
+            throw X402PaymentRequestException.verificationPending();
         }
+        return verifiedAuthorization;
+    }
 
-        requireDevBypassModeEnabled();
+    private void confirmReservation(
+            ClawgicTournamentEntryReservationService.Reservation reservation,
+            EntryCandidate candidate
+    ) {
+        if (!clawgicTournamentEntryReservationService.confirm(reservation)) {
+            ClawgicTournament tournament = candidate.tournament();
+            logEntryConflict("capacity_reached", tournament.getTournamentId(), reservation.agentId(), tournament,
+                    candidate.now());
+            throw TournamentEntryConflictException.capacityReached(
+                    "Tournament is full (" + tournament.getMaxEntries() + "/" + tournament.getMaxEntries() + ")"
+            );
+        }
+    }
 
+    private ClawgicTournamentResponses.TournamentEntry createBypassedEntry(
+            ClawgicTournament tournament,
+            ClawgicAgent agent,
+            int seedSnapshotElo,
+            OffsetDateTime now
+    ) {
+        UUID tournamentId = tournament.getTournamentId();
+        UUID agentId = agent.getAgentId();
         ClawgicTournamentEntry savedEntry = createTournamentEntry(
-                tournament.getTournamentId(),
+                tournamentId,
                 agentId,
                 agent.getWalletAddress(),
                 seedSnapshotElo,
@@ -358,13 +637,6 @@ public class ClawgicTournamentService {
         }
 
         int bracketSize = tournament.getBracketSize() != null ? tournament.getBracketSize() : 0;
-        if (bracketSize != ClawgicTournamentBracketBuilder.MVP_BRACKET_SIZE) {
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT,
-                    "Tournament bracket size is unsupported for MVP builder: " + bracketSize
-            );
-        }
-
         List<ClawgicTournamentEntry> entries =
                 clawgicTournamentEntryRepository.findByTournamentIdOrderByCreatedAtAsc(tournamentId);
         if (entries.size() != bracketSize) {
@@ -375,6 +647,23 @@ public class ClawgicTournamentService {
         }
 
         OffsetDateTime now = OffsetDateTime.now();
+        if (tournament.getFormat() == ClawgicTournamentFormat.SWISS) {
+            createSwissFirstRound(tournamentId, entries, now);
+        } else {
+            createEliminationBracket(tournamentId, entries, now);
+        }
+
+        tournament.setStatus(ClawgicTournamentStatus.LOCKED);
+        tournament.setUpdatedAt(now);
+        clawgicTournamentRepository.save(tournament);
+        clawgicTournamentLobbyCache.invalidate();
+
+        return clawgicResponseMapper.toMatchSummaryResponses(
+                clawgicMatchRepository.findByTournamentIdOrderByBracketRoundAscBracketPositionAscCreatedAtAsc(tournamentId)
+        );
+    }
+
+    private void createEliminationBracket(UUID tournamentId, List<ClawgicTournamentEntry> entries, OffsetDateTime now) {
         ClawgicTournamentBracketBuilder.BracketPlan plan;
         try {
             plan = clawgicTournamentBracketBuilder.build(tournamentId, entries, now);
@@ -385,22 +674,30 @@ public class ClawgicTournamentService {
         applySeedPositions(entries, plan.seededEntries(), now);
         clawgicTournamentEntryRepository.saveAll(entries);
 
-        plan.matches().stream()
+        // Later rounds first so each next_match_id references a row already inserted in the batch.
+        clawgicMatchBatchInsertRepository.insertAll(plan.matches().stream()
                 .sorted(Comparator
-                        .comparing((ClawgicTournamentBracketBuilder.PlannedMatch match) -> match.nextMatchId() == null ? 0 : 1)
-                        .thenComparing(ClawgicTournamentBracketBuilder.PlannedMatch::bracketRound)
+                        .comparing(ClawgicTournamentBracketBuilder.PlannedMatch::bracketRound, Comparator.reverseOrder())
                         .thenComparing(ClawgicTournamentBracketBuilder.PlannedMatch::bracketPosition))
                 .map(this::toMatchEntity)
-                .map(clawgicMatchRepository::save)
-                .toList();
+                .toList());
+    }
 
-        tournament.setStatus(ClawgicTournamentStatus.LOCKED);
-        tournament.setUpdatedAt(now);
-        clawgicTournamentRepository.save(tournament);
+    /**
+     * Swiss tournaments only materialize round one here; each later round is paired by
+     * {@link ClawgicTournamentProgressionService} once the previous round has resolved.
+     */
+    private void createSwissFirstRound(UUID tournamentId, List<ClawgicTournamentEntry> entries, OffsetDateTime now) {
+        List<ClawgicTournamentBracketBuilder.SeededEntry> seededEntries;
+        try {
+            seededEntries = clawgicTournamentBracketBuilder.seed(entries);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage(), ex);
+        }
 
-        return clawgicResponseMapper.toMatchSummaryResponses(
-                clawgicMatchRepository.findByTournamentIdOrderByBracketRoundAscBracketPositionAscCreatedAtAsc(tournamentId)
-        );
+        applySeedPositions(entries, seededEntries, now);
+        clawgicTournamentEntryRepository.saveAll(entries);
+        clawgicSwissTournamentService.startRound(tournamentId, 1, List.of(), now);
     }
 
     private void applySeedPositions(
@@ -501,10 +798,10 @@ public class ClawgicTournamentService {
     }
 
     private ClawgicTournamentResponses.TournamentSummary toEligibilityEnrichedSummary(
-            ClawgicTournament tournament,
-            int currentEntries,
+            ClawgicTournamentLobbyRow tournament,
             OffsetDateTime now
     ) {
+        int currentEntries = Math.toIntExact(tournament.getCurrentEntries());
         TournamentEntryState entryState;
         String entryStateReason;
 
@@ -540,10 +837,6 @@ public class ClawgicTournamentService {
             ClawgicPaymentAuthorization verifiedAuthorization,
             String settlementNote
     ) {
-        if (verifiedAuthorization.getStatus() != ClawgicPaymentAuthorizationStatus.AUTHORIZED) {
-            throw X402PaymentRequestException.verificationPending();
-        }
-
         ClawgicTournamentEntry savedEntry = createTournamentEntry(
                 tournament.getTournamentId(),
                 agent.getAgentId(),
@@ -584,7 +877,9 @@ public class ClawgicTournamentService {
         entry.setSeedSnapshotElo(seedSnapshotElo);
         entry.setCreatedAt(now);
         entry.setUpdatedAt(now);
-        return clawgicTournamentEntryRepository.save(entry);
+        ClawgicTournamentEntry savedEntry = clawgicTournamentEntryRepository.save(entry);
+        clawgicTournamentLobbyCache.invalidate();
+        return savedEntry;
     }
 
     private void createOrUpdateStakingLedger(
@@ -625,4 +920,25 @@ public class ClawgicTournamentService {
         stakingLedger.setUpdatedAt(now);
         clawgicStakingLedgerRepository.save(stakingLedger);
     }
+
+    private List<String> decodeResultsCursor(String cursor) {
+        try {
+            List<String> key = KeysetCursor.decode(cursor, 3);
+            OffsetDateTime.parse(key.get(0));
+            OffsetDateTime.parse(key.get(1));
+            UUID.fromString(key.get(2));
+            return key;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor is invalid", ex);
+        }
+    }
+
+    private record EntryCandidate(
+            ClawgicTournament tournament,
+            ClawgicAgent agent,
+            int seedSnapshotElo,
+            OffsetDateTime now,
+            ClawgicTournamentEntry existingEntry
+    ) {
+    }
 }
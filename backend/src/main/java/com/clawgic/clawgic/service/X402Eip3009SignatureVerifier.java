@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import com.clawgic.clawgic.config.X402Properties;
 import com.clawgic.clawgic.web.X402PaymentRequestException;
+import com.clawgic.service.BoundedTtlCache;
 import org.springframework.stereotype.Component;
 import org.web3j.crypto.Hash;
 import org.web3j.crypto.Keys;
@@ -15,6 +16,8 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.security.SignatureException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Locale;
@@ -22,6 +25,10 @@ import java.util.regex.Pattern;
 
 /**
  * Minimal EIP-3009 TransferWithAuthorization verifier for x402 tournament entry.
+ * The domain separator for the configured token and chain is computed once. Signer recoveries are cached by
+ * (authorization nonce, signature hash) together with the digest they were recovered from, so a retried header
+ * skips ecrecover while a header that reuses the signature over different fields is still recovered afresh.
+ * Field, window and amount checks run on every call.
  */
 @Component
 public class X402Eip3009SignatureVerifier {
@@ -36,9 +43,18 @@ public class X402Eip3009SignatureVerifier {
     private static final Pattern HEX_64 = Pattern.compile("^[0-9a-fA-F]{64}$");
 
     private final X402Properties x402Properties;
+    private final BoundedTtlCache<RecoveryKey, RecoveredSigner> recoveredSigners;
+
+    private volatile DomainSeparator configuredDomainSeparator;
 
     public X402Eip3009SignatureVerifier(X402Properties x402Properties) {
         this.x402Properties = x402Properties;
+        this.recoveredSigners = new BoundedTtlCache<>(
+                "x402-recovered-signers",
+                x402Properties.getVerificationCacheMaxEntries(),
+                Duration.ofSeconds(Math.max(1L, x402Properties.getNonceTtlSeconds())),
+                Clock.systemUTC()
+        );
     }
 
     public VerifiedTransferWithAuthorization verify(
@@ -147,13 +163,7 @@ public class X402Eip3009SignatureVerifier {
             );
         }
 
-        byte[] domainSeparator = Hash.sha3(concat(
-                EIP712_DOMAIN_TYPEHASH,
-                keccakUtf8(domainName),
-                keccakUtf8(domainVersion),
-                encodeUint256(BigInteger.valueOf(chainId)),
-                encodeAddress(verifyingContract)
-        ));
+        byte[] domainSeparator = domainSeparator(domainName, domainVersion, chainId, verifyingContract);
 
         byte[] transferHash = Hash.sha3(concat(
                 TRANSFER_WITH_AUTHORIZATION_TYPEHASH,
@@ -171,7 +181,7 @@ public class X402Eip3009SignatureVerifier {
                 transferHash
         ));
 
-        String recoveredSigner = recoverSignerAddress(digest, signatureData);
+        String recoveredSigner = recoverSignerAddressCached(nonceBytes, digest, signatureData);
         if (!recoveredSigner.equals(from)) {
             throw X402PaymentRequestException.verificationFailed(
                     "EIP-3009 signature recovery failed"
@@ -233,6 +243,44 @@ public class X402Eip3009SignatureVerifier {
                 || firstNonBlankString(node, "signature") != null;
     }
 
+    /**
+     * Chain id and verifying contract have already been checked against configuration, so only a header that
+     * overrides the domain name or version misses the precomputed separator.
+     */
+    private byte[] domainSeparator(String domainName, String domainVersion, long chainId, String verifyingContract) {
+        DomainSeparator configured = configuredDomainSeparator;
+        if (configured != null && configured.matches(domainName, domainVersion, chainId, verifyingContract)) {
+            return configured.value();
+        }
+
+        byte[] separator = Hash.sha3(concat(
+                EIP712_DOMAIN_TYPEHASH,
+                keccakUtf8(domainName),
+                keccakUtf8(domainVersion),
+                encodeUint256(BigInteger.valueOf(chainId)),
+                encodeAddress(verifyingContract)
+        ));
+        if (domainName.equals(x402Properties.getEip3009DomainName())
+                && domainVersion.equals(x402Properties.getEip3009DomainVersion())) {
+            configuredDomainSeparator =
+                    new DomainSeparator(domainName, domainVersion, chainId, verifyingContract, separator);
+        }
+        return separator;
+    }
+
+    private String recoverSignerAddressCached(byte[] nonceBytes, byte[] digest, Sign.SignatureData signatureData) {
+        byte[] signatureHash = Hash.sha3(concat(signatureData.getR(), signatureData.getS(), signatureData.getV()));
+        RecoveryKey key = new RecoveryKey(Numeric.toHexString(nonceBytes), Numeric.toHexString(signatureHash));
+        RecoveredSigner cached = recoveredSigners.getIfPresent(key).orElse(null);
+        if (cached != null && Arrays.equals(cached.digest(), digest)) {
+            return cached.signerAddress();
+        }
+
+        String signerAddress = recoverSignerAddress(digest, signatureData);
+        recoveredSigners.put(key, new RecoveredSigner(digest, signerAddress));
+        return signerAddress;
+    }
+
     private String recoverSignerAddress(byte[] digest, Sign.SignatureData signatureData) {
         try {
             BigInteger recoveredKey = Sign.signedMessageHashToKey(digest, signatureData);
@@ -461,6 +509,31 @@ public class X402Eip3009SignatureVerifier {
         return out;
     }
 
+    long recoveryCacheHitCount() {
+        return recoveredSigners.hitCount();
+    }
+
+    private record RecoveryKey(String authorizationNonceHex, String signatureHashHex) {
+    }
+
+    private record RecoveredSigner(byte[] digest, String signerAddress) {
+    }
+
+    private record DomainSeparator(
+            String domainName,
+            String domainVersion,
+            long chainId,
+            String verifyingContract,
+            byte[] value
+    ) {
+        private boolean matches(String name, String version, long otherChainId, String contract) {
+            return chainId == otherChainId
+                    && domainName.equals(name)
+                    && domainVersion.equals(version)
+                    && verifyingContract.equals(contract);
+        }
+    }
+
     public record VerifiedTransferWithAuthorization(
             String from,
             String to,
@@ -151,6 +151,23 @@ public class X402PaymentAuthorizationAttemptService {
         }
     }
 
+    /**
+     * Rejects an authorization whose signature verified but whose entry could not be created, so the submission
+     * status reports the reason instead of staying pending.
+     */
+    @Transactional
+    public void recordEntryFailure(UUID paymentAuthorizationId, String failureReason) {
+        clawgicPaymentAuthorizationRepository.findById(paymentAuthorizationId).ifPresent(authorization -> {
+            if (authorization.getEntryId() != null) {
+                return;
+            }
+            authorization.setStatus(ClawgicPaymentAuthorizationStatus.REJECTED);
+            authorization.setFailureReason(failureReason);
+            authorization.setUpdatedAt(OffsetDateTime.now());
+            clawgicPaymentAuthorizationRepository.save(authorization);
+        });
+    }
+
     private BigDecimal scaleUsdc(BigDecimal value) {
         return value.setScale(6, RoundingMode.HALF_UP);
     }
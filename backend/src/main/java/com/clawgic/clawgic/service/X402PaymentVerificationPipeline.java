@@ -0,0 +1,78 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.X402Properties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool that verifies x402 payment authorizations off the entry request. Signer recovery is CPU-bound, so
+ * the pool uses {@code x402.verifier-pool-size} platform threads behind a queue of
+ * {@code x402.verifier-queue-capacity}; a full queue is reported back to the caller rather than growing. An
+ * authorization already queued or running is not submitted twice, so client retries while verification is pending
+ * are free.
+ */
+@Component
+public class X402PaymentVerificationPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(X402PaymentVerificationPipeline.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Set<UUID> inFlightAuthorizationIds = ConcurrentHashMap.newKeySet();
+
+    public X402PaymentVerificationPipeline(X402Properties x402Properties) {
+        int poolSize = Math.max(1, x402Properties.getVerifierPoolSize());
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, x402Properties.getVerifierQueueCapacity())),
+                Thread.ofPlatform().name("x402-verifier-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues the verification of one authorization. Returns false only when the queue is full; an authorization
+     * that is already queued or running counts as accepted.
+     */
+    public boolean submit(UUID paymentAuthorizationId, Runnable verification) {
+        if (!inFlightAuthorizationIds.add(paymentAuthorizationId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    verification.run();
+                } catch (RuntimeException ex) {
+                    log.warn("x402 verification failed unexpectedly for authorization {}", paymentAuthorizationId, ex);
+                } finally {
+                    inFlightAuthorizationIds.remove(paymentAuthorizationId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            inFlightAuthorizationIds.remove(paymentAuthorizationId);
+            return false;
+        }
+    }
+
+    int queuedCount() {
+        return executor.getQueue().size();
+    }
+}
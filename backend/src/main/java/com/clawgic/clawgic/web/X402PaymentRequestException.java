@@ -6,6 +6,8 @@ import org.springframework.http.HttpStatus;
 @Getter
 public class X402PaymentRequestException extends RuntimeException {
 
+    private static final String VERIFICATION_PENDING_CODE = "x402_verification_pending";
+
     private final HttpStatus status;
     private final String code;
 
@@ -34,11 +36,15 @@ public class X402PaymentRequestException extends RuntimeException {
     public static X402PaymentRequestException verificationPending() {
         return new X402PaymentRequestException(
                 HttpStatus.PAYMENT_REQUIRED,
-                "x402_verification_pending",
+                VERIFICATION_PENDING_CODE,
                 "Payment authorization captured and pending verification"
         );
     }
 
+    public boolean isVerificationPending() {
+        return VERIFICATION_PENDING_CODE.equals(code);
+    }
+
     public static X402PaymentRequestException verificationFailed(String message) {
         return new X402PaymentRequestException(
                 HttpStatus.PAYMENT_REQUIRED,
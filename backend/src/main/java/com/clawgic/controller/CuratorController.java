@@ -1,14 +1,17 @@
 package com.clawgic.controller;
 
+import com.clawgic.controller.dto.CuratorLeaderboardEntryResponse;
 import com.clawgic.model.Curator;
 import com.clawgic.model.CuratorId;
+import com.clawgic.repository.CuratorLeaderboardRow;
 import com.clawgic.repository.CuratorRepository;
 import com.clawgic.service.CuratorScoringService;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.clawgic.service.KeysetCursor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -18,6 +21,8 @@ import java.util.List;
 @RequestMapping("/api")
 public class CuratorController {
 
+    private static final int MAX_LEADERBOARD_PAGE_SIZE = 500;
+
     private final CuratorRepository curatorRepository;
     private final CuratorScoringService curatorScoringService;
 
@@ -52,24 +57,50 @@ public class CuratorController {
     }
 
     /**
-     * Get leaderboard ranked by CuratorScore.
+     * Get leaderboard ranked by CuratorScore, one keyset page at a time.
+     * The cursor for the next page is returned in the {@code X-Next-Cursor} header.
      *
      * @param marketId Optional market ID (defaults to 1)
-     * @param limit Optional result limit (defaults to 100)
+     * @param cursor Optional cursor from a previous page
+     * @param limit Optional result limit (defaults to 100, at most 500)
      * @return List of curators ranked by curator score (descending)
      */
     @GetMapping("/leaderboard")
-    public ResponseEntity<List<Curator>> getLeaderboard(
+    public ResponseEntity<List<CuratorLeaderboardEntryResponse>> getLeaderboard(
             @RequestParam(defaultValue = "1") Integer marketId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "100") Integer limit) {
 
-        PageRequest pageRequest = PageRequest.of(
-                0,
-                limit,
-                Sort.by(Sort.Direction.DESC, "curatorScore"));
+        if (limit < 1 || limit > MAX_LEADERBOARD_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        List<Curator> curators = curatorRepository.findByMarketId(marketId, pageRequest);
+        List<CuratorLeaderboardRow> rows;
+        if (cursor == null) {
+            rows = curatorRepository.findLeaderboardRows(marketId, Limit.of(limit + 1));
+        } else {
+            BigDecimal curatorScore;
+            String wallet;
+            try {
+                List<String> key = KeysetCursor.decode(cursor, 2);
+                curatorScore = new BigDecimal(key.get(0));
+                wallet = key.get(1);
+            } catch (IllegalArgumentException ex) {
+                return ResponseEntity.badRequest().build();
+            }
+            rows = curatorRepository.findLeaderboardRowsAfter(marketId, curatorScore, wallet, Limit.of(limit + 1));
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            CuratorLeaderboardRow last = rows.getLast();
+            ok.header(KeysetCursor.NEXT_CURSOR_HEADER,
+                    KeysetCursor.encode(last.curatorScore().toPlainString(), last.wallet()));
+        }
 
-        return ResponseEntity.ok(curators);
+        return ok.body(rows.stream()
+                .map(CuratorLeaderboardEntryResponse::from)
+                .toList());
     }
 }
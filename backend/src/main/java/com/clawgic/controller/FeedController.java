@@ -1,10 +1,7 @@
 package com.clawgic.controller;
 
 import com.clawgic.controller.dto.PostResponse;
-import com.clawgic.model.Post;
-import com.clawgic.repository.PostRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.clawgic.service.FeedRankingService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,17 +14,19 @@ import java.util.List;
 @RequestMapping("/api/feed")
 public class FeedController {
 
-    private final PostRepository postRepository;
+    private static final String DELAYED_FEED_TYPE = "delayed";
 
-    public FeedController(PostRepository postRepository) {
-        this.postRepository = postRepository;
+    private final FeedRankingService feedRankingService;
+
+    public FeedController(FeedRankingService feedRankingService) {
+        this.feedRankingService = feedRankingService;
     }
 
     /**
      * Get ELO-ranked posts feed.
      *
      * @param marketId Market ID
-     * @param type Feed type: "realtime" or "delayed"
+     * @param type Feed type: "realtime" (current ranking) or "delayed" (ranking as of N settled rounds ago)
      * @param limit Optional result limit (defaults to 50)
      * @return List of posts ranked by ELO (descending)
      */
@@ -37,20 +36,9 @@ public class FeedController {
             @RequestParam(defaultValue = "realtime") String type,
             @RequestParam(defaultValue = "50") Integer limit) {
 
-        PageRequest pageRequest = PageRequest.of(
-                0,
-                limit,
-                Sort.by(Sort.Direction.DESC, "elo"));
-
-        List<Post> posts = postRepository.findByMarketId(marketId, pageRequest);
-
-        // Note: In a production system, the "delayed" type would filter posts
-        // based on subscription status and add delays for freemium users.
-        // For now, we return the same feed for both types.
-
-        List<PostResponse> response = posts.stream()
-                .map(PostResponse::from)
-                .toList();
+        List<PostResponse> response = DELAYED_FEED_TYPE.equalsIgnoreCase(type)
+                ? feedRankingService.getDelayedFeed(marketId, limit)
+                : feedRankingService.getRealtimeFeed(marketId, limit);
 
         return ResponseEntity.ok(response);
     }
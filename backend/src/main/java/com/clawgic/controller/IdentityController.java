@@ -2,6 +2,7 @@ package com.clawgic.controller;
 
 import com.clawgic.model.Identity;
 import com.clawgic.repository.IdentityRepository;
+import com.clawgic.service.CurationLookupCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,9 +17,12 @@ import java.time.OffsetDateTime;
 public class IdentityController {
 
     private final IdentityRepository identityRepository;
+    private final CurationLookupCache curationLookupCache;
 
-    public IdentityController(IdentityRepository identityRepository) {
+    public IdentityController(IdentityRepository identityRepository,
+                              CurationLookupCache curationLookupCache) {
         this.identityRepository = identityRepository;
+        this.curationLookupCache = curationLookupCache;
     }
 
     /**
@@ -39,6 +43,7 @@ public class IdentityController {
             existing.setVerified(identity.getVerified() != null ? identity.getVerified() : false);
             existing.setUpdatedAt(OffsetDateTime.now());
             Identity updated = identityRepository.save(existing);
+            curationLookupCache.invalidateIdentity(updated.getWallet());
             return ResponseEntity.ok(updated);
         } else {
             // Create new identity
@@ -48,6 +53,7 @@ public class IdentityController {
                 identity.setVerified(false);
             }
             Identity created = identityRepository.save(identity);
+            curationLookupCache.invalidateIdentity(created.getWallet());
             return ResponseEntity.status(HttpStatus.CREATED).body(created);
         }
     }
@@ -6,12 +6,13 @@ import com.clawgic.controller.dto.SkipPairRequest;
 import com.clawgic.model.Commitment;
 import com.clawgic.model.Pair;
 import com.clawgic.repository.CommitmentRepository;
-import com.clawgic.repository.IdentityRepository;
 import com.clawgic.repository.PairRepository;
 import com.clawgic.service.CommitSecurityService;
+import com.clawgic.service.CurationLookupCache;
 import com.clawgic.service.CuratorParticipationService;
 import com.clawgic.service.PairSelectionService;
 import com.clawgic.service.PairSkipService;
+import com.clawgic.service.VoteTallyService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,26 +29,29 @@ public class PairsController {
 
     private final PairRepository pairRepository;
     private final CommitmentRepository commitmentRepository;
-    private final IdentityRepository identityRepository;
+    private final CurationLookupCache curationLookupCache;
     private final PairSkipService pairSkipService;
     private final PairSelectionService pairSelectionService;
     private final CommitSecurityService commitSecurityService;
     private final CuratorParticipationService curatorParticipationService;
+    private final VoteTallyService voteTallyService;
 
     public PairsController(PairRepository pairRepository,
                            CommitmentRepository commitmentRepository,
-                           IdentityRepository identityRepository,
+                           CurationLookupCache curationLookupCache,
                            PairSkipService pairSkipService,
                            PairSelectionService pairSelectionService,
                            CommitSecurityService commitSecurityService,
-                           CuratorParticipationService curatorParticipationService) {
+                           CuratorParticipationService curatorParticipationService,
+                           VoteTallyService voteTallyService) {
         this.pairRepository = pairRepository;
         this.commitmentRepository = commitmentRepository;
-        this.identityRepository = identityRepository;
+        this.curationLookupCache = curationLookupCache;
         this.pairSkipService = pairSkipService;
         this.pairSelectionService = pairSelectionService;
         this.commitSecurityService = commitSecurityService;
         this.curatorParticipationService = curatorParticipationService;
+        this.voteTallyService = voteTallyService;
     }
 
     /**
@@ -62,7 +66,7 @@ public class PairsController {
             @RequestParam String wallet,
             @RequestParam(defaultValue = "1") Integer marketId) {
 
-        if (identityRepository.findByWallet(wallet).isEmpty()) {
+        if (curationLookupCache.findIdentityId(wallet).isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
@@ -106,7 +110,7 @@ public class PairsController {
             return ResponseEntity.badRequest().build();
         }
 
-        if (identityRepository.findByWallet(request.wallet()).isEmpty()) {
+        if (curationLookupCache.findIdentityId(request.wallet()).isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
 
@@ -132,8 +136,9 @@ public class PairsController {
             commitment.setCommittedAt(committedAt);
             commitment.setRevealed(false);
 
-            // Save commitment
+            // Save commitment and fold it into the pair's running tally
             commitmentRepository.save(commitment);
+            voteTallyService.recordCommit(commitment);
             return ResponseEntity.status(HttpStatus.CREATED).build();
         } catch (CommitSecurityService.CommitSecurityException ex) {
             return switch (ex.getError()) {
@@ -167,7 +172,7 @@ public class PairsController {
             return ResponseEntity.badRequest().build();
         }
 
-        if (identityRepository.findByWallet(request.wallet()).isEmpty()) {
+        if (curationLookupCache.findIdentityId(request.wallet()).isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
 
@@ -1,17 +1,32 @@
 package com.clawgic.controller;
 
 import com.clawgic.controller.dto.ActiveRoundResponse;
+import com.clawgic.controller.dto.ProvisionalPairTallyResponse;
+import com.clawgic.controller.dto.ProvisionalRoundResultsResponse;
+import com.clawgic.controller.dto.RoundContentProofResponse;
+import com.clawgic.controller.dto.RoundPayoutProofResponse;
 import com.clawgic.controller.dto.RoundResponse;
 import com.clawgic.model.Round;
 import com.clawgic.model.RoundStatus;
 import com.clawgic.repository.CommitmentRepository;
 import com.clawgic.repository.RoundRepository;
 import com.clawgic.service.CuratorSupplyService;
+import com.clawgic.service.ImmutableResponseCache;
+import com.clawgic.service.KeysetCursor;
+import com.clawgic.service.RoundContentMerkleService;
+import com.clawgic.service.SettlementPayoutMerkleService;
+import com.clawgic.service.VoteTallyService;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST API for round management.
@@ -27,47 +42,168 @@ public class RoundController {
             RoundStatus.SETTLING
     );
 
+    private static final List<RoundStatus> PROVISIONAL_RESULT_STATUSES = List.of(
+            RoundStatus.REVEAL,
+            RoundStatus.SETTLING,
+            RoundStatus.SETTLED
+    );
+
+    private static final int DEFAULT_ROUNDS_PAGE_SIZE = 100;
+    private static final int MAX_ROUNDS_PAGE_SIZE = 500;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final RoundRepository roundRepository;
     private final CommitmentRepository commitmentRepository;
     private final CuratorSupplyService curatorSupplyService;
+    private final VoteTallyService voteTallyService;
+    private final ImmutableResponseCache immutableResponseCache;
+    private final RoundContentMerkleService roundContentMerkleService;
+    private final SettlementPayoutMerkleService settlementPayoutMerkleService;
 
     public RoundController(RoundRepository roundRepository,
                            CommitmentRepository commitmentRepository,
-                           CuratorSupplyService curatorSupplyService) {
+                           CuratorSupplyService curatorSupplyService,
+                           VoteTallyService voteTallyService,
+                           ImmutableResponseCache immutableResponseCache,
+                           RoundContentMerkleService roundContentMerkleService,
+                           SettlementPayoutMerkleService settlementPayoutMerkleService) {
         this.roundRepository = roundRepository;
         this.commitmentRepository = commitmentRepository;
         this.curatorSupplyService = curatorSupplyService;
+        this.voteTallyService = voteTallyService;
+        this.immutableResponseCache = immutableResponseCache;
+        this.roundContentMerkleService = roundContentMerkleService;
+        this.settlementPayoutMerkleService = settlementPayoutMerkleService;
     }
 
     /**
-     * List all rounds with status.
+     * List rounds with status, newest first. Without {@code limit} or {@code cursor} every round of the market is
+     * returned, as before paging existed; with either, one keyset page is returned and the cursor for the next
+     * page is in the {@code X-Next-Cursor} header.
      *
      * @param marketId Optional market ID filter (defaults to 1)
+     * @param cursor Optional cursor from a previous page
+     * @param limit Optional page size (defaults to 100 when paging with a cursor, at most 500)
      * @return List of rounds sorted by created date (descending)
      */
     @GetMapping
     public ResponseEntity<List<RoundResponse>> listRounds(
-            @RequestParam(defaultValue = "1") Integer marketId) {
+            @RequestParam(defaultValue = "1") Integer marketId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
-        List<Round> rounds = roundRepository.findByMarketId(
-                marketId,
-                Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok(roundRepository.findByMarketId(marketId, NEWEST_FIRST).stream()
+                    .map(RoundResponse::from)
+                    .toList());
+        }
+        int pageSize = limit == null ? DEFAULT_ROUNDS_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_ROUNDS_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<Round> rounds;
+        if (cursor == null) {
+            rounds = roundRepository.findByMarketIdOrderByCreatedAtDescIdDesc(marketId, Limit.of(pageSize + 1));
+        } else {
+            List<String> key;
+            OffsetDateTime createdAt;
+            Integer id;
+            try {
+                key = KeysetCursor.decode(cursor, 2);
+                createdAt = OffsetDateTime.parse(key.get(0));
+                id = Integer.valueOf(key.get(1));
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                return ResponseEntity.badRequest().build();
+            }
+            rounds = roundRepository.findPageByMarketIdAfter(marketId, createdAt, id, Limit.of(pageSize + 1));
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (rounds.size() > pageSize) {
+            rounds = rounds.subList(0, pageSize);
+            Round last = rounds.getLast();
+            ok.header(KeysetCursor.NEXT_CURSOR_HEADER, KeysetCursor.encode(last.getCreatedAt(), last.getId()));
+        }
 
         List<RoundResponse> response = rounds.stream()
                 .map(RoundResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(response);
+        return ok.body(response);
     }
 
     /**
      * Get round detail with settlement hash.
+     * Settled rounds are final and served from the immutable response cache with a strong ETag.
      *
      * @param id The round ID
      * @return Round details including status, pairs, deadlines, and settlement hash
      */
     @GetMapping("/{id}")
-    public ResponseEntity<RoundResponse> getRoundDetail(@PathVariable Integer id) {
+    public ResponseEntity<?> getRoundDetail(@PathVariable Integer id,
+                                            @RequestHeader HttpHeaders requestHeaders) {
+        String cacheKey = RoundResponse.cacheKey(id);
+        Optional<ImmutableResponseCache.CachedResponse> cached = immutableResponseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return immutableResponseCache.serve(cached.get(), requestHeaders);
+        }
+
+        Round round = roundRepository.findById(id)
+                .orElse(null);
+
+        if (round == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        RoundResponse response = RoundResponse.from(round);
+        if (round.getStatus() == RoundStatus.SETTLED) {
+            return immutableResponseCache.serve(immutableResponseCache.put(cacheKey, response), requestHeaders);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get live provisional results for a round from the running vote tallies.
+     * Served without scanning commitments, so it is cheap to poll during REVEAL.
+     *
+     * @param id The round ID
+     * @return Per-pair tallies with the current leading choice, or 409 before reveals start
+     */
+    @GetMapping("/{id}/provisional")
+    public ResponseEntity<ProvisionalRoundResultsResponse> getProvisionalResults(@PathVariable Integer id) {
+        Round round = roundRepository.findById(id)
+                .orElse(null);
+
+        if (round == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (!PROVISIONAL_RESULT_STATUSES.contains(round.getStatus())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        List<ProvisionalPairTallyResponse> pairs = voteTallyService.loadRoundTallies(round.getId())
+                .values()
+                .stream()
+                .map(ProvisionalPairTallyResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ProvisionalRoundResultsResponse.from(round, pairs));
+    }
+
+    /**
+     * Get a Merkle inclusion proof that a post is part of a round's content set.
+     * Clients recompute the root from the post content and compare it with the round's contentMerkleRoot.
+     *
+     * @param id The round ID
+     * @param postId The post to prove
+     * @return Leaf position, sibling hashes and the round's stored root, 404 if the round has no root or does not
+     *         use the post, or 409 if the round's content no longer matches its stored root
+     */
+    @GetMapping("/{id}/content-proof")
+    public ResponseEntity<RoundContentProofResponse> getContentProof(@PathVariable Integer id,
+                                                                     @RequestParam Integer postId) {
         Round round = roundRepository.findById(id)
                 .orElse(null);
 
@@ -75,7 +211,35 @@ public class RoundController {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(RoundResponse.from(round));
+        try {
+            return roundContentMerkleService.proveInclusion(round, postId)
+                    .map(RoundContentProofResponse::from)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Get a Merkle inclusion proof for one curator's settlement payout in a round.
+     * Clients rebuild the leaf from wallet, earned, lost and pairIds and compare the recomputed root with the
+     * round's payoutMerkleRoot.
+     *
+     * @param id The round ID
+     * @param wallet The curator wallet to prove
+     * @return Payout record, leaf position, sibling hashes and root, or 404 if the wallet has no payout in the round
+     */
+    @GetMapping("/{id}/payout-proof")
+    public ResponseEntity<RoundPayoutProofResponse> getPayoutProof(@PathVariable Integer id,
+                                                                   @RequestParam String wallet) {
+        if (!roundRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return settlementPayoutMerkleService.proveInclusion(id, wallet)
+                .map(RoundPayoutProofResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
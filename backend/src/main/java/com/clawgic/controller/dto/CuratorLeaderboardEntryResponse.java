@@ -0,0 +1,33 @@
+package com.clawgic.controller.dto;
+
+import com.clawgic.repository.CuratorLeaderboardRow;
+
+import java.math.BigDecimal;
+
+public record CuratorLeaderboardEntryResponse(
+        String wallet,
+        Integer marketId,
+        Integer identityId,
+        BigDecimal curatorScore,
+        BigDecimal calibrationRate,
+        BigDecimal auditPassRate,
+        BigDecimal alignmentStability,
+        Long earned,
+        Long lost,
+        Integer fraudFlags
+) {
+    public static CuratorLeaderboardEntryResponse from(CuratorLeaderboardRow row) {
+        return new CuratorLeaderboardEntryResponse(
+                row.wallet(),
+                row.marketId(),
+                row.identityId(),
+                row.curatorScore(),
+                row.calibrationRate(),
+                row.auditPassRate(),
+                row.alignmentStability(),
+                row.earned(),
+                row.lost(),
+                row.fraudFlags()
+        );
+    }
+}
@@ -28,4 +28,8 @@ public record PostResponse(
                 post.getUpdatedAt()
         );
     }
+
+    public PostResponse withElo(Integer elo) {
+        return new PostResponse(id, moltbookId, agent, content, elo, matchups, wins, createdAt, updatedAt);
+    }
 }
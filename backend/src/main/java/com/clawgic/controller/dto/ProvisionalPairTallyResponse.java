@@ -0,0 +1,32 @@
+package com.clawgic.controller.dto;
+
+import com.clawgic.model.PairWinner;
+import com.clawgic.service.VoteTallyService;
+
+import java.math.BigDecimal;
+
+public record ProvisionalPairTallyResponse(
+        Integer pairId,
+        Integer committedCount,
+        Integer revealedCount,
+        Long committedStake,
+        Long stakeA,
+        Long stakeB,
+        Long stakeTie,
+        PairWinner leadingChoice,
+        BigDecimal averageCuratorScore
+) {
+    public static ProvisionalPairTallyResponse from(VoteTallyService.PairTally tally) {
+        return new ProvisionalPairTallyResponse(
+                tally.pairId(),
+                tally.committedCount(),
+                tally.revealedCount(),
+                tally.committedStake(),
+                tally.stakeA(),
+                tally.stakeB(),
+                tally.stakeTie(),
+                tally.majority(),
+                tally.averageCuratorScore()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.clawgic.controller.dto;
+
+import com.clawgic.model.Round;
+import com.clawgic.model.RoundStatus;
+
+import java.util.List;
+
+public record ProvisionalRoundResultsResponse(
+        Integer roundId,
+        RoundStatus status,
+        Integer totalPairs,
+        List<ProvisionalPairTallyResponse> pairs
+) {
+    public static ProvisionalRoundResultsResponse from(Round round, List<ProvisionalPairTallyResponse> pairs) {
+        return new ProvisionalRoundResultsResponse(
+                round.getId(),
+                round.getStatus(),
+                round.getPairs(),
+                pairs
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.clawgic.controller.dto;
+
+import com.clawgic.service.RoundContentMerkleService;
+
+import java.util.List;
+
+public record RoundContentProofResponse(
+        Integer roundId,
+        Integer postId,
+        int leafIndex,
+        int leafCount,
+        String leafHash,
+        List<String> siblings,
+        String contentMerkleRoot
+) {
+    public static RoundContentProofResponse from(RoundContentMerkleService.ContentInclusionProof proof) {
+        return new RoundContentProofResponse(
+                proof.roundId(),
+                proof.postId(),
+                proof.leafIndex(),
+                proof.leafCount(),
+                proof.leafHash(),
+                proof.siblings(),
+                proof.root()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.clawgic.controller.dto;
+
+import com.clawgic.service.SettlementPayoutMerkleService;
+
+import java.util.List;
+
+public record RoundPayoutProofResponse(
+        Integer roundId,
+        String wallet,
+        int leafIndex,
+        int leafCount,
+        Long earned,
+        Long lost,
+        List<Integer> pairIds,
+        String leafHash,
+        List<String> siblings,
+        String payoutMerkleRoot
+) {
+    public static RoundPayoutProofResponse from(SettlementPayoutMerkleService.PayoutInclusionProof proof) {
+        return new RoundPayoutProofResponse(
+                proof.roundId(),
+                proof.wallet(),
+                proof.leafIndex(),
+                proof.leafCount(),
+                proof.earned(),
+                proof.lost(),
+                proof.pairIds(),
+                proof.leafHash(),
+                proof.siblings(),
+                proof.root()
+        );
+    }
+}
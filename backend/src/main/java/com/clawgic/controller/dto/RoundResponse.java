@@ -13,6 +13,7 @@ public record RoundResponse(
         Long basePerPair,
         Long premiumPerPair,
         String contentMerkleRoot,
+        String payoutMerkleRoot,
         OffsetDateTime startedAt,
         OffsetDateTime commitDeadline,
         OffsetDateTime revealDeadline,
@@ -20,6 +21,13 @@ public record RoundResponse(
         OffsetDateTime createdAt,
         OffsetDateTime updatedAt
 ) {
+    /**
+     * Key of a settled round's detail in the immutable response cache.
+     */
+    public static String cacheKey(Integer roundId) {
+        return "round-detail:" + roundId;
+    }
+
     public static RoundResponse from(Round round) {
         return new RoundResponse(
                 round.getId(),
@@ -29,6 +37,7 @@ public record RoundResponse(
                 round.getBasePerPair(),
                 round.getPremiumPerPair(),
                 round.getContentMerkleRoot(),
+                round.getPayoutMerkleRoot(),
                 round.getStartedAt(),
                 round.getCommitDeadline(),
                 round.getRevealDeadline(),
@@ -0,0 +1,69 @@
+package com.clawgic.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "feed_rank_snapshot")
+public class FeedRankSnapshot {
+    @Id
+    @Column(name = "round_id")
+    private Integer roundId;
+
+    @Column(name = "market_id", nullable = false)
+    private Integer marketId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "post_ids", nullable = false, columnDefinition = "integer[]")
+    private int[] postIds = new int[0];
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "elos", nullable = false, columnDefinition = "integer[]")
+    private int[] elos = new int[0];
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    public Integer getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Integer roundId) {
+        this.roundId = roundId;
+    }
+
+    public Integer getMarketId() {
+        return marketId;
+    }
+
+    public void setMarketId(Integer marketId) {
+        this.marketId = marketId;
+    }
+
+    public int[] getPostIds() {
+        return postIds;
+    }
+
+    public void setPostIds(int[] postIds) {
+        this.postIds = postIds;
+    }
+
+    public int[] getElos() {
+        return elos;
+    }
+
+    public void setElos(int[] elos) {
+        this.elos = elos;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
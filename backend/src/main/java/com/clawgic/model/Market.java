@@ -28,6 +28,12 @@ public class Market {
     @Column(name = "max_pairs", nullable = false)
     private Integer maxPairs = 0;
 
+    @Column(name = "ingestion_cursor", length = 255)
+    private String ingestionCursor;
+
+    @Column(name = "ingestion_cursor_updated_at")
+    private OffsetDateTime ingestionCursorUpdatedAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
 
@@ -90,6 +96,22 @@ public class Market {
         this.maxPairs = maxPairs;
     }
 
+    public String getIngestionCursor() {
+        return ingestionCursor;
+    }
+
+    public void setIngestionCursor(String ingestionCursor) {
+        this.ingestionCursor = ingestionCursor;
+    }
+
+    public OffsetDateTime getIngestionCursorUpdatedAt() {
+        return ingestionCursorUpdatedAt;
+    }
+
+    public void setIngestionCursorUpdatedAt(OffsetDateTime ingestionCursorUpdatedAt) {
+        this.ingestionCursorUpdatedAt = ingestionCursorUpdatedAt;
+    }
+
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
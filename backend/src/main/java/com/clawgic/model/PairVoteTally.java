@@ -0,0 +1,121 @@
+package com.clawgic.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "pair_vote_tally")
+public class PairVoteTally {
+    @Id
+    @Column(name = "pair_id")
+    private Integer pairId;
+
+    @Column(name = "round_id", nullable = false)
+    private Integer roundId;
+
+    @Column(name = "committed_count", nullable = false)
+    private Integer committedCount = 0;
+
+    @Column(name = "committed_stake", nullable = false)
+    private Long committedStake = 0L;
+
+    @Column(name = "revealed_count", nullable = false)
+    private Integer revealedCount = 0;
+
+    @Column(name = "stake_a", nullable = false)
+    private Long stakeA = 0L;
+
+    @Column(name = "stake_b", nullable = false)
+    private Long stakeB = 0L;
+
+    @Column(name = "stake_tie", nullable = false)
+    private Long stakeTie = 0L;
+
+    @Column(name = "curator_score_sum", nullable = false, precision = 14, scale = 4)
+    private BigDecimal curatorScoreSum = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt = OffsetDateTime.now();
+
+    public Integer getPairId() {
+        return pairId;
+    }
+
+    public void setPairId(Integer pairId) {
+        this.pairId = pairId;
+    }
+
+    public Integer getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Integer roundId) {
+        this.roundId = roundId;
+    }
+
+    public Integer getCommittedCount() {
+        return committedCount;
+    }
+
+    public void setCommittedCount(Integer committedCount) {
+        this.committedCount = committedCount;
+    }
+
+    public Long getCommittedStake() {
+        return committedStake;
+    }
+
+    public void setCommittedStake(Long committedStake) {
+        this.committedStake = committedStake;
+    }
+
+    public Integer getRevealedCount() {
+        return revealedCount;
+    }
+
+    public void setRevealedCount(Integer revealedCount) {
+        this.revealedCount = revealedCount;
+    }
+
+    public Long getStakeA() {
+        return stakeA;
+    }
+
+    public void setStakeA(Long stakeA) {
+        this.stakeA = stakeA;
+    }
+
+    public Long getStakeB() {
+        return stakeB;
+    }
+
+    public void setStakeB(Long stakeB) {
+        this.stakeB = stakeB;
+    }
+
+    public Long getStakeTie() {
+        return stakeTie;
+    }
+
+    public void setStakeTie(Long stakeTie) {
+        this.stakeTie = stakeTie;
+    }
+
+    public BigDecimal getCuratorScoreSum() {
+        return curatorScoreSum;
+    }
+
+    public void setCuratorScoreSum(BigDecimal curatorScoreSum) {
+        this.curatorScoreSum = curatorScoreSum;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(OffsetDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -34,6 +34,9 @@ public class Round {
     @Column(name = "content_merkle_root", length = 64)
     private String contentMerkleRoot;
 
+    @Column(name = "payout_merkle_root", length = 64)
+    private String payoutMerkleRoot;
+
     @Column(name = "started_at")
     private OffsetDateTime startedAt;
 
@@ -108,6 +111,14 @@ public class Round {
         this.contentMerkleRoot = contentMerkleRoot;
     }
 
+    public String getPayoutMerkleRoot() {
+        return payoutMerkleRoot;
+    }
+
+    public void setPayoutMerkleRoot(String payoutMerkleRoot) {
+        this.payoutMerkleRoot = payoutMerkleRoot;
+    }
+
     public OffsetDateTime getStartedAt() {
         return startedAt;
     }
@@ -0,0 +1,101 @@
+package com.clawgic.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "settlement_payout")
+public class SettlementPayout {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "round_id", nullable = false)
+    private Integer roundId;
+
+    @Column(name = "curator_wallet", nullable = false, length = 44)
+    private String curatorWallet;
+
+    @Column(name = "leaf_index", nullable = false)
+    private Integer leafIndex;
+
+    @Column(nullable = false)
+    private Long earned = 0L;
+
+    @Column(nullable = false)
+    private Long lost = 0L;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "pair_ids", nullable = false, columnDefinition = "integer[]")
+    private int[] pairIds = new int[0];
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Integer roundId) {
+        this.roundId = roundId;
+    }
+
+    public String getCuratorWallet() {
+        return curatorWallet;
+    }
+
+    public void setCuratorWallet(String curatorWallet) {
+        this.curatorWallet = curatorWallet;
+    }
+
+    public Integer getLeafIndex() {
+        return leafIndex;
+    }
+
+    public void setLeafIndex(Integer leafIndex) {
+        this.leafIndex = leafIndex;
+    }
+
+    public Long getEarned() {
+        return earned;
+    }
+
+    public void setEarned(Long earned) {
+        this.earned = earned;
+    }
+
+    public Long getLost() {
+        return lost;
+    }
+
+    public void setLost(Long lost) {
+        this.lost = lost;
+    }
+
+    public int[] getPairIds() {
+        return pairIds;
+    }
+
+    public void setPairIds(int[] pairIds) {
+        this.pairIds = pairIds;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
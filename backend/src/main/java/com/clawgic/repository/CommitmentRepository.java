@@ -11,6 +11,7 @@ import java.util.List;
 @Repository
 public interface CommitmentRepository extends JpaRepository<Commitment, Integer> {
     List<Commitment> findByPairId(Integer pairId);
+    List<Commitment> findByPairRoundId(Integer roundId);
     List<Commitment> findByCuratorWallet(String curatorWallet);
     List<Commitment> findByRevealed(Boolean revealed);
     List<Commitment> findByPairIdAndRevealed(Integer pairId, Boolean revealed);
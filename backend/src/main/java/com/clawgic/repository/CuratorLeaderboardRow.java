@@ -0,0 +1,20 @@
+package com.clawgic.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Leaderboard columns of a curator, selected without hydrating the full entity.
+ */
+public record CuratorLeaderboardRow(
+        String wallet,
+        Integer marketId,
+        Integer identityId,
+        BigDecimal curatorScore,
+        BigDecimal calibrationRate,
+        BigDecimal auditPassRate,
+        BigDecimal alignmentStability,
+        Long earned,
+        Long lost,
+        Integer fraudFlags
+) {
+}
@@ -2,13 +2,14 @@ package com.clawgic.repository;
 
 import com.clawgic.model.Curator;
 import com.clawgic.model.CuratorId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -18,10 +19,29 @@ public interface CuratorRepository extends JpaRepository<Curator, CuratorId> {
     List<Curator> findByWallet(String wallet);
     List<Curator> findByMarketId(Integer marketId);
     List<Curator> findByMarketIdOrderByCuratorScoreDesc(Integer marketId);
-    List<Curator> findByMarketId(Integer marketId, Pageable pageable);
     long countByMarketId(Integer marketId);
     Optional<Curator> findByWalletAndMarketId(String wallet, Integer marketId);
 
+    @Query("SELECT new com.clawgic.repository.CuratorLeaderboardRow(" +
+            "c.wallet, c.marketId, c.identityId, c.curatorScore, c.calibrationRate, c.auditPassRate, " +
+            "c.alignmentStability, c.earned, c.lost, c.fraudFlags) " +
+            "FROM Curator c " +
+            "WHERE c.marketId = :marketId " +
+            "ORDER BY c.curatorScore DESC, c.wallet ASC")
+    List<CuratorLeaderboardRow> findLeaderboardRows(@Param("marketId") Integer marketId, Limit limit);
+
+    @Query("SELECT new com.clawgic.repository.CuratorLeaderboardRow(" +
+            "c.wallet, c.marketId, c.identityId, c.curatorScore, c.calibrationRate, c.auditPassRate, " +
+            "c.alignmentStability, c.earned, c.lost, c.fraudFlags) " +
+            "FROM Curator c " +
+            "WHERE c.marketId = :marketId " +
+            "AND (c.curatorScore < :curatorScore OR (c.curatorScore = :curatorScore AND c.wallet > :wallet)) " +
+            "ORDER BY c.curatorScore DESC, c.wallet ASC")
+    List<CuratorLeaderboardRow> findLeaderboardRowsAfter(@Param("marketId") Integer marketId,
+                                                         @Param("curatorScore") BigDecimal curatorScore,
+                                                         @Param("wallet") String wallet,
+                                                         Limit limit);
+
     @Modifying
     @Query("UPDATE Curator c " +
             "SET c.pairsThisEpoch = c.pairsThisEpoch + 1, c.updatedAt = :updatedAt " +
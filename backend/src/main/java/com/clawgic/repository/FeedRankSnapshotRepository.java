@@ -0,0 +1,36 @@
+package com.clawgic.repository;
+
+import com.clawgic.model.FeedRankSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FeedRankSnapshotRepository extends JpaRepository<FeedRankSnapshot, Integer> {
+
+    /**
+     * Snapshot written {@code roundsBack} settlements before the latest one of a market.
+     */
+    @Query(value = """
+            SELECT *
+            FROM feed_rank_snapshot
+            WHERE market_id = :marketId
+            ORDER BY round_id DESC
+            OFFSET :roundsBack
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<FeedRankSnapshot> findByMarketIdRoundsBack(@Param("marketId") Integer marketId,
+                                                        @Param("roundsBack") int roundsBack);
+
+    Optional<FeedRankSnapshot> findFirstByMarketIdOrderByRoundIdAsc(Integer marketId);
+
+    /**
+     * Latest settled round of a market, or {@code null} before its first settlement. Served from
+     * {@code idx_feed_rank_snapshot_market_round} alone, so feed reads can use it as a cache version.
+     */
+    @Query("SELECT MAX(s.roundId) FROM FeedRankSnapshot s WHERE s.marketId = :marketId")
+    Integer findLatestRoundIdByMarketId(@Param("marketId") Integer marketId);
+}
@@ -2,8 +2,12 @@ package com.clawgic.repository;
 
 import com.clawgic.model.Market;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,11 @@ public interface MarketRepository extends JpaRepository<Market, Integer> {
     Optional<Market> findBySubmoltId(String submoltId);
     boolean existsByNameIgnoreCase(String name);
     boolean existsBySubmoltIdIgnoreCase(String submoltId);
+
+    @Modifying
+    @Query("UPDATE Market m SET m.ingestionCursor = :cursor, m.ingestionCursorUpdatedAt = :updatedAt " +
+            "WHERE m.id = :marketId")
+    int updateIngestionCursor(@Param("marketId") Integer marketId,
+                              @Param("cursor") String cursor,
+                              @Param("updatedAt") OffsetDateTime updatedAt);
 }
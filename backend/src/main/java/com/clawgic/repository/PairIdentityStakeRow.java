@@ -0,0 +1,12 @@
+package com.clawgic.repository;
+
+public interface PairIdentityStakeRow {
+
+    Integer getPairId();
+
+    String getChoice();
+
+    Integer getIdentityId();
+
+    Long getStake();
+}
@@ -0,0 +1,96 @@
+package com.clawgic.repository;
+
+import com.clawgic.model.PairVoteTally;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface PairVoteTallyRepository extends JpaRepository<PairVoteTally, Integer> {
+    List<PairVoteTally> findByRoundIdOrderByPairIdAsc(Integer roundId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO pair_vote_tally (pair_id, round_id, committed_count, committed_stake)
+            VALUES (:pairId, :roundId, 1, :stake)
+            ON CONFLICT (pair_id) DO UPDATE SET
+                committed_count = pair_vote_tally.committed_count + 1,
+                committed_stake = pair_vote_tally.committed_stake + EXCLUDED.committed_stake
+            """, nativeQuery = true)
+    int incrementCommitted(@Param("pairId") Integer pairId,
+                           @Param("roundId") Integer roundId,
+                           @Param("stake") long stake);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO pair_vote_tally (
+                pair_id, round_id, revealed_count, stake_a, stake_b, stake_tie, curator_score_sum
+            )
+            VALUES (:pairId, :roundId, 1, :stakeA, :stakeB, :stakeTie, :curatorScore)
+            ON CONFLICT (pair_id) DO UPDATE SET
+                revealed_count = pair_vote_tally.revealed_count + 1,
+                stake_a = pair_vote_tally.stake_a + EXCLUDED.stake_a,
+                stake_b = pair_vote_tally.stake_b + EXCLUDED.stake_b,
+                stake_tie = pair_vote_tally.stake_tie + EXCLUDED.stake_tie,
+                curator_score_sum = pair_vote_tally.curator_score_sum + EXCLUDED.curator_score_sum
+            """, nativeQuery = true)
+    int incrementRevealed(@Param("pairId") Integer pairId,
+                          @Param("roundId") Integer roundId,
+                          @Param("stakeA") long stakeA,
+                          @Param("stakeB") long stakeB,
+                          @Param("stakeTie") long stakeTie,
+                          @Param("curatorScore") BigDecimal curatorScore);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO pair_identity_stake (pair_id, round_id, choice, identity_id, stake)
+            VALUES (:pairId, :roundId, CAST(:choice AS pair_winner), :identityId, :stake)
+            ON CONFLICT (pair_id, choice, identity_id) DO UPDATE SET
+                stake = pair_identity_stake.stake + EXCLUDED.stake
+            """, nativeQuery = true)
+    int incrementIdentityStake(@Param("pairId") Integer pairId,
+                               @Param("roundId") Integer roundId,
+                               @Param("choice") String choice,
+                               @Param("identityId") Integer identityId,
+                               @Param("stake") long stake);
+
+    @Query(value = """
+            SELECT
+                pair_id AS pairId,
+                CAST(choice AS VARCHAR) AS choice,
+                identity_id AS identityId,
+                stake AS stake
+            FROM pair_identity_stake
+            WHERE round_id = :roundId
+            """, nativeQuery = true)
+    List<PairIdentityStakeRow> findIdentityStakesByRoundId(@Param("roundId") Integer roundId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO pair_wallet_stake (pair_id, round_id, choice, curator_wallet, stake)
+            VALUES (:pairId, :roundId, CAST(:choice AS pair_winner), :curatorWallet, :stake)
+            ON CONFLICT (pair_id, choice, curator_wallet) DO UPDATE SET
+                stake = pair_wallet_stake.stake + EXCLUDED.stake
+            """, nativeQuery = true)
+    int incrementWalletStake(@Param("pairId") Integer pairId,
+                             @Param("roundId") Integer roundId,
+                             @Param("choice") String choice,
+                             @Param("curatorWallet") String curatorWallet,
+                             @Param("stake") long stake);
+
+    @Query(value = """
+            SELECT
+                pair_id AS pairId,
+                CAST(choice AS VARCHAR) AS choice,
+                curator_wallet AS curatorWallet,
+                stake AS stake
+            FROM pair_wallet_stake
+            WHERE round_id = :roundId
+            """, nativeQuery = true)
+    List<PairWalletStakeRow> findWalletStakesByRoundId(@Param("roundId") Integer roundId);
+}
@@ -0,0 +1,12 @@
+package com.clawgic.repository;
+
+public interface PairWalletStakeRow {
+
+    Integer getPairId();
+
+    String getChoice();
+
+    String getCuratorWallet();
+
+    Long getStake();
+}
@@ -0,0 +1,10 @@
+package com.clawgic.repository;
+
+/**
+ * Projection of a post's position in its market's ELO ranking.
+ */
+public interface PostRankRow {
+    Integer getId();
+
+    Integer getElo();
+}
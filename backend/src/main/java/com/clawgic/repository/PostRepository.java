@@ -3,10 +3,14 @@ package com.clawgic.repository;
 import com.clawgic.model.Post;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Integer> {
@@ -15,4 +19,12 @@ public interface PostRepository extends JpaRepository<Post, Integer> {
     List<Post> findByMarketId(Integer marketId, Pageable pageable);
     List<Post> findByAgent(String agent);
     List<Post> findByMarketIdOrderByEloDesc(Integer marketId);
+
+    @Query("SELECT p.moltbookId FROM Post p WHERE p.moltbookId IN :moltbookIds")
+    Set<String> findExistingMoltbookIds(@Param("moltbookIds") Collection<String> moltbookIds);
+
+    @Query("SELECT p.id AS id, p.elo AS elo FROM Post p " +
+            "WHERE p.market.id = :marketId " +
+            "ORDER BY p.elo DESC, p.id ASC")
+    List<PostRankRow> findRankingByMarketId(@Param("marketId") Integer marketId, Pageable pageable);
 }
@@ -2,10 +2,14 @@ package com.clawgic.repository;
 
 import com.clawgic.model.Round;
 import com.clawgic.model.RoundStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,16 @@ import java.util.Optional;
 public interface RoundRepository extends JpaRepository<Round, Integer> {
     List<Round> findByMarketId(Integer marketId);
     List<Round> findByMarketId(Integer marketId, Sort sort);
+    List<Round> findByMarketIdOrderByCreatedAtDescIdDesc(Integer marketId, Limit limit);
+
+    @Query("SELECT r FROM Round r " +
+            "WHERE r.market.id = :marketId " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Round> findPageByMarketIdAfter(@Param("marketId") Integer marketId,
+                                        @Param("createdAt") OffsetDateTime createdAt,
+                                        @Param("id") Integer id,
+                                        Limit limit);
     List<Round> findByStatus(RoundStatus status);
     List<Round> findByMarketIdAndStatus(Integer marketId, RoundStatus status);
     List<Round> findByMarketIdAndStatusIn(Integer marketId, List<RoundStatus> statuses);
@@ -0,0 +1,16 @@
+package com.clawgic.repository;
+
+import com.clawgic.model.SettlementPayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SettlementPayoutRepository extends JpaRepository<SettlementPayout, Integer> {
+
+    /**
+     * A round's payout records in tree order.
+     */
+    List<SettlementPayout> findByRoundIdOrderByLeafIndexAsc(Integer roundId);
+}
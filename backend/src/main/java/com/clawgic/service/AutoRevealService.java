@@ -21,7 +21,6 @@ import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.List;
@@ -69,6 +68,7 @@ public class AutoRevealService {
     private final PoolService poolService;
     private final CommitRevealEnvelopeCryptoService commitRevealEnvelopeCryptoService;
     private final CommitSecurityProperties commitSecurityProperties;
+    private final VoteTallyService voteTallyService;
 
     /**
      * Auto-reveals all unrevealed commitments for a round.
@@ -151,6 +151,7 @@ public class AutoRevealService {
                 commitment.setAutoRevealFailureReason(null);
                 commitment.setAutoRevealFailedAt(null);
                 commitmentRepository.save(commitment);
+                voteTallyService.recordReveal(commitment);
 
                 log.info("Successfully revealed commitment {} with choice {}",
                         commitment.getId(), payload.choice);
@@ -214,11 +215,11 @@ public class AutoRevealService {
         System.arraycopy(keyBytes, 0, normalizedKey, 0, Math.min(keyBytes.length, 32));
 
         SecretKey secretKey = new SecretKeySpec(normalizedKey, "AES");
-        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
-
         byte[] encryptedBytes = Base64.getDecoder().decode(encryptedPayload);
-        byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
+        byte[] decryptedBytes = CryptoPrimitives.withCipher("AES/ECB/PKCS5Padding", cipher -> {
+            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            return cipher.doFinal(encryptedBytes);
+        });
 
         return new String(decryptedBytes, StandardCharsets.UTF_8);
     }
@@ -239,7 +240,7 @@ public class AutoRevealService {
         }
         String nonceValue = parts[1];
         if (nonceValue.matches("^[0-9a-fA-F]{64}$")) {
-            byte[] nonceBytes = parseHex(nonceValue);
+            byte[] nonceBytes = CryptoPrimitives.fromHex(nonceValue);
             byte[] rawPayload = new byte[1 + nonceBytes.length];
             rawPayload[0] = choice == PairWinner.A ? (byte) 0 : (byte) 1;
             System.arraycopy(nonceBytes, 0, rawPayload, 1, nonceBytes.length);
@@ -276,8 +277,7 @@ public class AutoRevealService {
 
         if (payload.rawPayload != null) {
             try {
-                MessageDigest digest = MessageDigest.getInstance("SHA-256");
-                String legacyHash = "0x" + toHex(digest.digest(payload.rawPayload));
+                String legacyHash = "0x" + CryptoPrimitives.toHex(CryptoPrimitives.sha256(payload.rawPayload));
                 if (legacyHash.equals(storedHash)) {
                     log.warn("Commitment {} matched legacy SHA-256 format; canonical keccak expected", commitment.getId());
                     return true;
@@ -492,24 +492,6 @@ public class AutoRevealService {
         }
     }
 
-    private static byte[] parseHex(String value) {
-        byte[] out = new byte[value.length() / 2];
-        for (int i = 0; i < out.length; i++) {
-            int start = i * 2;
-            out[i] = (byte) Integer.parseInt(value.substring(start, start + 2), 16);
-        }
-        return out;
-    }
-
-    private static String toHex(byte[] bytes) {
-        StringBuilder out = new StringBuilder(bytes.length * 2);
-        for (byte value : bytes) {
-            out.append(Character.forDigit((value >>> 4) & 0x0f, 16));
-            out.append(Character.forDigit(value & 0x0f, 16));
-        }
-        return out.toString();
-    }
-
     private static OffsetDateTime maxTime(OffsetDateTime left, OffsetDateTime right) {
         if (left == null) {
             return right;
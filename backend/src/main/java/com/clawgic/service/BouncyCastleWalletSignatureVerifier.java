@@ -0,0 +1,24 @@
+package com.clawgic.service;
+
+import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * BouncyCastle Ed25519 verification, decoding the wallet key on every call.
+ * Kept as a fallback for JVMs without the SunEC {@code Ed25519} provider.
+ */
+@Component
+@ConditionalOnProperty(name = "clawgic.commit-security.signature-provider", havingValue = "bouncycastle")
+public class BouncyCastleWalletSignatureVerifier implements WalletSignatureVerifier {
+
+    @Override
+    public boolean verify(String wallet, byte[] message, byte[] signature) {
+        byte[] walletBytes = CommitmentCodec.decodeWalletPublicKey(wallet);
+        Ed25519Signer verifier = new Ed25519Signer();
+        verifier.init(false, new Ed25519PublicKeyParameters(walletBytes, 0));
+        verifier.update(message, 0, message.length);
+        return verifier.verifySignature(signature);
+    }
+}
@@ -0,0 +1,173 @@
+package com.clawgic.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe LRU cache with a per-entry time-to-live and hit/miss/eviction counters.
+ * Postgres stays the source of truth: callers invalidate explicitly on writes they own and
+ * rely on the TTL to bound staleness from writes made by other nodes.
+ * A cache built with {@code maxEntries <= 0} or a non-positive TTL is a pass-through.
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(String name, int maxEntries, Duration ttl, Clock clock) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl != null ? ttl.toMillis() : 0L;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                boolean evict = size() > BoundedTtlCache.this.maxEntries;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0 && ttlMillis > 0;
+    }
+
+    /**
+     * Returns the cached value or loads it. Loader results of {@code null} are not cached.
+     * A load that races with an invalidation is returned to the caller but not stored,
+     * so a write can never be shadowed by a value read just before it.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (!isEnabled()) {
+            misses.increment();
+            return loader.apply(key);
+        }
+
+        Optional<V> cached = getIfPresent(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long generation = invalidationGeneration.get();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (entries) {
+                if (generation == invalidationGeneration.get()) {
+                    entries.put(key, new CacheEntry<>(loaded, clock.millis() + ttlMillis));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        if (!isEnabled()) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        long now = clock.millis();
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAtMillis() > now) {
+                hits.increment();
+                return Optional.of(entry.value());
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(K key, V value) {
+        if (!isEnabled() || value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, clock.millis() + ttlMillis));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            invalidationGeneration.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateIf(Predicate<? super K> keyPredicate) {
+        synchronized (entries) {
+            invalidationGeneration.incrementAndGet();
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (keyPredicate.test(iterator.next())) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationGeneration.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public Stats stats() {
+        return new Stats(name, hitCount(), missCount(), evictionCount(), size());
+    }
+
+    public record Stats(String name, long hits, long misses, long evictions, int size) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+
+    private record CacheEntry<V>(V value, long expiresAtMillis) {
+    }
+}
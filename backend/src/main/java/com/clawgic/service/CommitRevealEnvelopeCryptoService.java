@@ -32,11 +32,15 @@ public class CommitRevealEnvelopeCryptoService {
             byte[] keyBytes = lookupKeyBytes(keyId);
             byte[] iv = randomIv();
 
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(keyBytes, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
-            cipher.updateAAD(storageAad(keyId));
-
-            byte[] ciphertext = cipher.doFinal(canonicalRevealPayload);
+            byte[] ciphertext = CryptoPrimitives.withCipher(CryptoPrimitives.AES_GCM, cipher -> {
+                cipher.init(
+                        Cipher.ENCRYPT_MODE,
+                        new SecretKeySpec(keyBytes, "AES"),
+                        new GCMParameterSpec(GCM_TAG_BITS, iv)
+                );
+                cipher.updateAAD(storageAad(keyId));
+                return cipher.doFinal(canonicalRevealPayload);
+            });
             StorageEnvelope envelope = new StorageEnvelope(
                     ENVELOPE_VERSION,
                     ENVELOPE_ALGORITHM,
@@ -67,10 +71,15 @@ public class CommitRevealEnvelopeCryptoService {
             }
             byte[] ciphertext = decodeBase64("ciphertext", envelope.ct());
 
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyBytes, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
-            cipher.updateAAD(storageAad(envelope.kid()));
-            return cipher.doFinal(ciphertext);
+            return CryptoPrimitives.withCipher(CryptoPrimitives.AES_GCM, cipher -> {
+                cipher.init(
+                        Cipher.DECRYPT_MODE,
+                        new SecretKeySpec(keyBytes, "AES"),
+                        new GCMParameterSpec(GCM_TAG_BITS, iv)
+                );
+                cipher.updateAAD(storageAad(envelope.kid()));
+                return cipher.doFinal(ciphertext);
+            });
         } catch (IllegalArgumentException ex) {
             throw ex;
         } catch (Exception ex) {
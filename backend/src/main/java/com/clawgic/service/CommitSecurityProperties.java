@@ -23,5 +23,9 @@ public class CommitSecurityProperties {
     private boolean allowLegacyRevealDecode = true;
     private String activeStorageKeyId = "v1";
     private Map<String, String> storageKeys = new HashMap<>(Map.of("v1", DEFAULT_STORAGE_KEY_BASE64));
+    /** {@code jdk} (default) or {@code bouncycastle}; picks the {@link WalletSignatureVerifier} bean. */
+    private String signatureProvider = "jdk";
+    /** Decoded wallet public keys kept by the JDK verifier; 0 disables the cache. */
+    private int publicKeyCacheMaxEntries = 4096;
 
 }
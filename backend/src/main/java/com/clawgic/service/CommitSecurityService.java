@@ -5,8 +5,6 @@ import com.clawgic.model.CommitRequestReplayGuard;
 import com.clawgic.repository.CommitRequestReplayGuardRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
-import org.bouncycastle.crypto.signers.Ed25519Signer;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,7 +13,6 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -33,6 +30,7 @@ public class CommitSecurityService {
     private final CommitRequestReplayGuardRepository replayGuardRepository;
     private final CommitRevealEnvelopeCryptoService commitRevealEnvelopeCryptoService;
     private final CommitSecurityProperties commitSecurityProperties;
+    private final WalletSignatureVerifier walletSignatureVerifier;
 
     @Transactional
     public SecuredCommitmentPayload secureCommitPayload(Integer pairId, CommitPairRequest request) {
@@ -147,10 +145,15 @@ public class CommitSecurityService {
     private byte[] decryptClientRevealPayload(byte[] signature, byte[] iv, byte[] encryptedReveal, byte[] aad) {
         try {
             byte[] keyBytes = deriveClientKey(signature);
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyBytes, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
-            cipher.updateAAD(aad);
-            return cipher.doFinal(encryptedReveal);
+            return CryptoPrimitives.withCipher(CryptoPrimitives.AES_GCM, cipher -> {
+                cipher.init(
+                        Cipher.DECRYPT_MODE,
+                        new SecretKeySpec(keyBytes, "AES"),
+                        new GCMParameterSpec(GCM_TAG_BITS, iv)
+                );
+                cipher.updateAAD(aad);
+                return cipher.doFinal(encryptedReveal);
+            });
         } catch (Exception ex) {
             throw new CommitSecurityException(
                     CommitSecurityError.UNAUTHORIZED,
@@ -161,8 +164,7 @@ public class CommitSecurityService {
 
     private byte[] deriveClientKey(byte[] signature) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            return digest.digest(signature);
+            return CryptoPrimitives.sha256(signature);
         } catch (Exception ex) {
             throw new IllegalStateException("Unable to derive client reveal key", ex);
         }
@@ -170,11 +172,7 @@ public class CommitSecurityService {
 
     private boolean verifyWalletSignature(String wallet, byte[] message, byte[] signature) {
         try {
-            byte[] walletBytes = CommitmentCodec.decodeWalletPublicKey(wallet);
-            Ed25519Signer verifier = new Ed25519Signer();
-            verifier.init(false, new Ed25519PublicKeyParameters(walletBytes, 0));
-            verifier.update(message, 0, message.length);
-            return verifier.verifySignature(signature);
+            return walletSignatureVerifier.verify(wallet, message, signature);
         } catch (IllegalArgumentException ex) {
             throw new CommitSecurityException(
                     CommitSecurityError.UNAUTHORIZED,
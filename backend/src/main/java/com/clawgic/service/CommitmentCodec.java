@@ -1,8 +1,6 @@
 package com.clawgic.service;
 
 import com.clawgic.model.PairWinner;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
-
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -45,7 +43,7 @@ public final class CommitmentCodec {
         };
 
         byte[] nonce = Arrays.copyOfRange(payload, 1, payload.length);
-        return new RevealPayload(choice, nonce, toHex(nonce));
+        return new RevealPayload(choice, nonce, CryptoPrimitives.toHex(nonce));
     }
 
     public static String computeCommitmentHash(
@@ -92,9 +90,7 @@ public final class CommitmentCodec {
         offset += stakeBytes.length;
         System.arraycopy(nonce, 0, preimage, offset, nonce.length);
 
-        Keccak.Digest256 digest = new Keccak.Digest256();
-        byte[] hash = digest.digest(preimage);
-        return "0x" + toHex(hash);
+        return "0x" + CryptoPrimitives.toHex(CryptoPrimitives.keccak256(preimage));
     }
 
     public static byte[] decodeWalletPublicKey(String wallet) {
@@ -147,15 +143,6 @@ public final class CommitmentCodec {
         return out;
     }
 
-    private static String toHex(byte[] bytes) {
-        StringBuilder out = new StringBuilder(bytes.length * 2);
-        for (byte value : bytes) {
-            out.append(Character.forDigit((value >>> 4) & 0x0f, 16));
-            out.append(Character.forDigit(value & 0x0f, 16));
-        }
-        return out.toString();
-    }
-
     public record RevealPayload(PairWinner choice, byte[] nonce, String nonceHex) {
     }
 }
@@ -0,0 +1,246 @@
+package com.clawgic.service;
+
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shared hashing, hex, cipher and signature primitives. Digests, ciphers and signatures are borrowed from small
+ * bounded pools instead of being looked up through the JCA provider list on every call; pools rather than thread
+ * locals because match execution and spectator feeds run on virtual threads, which would each get (and then drop)
+ * their own instance.
+ * Hex encoding goes through a lookup table straight into a byte array, and the {@link ByteBuffer} variants read
+ * the buffer in place without copying it out first.
+ */
+public final class CryptoPrimitives {
+
+    public static final String AES_GCM = "AES/GCM/NoPadding";
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final Pool<MessageDigest> SHA_256 =
+            new Pool<>(() -> newMessageDigest("SHA-256"), MessageDigest::reset);
+    private static final Pool<Keccak.Digest256> KECCAK_256 = new Pool<>(Keccak.Digest256::new, MessageDigest::reset);
+    private static final Map<String, Pool<Cipher>> CIPHERS = new ConcurrentHashMap<>();
+    private static final Map<String, Pool<Signature>> SIGNATURES = new ConcurrentHashMap<>();
+
+    private CryptoPrimitives() {
+    }
+
+    public static byte[] sha256(byte[] input) {
+        MessageDigest digest = SHA_256.borrow();
+        try {
+            return digest.digest(input);
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    /**
+     * Hashes the remaining bytes of {@code input}, leaving its position untouched.
+     */
+    public static byte[] sha256(ByteBuffer input) {
+        MessageDigest digest = SHA_256.borrow();
+        try {
+            digest.update(input.duplicate());
+            return digest.digest();
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    /**
+     * Runs {@code operation} with a pooled SHA-256 digest, for callers that feed several buffers or write the hash
+     * into their own array. The digest is reset when it goes back to the pool and must not escape the operation.
+     */
+    public static <T> T withSha256(Function<MessageDigest, T> operation) {
+        MessageDigest digest = SHA_256.borrow();
+        try {
+            return operation.apply(digest);
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    public static byte[] sha256(String utf8) {
+        return sha256(utf8.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(String utf8) {
+        return toHex(sha256(utf8));
+    }
+
+    public static byte[] keccak256(byte[] input) {
+        Keccak.Digest256 digest = KECCAK_256.borrow();
+        try {
+            return digest.digest(input);
+        } finally {
+            KECCAK_256.release(digest);
+        }
+    }
+
+    /**
+     * Runs {@code operation} with a pooled cipher for {@code transformation}. The operation must {@code init} the
+     * cipher itself and must not keep it after returning.
+     */
+    public static <T> T withCipher(String transformation, CipherOperation<T> operation)
+            throws GeneralSecurityException {
+        Pool<Cipher> pool = CIPHERS.computeIfAbsent(
+                transformation,
+                _ -> new Pool<>(() -> newCipher(transformation), _ -> { })
+        );
+        Cipher cipher = pool.borrow();
+        try {
+            return operation.apply(cipher);
+        } finally {
+            pool.release(cipher);
+        }
+    }
+
+    /**
+     * Runs {@code operation} with a pooled {@link Signature} for {@code algorithm}. The operation must call
+     * {@code initVerify}/{@code initSign} itself and must not keep the instance after returning.
+     */
+    public static <T> T withSignature(String algorithm, SignatureOperation<T> operation)
+            throws GeneralSecurityException {
+        Pool<Signature> pool = SIGNATURES.computeIfAbsent(
+                algorithm,
+                _ -> new Pool<>(() -> newSignature(algorithm), _ -> { })
+        );
+        Signature signature = pool.borrow();
+        try {
+            return operation.apply(signature);
+        } finally {
+            pool.release(signature);
+        }
+    }
+
+    /**
+     * Lowercase hex without a {@code 0x} prefix.
+     */
+    public static String toHex(byte[] bytes) {
+        return toHex(bytes, 0, bytes.length);
+    }
+
+    public static String toHex(byte[] bytes, int offset, int length) {
+        byte[] out = new byte[length * 2];
+        for (int i = 0; i < length; i++) {
+            int value = bytes[offset + i] & 0xff;
+            out[i * 2] = HEX_DIGITS[value >>> 4];
+            out[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+        }
+        return new String(out, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Hex of the remaining bytes of {@code buffer}, leaving its position untouched.
+     */
+    public static String toHex(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return toHex(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        int start = buffer.position();
+        byte[] out = new byte[buffer.remaining() * 2];
+        for (int i = 0; i < buffer.remaining(); i++) {
+            int value = buffer.get(start + i) & 0xff;
+            out[i * 2] = HEX_DIGITS[value >>> 4];
+            out[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+        }
+        return new String(out, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Decodes an even-length hex string without a {@code 0x} prefix, in either case.
+     */
+    public static byte[] fromHex(CharSequence hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex value must have an even number of digits");
+        }
+        byte[] out = new byte[hex.length() / 2];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = (byte) ((hexDigit(hex.charAt(i * 2)) << 4) | hexDigit(hex.charAt(i * 2 + 1)));
+        }
+        return out;
+    }
+
+    private static int hexDigit(char c) {
+        int value = Character.digit(c, 16);
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid hex digit: " + c);
+        }
+        return value;
+    }
+
+    private static MessageDigest newMessageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(algorithm + " not available", ex);
+        }
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException ex) {
+            throw new IllegalStateException(transformation + " not available", ex);
+        }
+    }
+
+    private static Signature newSignature(String algorithm) {
+        try {
+            return Signature.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(algorithm + " not available", ex);
+        }
+    }
+
+    @FunctionalInterface
+    public interface CipherOperation<T> {
+        T apply(Cipher cipher) throws GeneralSecurityException;
+    }
+
+    @FunctionalInterface
+    public interface SignatureOperation<T> {
+        T apply(Signature signature) throws GeneralSecurityException;
+    }
+
+    /**
+     * Bounded free list: borrowing from an empty pool creates a fresh instance, and releasing into a full pool
+     * drops it, so the pool never blocks and never grows past {@link #POOL_SIZE} idle instances.
+     */
+    private static final class Pool<T> {
+        private final ArrayBlockingQueue<T> idle = new ArrayBlockingQueue<>(POOL_SIZE);
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+
+        private Pool(Supplier<T> factory, Consumer<T> reset) {
+            this.factory = factory;
+            this.reset = reset;
+        }
+
+        private T borrow() {
+            T instance = idle.poll();
+            return instance != null ? instance : factory.get();
+        }
+
+        private void release(T instance) {
+            reset.accept(instance);
+            idle.offer(instance);
+        }
+    }
+}
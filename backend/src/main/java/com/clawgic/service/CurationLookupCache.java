@@ -0,0 +1,141 @@
+package com.clawgic.service;
+
+import com.clawgic.model.Curator;
+import com.clawgic.model.CuratorId;
+import com.clawgic.model.Identity;
+import com.clawgic.repository.CuratorRepository;
+import com.clawgic.repository.IdentityRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Short-lived caches for the lookups every curation request repeats:
+ * wallet to identity ID, and (wallet, market) to the curator's pairs-this-epoch counter.
+ * Identity misses are never cached so a freshly linked wallet is visible immediately;
+ * capacity snapshots are invalidated on consumption and epoch reset, and the atomic
+ * conditional UPDATE in {@link CuratorRepository} remains the authority on the cap.
+ */
+@Component
+public class CurationLookupCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "clawgic.curation.lookup.cache";
+
+    private final IdentityRepository identityRepository;
+    private final CuratorRepository curatorRepository;
+    private final BoundedTtlCache<String, Integer> identityIdsByWallet;
+    private final BoundedTtlCache<CuratorId, Integer> pairsThisEpochByCurator;
+
+    @Autowired
+    public CurationLookupCache(IdentityRepository identityRepository,
+                               CuratorRepository curatorRepository,
+                               @Value("${clawgic.curation.lookup-cache.max-entries:10000}") int maxEntries,
+                               @Value("${clawgic.curation.lookup-cache.identity-ttl-seconds:300}") long identityTtlSeconds,
+                               @Value("${clawgic.curation.lookup-cache.capacity-ttl-seconds:15}") long capacityTtlSeconds) {
+        this(identityRepository, curatorRepository, maxEntries,
+                Duration.ofSeconds(identityTtlSeconds), Duration.ofSeconds(capacityTtlSeconds), Clock.systemUTC());
+    }
+
+    CurationLookupCache(IdentityRepository identityRepository,
+                        CuratorRepository curatorRepository,
+                        int maxEntries,
+                        Duration identityTtl,
+                        Duration capacityTtl,
+                        Clock clock) {
+        this.identityRepository = identityRepository;
+        this.curatorRepository = curatorRepository;
+        this.identityIdsByWallet = new BoundedTtlCache<>("identity", maxEntries, identityTtl, clock);
+        this.pairsThisEpochByCurator = new BoundedTtlCache<>("curator-capacity", maxEntries, capacityTtl, clock);
+    }
+
+    public Optional<Integer> findIdentityId(String wallet) {
+        if (wallet == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(identityIdsByWallet.get(wallet, key -> identityRepository.findByWallet(key)
+                .map(Identity::getId)
+                .orElse(null)));
+    }
+
+    /**
+     * Current pairs-this-epoch counter for a curator; 0 when no curator row exists yet.
+     */
+    public int pairsThisEpoch(String wallet, Integer marketId) {
+        return pairsThisEpochByCurator.get(new CuratorId(wallet, marketId), key ->
+                curatorRepository.findByWalletAndMarketId(key.getWallet(), key.getMarketId())
+                        .map(Curator::getPairsThisEpoch)
+                        .orElse(0));
+    }
+
+    public void invalidateIdentity(String wallet) {
+        invalidateNowAndAfterCommit(() -> identityIdsByWallet.invalidate(wallet));
+    }
+
+    public void invalidateCuratorCapacity(String wallet, Integer marketId) {
+        CuratorId key = new CuratorId(wallet, marketId);
+        invalidateNowAndAfterCommit(() -> pairsThisEpochByCurator.invalidate(key));
+    }
+
+    public void invalidateMarketCapacity(Integer marketId) {
+        invalidateNowAndAfterCommit(() -> pairsThisEpochByCurator.invalidateIf(
+                key -> Objects.equals(key.getMarketId(), marketId)));
+    }
+
+    public List<BoundedTtlCache.Stats> stats() {
+        return List.of(identityIdsByWallet.stats(), pairsThisEpochByCurator.stats());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, identityIdsByWallet);
+        bindCache(registry, pairsThisEpochByCurator);
+    }
+
+    /**
+     * Invalidating only before commit would let a concurrent reader re-cache the pre-write row
+     * until the TTL expires, so the entry is dropped again once the write is visible.
+     */
+    private static void invalidateNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private static void bindCache(MeterRegistry registry, BoundedTtlCache<?, ?> cache) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, BoundedTtlCache::hitCount)
+                .tag("cache", cache.name())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", cache, BoundedTtlCache::missCount)
+                .tag("cache", cache.name())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, BoundedTtlCache::evictionCount)
+                .tag("cache", cache.name())
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", cache, BoundedTtlCache::size)
+                .tag("cache", cache.name())
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", cache.name())
+                .register(registry);
+    }
+}
@@ -1,9 +1,7 @@
 package com.clawgic.service;
 
 import com.clawgic.model.Curator;
-import com.clawgic.model.Identity;
 import com.clawgic.repository.CuratorRepository;
-import com.clawgic.repository.IdentityRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,15 +25,14 @@ public class CuratorParticipationService {
     private int maxPairsPerCuratorPerRound;
 
     private final CuratorRepository curatorRepository;
-    private final IdentityRepository identityRepository;
+    private final CurationLookupCache curationLookupCache;
 
-    @Transactional(readOnly = true)
+    /**
+     * Advisory check served from the capacity cache; {@link #tryConsumePairEvaluationSlot}
+     * remains the authoritative, atomic enforcement of the cap.
+     */
     public boolean hasRemainingCapacity(String wallet, Integer marketId) {
-        int currentPairs = curatorRepository.findByWalletAndMarketId(wallet, marketId)
-                .map(Curator::getPairsThisEpoch)
-                .orElse(0);
-
-        return currentPairs < effectiveCap();
+        return curationLookupCache.pairsThisEpoch(wallet, marketId) < effectiveCap();
     }
 
     @Transactional
@@ -45,6 +42,7 @@ public class CuratorParticipationService {
 
         int updatedRows = curatorRepository.incrementPairsThisEpochIfBelowCap(wallet, marketId, cap, now);
         if (updatedRows > 0) {
+            curationLookupCache.invalidateCuratorCapacity(wallet, marketId);
             return true;
         }
 
@@ -53,8 +51,7 @@ public class CuratorParticipationService {
             return false;
         }
 
-        Integer identityId = identityRepository.findByWallet(wallet)
-                .map(Identity::getId)
+        Integer identityId = curationLookupCache.findIdentityId(wallet)
                 .orElseThrow(() -> new IllegalArgumentException("Identity not found for wallet: " + wallet));
 
         Curator created = new Curator();
@@ -71,6 +68,8 @@ public class CuratorParticipationService {
         } catch (DataIntegrityViolationException ex) {
             // Another request created the curator concurrently; retry atomic increment.
             return curatorRepository.incrementPairsThisEpochIfBelowCap(wallet, marketId, cap, OffsetDateTime.now()) > 0;
+        } finally {
+            curationLookupCache.invalidateCuratorCapacity(wallet, marketId);
         }
     }
 
@@ -91,6 +90,7 @@ public class CuratorParticipationService {
             resets++;
         }
 
+        curationLookupCache.invalidateMarketCapacity(marketId);
         if (resets > 0) {
             log.info("Reset pairs_this_epoch for {} curator(s) in market {}", resets, marketId);
         } else {
@@ -0,0 +1,264 @@
+package com.clawgic.service;
+
+import com.clawgic.controller.dto.PostResponse;
+import com.clawgic.model.FeedRankSnapshot;
+import com.clawgic.model.Post;
+import com.clawgic.repository.FeedRankSnapshotRepository;
+import com.clawgic.repository.PostRankRow;
+import com.clawgic.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Serves ELO-ranked market feeds from memory.
+ * ELO only moves when a round settles, so each market's ranking is held as a compact array of
+ * post IDs that is replaced at settlement and persisted as a per-round snapshot; the delayed feed
+ * reads the snapshot written N settlements ago. Post content is resolved through a small hot-post cache.
+ * Every cached ranking and post is tagged with the market's latest settled round id, which each read checks
+ * against the newest snapshot (an index-only lookup), so a settlement on any node retires them everywhere.
+ * New posts ingested on another node show up in the realtime ranking once {@code ranking-ttl-seconds} expires.
+ */
+@Service
+public class FeedRankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedRankingService.class);
+
+    private final PostRepository postRepository;
+    private final FeedRankSnapshotRepository feedRankSnapshotRepository;
+    private final int maxRankedPosts;
+    private final int delayedRounds;
+    private final BoundedTtlCache<Integer, Ranking> realtimeByMarket;
+    private final BoundedTtlCache<Integer, Ranking> delayedByMarket;
+    private final BoundedTtlCache<Integer, HotPost> hotPosts;
+
+    @Autowired
+    public FeedRankingService(PostRepository postRepository,
+                              FeedRankSnapshotRepository feedRankSnapshotRepository,
+                              @Value("${clawgic.feed.max-ranked-posts:1000}") int maxRankedPosts,
+                              @Value("${clawgic.feed.delayed-rounds:1}") int delayedRounds,
+                              @Value("${clawgic.feed.ranking-cache-size:256}") int rankingCacheSize,
+                              @Value("${clawgic.feed.ranking-ttl-seconds:60}") long rankingTtlSeconds,
+                              @Value("${clawgic.feed.hot-post-cache-size:2000}") int hotPostCacheSize,
+                              @Value("${clawgic.feed.hot-post-ttl-seconds:600}") long hotPostTtlSeconds) {
+        this(postRepository, feedRankSnapshotRepository, maxRankedPosts, delayedRounds,
+                rankingCacheSize, Duration.ofSeconds(rankingTtlSeconds),
+                hotPostCacheSize, Duration.ofSeconds(hotPostTtlSeconds), Clock.systemUTC());
+    }
+
+    FeedRankingService(PostRepository postRepository,
+                       FeedRankSnapshotRepository feedRankSnapshotRepository,
+                       int maxRankedPosts,
+                       int delayedRounds,
+                       int rankingCacheSize,
+                       Duration rankingTtl,
+                       int hotPostCacheSize,
+                       Duration hotPostTtl,
+                       Clock clock) {
+        this.postRepository = postRepository;
+        this.feedRankSnapshotRepository = feedRankSnapshotRepository;
+        this.maxRankedPosts = Math.max(1, maxRankedPosts);
+        this.delayedRounds = Math.max(0, delayedRounds);
+        this.realtimeByMarket = new BoundedTtlCache<>("feed-realtime-ranking", rankingCacheSize, rankingTtl, clock);
+        this.delayedByMarket = new BoundedTtlCache<>("feed-delayed-ranking", rankingCacheSize, rankingTtl, clock);
+        this.hotPosts = new BoundedTtlCache<>("hot-posts", hotPostCacheSize, hotPostTtl, clock);
+    }
+
+    /**
+     * Current ranking of a market. Limits beyond the cached ranking depth fall back to the database.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getRealtimeFeed(Integer marketId, int limit) {
+        if (limit > maxRankedPosts) {
+            return postRepository.findByMarketId(marketId, PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "elo")))
+                    .stream()
+                    .map(PostResponse::from)
+                    .toList();
+        }
+
+        Integer settledRoundId = latestSettledRoundId(marketId);
+        Ranking ranking = cachedRanking(realtimeByMarket, marketId, settledRoundId,
+                key -> loadCurrentRanking(key, settledRoundId));
+        return resolve(ranking, limit, settledRoundId);
+    }
+
+    /**
+     * Ranking as of {@code clawgic.feed.delayed-rounds} settlements ago, with the ELO each post had then.
+     * Markets with a shorter history serve their oldest snapshot; markets without any serve the current ranking.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getDelayedFeed(Integer marketId, int limit) {
+        Integer settledRoundId = latestSettledRoundId(marketId);
+        Ranking ranking = settledRoundId == null ? null : cachedRanking(delayedByMarket, marketId, settledRoundId,
+                key -> loadDelayedRanking(key, settledRoundId));
+        if (ranking == null) {
+            return getRealtimeFeed(marketId, limit);
+        }
+        return resolve(ranking, limit, settledRoundId);
+    }
+
+    /**
+     * Persists the post-settlement ranking of the round's market and swaps it into memory once the
+     * settlement commits. Must run inside the settlement transaction, after ELO updates.
+     */
+    @Transactional
+    public void recordRoundSettled(Integer roundId, Integer marketId) {
+        Ranking ranking = loadCurrentRanking(marketId, roundId);
+
+        FeedRankSnapshot snapshot = new FeedRankSnapshot();
+        snapshot.setRoundId(roundId);
+        snapshot.setMarketId(marketId);
+        snapshot.setPostIds(ranking.postIds());
+        snapshot.setElos(ranking.elos());
+        snapshot.setCreatedAt(OffsetDateTime.now());
+        feedRankSnapshotRepository.save(snapshot);
+
+        runAfterCommit(() -> {
+            realtimeByMarket.put(marketId, ranking);
+            delayedByMarket.invalidate(marketId);
+            hotPosts.invalidateAll();
+        });
+        log.debug("Recorded feed ranking of {} post(s) for market {} at round {}", ranking.size(), marketId, roundId);
+    }
+
+    /**
+     * Drops this node's cached current ranking of a market, e.g. after new posts were ingested into it.
+     */
+    public void invalidateMarket(Integer marketId) {
+        runAfterCommit(() -> realtimeByMarket.invalidate(marketId));
+    }
+
+    public BoundedTtlCache.Stats hotPostStats() {
+        return hotPosts.stats();
+    }
+
+    private Integer latestSettledRoundId(Integer marketId) {
+        return feedRankSnapshotRepository.findLatestRoundIdByMarketId(marketId);
+    }
+
+    /**
+     * Cached ranking of a market if it was taken at {@code settledRoundId}; a ranking from before a settlement
+     * made on another node is replaced, and the posts it pulled into the hot cache with it.
+     */
+    private Ranking cachedRanking(BoundedTtlCache<Integer, Ranking> cache,
+                                  Integer marketId,
+                                  Integer settledRoundId,
+                                  Function<Integer, Ranking> loader) {
+        Ranking ranking = cache.get(marketId, loader);
+        if (ranking != null && !Objects.equals(ranking.settledRoundId(), settledRoundId)) {
+            cache.invalidate(marketId);
+            hotPosts.invalidateAll();
+            ranking = cache.get(marketId, loader);
+        }
+        return ranking;
+    }
+
+    private Ranking loadCurrentRanking(Integer marketId, Integer settledRoundId) {
+        return Ranking.from(settledRoundId,
+                postRepository.findRankingByMarketId(marketId, PageRequest.of(0, maxRankedPosts)));
+    }
+
+    private Ranking loadDelayedRanking(Integer marketId, Integer settledRoundId) {
+        return feedRankSnapshotRepository.findByMarketIdRoundsBack(marketId, delayedRounds)
+                .or(() -> feedRankSnapshotRepository.findFirstByMarketIdOrderByRoundIdAsc(marketId))
+                .map(snapshot -> new Ranking(settledRoundId, snapshot.getPostIds(), snapshot.getElos()))
+                .orElse(null);
+    }
+
+    /**
+     * Resolves post content in rank order with the ELO each post had when the ranking was taken, so the
+     * realtime feed never mixes a fresh order with ELO from an older hot-cache entry.
+     */
+    private List<PostResponse> resolve(Ranking ranking, int limit, Integer settledRoundId) {
+        int count = Math.min(Math.max(limit, 0), ranking.size());
+        PostResponse[] resolved = new PostResponse[count];
+        List<Integer> missing = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Optional<HotPost> cached = hotPosts.getIfPresent(ranking.postIds()[i]);
+            if (cached.isPresent() && Objects.equals(cached.get().settledRoundId(), settledRoundId)) {
+                resolved[i] = cached.get().post();
+            } else {
+                missing.add(ranking.postIds()[i]);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Integer, PostResponse> loaded = new HashMap<>();
+            for (Post post : postRepository.findAllById(missing)) {
+                PostResponse response = PostResponse.from(post);
+                hotPosts.put(post.getId(), new HotPost(settledRoundId, response));
+                loaded.put(post.getId(), response);
+            }
+            for (int i = 0; i < count; i++) {
+                if (resolved[i] == null) {
+                    resolved[i] = loaded.get(ranking.postIds()[i]);
+                }
+            }
+        }
+
+        List<PostResponse> feed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (resolved[i] == null) {
+                continue; // Post deleted since the ranking was built
+            }
+            feed.add(resolved[i].withElo(ranking.elos()[i]));
+        }
+        return feed;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Post IDs in rank order with the ELO each had when the ranking was taken, tagged with the market's latest
+     * settled round at that time ({@code null} before the first settlement).
+     */
+    record Ranking(Integer settledRoundId, int[] postIds, int[] elos) {
+
+        static Ranking from(Integer settledRoundId, List<PostRankRow> rows) {
+            int[] postIds = new int[rows.size()];
+            int[] elos = new int[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                postIds[i] = rows.get(i).getId();
+                elos[i] = rows.get(i).getElo();
+            }
+            return new Ranking(settledRoundId, postIds, elos);
+        }
+
+        int size() {
+            return postIds.length;
+        }
+    }
+
+    private record HotPost(Integer settledRoundId, PostResponse post) {
+    }
+}
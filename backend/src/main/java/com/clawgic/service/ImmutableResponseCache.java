@@ -0,0 +1,230 @@
+package com.clawgic.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON for resources that can no longer change (settled rounds, completed tournaments),
+ * kept both plain and pre-gzipped with a strong ETag so repeat reads cost no DB work or serialization.
+ * Callers decide immutability; entries are only ever added once the owning transaction has committed.
+ */
+@Component
+public class ImmutableResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ImmutableResponseCache.class);
+    private static final String GZIP = "gzip";
+
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BoundedTtlCache<String, CachedResponse> responses;
+    private final CacheControl cacheControl;
+
+    @Autowired
+    public ImmutableResponseCache(ObjectProvider<JsonMapper> jsonMapperProvider,
+                                  ObjectProvider<PlatformTransactionManager> transactionManagerProvider,
+                                  @Value("${clawgic.immutable-response-cache.max-entries:256}") int maxEntries,
+                                  @Value("${clawgic.immutable-response-cache.ttl-seconds:86400}") long ttlSeconds,
+                                  @Value("${clawgic.immutable-response-cache.max-age-seconds:3600}") long maxAgeSeconds) {
+        this(jsonMapperProvider.getIfAvailable(() -> JsonMapper.builder().build()),
+                transactionManagerProvider.getIfAvailable(),
+                maxEntries,
+                Duration.ofSeconds(ttlSeconds),
+                Duration.ofSeconds(maxAgeSeconds),
+                Clock.systemUTC());
+    }
+
+    ImmutableResponseCache(JsonMapper jsonMapper,
+                           PlatformTransactionManager transactionManager,
+                           int maxEntries,
+                           Duration ttl,
+                           Duration maxAge,
+                           Clock clock) {
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = transactionManager != null ? newReadOnlyTransaction(transactionManager) : null;
+        this.responses = new BoundedTtlCache<>("immutable-response", maxEntries, ttl, clock);
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    public Optional<CachedResponse> get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    /**
+     * Serializes {@code body} and caches it under {@code key}. Only call for resources that are final.
+     */
+    public CachedResponse put(String key, Object body) {
+        CachedResponse cached = serialize(body);
+        responses.put(key, cached);
+        return cached;
+    }
+
+    /**
+     * Warms {@code key} once the current transaction commits. The loader runs in its own read-only
+     * transaction so it sees committed rows (including trigger-maintained columns) rather than
+     * the entities still held by the finishing persistence context. A failed warm-up is only logged;
+     * the next read populates the entry instead.
+     */
+    public void putAfterCommit(String key, Supplier<?> loader) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            warm(key, loader);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                warm(key, loader);
+            }
+        });
+    }
+
+    public void invalidate(String key) {
+        responses.invalidate(key);
+    }
+
+    /**
+     * Builds the response for a cached entry: {@code 304} when {@code If-None-Match} matches the ETag,
+     * otherwise the stored bytes, gzipped when the client accepts it.
+     */
+    public ResponseEntity<byte[]> serve(CachedResponse cached, HttpHeaders requestHeaders) {
+        if (matchesETag(requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag())
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING))) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .contentLength(cached.gzippedJson().length)
+                    .body(cached.gzippedJson());
+        }
+        return ok.contentLength(cached.json().length).body(cached.json());
+    }
+
+    public BoundedTtlCache.Stats stats() {
+        return responses.stats();
+    }
+
+    private void warm(String key, Supplier<?> loader) {
+        try {
+            Object body = readOnlyTransaction != null ? readOnlyTransaction.execute(_ -> loader.get()) : loader.get();
+            if (body != null) {
+                put(key, body);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to warm immutable response cache entry {}", key, ex);
+        }
+    }
+
+    private CachedResponse serialize(Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        return new CachedResponse(json, gzip(json), strongETag(json));
+    }
+
+    private static TransactionTemplate newReadOnlyTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to gzip cached response", ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String strongETag(byte[] json) {
+        return "\"" + CryptoPrimitives.toHex(CryptoPrimitives.sha256(json)) + "\"";
+    }
+
+    /**
+     * If-None-Match uses weak comparison, so a {@code W/} prefix added by an intermediary still matches.
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            boolean accepted = !hasZeroQuality(parts);
+            if (name.equalsIgnoreCase(GZIP)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean hasZeroQuality(String[] codingParts) {
+        for (int i = 1; i < codingParts.length; i++) {
+            if (codingParts[i].replace(" ", "").matches("(?i)q=0(\\.0{0,3})?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serialized body of an immutable resource.
+     */
+    public record CachedResponse(byte[] json, byte[] gzippedJson, String etag) {
+    }
+}
@@ -11,7 +11,11 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Runs periodic topic-scoped ingestion so posts are continuously available
@@ -34,6 +38,9 @@ public class IngestionOrchestratorService {
     @Value("${clawgic.ingestion.fetch-limit:100}")
     private int fetchLimit;
 
+    @Value("${clawgic.ingestion.max-pages-per-cycle:10}")
+    private int maxPagesPerCycle;
+
     private final ScraperService scraperService;
     private final MarketRepository marketRepository;
 
@@ -69,7 +76,9 @@ public class IngestionOrchestratorService {
     }
 
     /**
-     * Runs one ingestion cycle over all configured markets.
+     * Runs one ingestion cycle over all configured markets, one virtual thread per market.
+     * The API client bounds how many fetches reach the Moltbook host at once, and markets hold a database
+     * connection only for their short store transaction, never while waiting on a fetch.
      *
      * @param source Source label for logging (startup/scheduler/manual)
      * @return Total number of newly ingested posts across markets
@@ -91,26 +100,37 @@ public class IngestionOrchestratorService {
             return 0;
         }
 
-        int totalNewPosts = 0;
-        for (Market market : markets) {
-            if (market.getSubmoltId() == null || market.getSubmoltId().isBlank()) {
-                log.warn("Skipping ingestion for market {} (id={}): blank submoltId",
-                        market.getName(), market.getId());
-                continue;
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Market market : markets) {
+                if (market.getSubmoltId() == null || market.getSubmoltId().isBlank()) {
+                    log.warn("Skipping ingestion for market {} (id={}): blank submoltId",
+                            market.getName(), market.getId());
+                    continue;
+                }
+                results.add(executor.submit(() -> ingestMarket(source, market)));
             }
+        }
 
-            try {
-                int newPosts = scraperService.scrapePosts(market, fetchLimit).size();
-                totalNewPosts += newPosts;
-                log.info("Ingestion cycle ({}) market {} ingested {} new posts",
-                        source, market.getName(), newPosts);
-            } catch (Exception e) {
-                log.error("Ingestion cycle ({}) failed for market {}", source, market.getName(), e);
-            }
+        int totalNewPosts = 0;
+        for (Future<Integer> result : results) {
+            totalNewPosts += result.resultNow();
         }
 
         log.info("Ingestion cycle ({}) complete: {} market(s), {} new post(s)",
                 source, markets.size(), totalNewPosts);
         return totalNewPosts;
     }
+
+    private int ingestMarket(String source, Market market) {
+        try {
+            int newPosts = scraperService.scrapePosts(market, fetchLimit, maxPagesPerCycle).size();
+            log.info("Ingestion cycle ({}) market {} ingested {} new posts",
+                    source, market.getName(), newPosts);
+            return newPosts;
+        } catch (Exception e) {
+            log.error("Ingestion cycle ({}) failed for market {}", source, market.getName(), e);
+            return 0;
+        }
+    }
 }
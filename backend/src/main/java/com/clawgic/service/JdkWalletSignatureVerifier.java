@@ -0,0 +1,141 @@
+package com.clawgic.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDK {@code Ed25519} verification with decoded public keys cached per wallet and {@link Signature}
+ * instances borrowed from {@link CryptoPrimitives}. A wallet's key never changes, so the cache TTL only bounds how
+ * long an idle wallet stays resident. A key whose bytes are not a valid curve point fails verification, as it did
+ * under BouncyCastle.
+ */
+@Component
+@ConditionalOnProperty(
+        name = "clawgic.commit-security.signature-provider",
+        havingValue = "jdk",
+        matchIfMissing = true
+)
+public class JdkWalletSignatureVerifier implements WalletSignatureVerifier {
+
+    static final String ALGORITHM = "Ed25519";
+
+    /** DER SubjectPublicKeyInfo header for a raw 32-byte Ed25519 key (RFC 8410). */
+    private static final byte[] X509_PREFIX = {
+            0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00
+    };
+    private static final Duration PUBLIC_KEY_TTL = Duration.ofHours(6);
+
+    private final KeyFactory keyFactory;
+    private final BoundedTtlCache<String, Optional<PublicKey>> publicKeys;
+
+    @Autowired
+    public JdkWalletSignatureVerifier(CommitSecurityProperties commitSecurityProperties) {
+        this(commitSecurityProperties.getPublicKeyCacheMaxEntries(), Clock.systemUTC());
+    }
+
+    JdkWalletSignatureVerifier(int publicKeyCacheMaxEntries, Clock clock) {
+        try {
+            this.keyFactory = KeyFactory.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ALGORITHM + " not available", ex);
+        }
+        this.publicKeys = new BoundedTtlCache<>(
+                "commit-wallet-public-keys",
+                publicKeyCacheMaxEntries,
+                PUBLIC_KEY_TTL,
+                clock
+        );
+    }
+
+    @Override
+    public boolean verify(String wallet, byte[] message, byte[] signature) {
+        Optional<PublicKey> publicKey = publicKey(wallet);
+        if (publicKey.isEmpty()) {
+            return false;
+        }
+        try {
+            return CryptoPrimitives.withSignature(
+                    ALGORITHM,
+                    verifier -> verify(verifier, publicKey.get(), message, signature)
+            );
+        } catch (GeneralSecurityException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Borrows one {@link Signature} for the whole batch and decodes each distinct wallet key once.
+     */
+    @Override
+    public boolean[] verifyAll(List<SignedMessage> messages) {
+        boolean[] results = new boolean[messages.size()];
+        try {
+            CryptoPrimitives.withSignature(ALGORITHM, verifier -> {
+                for (int i = 0; i < results.length; i++) {
+                    SignedMessage signed = messages.get(i);
+                    try {
+                        Optional<PublicKey> publicKey = publicKey(signed.wallet());
+                        results[i] = publicKey.isPresent()
+                                && verify(verifier, publicKey.get(), signed.message(), signed.signature());
+                    } catch (IllegalArgumentException | GeneralSecurityException ex) {
+                        results[i] = false;
+                    }
+                }
+                return null;
+            });
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ALGORITHM + " not available", ex);
+        }
+        return results;
+    }
+
+    BoundedTtlCache.Stats publicKeyCacheStats() {
+        return publicKeys.stats();
+    }
+
+    private static boolean verify(
+            Signature verifier,
+            PublicKey publicKey,
+            byte[] message,
+            byte[] signature
+    ) throws GeneralSecurityException {
+        verifier.initVerify(publicKey);
+        verifier.update(message);
+        try {
+            return verifier.verify(signature);
+        } catch (SignatureException ex) {
+            // Malformed signature bytes (wrong length, non-canonical scalar): a failed verification, not an error.
+            return false;
+        }
+    }
+
+    /**
+     * Decodes and caches the wallet's key. Base58/length errors propagate as {@link IllegalArgumentException};
+     * 32 bytes that are not a curve point are cached as empty so they fail fast on retry.
+     */
+    private Optional<PublicKey> publicKey(String wallet) {
+        return publicKeys.get(wallet, key -> {
+            byte[] walletBytes = CommitmentCodec.decodeWalletPublicKey(key);
+            byte[] encoded = new byte[X509_PREFIX.length + walletBytes.length];
+            System.arraycopy(X509_PREFIX, 0, encoded, 0, X509_PREFIX.length);
+            System.arraycopy(walletBytes, 0, encoded, X509_PREFIX.length, walletBytes.length);
+            try {
+                return Optional.of(keyFactory.generatePublic(new X509EncodedKeySpec(encoded)));
+            } catch (GeneralSecurityException ex) {
+                return Optional.empty();
+            }
+        });
+    }
+}
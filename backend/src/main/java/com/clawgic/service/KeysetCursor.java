@@ -0,0 +1,49 @@
+package com.clawgic.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque cursor for keyset pagination: the sort key of the last row of a page,
+ * URL-safe Base64 encoded so clients pass it back verbatim.
+ * List endpoints that return a bare JSON array expose the next cursor in {@link #NEXT_CURSOR_HEADER}.
+ */
+public final class KeysetCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keyParts) {
+        String joined = Arrays.stream(keyParts)
+                .map(part -> Objects.requireNonNull(part, "Keyset cursor parts must not be null").toString())
+                .collect(Collectors.joining(SEPARATOR));
+        return ENCODER.encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException when the cursor is malformed or has the wrong number of parts
+     */
+    public static List<String> decode(String cursor, int expectedParts) {
+        String decoded;
+        try {
+            decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+        List<String> parts = List.of(decoded.split("\\" + SEPARATOR, -1));
+        if (parts.size() != expectedParts || parts.stream().anyMatch(String::isEmpty)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return parts;
+    }
+}
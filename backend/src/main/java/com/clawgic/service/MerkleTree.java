@@ -0,0 +1,245 @@
+package com.clawgic.service;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Binary SHA-256 Merkle tree over raw 32-byte hashes, with every level stored in one flat byte array.
+ * Hashing follows RFC 6962: leaves are {@code SHA-256(0x00 || data)}, inner nodes are
+ * {@code SHA-256(0x01 || left || right)}, and an unpaired last node is promoted to the next level unchanged, so no
+ * two distinct leaf lists share a root. The empty tree's root is {@code SHA-256()} of no input, also per RFC 6962.
+ * Large levels are hashed in parallel chunks on the common fork-join pool.
+ * {@link #append} updates only the new leaf's path, O(log n). Not thread-safe: build, append and prove from one
+ * thread or under the caller's lock.
+ */
+public final class MerkleTree {
+
+    public static final int HASH_BYTES = 32;
+
+    static final int PARALLEL_THRESHOLD = 2048;
+    private static final int CHUNK_NODES = 512;
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+    private static final byte[] EMPTY_ROOT = CryptoPrimitives.sha256(new byte[0]);
+
+    /** Level 0 holds the leaves; the last level holds the root once there is at least one leaf. */
+    private final List<Level> levels = new ArrayList<>();
+
+    private MerkleTree(Level leaves) {
+        levels.add(leaves);
+    }
+
+    public static MerkleTree empty() {
+        return new MerkleTree(new Level(16));
+    }
+
+    public static MerkleTree build(List<byte[]> leafData) {
+        int leafCount = leafData.size();
+        Level leaves = new Level(leafCount);
+        leaves.size = leafCount;
+        forEachChunk(leafCount, (digest, from, to) -> {
+            for (int i = from; i < to; i++) {
+                hashLeaf(digest, leafData.get(i), leaves.nodes, i * HASH_BYTES);
+            }
+        });
+
+        MerkleTree tree = new MerkleTree(leaves);
+        Level children = leaves;
+        while (children.size > 1) {
+            Level parents = new Level((children.size + 1) / 2);
+            parents.size = (children.size + 1) / 2;
+            Level level = children;
+            forEachChunk(parents.size, (digest, from, to) -> {
+                for (int i = from; i < to; i++) {
+                    computeParent(digest, level, parents, i);
+                }
+            });
+            tree.levels.add(parents);
+            children = parents;
+        }
+        return tree;
+    }
+
+    /**
+     * Adds one leaf and rehashes its path to the root.
+     */
+    public void append(byte[] data) {
+        CryptoPrimitives.withSha256(digest -> {
+            Level leaves = levels.getFirst();
+            int index = leaves.size;
+            leaves.ensureCapacity(index + 1);
+            hashLeaf(digest, data, leaves.nodes, index * HASH_BYTES);
+            leaves.size = index + 1;
+
+            for (int depth = 0; levels.get(depth).size > 1; depth++) {
+                if (depth + 1 == levels.size()) {
+                    levels.add(new Level(1));
+                }
+                Level parents = levels.get(depth + 1);
+                int parent = index >>> 1;
+                parents.ensureCapacity(parent + 1);
+                parents.size = Math.max(parents.size, parent + 1);
+                computeParent(digest, levels.get(depth), parents, parent);
+                index = parent;
+            }
+            return null;
+        });
+    }
+
+    public int size() {
+        return levels.getFirst().size;
+    }
+
+    public byte[] root() {
+        if (size() == 0) {
+            return EMPTY_ROOT.clone();
+        }
+        return levels.getLast().node(0);
+    }
+
+    public String rootHex() {
+        return CryptoPrimitives.toHex(root());
+    }
+
+    public byte[] leafHash(int index) {
+        checkIndex(index);
+        return levels.getFirst().node(index);
+    }
+
+    /**
+     * Sibling hashes from the leaf up to (not including) the root. Levels where the path node was promoted
+     * contribute no sibling; {@link #verify} skips the same levels from the leaf count.
+     */
+    public List<byte[]> proof(int index) {
+        checkIndex(index);
+        List<byte[]> siblings = new ArrayList<>();
+        int position = index;
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            Level level = levels.get(depth);
+            int sibling = position ^ 1;
+            if (sibling < level.size) {
+                siblings.add(level.node(sibling));
+            }
+            position >>>= 1;
+        }
+        return siblings;
+    }
+
+    /**
+     * Recomputes the root from a leaf hash and its {@link #proof} without the rest of the tree.
+     */
+    public static boolean verify(byte[] leafHash, int index, int leafCount, List<byte[]> siblings, byte[] root) {
+        if (index < 0 || index >= leafCount || leafHash.length != HASH_BYTES) {
+            return false;
+        }
+        byte[] current = leafHash.clone();
+        int position = index;
+        int levelSize = leafCount;
+        int used = 0;
+        while (levelSize > 1) {
+            int sibling = position ^ 1;
+            if (sibling < levelSize) {
+                if (used == siblings.size() || siblings.get(used).length != HASH_BYTES) {
+                    return false;
+                }
+                byte[] other = siblings.get(used++);
+                current = (position & 1) == 0 ? hashNode(current, other) : hashNode(other, current);
+            }
+            position >>>= 1;
+            levelSize = (levelSize + 1) / 2;
+        }
+        return used == siblings.size() && MessageDigest.isEqual(current, root);
+    }
+
+    public static byte[] hashLeaf(byte[] data) {
+        byte[] out = new byte[HASH_BYTES];
+        CryptoPrimitives.withSha256(digest -> {
+            hashLeaf(digest, data, out, 0);
+            return null;
+        });
+        return out;
+    }
+
+    private static byte[] hashNode(byte[] left, byte[] right) {
+        return CryptoPrimitives.withSha256(digest -> {
+            digest.update(NODE_PREFIX);
+            digest.update(left);
+            digest.update(right);
+            return digest.digest();
+        });
+    }
+
+    private static void hashLeaf(MessageDigest digest, byte[] data, byte[] out, int offset) {
+        digest.update(LEAF_PREFIX);
+        digest.update(data);
+        finish(digest, out, offset);
+    }
+
+    private static void computeParent(MessageDigest digest, Level children, Level parents, int parent) {
+        int left = parent * 2;
+        if (left + 1 < children.size) {
+            digest.update(NODE_PREFIX);
+            digest.update(children.nodes, left * HASH_BYTES, 2 * HASH_BYTES);
+            finish(digest, parents.nodes, parent * HASH_BYTES);
+        } else {
+            System.arraycopy(children.nodes, left * HASH_BYTES, parents.nodes, parent * HASH_BYTES, HASH_BYTES);
+        }
+    }
+
+    private static void finish(MessageDigest digest, byte[] out, int offset) {
+        try {
+            digest.digest(out, offset, HASH_BYTES);
+        } catch (DigestException ex) {
+            throw new IllegalStateException("SHA-256 digest failed", ex);
+        }
+    }
+
+    private static void forEachChunk(int count, ChunkTask task) {
+        if (count < PARALLEL_THRESHOLD) {
+            CryptoPrimitives.withSha256(digest -> {
+                task.run(digest, 0, count);
+                return null;
+            });
+            return;
+        }
+        int chunks = (count + CHUNK_NODES - 1) / CHUNK_NODES;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> CryptoPrimitives.withSha256(digest -> {
+            task.run(digest, chunk * CHUNK_NODES, Math.min(count, (chunk + 1) * CHUNK_NODES));
+            return null;
+        }));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Leaf index " + index + " outside tree of " + size());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(MessageDigest digest, int from, int to);
+    }
+
+    private static final class Level {
+        private byte[] nodes;
+        private int size;
+
+        private Level(int capacity) {
+            this.nodes = new byte[Math.max(1, capacity) * HASH_BYTES];
+        }
+
+        private void ensureCapacity(int count) {
+            if (nodes.length < count * HASH_BYTES) {
+                nodes = Arrays.copyOf(nodes, Math.max(count * HASH_BYTES, nodes.length * 2));
+            }
+        }
+
+        private byte[] node(int index) {
+            return Arrays.copyOfRange(nodes, index * HASH_BYTES, (index + 1) * HASH_BYTES);
+        }
+    }
+}
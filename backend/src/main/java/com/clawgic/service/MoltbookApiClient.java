@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 /**
  * Real Moltbook API client that fetches posts from api.moltbook.com.
@@ -22,26 +24,40 @@ public class MoltbookApiClient implements MoltbookClient {
     private static final Logger log = LoggerFactory.getLogger(MoltbookApiClient.class);
 
     private final RestClient restClient;
+    // Every request goes to the one configured host, so one semaphore is the per-host limit.
+    private final Semaphore hostPermits;
 
     public MoltbookApiClient(MoltbookApiProperties properties) {
         this.restClient = RestClient.builder()
                 .baseUrl(properties.getApiUrl())
                 .build();
-        log.info("MoltbookApiClient initialized with base URL: {}", properties.getApiUrl());
+        this.hostPermits = new Semaphore(Math.max(1, properties.getMaxConcurrentFetchesPerHost()), true);
+        log.info("MoltbookApiClient initialized with base URL: {} ({} concurrent fetches)",
+                properties.getApiUrl(), Math.max(1, properties.getMaxConcurrentFetchesPerHost()));
     }
 
     @Override
     public List<MoltbookPost> fetchPosts(String submoltId, int limit) {
-        log.debug("Fetching posts from Moltbook API: submolt={}, limit={}", submoltId, limit);
+        return fetchPage(submoltId, null, limit).posts();
+    }
+
+    @Override
+    public MoltbookPage fetchPage(String submoltId, String cursor, int limit) {
+        log.debug("Fetching posts from Moltbook API: submolt={}, cursor={}, limit={}", submoltId, cursor, limit);
 
-        ApiResponse response = restClient.get()
-                .uri("/v1/submolts/{submoltId}/posts?limit={limit}", submoltId, limit)
-                .retrieve()
-                .body(ApiResponse.class);
+        ApiResponse response = withHostPermit(() -> cursor == null
+                ? restClient.get()
+                        .uri("/v1/submolts/{submoltId}/posts?limit={limit}", submoltId, limit)
+                        .retrieve()
+                        .body(ApiResponse.class)
+                : restClient.get()
+                        .uri("/v1/submolts/{submoltId}/posts?limit={limit}&after={cursor}", submoltId, limit, cursor)
+                        .retrieve()
+                        .body(ApiResponse.class));
 
         if (response == null || response.posts() == null) {
             log.warn("Empty response from Moltbook API for submolt: {}", submoltId);
-            return List.of();
+            return new MoltbookPage(List.of(), null);
         }
 
         List<MoltbookPost> posts = response.posts().stream()
@@ -49,12 +65,27 @@ public class MoltbookApiClient implements MoltbookClient {
                 .toList();
 
         log.debug("Fetched {} posts from Moltbook API for submolt: {}", posts.size(), submoltId);
-        return posts;
+        return new MoltbookPage(posts, response.nextCursor());
+    }
+
+    private <T> T withHostPermit(Supplier<T> request) {
+        try {
+            hostPermits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a Moltbook API permit", ex);
+        }
+        try {
+            return request.get();
+        } finally {
+            hostPermits.release();
+        }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
     record ApiResponse(
-            @JsonProperty("posts") List<ApiPost> posts
+            @JsonProperty("posts") List<ApiPost> posts,
+            @JsonProperty("next_cursor") String nextCursor
     ) {}
 
     @JsonIgnoreProperties(ignoreUnknown = true)
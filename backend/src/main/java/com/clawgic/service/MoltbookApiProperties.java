@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 public class MoltbookApiProperties {
 
     private String apiUrl;
+    private int maxConcurrentFetchesPerHost = 4;
 
     public String getApiUrl() {
         return apiUrl;
@@ -19,4 +20,12 @@ public class MoltbookApiProperties {
     public void setApiUrl(String apiUrl) {
         this.apiUrl = apiUrl;
     }
+
+    public int getMaxConcurrentFetchesPerHost() {
+        return maxConcurrentFetchesPerHost;
+    }
+
+    public void setMaxConcurrentFetchesPerHost(int maxConcurrentFetchesPerHost) {
+        this.maxConcurrentFetchesPerHost = maxConcurrentFetchesPerHost;
+    }
 }
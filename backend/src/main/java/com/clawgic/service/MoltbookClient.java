@@ -17,6 +17,20 @@ public interface MoltbookClient {
      */
     List<MoltbookPost> fetchPosts(String submoltId, int limit);
 
+    /**
+     * Fetches one page of posts newer than a cursor.
+     * Clients without paging return a single page and no next cursor, so ingestion
+     * re-reads the newest posts each cycle and relies on dedupe.
+     *
+     * @param submoltId The submolt identifier
+     * @param cursor Cursor from a previous page, or null for the newest page
+     * @param limit Maximum number of posts to fetch
+     * @return The page, with the cursor to resume after it (null when the client does not page)
+     */
+    default MoltbookPage fetchPage(String submoltId, String cursor, int limit) {
+        return new MoltbookPage(fetchPosts(submoltId, limit), null);
+    }
+
     /**
      * Data class representing a post from Moltbook.
      */
@@ -28,4 +42,12 @@ public interface MoltbookClient {
         int shares,
         int replies
     ) {}
+
+    /**
+     * One page of posts and the cursor to pass for the next one.
+     */
+    record MoltbookPage(
+        List<MoltbookPost> posts,
+        String nextCursor
+    ) {}
 }
@@ -0,0 +1,125 @@
+package com.clawgic.service;
+
+import com.clawgic.model.Pair;
+import com.clawgic.model.Post;
+import com.clawgic.model.Round;
+import com.clawgic.repository.PairRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Content provenance for rounds: a {@link MerkleTree} over the distinct posts a round's pairs draw on, ordered by
+ * post id, with each post's UTF-8 content as a leaf. The root is stored on the round as
+ * {@code content_merkle_root} when its pairs are generated, and inclusion proofs let a client check that a post
+ * belongs to the round without downloading the rest of the set. The root is built once from the full post set, so
+ * this uses {@link MerkleTree#build} rather than growing a tree with {@link MerkleTree#append}.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoundContentMerkleService {
+
+    private final PairRepository pairRepository;
+
+    public String computeRootHex(List<Pair> pairs) {
+        return contentTree(roundPosts(pairs)).rootHex();
+    }
+
+    /**
+     * Proof that {@code postId} is a leaf under the root stored on the round; empty if the round has no stored
+     * root or does not use the post.
+     *
+     * @throws IllegalStateException if the round's posts no longer hash to the stored root, e.g. content edited
+     *                               after the pairs were generated; a proof against either root would mislead
+     */
+    @Transactional(readOnly = true)
+    public Optional<ContentInclusionProof> proveInclusion(Round round, Integer postId) {
+        String storedRoot = round.getContentMerkleRoot();
+        if (storedRoot == null) {
+            return Optional.empty();
+        }
+        List<Post> posts = roundPosts(pairRepository.findByRoundId(round.getId()));
+        int leafIndex = -1;
+        for (int i = 0; i < posts.size(); i++) {
+            if (posts.get(i).getId().equals(postId)) {
+                leafIndex = i;
+                break;
+            }
+        }
+        if (leafIndex < 0) {
+            return Optional.empty();
+        }
+
+        MerkleTree tree = contentTree(posts);
+        if (!storedRoot.equals(tree.rootHex())) {
+            throw new IllegalStateException("Content of round " + round.getId() + " no longer matches its Merkle root");
+        }
+        return Optional.of(new ContentInclusionProof(
+                round.getId(),
+                postId,
+                leafIndex,
+                tree.size(),
+                CryptoPrimitives.toHex(tree.leafHash(leafIndex)),
+                tree.proof(leafIndex).stream().map(CryptoPrimitives::toHex).toList(),
+                storedRoot
+        ));
+    }
+
+    public static MerkleTree contentTree(List<Post> posts) {
+        List<byte[]> leaves = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            leaves.add(post.getContent().getBytes(StandardCharsets.UTF_8));
+        }
+        return MerkleTree.build(leaves);
+    }
+
+    /**
+     * Distinct posts referenced by {@code pairs}, by ascending id; audit pairs repeat posts and golden pairs may
+     * too, so each post is one leaf however many pairs use it.
+     */
+    static List<Post> roundPosts(List<Pair> pairs) {
+        Map<Integer, Post> postsById = new TreeMap<>();
+        for (Pair pair : pairs) {
+            addPost(postsById, pair.getPostA());
+            addPost(postsById, pair.getPostB());
+        }
+        return new ArrayList<>(postsById.values());
+    }
+
+    /** Distinct posts by ascending id, the leaf order {@link #computeRootHex} uses; posts without an id are dropped. */
+    static List<Post> canonicalOrder(List<Post> posts) {
+        Map<Integer, Post> postsById = new TreeMap<>();
+        for (Post post : posts) {
+            addPost(postsById, post);
+        }
+        return new ArrayList<>(postsById.values());
+    }
+
+    private static void addPost(Map<Integer, Post> postsById, Post post) {
+        if (post != null && post.getId() != null) {
+            postsById.putIfAbsent(post.getId(), post);
+        }
+    }
+
+    /**
+     * Hashes are lowercase hex. Verify with {@link MerkleTree#verify}: siblings run from the leaf upward, and a
+     * level where the path node has no sibling is skipped.
+     */
+    public record ContentInclusionProof(
+            Integer roundId,
+            Integer postId,
+            int leafIndex,
+            int leafCount,
+            String leafHash,
+            List<String> siblings,
+            String root
+    ) {
+    }
+}
@@ -53,6 +53,7 @@ public class RoundOrchestratorService {
     private final AutoRevealService autoRevealService;
     private final SettlementService settlementService;
     private final CuratorParticipationService curatorParticipationService;
+    private final RoundContentMerkleService roundContentMerkleService;
 
     private static final List<RoundStatus> ACTIVE_STATUSES = List.of(
             RoundStatus.OPEN, RoundStatus.COMMIT, RoundStatus.REVEAL, RoundStatus.SETTLING);
@@ -205,6 +206,7 @@ public class RoundOrchestratorService {
                 return null;
             }
 
+            savedRound.setContentMerkleRoot(roundContentMerkleService.computeRootHex(pairs));
             savedRound = roundRepository.save(savedRound);
             log.info("Created round {} with {} pairs for market {}",
                     savedRound.getId(), pairs.size(), market.getName());
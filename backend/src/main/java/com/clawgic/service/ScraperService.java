@@ -9,18 +9,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Post scraper service for ingesting content from Moltbook.
- * Handles post extraction, deduplication, and storage.
+ * Handles post extraction, deduplication, and storage. Pages are fetched outside any transaction, so a
+ * market waiting on the Moltbook host never holds a database connection; only the dedupe, insert and
+ * cursor update run in one short transaction.
  * Legacy subsystem: disabled by default for the Clawgic pivot.
  */
 @Service
@@ -33,14 +36,20 @@ public class ScraperService {
     private final MoltbookClient moltbookClient;
     private final PostRepository postRepository;
     private final MarketRepository marketRepository;
+    private final FeedRankingService feedRankingService;
+    private final TransactionTemplate transactionTemplate;
 
     public ScraperService(
             MoltbookClient moltbookClient,
             PostRepository postRepository,
-            MarketRepository marketRepository) {
+            MarketRepository marketRepository,
+            FeedRankingService feedRankingService,
+            TransactionTemplate transactionTemplate) {
         this.moltbookClient = moltbookClient;
         this.postRepository = postRepository;
         this.marketRepository = marketRepository;
+        this.feedRankingService = feedRankingService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -49,70 +58,107 @@ public class ScraperService {
      * @param market The market to scrape posts for
      * @return List of newly ingested posts
      */
-    @Transactional
     public List<Post> scrapePosts(Market market) {
         return scrapePosts(market, DEFAULT_FETCH_LIMIT);
     }
 
     /**
-     * Scrapes posts from Moltbook for a specific market with a limit.
+     * Scrapes one page of posts from Moltbook for a specific market with a limit.
      *
      * @param market The market to scrape posts for
      * @param limit Maximum number of posts to fetch
      * @return List of newly ingested posts
      */
-    @Transactional
     public List<Post> scrapePosts(Market market, int limit) {
+        return scrapePosts(market, limit, 1);
+    }
+
+    /**
+     * Scrapes posts newer than the market's ingestion cursor, up to {@code maxPages} pages of {@code limit}.
+     * Already-stored posts are filtered with one IN query and the rest saved in one batch, so re-running a
+     * cycle over the same page is a no-op. The cursor advances to the last page's next cursor.
+     *
+     * @param market The market to scrape posts for
+     * @param limit Maximum number of posts per page
+     * @param maxPages Maximum number of pages to fetch this call
+     * @return List of newly ingested posts
+     */
+    public List<Post> scrapePosts(Market market, int limit, int maxPages) {
         log.info("Starting post scrape for market: {} (submolt: {})", market.getName(), market.getSubmoltId());
 
-        List<MoltbookClient.MoltbookPost> fetchedPosts = moltbookClient.fetchPosts(market.getSubmoltId(), limit);
-        log.info("Fetched {} posts from Moltbook", fetchedPosts.size());
+        String startCursor = market.getIngestionCursor();
+        String cursor = startCursor;
+        Map<String, MoltbookClient.MoltbookPost> fetchedById = new LinkedHashMap<>();
+        for (int page = 0; page < Math.max(1, maxPages); page++) {
+            MoltbookClient.MoltbookPage fetched = moltbookClient.fetchPage(market.getSubmoltId(), cursor, limit);
+            for (MoltbookClient.MoltbookPost moltbookPost : fetched.posts()) {
+                fetchedById.putIfAbsent(moltbookPost.moltbookId(), moltbookPost);
+            }
+            if (fetched.nextCursor() == null || fetched.nextCursor().equals(cursor)) {
+                break;
+            }
+            cursor = fetched.nextCursor();
+            if (fetched.posts().isEmpty()) {
+                break;
+            }
+        }
+        log.info("Fetched {} posts from Moltbook", fetchedById.size());
+
+        String nextCursor = cursor;
+        List<Post> newPosts = transactionTemplate.execute(
+                status -> storePosts(market, fetchedById, startCursor, nextCursor));
 
+        log.info("Successfully ingested {} new posts for market: {}", newPosts.size(), market.getName());
+        return newPosts;
+    }
+
+    /**
+     * Dedupes, saves and advances the cursor in the transaction opened by {@link #scrapePosts(Market, int, int)}.
+     */
+    private List<Post> storePosts(Market market,
+                                  Map<String, MoltbookClient.MoltbookPost> fetchedById,
+                                  String startCursor,
+                                  String cursor) {
         List<Post> newPosts = new ArrayList<>();
+        if (!fetchedById.isEmpty()) {
+            Set<String> existingIds = postRepository.findExistingMoltbookIds(fetchedById.keySet());
+            for (MoltbookClient.MoltbookPost moltbookPost : fetchedById.values()) {
+                if (existingIds.contains(moltbookPost.moltbookId())) {
+                    log.debug("Skipping duplicate post: {}", moltbookPost.moltbookId());
+                    continue;
+                }
 
-        for (MoltbookClient.MoltbookPost moltbookPost : fetchedPosts) {
-            // Check for duplicates
-            Optional<Post> existing = postRepository.findByMoltbookId(moltbookPost.moltbookId());
-            if (existing.isPresent()) {
-                log.debug("Skipping duplicate post: {}", moltbookPost.moltbookId());
-                continue;
+                Post post = new Post();
+                post.setMoltbookId(moltbookPost.moltbookId());
+                post.setMarket(market);
+                post.setAgent(moltbookPost.agent());
+                post.setContent(moltbookPost.content());
+                newPosts.add(post);
             }
+        }
 
-            // Create new post entity
-            Post post = new Post();
-            post.setMoltbookId(moltbookPost.moltbookId());
-            post.setMarket(market);
-            post.setAgent(moltbookPost.agent());
-            post.setContent(moltbookPost.content());
-
-            Post saved = postRepository.save(post);
-            newPosts.add(saved);
-            log.debug("Ingested new post: {} from agent: {}", saved.getMoltbookId(), saved.getAgent());
+        if (!newPosts.isEmpty()) {
+            newPosts = postRepository.saveAll(newPosts);
+            // New posts enter the ranking at the initial ELO; rebuild the cached feed on next read
+            feedRankingService.invalidateMarket(market.getId());
         }
 
-        log.info("Successfully ingested {} new posts for market: {}", newPosts.size(), market.getName());
+        if (!Objects.equals(cursor, startCursor)) {
+            marketRepository.updateIngestionCursor(market.getId(), cursor, OffsetDateTime.now());
+            market.setIngestionCursor(cursor);
+        }
         return newPosts;
     }
 
     /**
-     * Computes the Merkle root of all posts in a list.
-     * Uses SHA-256 content hashes to build the Merkle tree.
+     * Computes the Merkle root of all posts in a list, ordered by post id as for a round's stored content root.
+     * Each post's UTF-8 content is one leaf; see {@link MerkleTree} for the hashing scheme.
      *
      * @param posts List of posts to compute Merkle root for
      * @return Hex-encoded Merkle root (64 characters)
      */
     public String computeMerkleRoot(List<Post> posts) {
-        if (posts.isEmpty()) {
-            return sha256("empty-tree");
-        }
-
-        // Compute content hashes for all posts
-        List<String> hashes = posts.stream()
-                .map(post -> sha256(post.getContent()))
-                .toList();
-
-        // Build Merkle tree
-        return buildMerkleTree(hashes);
+        return RoundContentMerkleService.contentTree(RoundContentMerkleService.canonicalOrder(posts)).rootHex();
     }
 
     /**
@@ -128,52 +174,4 @@ public class ScraperService {
                 round.getMarket().getName(),
                 merkleRoot);
     }
-
-    /**
-     * Builds a Merkle tree from a list of hashes.
-     *
-     * @param hashes List of leaf hashes
-     * @return Root hash of the Merkle tree
-     */
-    private String buildMerkleTree(List<String> hashes) {
-        List<String> currentLevel = new ArrayList<>(hashes);
-
-        while (currentLevel.size() > 1) {
-            List<String> nextLevel = new ArrayList<>();
-
-            for (int i = 0; i < currentLevel.size(); i += 2) {
-                String left = currentLevel.get(i);
-                String right = (i + 1 < currentLevel.size()) ? currentLevel.get(i + 1) : left;
-                nextLevel.add(sha256(left + right));
-            }
-
-            currentLevel = nextLevel;
-        }
-
-        return currentLevel.get(0);
-    }
-
-    /**
-     * Computes SHA-256 hash of a string.
-     *
-     * @param input The input string
-     * @return Hex-encoded SHA-256 hash
-     */
-    private String sha256(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
-    }
 }
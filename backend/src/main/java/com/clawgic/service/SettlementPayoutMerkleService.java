@@ -0,0 +1,205 @@
+package com.clawgic.service;
+
+import com.clawgic.model.SettlementPayout;
+import com.clawgic.repository.SettlementPayoutRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Per-curator settlement results as a {@link MerkleTree}: one leaf per curator wallet that settled in the round,
+ * ordered by wallet, with the UTF-8 bytes of {@code wallet|earned|lost|pairId,pairId,...} (pair ids ascending) as
+ * leaf data. The root is stored on the round as {@code payout_merkle_root} when it settles, next to the snapshot
+ * hash, so a claim or audit for one wallet checks O(log n) sibling hashes instead of rehashing the whole round.
+ * Settled rounds never change, so the tree of a recently proven round is kept in memory.
+ */
+@Service
+public class SettlementPayoutMerkleService {
+
+    private final SettlementPayoutRepository settlementPayoutRepository;
+    private final BoundedTtlCache<Integer, PayoutTree> treesByRoundId;
+
+    @Autowired
+    public SettlementPayoutMerkleService(
+            SettlementPayoutRepository settlementPayoutRepository,
+            @Value("${clawgic.settlement.payout-proof-cache.max-entries:64}") int maxEntries,
+            @Value("${clawgic.settlement.payout-proof-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this(settlementPayoutRepository, maxEntries, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    SettlementPayoutMerkleService(SettlementPayoutRepository settlementPayoutRepository,
+                                  int maxEntries,
+                                  Duration ttl,
+                                  Clock clock) {
+        this.settlementPayoutRepository = settlementPayoutRepository;
+        this.treesByRoundId = new BoundedTtlCache<>("settlement-payout-tree", maxEntries, ttl, clock);
+    }
+
+    /**
+     * Persists the round's payout records in tree order and returns the root hex. Runs inside the settlement
+     * transaction, so the records and the root on the round commit or roll back together.
+     */
+    public String publish(Integer roundId, PayoutLedger ledger) {
+        List<SettlementPayout> payouts = ledger.toPayouts(roundId);
+        settlementPayoutRepository.saveAll(payouts);
+        treesByRoundId.invalidate(roundId);
+        return payoutTree(payouts).rootHex();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PayoutInclusionProof> proveInclusion(Integer roundId, String wallet) {
+        PayoutTree payoutTree = treesByRoundId.get(roundId, this::loadTree);
+        if (payoutTree == null) {
+            return Optional.empty();
+        }
+        Integer leafIndex = payoutTree.leafIndexByWallet().get(wallet);
+        if (leafIndex == null) {
+            return Optional.empty();
+        }
+
+        SettlementPayout payout = payoutTree.payouts().get(leafIndex);
+        MerkleTree tree = payoutTree.tree();
+        // MerkleTree is not thread-safe; a cached tree is shared by concurrent proof requests.
+        synchronized (tree) {
+            return Optional.of(new PayoutInclusionProof(
+                    roundId,
+                    payout.getCuratorWallet(),
+                    leafIndex,
+                    tree.size(),
+                    payout.getEarned(),
+                    payout.getLost(),
+                    Arrays.stream(payout.getPairIds()).boxed().toList(),
+                    CryptoPrimitives.toHex(tree.leafHash(leafIndex)),
+                    tree.proof(leafIndex).stream().map(CryptoPrimitives::toHex).toList(),
+                    tree.rootHex()
+            ));
+        }
+    }
+
+    public static MerkleTree payoutTree(List<SettlementPayout> payouts) {
+        List<byte[]> leaves = new ArrayList<>(payouts.size());
+        for (SettlementPayout payout : payouts) {
+            leaves.add(leafData(payout));
+        }
+        return MerkleTree.build(leaves);
+    }
+
+    /**
+     * Canonical leaf bytes: {@code wallet|earned|lost|pairIds} with pair ids comma-separated and ascending.
+     */
+    public static byte[] leafData(SettlementPayout payout) {
+        StringBuilder leaf = new StringBuilder()
+                .append(payout.getCuratorWallet())
+                .append('|').append(payout.getEarned())
+                .append('|').append(payout.getLost())
+                .append('|');
+        int[] pairIds = payout.getPairIds();
+        for (int i = 0; i < pairIds.length; i++) {
+            if (i > 0) {
+                leaf.append(',');
+            }
+            leaf.append(pairIds[i]);
+        }
+        return leaf.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private PayoutTree loadTree(Integer roundId) {
+        List<SettlementPayout> payouts = settlementPayoutRepository.findByRoundIdOrderByLeafIndexAsc(roundId);
+        if (payouts.isEmpty()) {
+            return null;
+        }
+        Map<String, Integer> leafIndexByWallet = new HashMap<>();
+        for (int i = 0; i < payouts.size(); i++) {
+            leafIndexByWallet.put(payouts.get(i).getCuratorWallet(), i);
+        }
+        return new PayoutTree(payouts, leafIndexByWallet, payoutTree(payouts));
+    }
+
+    private record PayoutTree(List<SettlementPayout> payouts,
+                              Map<String, Integer> leafIndexByWallet,
+                              MerkleTree tree) {
+    }
+
+    /**
+     * Running per-wallet totals for one settlement: {@code earned} is every reward credited, {@code lost} every
+     * stake forfeited on the round's pairs, i.e. minority and golden-set slashes, non-reveal forfeits applied here
+     * and those the reveal penalty job applied before settlement. {@code lost} can therefore exceed what this
+     * settlement added to the curator's own counter. Not thread-safe; settlement fills it from one transaction.
+     */
+    public static final class PayoutLedger {
+
+        private final Map<String, Entry> entriesByWallet = new TreeMap<>();
+
+        public void credit(String wallet, Integer pairId, long amount) {
+            entry(wallet, pairId).earned += amount;
+        }
+
+        public void debit(String wallet, Integer pairId, long amount) {
+            entry(wallet, pairId).lost += amount;
+        }
+
+        public int size() {
+            return entriesByWallet.size();
+        }
+
+        List<SettlementPayout> toPayouts(Integer roundId) {
+            List<SettlementPayout> payouts = new ArrayList<>(entriesByWallet.size());
+            for (Map.Entry<String, Entry> walletEntry : entriesByWallet.entrySet()) {
+                Entry entry = walletEntry.getValue();
+                SettlementPayout payout = new SettlementPayout();
+                payout.setRoundId(roundId);
+                payout.setCuratorWallet(walletEntry.getKey());
+                payout.setLeafIndex(payouts.size());
+                payout.setEarned(entry.earned);
+                payout.setLost(entry.lost);
+                payout.setPairIds(entry.pairIds.stream().mapToInt(Integer::intValue).toArray());
+                payouts.add(payout);
+            }
+            return payouts;
+        }
+
+        private Entry entry(String wallet, Integer pairId) {
+            Entry entry = entriesByWallet.computeIfAbsent(wallet, _ -> new Entry());
+            entry.pairIds.add(pairId);
+            return entry;
+        }
+
+        private static final class Entry {
+            private long earned;
+            private long lost;
+            private final TreeSet<Integer> pairIds = new TreeSet<>();
+        }
+    }
+
+    /**
+     * Hashes are lowercase hex. Rebuild the leaf with {@link #leafData} from the returned fields and verify with
+     * {@link MerkleTree#verify}: siblings run from the leaf upward, and a level where the path node has no sibling
+     * is skipped.
+     */
+    public record PayoutInclusionProof(
+            Integer roundId,
+            String wallet,
+            int leafIndex,
+            int leafCount,
+            Long earned,
+            Long lost,
+            List<Integer> pairIds,
+            String leafHash,
+            List<String> siblings,
+            String root
+    ) {
+    }
+}
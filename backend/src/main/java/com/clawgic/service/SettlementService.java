@@ -1,5 +1,6 @@
 package com.clawgic.service;
 
+import com.clawgic.controller.dto.RoundResponse;
 import com.clawgic.model.*;
 import com.clawgic.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -9,12 +10,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
  * - Golden Set wrong: 80% stake, alignment score decrease
  * - Audit inconsistency: 50% stake, fraud flag
  * Publishes signed JSON snapshot, stores hash on-chain.
+ * Per-curator payout records are committed to a Merkle root on the round for O(log n) payout proofs.
  * Idempotent: replay-safe state transitions.
  * PRD Reference: Sections 4.1, 4.2, 9.3
  */
@@ -48,10 +49,20 @@ public class SettlementService {
     private final RoundRepository roundRepository;
     private final PoolService poolService;
     private final EloService eloService;
+    private final VoteTallyService voteTallyService;
+    private final FeedRankingService feedRankingService;
+    private final ImmutableResponseCache immutableResponseCache;
+    private final SettlementPayoutMerkleService settlementPayoutMerkleService;
 
     @Value("${clawgic.reveal.grace-period-minutes:30}")
     private int gracePeriodMinutes;
 
+    /**
+     * Directory for gzipped settlement snapshots; blank keeps only the hash.
+     */
+    @Value("${clawgic.settlement.snapshot-dir:}")
+    private String snapshotDir;
+
     /**
      * Settle a round. Idempotent - can be called multiple times safely.
      *
@@ -85,39 +96,53 @@ public class SettlementService {
         round.setBasePerPair(basePerPair);
         round.setPremiumPerPair(premiumPerPair);
 
-        // Get all pairs for this round
+        // Get all pairs for this round with their running tallies and commitments
         List<Pair> pairs = pairRepository.findByRoundId(round.getId());
-
-        SettlementSnapshot snapshot = new SettlementSnapshot();
-        snapshot.roundId = roundId;
-        snapshot.basePerPair = basePerPair;
-        snapshot.premiumPerPair = premiumPerPair;
-        snapshot.pairSettlements = new ArrayList<>();
+        Map<Integer, VoteTallyService.PairTally> tallies = voteTallyService.loadRoundTallies(round.getId());
+        Map<Integer, List<Commitment>> commitmentsByPair = commitmentRepository.findByPairRoundId(round.getId())
+                .stream()
+                .collect(Collectors.groupingBy(c -> c.getPair().getId()));
 
         long totalSlashed = 0L;
         long totalRewardsDistributed = 0L;
+        String settlementHash;
+        SettlementPayoutMerkleService.PayoutLedger payouts = new SettlementPayoutMerkleService.PayoutLedger();
+
+        // Each pair is streamed into the snapshot digest as it settles; the document is never held in memory
+        try (SettlementSnapshotWriter snapshot =
+                     SettlementSnapshotWriter.open(roundId, basePerPair, premiumPerPair, snapshotStorageDir())) {
+            for (Pair pair : pairs) {
+                PairSettlement pairSettlement = settlePair(
+                        pair,
+                        tallies.getOrDefault(pair.getId(), VoteTallyService.PairTally.empty(pair.getId())),
+                        commitmentsByPair.getOrDefault(pair.getId(), List.of()),
+                        basePerPair,
+                        premiumPerPair,
+                        payouts);
+                snapshot.writePair(pairSettlement.pairId, pairSettlement.majority,
+                        pairSettlement.totalSlashed, pairSettlement.totalRewards);
+                totalSlashed += pairSettlement.totalSlashed;
+                totalRewardsDistributed += pairSettlement.totalRewards;
+
+                pair.setSettledAt(OffsetDateTime.now());
+                pair.setReward(pairSettlement.totalRewards);
+                pairRepository.save(pair);
+            }
 
-        for (Pair pair : pairs) {
-            PairSettlement pairSettlement = settlePair(pair, basePerPair, premiumPerPair);
-            snapshot.pairSettlements.add(pairSettlement);
-            totalSlashed += pairSettlement.totalSlashed;
-            totalRewardsDistributed += pairSettlement.totalRewards;
-
-            pair.setSettledAt(OffsetDateTime.now());
-            pair.setReward(pairSettlement.totalRewards);
-            pairRepository.save(pair);
+            // Generate settlement hash; the stored snapshot is only published if this settlement commits
+            settlementHash = snapshot.finish();
+            publishSnapshotAfterCommit(roundId, snapshot);
         }
 
+        // Commit to each curator's payout record so one wallet's result can be proven without the full snapshot
+        round.setPayoutMerkleRoot(settlementPayoutMerkleService.publish(roundId, payouts));
+
         // Update pool: add slashed funds, deduct rewards
         poolService.addToPool(totalSlashed, "settlement round " + roundId);
         if (totalRewardsDistributed > 0) {
             poolService.deductFromPool(totalRewardsDistributed, "settlement round " + roundId);
         }
 
-        // Generate settlement hash
-        String settlementJson = snapshot.toJson();
-        String settlementHash = generateHash(settlementJson);
-
         // Update global pool with settlement hash
         GlobalPool pool = globalPoolRepository.findById(1).orElseThrow();
         pool.setSettlementHash(settlementHash);
@@ -125,11 +150,18 @@ public class SettlementService {
         pool.setUpdatedAt(OffsetDateTime.now());
         globalPoolRepository.save(pool);
 
+        // Snapshot the post-settlement feed ranking; ELO does not move again until the next settlement
+        feedRankingService.recordRoundSettled(roundId, round.getMarket().getId());
+
         // Mark round as settled
         round.setStatus(RoundStatus.SETTLED);
         round.setSettledAt(OffsetDateTime.now());
         roundRepository.save(round);
 
+        // A settled round never changes again; cache its detail response once the settlement commits
+        immutableResponseCache.putAfterCommit(RoundResponse.cacheKey(roundId),
+                () -> roundRepository.findById(roundId).map(RoundResponse::from).orElse(null));
+
         log.info("Settlement complete for round {}. Slashed: {}, Rewards: {}, Hash: {}",
                 roundId, totalSlashed, totalRewardsDistributed, settlementHash);
 
@@ -138,60 +170,34 @@ public class SettlementService {
 
     /**
      * Settle a single pair. Pure function - deterministic given inputs.
+     * Majority, total stake, curator score average and identity stake aggregates come from the
+     * running tally maintained during reveal; commitments are only walked to apply payouts,
+     * each of which is also recorded in {@code payouts}.
      */
-    private PairSettlement settlePair(Pair pair, long basePerPair, long premiumPerPair) {
+    private PairSettlement settlePair(Pair pair,
+                                      VoteTallyService.PairTally tally,
+                                      List<Commitment> commitments,
+                                      long basePerPair,
+                                      long premiumPerPair,
+                                      SettlementPayoutMerkleService.PayoutLedger payouts) {
         PairSettlement settlement = new PairSettlement();
         settlement.pairId = pair.getId();
         OffsetDateTime settlementTime = OffsetDateTime.now();
 
-        List<Commitment> commitments = commitmentRepository.findByPairId(pair.getId());
-
-        // Count votes
-        Map<PairWinner, Long> voteStakes = new HashMap<>();
         Map<PairWinner, List<Commitment>> voteGroups = new HashMap<>();
-        long totalStake = 0L;
         List<Commitment> nonRevealCommitments = new ArrayList<>();
-        BigDecimal totalCuratorScore = BigDecimal.ZERO;
-        int revealedCount = 0;
 
         for (Commitment commitment : commitments) {
-            totalStake += commitment.getStake();
-
             if (!commitment.getRevealed()) {
                 nonRevealCommitments.add(commitment);
                 continue;
             }
-
-            PairWinner choice = commitment.getChoice();
-            voteStakes.merge(choice, commitment.getStake(), Long::sum);
-            voteGroups.computeIfAbsent(choice, _ -> new ArrayList<>()).add(commitment);
-            revealedCount++;
-
-            // Get curator score for weighting
-            Curator curator = curatorRepository.findById(
-                    new CuratorId(commitment.getCuratorWallet(), pair.getRound().getMarket().getId())
-            ).orElse(null);
-            if (curator != null) {
-                totalCuratorScore = totalCuratorScore.add(curator.getCuratorScore());
-            }
+            voteGroups.computeIfAbsent(commitment.getChoice(), _ -> new ArrayList<>()).add(commitment);
         }
 
-        BigDecimal averageCuratorScore = revealedCount > 0
-                ? totalCuratorScore.divide(BigDecimal.valueOf(revealedCount), 4, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
-
-        // Determine majority
-        PairWinner majority = voteStakes.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-
-        long majorityStake = majority != null ? voteStakes.get(majority) : 0L;
-        boolean isTie = voteStakes.values().stream().filter(s -> s.equals(majorityStake)).count() > 1;
-
-        if (isTie) {
-            majority = PairWinner.TIE;
-        }
+        long totalStake = tally.committedStake();
+        BigDecimal averageCuratorScore = tally.averageCuratorScore();
+        PairWinner majority = tally.majority();
 
         pair.setWinner(majority);
         pair.setTotalStake(totalStake);
@@ -212,10 +218,7 @@ public class SettlementService {
         // Settle majority voters (quadratic weighting)
         if (majority != null) {
             List<Commitment> majorityVoters = voteGroups.getOrDefault(majority, new ArrayList<>());
-            Map<Integer, Long> identityStakes = aggregateStakesByIdentity(majorityVoters);
-            double totalSqrtStake = identityStakes.values().stream()
-                    .mapToDouble(Math::sqrt)
-                    .sum();
+            double totalSqrtStake = tally.sqrtStakeTotal(majority);
 
             if (totalSqrtStake == 0) {
                 log.warn("Total sqrt stake is 0 for pair {}, skipping reward distribution", pair.getId());
@@ -233,6 +236,7 @@ public class SettlementService {
                             .longValue();
                     long penalty = commitment.getStake() - stakeReturn;
                     totalSlashed += penalty;
+                    payouts.debit(commitment.getCuratorWallet(), pair.getId(), penalty);
 
                     // Decrease alignment score
                     BigDecimal newAlignment = curator.getAlignmentStability()
@@ -247,10 +251,9 @@ public class SettlementService {
                     // For now: assume audit passes
                 }
 
-                // Calculate quadratic reward share
-                Integer identityId = curator.getIdentityId();
-                long identityStake = identityId != null ? identityStakes.getOrDefault(identityId, 0L) : commitment.getStake();
-                double sqrtStake = Math.sqrt(identityStake);
+                // Calculate quadratic reward share; wallets sharing an identity split its share by stake
+                double sqrtStake = tally.sqrtStakeShare(
+                        majority, curator.getIdentityId(), commitment.getCuratorWallet(), commitment.getStake());
                 long reward = (long) (pairReward * (sqrtStake / totalSqrtStake));
 
                 long totalPayout = stakeReturn + reward;
@@ -259,6 +262,7 @@ public class SettlementService {
                 curator.setEarned(curator.getEarned() + reward);
                 curator.setUpdatedAt(settlementTime);
                 curatorRepository.save(curator);
+                payouts.credit(commitment.getCuratorWallet(), pair.getId(), reward);
             }
         }
 
@@ -278,12 +282,15 @@ public class SettlementService {
                 curator.setLost(curator.getLost() + penalty);
                 curator.setUpdatedAt(settlementTime);
                 curatorRepository.save(curator);
+                payouts.debit(commitment.getCuratorWallet(), pair.getId(), penalty);
             }
         }
 
         // Settle non-reveals (100% slashed)
         for (Commitment commitment : nonRevealCommitments) {
             if (Boolean.TRUE.equals(commitment.getNonRevealPenalized())) {
+                // Forfeited earlier by the reveal penalty job: not charged again, but part of the wallet's leaf
+                payouts.debit(commitment.getCuratorWallet(), pair.getId(), commitment.getStake());
                 continue;
             }
             if (!hasGraceWindowExpired(commitment, settlementTime)) {
@@ -297,6 +304,7 @@ public class SettlementService {
                 curator.setLost(curator.getLost() + commitment.getStake());
                 curator.setUpdatedAt(settlementTime);
                 curatorRepository.save(curator);
+                payouts.debit(commitment.getCuratorWallet(), pair.getId(), commitment.getStake());
             }
 
             commitment.setNonRevealPenalized(true);
@@ -311,22 +319,6 @@ public class SettlementService {
         return settlement;
     }
 
-    /**
-     * Aggregate stakes by identity to apply identity-level caps for quadratic weighting.
-     */
-    private Map<Integer, Long> aggregateStakesByIdentity(List<Commitment> commitments) {
-        Map<Integer, Long> identityStakes = new HashMap<>();
-
-        for (Commitment commitment : commitments) {
-            curatorRepository.findById(
-                    new CuratorId(commitment.getCuratorWallet(), commitment.getPair().getRound().getMarket().getId())
-            ).ifPresent(curator -> identityStakes.merge(curator.getIdentityId(), commitment.getStake(), Long::sum));
-
-        }
-
-        return identityStakes;
-    }
-
     private Curator getCurator(String wallet, Integer marketId) {
         return curatorRepository.findById(new CuratorId(wallet, marketId)).orElse(null);
     }
@@ -363,22 +355,38 @@ public class SettlementService {
         return deadlineBase.plusMinutes(gracePeriodMinutes);
     }
 
-    private String generateHash(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            return "0x" + bytesToHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
+    /**
+     * Moves the staged snapshot into place once the settlement commits and deletes it on rollback, so a failed
+     * settlement never leaves a published snapshot for an unsettled round.
+     */
+    private static void publishSnapshotAfterCommit(Integer roundId, SettlementSnapshotWriter snapshot) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshot.publish();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    snapshot.publish();
+                } catch (RuntimeException ex) {
+                    // The round is settled and its hash stored; only the archived copy is missing
+                    log.error("Round {} settled but its snapshot could not be published", roundId, ex);
+                    snapshot.discard();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    snapshot.discard();
+                }
+            }
+        });
     }
 
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
+    private Path snapshotStorageDir() {
+        return snapshotDir == null || snapshotDir.isBlank() ? null : Path.of(snapshotDir);
     }
 
     private static OffsetDateTime maxTime(OffsetDateTime left, OffsetDateTime right) {
@@ -391,27 +399,6 @@ public class SettlementService {
         return right.isAfter(left) ? right : left;
     }
 
-    /**
-     * Data structures for settlement snapshot
-     */
-    private static class SettlementSnapshot {
-        Integer roundId;
-        Long basePerPair;
-        Long premiumPerPair;
-        List<PairSettlement> pairSettlements;
-
-        String toJson() {
-            return String.format(
-                    "{\"roundId\":%d,\"basePerPair\":%d,\"premiumPerPair\":%d,\"pairs\":[%s]}",
-                    roundId, basePerPair, premiumPerPair,
-                    pairSettlements.stream()
-                            .map(p -> String.format("{\"pairId\":%d,\"majority\":\"%s\",\"slashed\":%d,\"rewards\":%d}",
-                                    p.pairId, p.majority, p.totalSlashed, p.totalRewards))
-                            .collect(Collectors.joining(","))
-            );
-        }
-    }
-
     private static class PairSettlement {
         Integer pairId;
         PairWinner majority;
@@ -0,0 +1,235 @@
+package com.clawgic.service;
+
+import com.clawgic.model.PairWinner;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the canonical settlement snapshot
+ * {@code {"roundId":..,"basePerPair":..,"premiumPerPair":..,"pairs":[{"pairId":..,"majority":"..",
+ * "slashed":..,"rewards":..},..]}} straight into a SHA-256 digest, one pair at a time, so settling a round never
+ * holds the whole document in memory. The bytes are identical to the original {@code String.format} rendering
+ * (ASCII digits, {@code null} for missing values), so the hash matches snapshots published before this writer.
+ * When a storage directory is given the same bytes are also gzipped to a temporary file, which {@link #publish()}
+ * moves to {@code round-<id>.json.gz} and {@link #discard()} deletes; settlement does one or the other once its
+ * transaction has committed or rolled back.
+ */
+public final class SettlementSnapshotWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final MessageDigest digest;
+    private final OutputStream out;
+    private final Path tempFile;
+    private final Path snapshotFile;
+    private final byte[] digits = new byte[20];
+    private boolean firstPair = true;
+    private String hash;
+    private boolean published;
+
+    private SettlementSnapshotWriter(MessageDigest digest, OutputStream sink, Path tempFile, Path snapshotFile) {
+        this.digest = digest;
+        this.out = new BufferedOutputStream(new DigestOutputStream(sink, digest), BUFFER_SIZE);
+        this.tempFile = tempFile;
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Opens a writer for {@code roundId} and writes the snapshot header.
+     *
+     * @param storageDir directory for the gzipped snapshot, or {@code null} to only compute the hash
+     */
+    public static SettlementSnapshotWriter open(Integer roundId, Long basePerPair, Long premiumPerPair,
+                                                Path storageDir) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+
+        SettlementSnapshotWriter writer;
+        if (storageDir == null) {
+            writer = new SettlementSnapshotWriter(digest, OutputStream.nullOutputStream(), null, null);
+        } else {
+            Path tempFile = null;
+            try {
+                Files.createDirectories(storageDir);
+                tempFile = Files.createTempFile(storageDir, "round-" + roundId + "-", ".json.gz.tmp");
+                OutputStream sink = new GZIPOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE);
+                writer = new SettlementSnapshotWriter(
+                        digest, sink, tempFile, storageDir.resolve("round-" + roundId + ".json.gz"));
+            } catch (IOException ex) {
+                deleteQuietly(tempFile);
+                throw new UncheckedIOException("Failed to open settlement snapshot for round " + roundId, ex);
+            }
+        }
+
+        writer.ascii("{\"roundId\":");
+        writer.number(roundId);
+        writer.ascii(",\"basePerPair\":");
+        writer.number(basePerPair);
+        writer.ascii(",\"premiumPerPair\":");
+        writer.number(premiumPerPair);
+        writer.ascii(",\"pairs\":[");
+        return writer;
+    }
+
+    public void writePair(Integer pairId, PairWinner majority, Long slashed, Long rewards) {
+        if (hash != null) {
+            throw new IllegalStateException("Settlement snapshot already finished");
+        }
+        ascii(firstPair ? "{\"pairId\":" : ",{\"pairId\":");
+        firstPair = false;
+        number(pairId);
+        ascii(",\"majority\":\"");
+        if (majority == null) {
+            write(NULL, 0, NULL.length);
+        } else {
+            ascii(majority.name());
+        }
+        ascii("\",\"slashed\":");
+        number(slashed);
+        ascii(",\"rewards\":");
+        number(rewards);
+        write('}');
+    }
+
+    /**
+     * Closes the document and returns its {@code 0x}-prefixed SHA-256. If the snapshot is being stored, the
+     * compressed file is complete but stays staged until {@link #publish()}.
+     */
+    public String finish() {
+        if (hash != null) {
+            return hash;
+        }
+        ascii("]}");
+        try {
+            out.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write settlement snapshot " + snapshotFile, ex);
+        }
+        hash = "0x" + CryptoPrimitives.toHex(digest.digest());
+        return hash;
+    }
+
+    /**
+     * Atomically moves the finished snapshot into place; a no-op when nothing is being stored or it was already
+     * published.
+     */
+    public void publish() {
+        if (hash == null) {
+            throw new IllegalStateException("Settlement snapshot not finished");
+        }
+        if (snapshotFile == null || published) {
+            return;
+        }
+        try {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to publish settlement snapshot " + snapshotFile, ex);
+        }
+        published = true;
+    }
+
+    /**
+     * Deletes the staged snapshot unless it was published.
+     */
+    public void discard() {
+        if (!published) {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    public Path snapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Releases the output without publishing anything if {@link #finish()} was never reached. A finished snapshot
+     * stays staged for {@link #publish()} or {@link #discard()}.
+     */
+    @Override
+    public void close() {
+        if (hash != null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException _) {
+            // The partial snapshot is discarded below.
+        }
+        deleteQuietly(tempFile);
+    }
+
+    private void number(Long value) {
+        if (value == null) {
+            write(NULL, 0, NULL.length);
+            return;
+        }
+        long remaining = value;
+        int pos = digits.length;
+        boolean negative = remaining < 0;
+        // Accumulate in negative space so Long.MIN_VALUE needs no special case.
+        if (!negative) {
+            remaining = -remaining;
+        }
+        do {
+            digits[--pos] = (byte) ('0' - (int) (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (negative) {
+            digits[--pos] = '-';
+        }
+        write(digits, pos, digits.length - pos);
+    }
+
+    private void number(Integer value) {
+        number(value == null ? null : value.longValue());
+    }
+
+    private void ascii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            write(text.charAt(i));
+        }
+    }
+
+    private void write(int b) {
+        try {
+            out.write(b);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write settlement snapshot", ex);
+        }
+    }
+
+    private void write(byte[] bytes, int offset, int length) {
+        try {
+            out.write(bytes, offset, length);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write settlement snapshot", ex);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException _) {
+            // Best effort: a stray temp file never replaces a published snapshot.
+        }
+    }
+}
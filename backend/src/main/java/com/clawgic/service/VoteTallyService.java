@@ -0,0 +1,249 @@
+package com.clawgic.service;
+
+import com.clawgic.model.Commitment;
+import com.clawgic.model.Curator;
+import com.clawgic.model.CuratorId;
+import com.clawgic.model.PairVoteTally;
+import com.clawgic.model.PairWinner;
+import com.clawgic.model.Round;
+import com.clawgic.repository.CuratorRepository;
+import com.clawgic.repository.PairIdentityStakeRow;
+import com.clawgic.repository.PairVoteTallyRepository;
+import com.clawgic.repository.PairWalletStakeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maintains per-pair running vote tallies as commitments and reveals land.
+ * Each update is a single atomic upsert, so concurrent reveals never lose increments
+ * and settlement can finalize a round from the tallies without rescanning commitments.
+ */
+@Service
+@RequiredArgsConstructor
+public class VoteTallyService {
+
+    private final PairVoteTallyRepository pairVoteTallyRepository;
+    private final CuratorRepository curatorRepository;
+
+    /**
+     * Adds a freshly stored commitment to the committed count and stake of its pair.
+     */
+    @Transactional
+    public void recordCommit(Commitment commitment) {
+        Round round = commitment.getPair().getRound();
+        pairVoteTallyRepository.incrementCommitted(
+                commitment.getPair().getId(),
+                round.getId(),
+                commitment.getStake()
+        );
+    }
+
+    /**
+     * Adds a revealed commitment to the per-choice stake, revealed count and curator score sum of its pair,
+     * and to the quadratic weighting aggregate: by identity when the curator has one, otherwise by wallet,
+     * so every voter settlement pays is also in the denominator it pays against.
+     */
+    @Transactional
+    public void recordReveal(Commitment commitment) {
+        PairWinner choice = commitment.getChoice();
+        if (choice == null) {
+            throw new IllegalArgumentException("Revealed commitment has no choice: " + commitment.getId());
+        }
+
+        Integer pairId = commitment.getPair().getId();
+        Round round = commitment.getPair().getRound();
+        long stake = commitment.getStake();
+
+        Curator curator = curatorRepository.findById(
+                new CuratorId(commitment.getCuratorWallet(), round.getMarket().getId())
+        ).orElse(null);
+        BigDecimal curatorScore = curator != null ? curator.getCuratorScore() : BigDecimal.ZERO;
+
+        pairVoteTallyRepository.incrementRevealed(
+                pairId,
+                round.getId(),
+                choice == PairWinner.A ? stake : 0L,
+                choice == PairWinner.B ? stake : 0L,
+                choice == PairWinner.TIE ? stake : 0L,
+                curatorScore
+        );
+
+        if (curator != null && curator.getIdentityId() != null) {
+            pairVoteTallyRepository.incrementIdentityStake(
+                    pairId,
+                    round.getId(),
+                    choice.name(),
+                    curator.getIdentityId(),
+                    stake
+            );
+        } else {
+            pairVoteTallyRepository.incrementWalletStake(
+                    pairId,
+                    round.getId(),
+                    choice.name(),
+                    commitment.getCuratorWallet(),
+                    stake
+            );
+        }
+    }
+
+    /**
+     * Loads every tally of a round (three queries regardless of commitment volume), keyed by pair ID.
+     * Pairs without any commitment have no entry.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, PairTally> loadRoundTallies(Integer roundId) {
+        Map<Integer, Map<PairWinner, Map<Integer, Long>>> identityStakesByPair = new HashMap<>();
+        for (PairIdentityStakeRow row : pairVoteTallyRepository.findIdentityStakesByRoundId(roundId)) {
+            identityStakesByPair
+                    .computeIfAbsent(row.getPairId(), _ -> new EnumMap<>(PairWinner.class))
+                    .computeIfAbsent(PairWinner.valueOf(row.getChoice()), _ -> new HashMap<>())
+                    .merge(row.getIdentityId(), row.getStake(), Long::sum);
+        }
+        Map<Integer, Map<PairWinner, Map<String, Long>>> walletStakesByPair = new HashMap<>();
+        for (PairWalletStakeRow row : pairVoteTallyRepository.findWalletStakesByRoundId(roundId)) {
+            walletStakesByPair
+                    .computeIfAbsent(row.getPairId(), _ -> new EnumMap<>(PairWinner.class))
+                    .computeIfAbsent(PairWinner.valueOf(row.getChoice()), _ -> new HashMap<>())
+                    .merge(row.getCuratorWallet(), row.getStake(), Long::sum);
+        }
+
+        Map<Integer, PairTally> tallies = new LinkedHashMap<>();
+        for (PairVoteTally tally : pairVoteTallyRepository.findByRoundIdOrderByPairIdAsc(roundId)) {
+            tallies.put(tally.getPairId(), PairTally.from(
+                    tally,
+                    identityStakesByPair.getOrDefault(tally.getPairId(), Map.of()),
+                    walletStakesByPair.getOrDefault(tally.getPairId(), Map.of())
+            ));
+        }
+        return tallies;
+    }
+
+    /**
+     * Immutable view of one pair's running tally.
+     */
+    public record PairTally(
+            Integer pairId,
+            int committedCount,
+            long committedStake,
+            int revealedCount,
+            long stakeA,
+            long stakeB,
+            long stakeTie,
+            BigDecimal curatorScoreSum,
+            Map<PairWinner, Map<Integer, Long>> identityStakesByChoice,
+            Map<PairWinner, Map<String, Long>> walletStakesByChoice
+    ) {
+        public static PairTally empty(Integer pairId) {
+            return new PairTally(pairId, 0, 0L, 0, 0L, 0L, 0L, BigDecimal.ZERO, Map.of(), Map.of());
+        }
+
+        static PairTally from(PairVoteTally tally,
+                              Map<PairWinner, Map<Integer, Long>> identityStakesByChoice,
+                              Map<PairWinner, Map<String, Long>> walletStakesByChoice) {
+            return new PairTally(
+                    tally.getPairId(),
+                    tally.getCommittedCount(),
+                    tally.getCommittedStake(),
+                    tally.getRevealedCount(),
+                    tally.getStakeA(),
+                    tally.getStakeB(),
+                    tally.getStakeTie(),
+                    tally.getCuratorScoreSum(),
+                    identityStakesByChoice,
+                    walletStakesByChoice
+            );
+        }
+
+        /**
+         * Revealed stake per choice, only for choices that received at least one reveal.
+         */
+        public Map<PairWinner, Long> voteStakes() {
+            Map<PairWinner, Long> voteStakes = new EnumMap<>(PairWinner.class);
+            if (stakeA > 0) {
+                voteStakes.put(PairWinner.A, stakeA);
+            }
+            if (stakeB > 0) {
+                voteStakes.put(PairWinner.B, stakeB);
+            }
+            if (stakeTie > 0) {
+                voteStakes.put(PairWinner.TIE, stakeTie);
+            }
+            return voteStakes;
+        }
+
+        /**
+         * Stake-weighted majority; equal leading stakes resolve to TIE, no reveals resolve to null.
+         */
+        public PairWinner majority() {
+            Map<PairWinner, Long> voteStakes = voteStakes();
+            PairWinner majority = voteStakes.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            if (majority == null) {
+                return null;
+            }
+
+            long majorityStake = voteStakes.get(majority);
+            boolean isTie = voteStakes.values().stream().filter(s -> s == majorityStake).count() > 1;
+            return isTie ? PairWinner.TIE : majority;
+        }
+
+        public BigDecimal averageCuratorScore() {
+            return revealedCount > 0
+                    ? curatorScoreSum.divide(BigDecimal.valueOf(revealedCount), 4, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO;
+        }
+
+        public Map<Integer, Long> identityStakes(PairWinner choice) {
+            return identityStakesByChoice.getOrDefault(choice, Map.of());
+        }
+
+        /**
+         * Revealed stake of identity-less curators for {@code choice}, keyed by wallet.
+         */
+        public Map<String, Long> walletStakes(PairWinner choice) {
+            return walletStakesByChoice.getOrDefault(choice, Map.of());
+        }
+
+        /**
+         * Quadratic weighting denominator for {@code choice}: the square roots of every identity's and every
+         * identity-less wallet's revealed stake.
+         */
+        public double sqrtStakeTotal(PairWinner choice) {
+            double total = 0.0;
+            for (long stake : identityStakes(choice).values()) {
+                total += Math.sqrt(stake);
+            }
+            for (long stake : walletStakes(choice).values()) {
+                total += Math.sqrt(stake);
+            }
+            return total;
+        }
+
+        /**
+         * One commitment's part of the {@link #sqrtStakeTotal} numerator. A group (identity, or wallet when the
+         * stake was recorded without one) earns {@code sqrt(groupStake)}, split across its commitments by stake,
+         * so the shares of every voter on {@code choice} sum to at most {@code sqrtStakeTotal(choice)}.
+         */
+        public double sqrtStakeShare(PairWinner choice, Integer identityId, String wallet, long commitmentStake) {
+            Long groupStake = identityId != null ? identityStakes(choice).get(identityId) : null;
+            if (groupStake == null) {
+                groupStake = walletStakes(choice).get(wallet);
+            }
+            if (groupStake == null || groupStake <= 0) {
+                return 0.0;
+            }
+            return Math.sqrt(groupStake) * Math.min(1.0, (double) commitmentStake / groupStake);
+        }
+    }
+}
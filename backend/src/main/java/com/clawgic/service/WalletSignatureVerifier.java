@@ -0,0 +1,37 @@
+package com.clawgic.service;
+
+import java.util.List;
+
+/**
+ * Verifies Ed25519 signatures made by Solana wallets over commit auth messages.
+ * The implementation is chosen with {@code clawgic.commit-security.signature-provider}.
+ */
+public interface WalletSignatureVerifier {
+
+    /**
+     * @return whether {@code signature} is a valid signature of {@code message} by {@code wallet}
+     * @throws IllegalArgumentException if {@code wallet} is not a 32-byte base58 public key
+     */
+    boolean verify(String wallet, byte[] message, byte[] signature);
+
+    /**
+     * Verifies each message independently; one bad signature or wallet never fails the others.
+     *
+     * @return one result per input, in order; an invalid wallet yields {@code false}
+     */
+    default boolean[] verifyAll(List<SignedMessage> messages) {
+        boolean[] results = new boolean[messages.size()];
+        for (int i = 0; i < results.length; i++) {
+            SignedMessage signed = messages.get(i);
+            try {
+                results[i] = verify(signed.wallet(), signed.message(), signed.signature());
+            } catch (IllegalArgumentException ex) {
+                results[i] = false;
+            }
+        }
+        return results;
+    }
+
+    record SignedMessage(String wallet, byte[] message, byte[] signature) {
+    }
+}
@@ -0,0 +1,71 @@
+-- Per-pair running vote tallies maintained as commitments and reveals land.
+-- Settlement and the live provisional-results endpoint read these rows instead
+-- of rescanning every commitment of a round.
+
+CREATE TABLE pair_vote_tally (
+    pair_id INTEGER PRIMARY KEY REFERENCES pair(id) ON DELETE CASCADE,
+    round_id INTEGER NOT NULL REFERENCES round(id) ON DELETE CASCADE,
+    committed_count INTEGER NOT NULL DEFAULT 0,
+    committed_stake BIGINT NOT NULL DEFAULT 0,      -- Sum of all committed stakes (lamports)
+    revealed_count INTEGER NOT NULL DEFAULT 0,
+    stake_a BIGINT NOT NULL DEFAULT 0,              -- Revealed stake for choice A (lamports)
+    stake_b BIGINT NOT NULL DEFAULT 0,              -- Revealed stake for choice B (lamports)
+    stake_tie BIGINT NOT NULL DEFAULT 0,            -- Revealed stake for TIE (lamports)
+    curator_score_sum DECIMAL(14, 4) NOT NULL DEFAULT 0.0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_pair_vote_tally_counts_non_negative CHECK (committed_count >= 0 AND revealed_count >= 0),
+    CONSTRAINT chk_pair_vote_tally_stakes_non_negative CHECK (
+        committed_stake >= 0 AND stake_a >= 0 AND stake_b >= 0 AND stake_tie >= 0
+    )
+);
+
+CREATE INDEX idx_pair_vote_tally_round_id ON pair_vote_tally(round_id);
+
+-- Revealed stake aggregated per (pair, choice, identity) for quadratic reward weighting.
+CREATE TABLE pair_identity_stake (
+    pair_id INTEGER NOT NULL REFERENCES pair(id) ON DELETE CASCADE,
+    round_id INTEGER NOT NULL REFERENCES round(id) ON DELETE CASCADE,
+    choice pair_winner NOT NULL,
+    identity_id INTEGER NOT NULL REFERENCES identity(id) ON DELETE CASCADE,
+    stake BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (pair_id, choice, identity_id),
+    CONSTRAINT chk_pair_identity_stake_non_negative CHECK (stake >= 0)
+);
+
+CREATE INDEX idx_pair_identity_stake_round_id ON pair_identity_stake(round_id);
+
+-- Backfill tallies for commitments that predate this migration.
+INSERT INTO pair_vote_tally (
+    pair_id, round_id, committed_count, committed_stake, revealed_count,
+    stake_a, stake_b, stake_tie, curator_score_sum
+)
+SELECT
+    p.id,
+    p.round_id,
+    COUNT(c.id),
+    COALESCE(SUM(c.stake), 0),
+    COUNT(c.id) FILTER (WHERE c.revealed),
+    COALESCE(SUM(c.stake) FILTER (WHERE c.revealed AND c.choice = 'A'), 0),
+    COALESCE(SUM(c.stake) FILTER (WHERE c.revealed AND c.choice = 'B'), 0),
+    COALESCE(SUM(c.stake) FILTER (WHERE c.revealed AND c.choice = 'TIE'), 0),
+    COALESCE(SUM(cu.curator_score) FILTER (WHERE c.revealed), 0)
+FROM commitment c
+JOIN pair p ON p.id = c.pair_id
+JOIN round r ON r.id = p.round_id
+LEFT JOIN curator cu ON cu.wallet = c.curator_wallet AND cu.market_id = r.market_id
+GROUP BY p.id, p.round_id;
+
+INSERT INTO pair_identity_stake (pair_id, round_id, choice, identity_id, stake)
+SELECT p.id, p.round_id, c.choice, cu.identity_id, SUM(c.stake)
+FROM commitment c
+JOIN pair p ON p.id = c.pair_id
+JOIN round r ON r.id = p.round_id
+JOIN curator cu ON cu.wallet = c.curator_wallet AND cu.market_id = r.market_id
+WHERE c.revealed = true
+GROUP BY p.id, p.round_id, c.choice, cu.identity_id;
+
+CREATE TRIGGER update_pair_vote_tally_updated_at BEFORE UPDATE ON pair_vote_tally
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE pair_vote_tally IS 'Running per-pair commit/reveal tallies updated atomically on each commitment and reveal';
+COMMENT ON TABLE pair_identity_stake IS 'Revealed stake per pair, choice and identity used for quadratic reward weighting';
@@ -0,0 +1,15 @@
+-- Per-round ELO ranking snapshots of each market's feed, written when a round settles.
+-- The delayed feed serves the ranking as of N settled rounds ago with a single lookup.
+
+CREATE TABLE feed_rank_snapshot (
+    round_id INTEGER PRIMARY KEY REFERENCES round(id) ON DELETE CASCADE,
+    market_id INTEGER NOT NULL REFERENCES market(id) ON DELETE CASCADE,
+    post_ids INTEGER[] NOT NULL,                    -- Post IDs ordered by ELO descending
+    elos INTEGER[] NOT NULL,                        -- ELO of each post at settlement, parallel to post_ids
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_feed_rank_snapshot_parallel_arrays CHECK (
+        COALESCE(array_length(post_ids, 1), 0) = COALESCE(array_length(elos, 1), 0)
+    )
+);
+
+CREATE INDEX idx_feed_rank_snapshot_market_round ON feed_rank_snapshot(market_id, round_id DESC);
@@ -0,0 +1,14 @@
+-- Composite indexes matching the sort keys of keyset-paginated list endpoints,
+-- so every page is an index range scan regardless of depth.
+
+CREATE INDEX idx_round_market_created_at_id
+    ON round(market_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_curator_market_score_wallet
+    ON curator(market_id, curator_score DESC, wallet ASC);
+
+CREATE INDEX idx_clawgic_tournaments_results_order
+    ON clawgic_tournaments(start_time DESC, created_at DESC, tournament_id DESC);
+
+CREATE INDEX idx_clawgic_agent_elo_leaderboard_order
+    ON clawgic_agent_elo(current_elo DESC, matches_played DESC);
@@ -0,0 +1,26 @@
+-- Marks resolved matches whose winner has been carried into the next bracket match.
+-- Match resolution propagates inline; the lifecycle sweep only picks up unmarked stragglers.
+
+ALTER TABLE clawgic_matches
+    ADD COLUMN winner_propagated_at TIMESTAMPTZ;
+
+-- Existing resolved matches whose next match already holds the winner, or has moved past
+-- SCHEDULED, need no further propagation.
+UPDATE clawgic_matches resolved
+SET winner_propagated_at = resolved.updated_at
+FROM clawgic_matches next_match
+WHERE next_match.match_id = resolved.next_match_id
+  AND resolved.status IN ('COMPLETED', 'FORFEITED')
+  AND resolved.winner_agent_id IS NOT NULL
+  AND (
+      next_match.status <> 'SCHEDULED'
+      OR (resolved.next_match_agent_slot = 1 AND next_match.agent1_id = resolved.winner_agent_id)
+      OR (resolved.next_match_agent_slot = 2 AND next_match.agent2_id = resolved.winner_agent_id)
+  );
+
+CREATE INDEX idx_clawgic_matches_pending_winner_propagation
+    ON clawgic_matches(updated_at ASC)
+    WHERE status IN ('COMPLETED', 'FORFEITED')
+      AND winner_agent_id IS NOT NULL
+      AND next_match_id IS NOT NULL
+      AND winner_propagated_at IS NULL;
@@ -0,0 +1,30 @@
+-- Wakes Clawgic lifecycle workers through LISTEN clawgic_lifecycle instead of waiting for the next poll.
+-- Payloads are coarse (table:status) so Postgres folds repeated notifications within one transaction.
+
+CREATE OR REPLACE FUNCTION notify_clawgic_lifecycle()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('clawgic_lifecycle', TG_TABLE_NAME || ':' || NEW.status);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Resolved matches free the next bracket slot; a filled SCHEDULED match is ready to execute.
+CREATE TRIGGER trg_clawgic_matches_lifecycle_notify
+    AFTER UPDATE OF status, agent1_id, agent2_id ON clawgic_matches
+    FOR EACH ROW
+    WHEN (
+        (OLD.status IS DISTINCT FROM NEW.status
+            OR OLD.agent1_id IS DISTINCT FROM NEW.agent1_id
+            OR OLD.agent2_id IS DISTINCT FROM NEW.agent2_id)
+        AND (NEW.status IN ('COMPLETED', 'FORFEITED')
+            OR (NEW.status = 'SCHEDULED' AND NEW.agent1_id IS NOT NULL AND NEW.agent2_id IS NOT NULL))
+    )
+    EXECUTE FUNCTION notify_clawgic_lifecycle();
+
+-- Locking or activating a tournament (or moving its start) changes when the next activation is due.
+CREATE TRIGGER trg_clawgic_tournaments_lifecycle_notify
+    AFTER UPDATE OF status, start_time ON clawgic_tournaments
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status OR OLD.start_time IS DISTINCT FROM NEW.start_time)
+    EXECUTE FUNCTION notify_clawgic_lifecycle();
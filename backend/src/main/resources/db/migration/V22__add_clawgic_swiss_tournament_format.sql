@@ -0,0 +1,28 @@
+-- Swiss-system tournaments: every agent plays each round against an opponent on the same score,
+-- for a fixed number of rounds. Bye rounds are tracked per entry rather than as match rows because
+-- every persisted match needs two agents.
+
+ALTER TABLE clawgic_tournaments
+    ADD COLUMN format VARCHAR(32) NOT NULL DEFAULT 'SINGLE_ELIMINATION',
+    ADD COLUMN swiss_rounds INTEGER,
+    ADD CONSTRAINT chk_clawgic_tournaments_format_valid CHECK (
+        format IN ('SINGLE_ELIMINATION', 'SWISS')
+    ),
+    ADD CONSTRAINT chk_clawgic_tournaments_swiss_rounds_valid CHECK (
+        (format = 'SWISS' AND swiss_rounds > 0 AND swiss_rounds < bracket_size)
+        OR (format <> 'SWISS' AND swiss_rounds IS NULL)
+    );
+
+-- A Swiss tournament plays up to swiss_rounds * floor(bracket_size / 2) matches.
+ALTER TABLE clawgic_tournaments
+    DROP CONSTRAINT chk_clawgic_tournaments_match_summary_le_total,
+    ADD CONSTRAINT chk_clawgic_tournaments_match_summary_le_total CHECK (
+        matches_completed + matches_forfeited <= CASE
+            WHEN format = 'SWISS' THEN swiss_rounds * (bracket_size / 2)
+            ELSE bracket_size - 1
+        END
+    );
+
+ALTER TABLE clawgic_tournament_entries
+    ADD COLUMN swiss_byes INTEGER NOT NULL DEFAULT 0,
+    ADD CONSTRAINT chk_clawgic_tournament_entries_swiss_byes_non_negative CHECK (swiss_byes >= 0);
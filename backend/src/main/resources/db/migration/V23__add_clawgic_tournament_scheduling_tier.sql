@@ -0,0 +1,13 @@
+-- Fair-share match execution: each IN_PROGRESS tournament is weighted by its scheduling tier
+-- (clawgic.worker.scheduling-tier-weights) instead of the oldest tournament draining the executor.
+
+ALTER TABLE clawgic_tournaments
+    ADD COLUMN scheduling_tier VARCHAR(32) NOT NULL DEFAULT 'STANDARD',
+    ADD CONSTRAINT chk_clawgic_tournaments_scheduling_tier_not_blank CHECK (btrim(scheduling_tier) <> '');
+
+-- Per-tournament ready queues, latest round first.
+CREATE INDEX idx_clawgic_matches_ready_queue
+    ON clawgic_matches(tournament_id, bracket_round DESC, bracket_position ASC, created_at ASC)
+    WHERE status = 'SCHEDULED'
+      AND agent1_id IS NOT NULL
+      AND agent2_id IS NOT NULL;
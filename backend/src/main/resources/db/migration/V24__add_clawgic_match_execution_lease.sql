@@ -0,0 +1,17 @@
+-- Crash-resumable debate execution: the worker running an IN_PROGRESS match holds a lease it renews with every
+-- persisted turn. Once the lease expires, the recovery sweep takes the match over and resumes from the last turn
+-- in transcript_json.
+
+ALTER TABLE clawgic_matches
+    ADD COLUMN execution_lease_token UUID,
+    ADD COLUMN execution_lease_expires_at TIMESTAMP WITH TIME ZONE,
+    ADD CONSTRAINT chk_clawgic_matches_execution_lease_pair CHECK (
+        (execution_lease_token IS NULL) = (execution_lease_expires_at IS NULL)
+    ),
+    ADD CONSTRAINT chk_clawgic_matches_execution_lease_in_progress CHECK (
+        execution_lease_token IS NULL OR status = 'IN_PROGRESS'
+    );
+
+CREATE INDEX idx_clawgic_matches_execution_lease_expiry
+    ON clawgic_matches(execution_lease_expires_at NULLS FIRST)
+    WHERE status = 'IN_PROGRESS';
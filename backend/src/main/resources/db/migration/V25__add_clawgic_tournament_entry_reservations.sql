@@ -0,0 +1,28 @@
+-- Tournament entry reservations: an entrant first claims a slot with one conditional UPDATE on current_entries,
+-- then verifies payment while holding it. current_entries counts confirmed entries plus live reservations; a
+-- reservation that outlives its TTL is reclaimed by the next entrant of the same tournament.
+
+ALTER TABLE clawgic_tournaments
+    ADD COLUMN current_entries INTEGER NOT NULL DEFAULT 0,
+    ADD CONSTRAINT chk_clawgic_tournaments_current_entries_non_negative CHECK (current_entries >= 0);
+
+UPDATE clawgic_tournaments tournament
+SET current_entries = entry_counts.entry_count
+FROM (
+    SELECT tournament_id, COUNT(*) AS entry_count
+    FROM clawgic_tournament_entries
+    GROUP BY tournament_id
+) entry_counts
+WHERE entry_counts.tournament_id = tournament.tournament_id;
+
+CREATE TABLE clawgic_tournament_entry_reservations (
+    reservation_id UUID PRIMARY KEY,
+    tournament_id UUID NOT NULL REFERENCES clawgic_tournaments(tournament_id) ON DELETE CASCADE,
+    agent_id UUID NOT NULL REFERENCES clawgic_agents(agent_id) ON DELETE CASCADE,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_clawgic_tournament_entry_reservations_tournament_agent UNIQUE (tournament_id, agent_id)
+);
+
+CREATE INDEX idx_clawgic_tournament_entry_reservations_expiry
+    ON clawgic_tournament_entry_reservations(tournament_id, expires_at);
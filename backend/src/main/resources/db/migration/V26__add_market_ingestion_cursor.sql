@@ -0,0 +1,6 @@
+-- Per-market ingestion cursor: the Moltbook paging token after the newest post already ingested, so each cycle
+-- pages through only posts it has not seen. NULL means "start from the latest page".
+
+ALTER TABLE market
+    ADD COLUMN ingestion_cursor VARCHAR(255),
+    ADD COLUMN ingestion_cursor_updated_at TIMESTAMP WITH TIME ZONE;
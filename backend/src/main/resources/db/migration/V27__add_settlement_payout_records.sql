@@ -0,0 +1,19 @@
+-- Per-curator payout records written when a round settles, and the Merkle root over them.
+-- Leaves are ordered by curator wallet; leaf_index is the record's position in the round's payout tree,
+-- so an inclusion proof for one wallet needs only the round's records, never its full settlement snapshot.
+
+ALTER TABLE round
+    ADD COLUMN payout_merkle_root VARCHAR(64);
+
+CREATE TABLE settlement_payout (
+    id SERIAL PRIMARY KEY,
+    round_id INTEGER NOT NULL REFERENCES round(id) ON DELETE CASCADE,
+    curator_wallet VARCHAR(44) NOT NULL,
+    leaf_index INTEGER NOT NULL,
+    earned BIGINT NOT NULL DEFAULT 0,               -- Rewards credited to the curator in this round
+    lost BIGINT NOT NULL DEFAULT 0,                 -- Stake debited from the curator in this round
+    pair_ids INTEGER[] NOT NULL,                    -- Settled pairs the curator committed to, ascending
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_settlement_payout_round_wallet UNIQUE (round_id, curator_wallet),
+    CONSTRAINT uq_settlement_payout_round_leaf UNIQUE (round_id, leaf_index)
+);
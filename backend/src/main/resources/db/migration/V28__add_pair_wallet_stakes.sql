@@ -0,0 +1,28 @@
+-- Revealed stake of curators without an identity, aggregated per (pair, choice, wallet).
+-- pair_identity_stake only covers identity-backed curators; settlement pays identity-less voters too, so their
+-- stake must be in the quadratic denominator under their own key rather than dropped from it.
+
+CREATE TABLE pair_wallet_stake (
+    pair_id INTEGER NOT NULL REFERENCES pair(id) ON DELETE CASCADE,
+    round_id INTEGER NOT NULL REFERENCES round(id) ON DELETE CASCADE,
+    choice pair_winner NOT NULL,
+    curator_wallet VARCHAR(44) NOT NULL,
+    stake BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (pair_id, choice, curator_wallet),
+    CONSTRAINT chk_pair_wallet_stake_non_negative CHECK (stake >= 0)
+);
+
+CREATE INDEX idx_pair_wallet_stake_round_id ON pair_wallet_stake(round_id);
+
+-- Backfill reveals that were left out of pair_identity_stake.
+INSERT INTO pair_wallet_stake (pair_id, round_id, choice, curator_wallet, stake)
+SELECT p.id, p.round_id, c.choice, c.curator_wallet, SUM(c.stake)
+FROM commitment c
+JOIN pair p ON p.id = c.pair_id
+JOIN round r ON r.id = p.round_id
+LEFT JOIN curator cu ON cu.wallet = c.curator_wallet AND cu.market_id = r.market_id
+WHERE c.revealed = true
+  AND cu.identity_id IS NULL
+GROUP BY p.id, p.round_id, c.choice, c.curator_wallet;
+
+COMMENT ON TABLE pair_wallet_stake IS 'Revealed stake per pair, choice and wallet for curators without an identity';
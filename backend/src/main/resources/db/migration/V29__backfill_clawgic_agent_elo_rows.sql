@@ -0,0 +1,9 @@
+-- Every agent gets its ELO row at registration; backfill any agent that predates that so the
+-- leaderboard can inner-join clawgic_agent_elo and seek on its real columns instead of COALESCE defaults.
+
+INSERT INTO clawgic_agent_elo (agent_id)
+SELECT agent.agent_id
+FROM clawgic_agents agent
+WHERE NOT EXISTS (
+    SELECT 1 FROM clawgic_agent_elo elo WHERE elo.agent_id = agent.agent_id
+);
@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -51,10 +52,18 @@ class ClawgicConfigurationPropertiesTest {
             assertEquals(4, clawgic.getTournament().getMvpBracketSize());
             assertEquals(new BigDecimal("0.250000"), clawgic.getTournament().getJudgeFeeUsdcPerCompletedMatch());
             assertEquals(new BigDecimal("0.000000"), clawgic.getTournament().getSystemRetentionRate());
+            assertEquals(120L, clawgic.getTournament().getEntryReservationTtlSeconds());
             assertTrue(clawgic.getWorker().isEnabled());
             assertEquals("redis", clawgic.getWorker().getQueueMode());
             assertEquals("clawgic:judge:queue", clawgic.getWorker().getRedisQueueKey());
             assertEquals(1L, clawgic.getWorker().getRedisPopTimeoutSeconds());
+            assertTrue(clawgic.getWorker().isNotifyEnabled());
+            assertEquals(60_000L, clawgic.getWorker().getFallbackPollIntervalMs());
+            assertEquals(16, clawgic.getWorker().getMaxResumedMatchesPerTick());
+            assertEquals(60, clawgic.getDebate().getExecutionLeaseSeconds());
+            assertEquals(256, clawgic.getSpectator().getSubscriberBufferSize());
+            assertEquals(1_800_000L, clawgic.getSpectator().getSseTimeoutMs());
+            assertEquals(Map.of("STANDARD", 1.0), clawgic.getWorker().getSchedulingTierWeights());
             assertEquals(3, clawgic.getDebate().getMaxExchangesPerAgent());
             assertEquals(180, clawgic.getDebate().getMaxResponseWords());
             assertEquals(512, clawgic.getDebate().getMaxResponseTokens());
@@ -73,7 +82,14 @@ class ClawgicConfigurationPropertiesTest {
             assertEquals(20_000, provider.getReadTimeoutMs());
             assertEquals(2, provider.getMaxTokensPerWord());
             assertEquals(64, provider.getMinResponseTokens());
+            assertTrue(provider.isStreamingEnabled());
+            assertEquals(4, provider.getMockStreamChunkWords());
+            assertEquals(0L, provider.getMockStreamChunkDelayMs());
             assertTrue(provider.getKeyRefModels().isEmpty());
+            assertFalse(provider.getHedging().isEnabled());
+            assertEquals(0.95d, provider.getHedging().getLatencyPercentile());
+            assertEquals(20, provider.getHedging().getMinSamples());
+            assertEquals(0.1d, provider.getHedging().getBudgetRatio());
 
             assertTrue(judge.isEnabled());
             assertEquals("openai", judge.getProvider());
@@ -87,6 +103,8 @@ class ClawgicConfigurationPropertiesTest {
 
             assertEquals("local-dev-v1", apiKeyEncryption.getActiveKeyId());
             assertEquals(4096, apiKeyEncryption.getMaxPlaintextLength());
+            assertEquals(256, apiKeyEncryption.getDecryptedCacheMaxEntries());
+            assertEquals(300L, apiKeyEncryption.getDecryptedCacheTtlSeconds());
             assertTrue(apiKeyEncryption.getKeys().containsKey("local-dev-v1"));
             assertEquals(
                     ClawgicAgentKeyEncryptionProperties.DEFAULT_LOCAL_DEV_KEY_BASE64,
@@ -102,6 +120,10 @@ class ClawgicConfigurationPropertiesTest {
             assertEquals("USD Coin", x402.getEip3009DomainName());
             assertEquals("2", x402.getEip3009DomainVersion());
             assertEquals(6, x402.getTokenDecimals());
+            assertFalse(x402.isAsyncVerificationEnabled());
+            assertEquals(4, x402.getVerifierPoolSize());
+            assertEquals(256, x402.getVerifierQueueCapacity());
+            assertEquals(4096, x402.getVerificationCacheMaxEntries());
         });
     }
 
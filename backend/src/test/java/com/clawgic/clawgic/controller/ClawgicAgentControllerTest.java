@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -164,6 +165,23 @@ class ClawgicAgentControllerTest {
                 .andExpect(jsonPath("$.entries[1].agentId").value(secondAgentId.toString()));
     }
 
+    @Test
+    void getLeaderboardWithCursorUsesKeysetPage() throws Exception {
+        UUID firstAgentId = UUID.fromString("00000000-0000-0000-0000-000000000403");
+        UUID secondAgentId = UUID.fromString("00000000-0000-0000-0000-000000000404");
+        when(clawgicAgentService.getLeaderboardAfter(eq("page-cursor"), eq(2)))
+                .thenReturn(sampleLeaderboardPage(firstAgentId, secondAgentId));
+
+        mockMvc.perform(get("/api/clawgic/agents/leaderboard")
+                        .param("cursor", "page-cursor")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next-page"))
+                .andExpect(jsonPath("$.entries.length()").value(2));
+
+        verify(clawgicAgentService, never()).getLeaderboard(anyInt(), anyInt());
+    }
+
     private static ClawgicAgentResponses.AgentDetail sampleDetail(UUID agentId, int elo) {
         OffsetDateTime timestamp = OffsetDateTime.parse("2026-02-27T12:00:00Z");
         return new ClawgicAgentResponses.AgentDetail(
@@ -238,8 +256,9 @@ class ClawgicAgentControllerTest {
                 ),
                 5,
                 2,
-                12,
-                true
+                12L,
+                true,
+                "next-page"
         );
     }
 }
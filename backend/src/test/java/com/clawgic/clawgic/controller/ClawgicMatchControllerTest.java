@@ -7,6 +7,7 @@ import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import com.clawgic.clawgic.model.DebatePhase;
 import com.clawgic.clawgic.service.ClawgicMatchService;
+import com.clawgic.clawgic.service.ClawgicMatchSpectatorFeed;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +21,11 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -34,6 +40,9 @@ class ClawgicMatchControllerTest {
     @MockitoBean
     private ClawgicMatchService clawgicMatchService;
 
+    @MockitoBean
+    private ClawgicMatchSpectatorFeed clawgicMatchSpectatorFeed;
+
     private static final UUID MATCH_ID = UUID.fromString("00000000-0000-0000-0000-000000000801");
     private static final UUID TOURNAMENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000401");
     private static final UUID AGENT_1_ID = UUID.fromString("00000000-0000-0000-0000-000000000101");
@@ -69,6 +78,17 @@ class ClawgicMatchControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void streamMatchNotFoundReturns404WithoutSubscribing() throws Exception {
+        UUID unknownId = UUID.fromString("00000000-0000-0000-0000-999999999999");
+        doThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Match not found: " + unknownId))
+                .when(clawgicMatchService).requireMatch(unknownId);
+
+        mockMvc.perform(get("/api/clawgic/matches/{matchId}/stream", unknownId))
+                .andExpect(status().isNotFound());
+        verify(clawgicMatchSpectatorFeed, never()).subscribe(eq(unknownId), any());
+    }
+
     @Test
     void getMatchCompletedReturnsWinnerAndElo() throws Exception {
         var detail = sampleCompletedMatchDetail();
@@ -5,18 +5,25 @@ import com.clawgic.clawgic.dto.ClawgicTournamentResponses;
 import com.clawgic.clawgic.model.ClawgicMatchJudgementStatus;
 import com.clawgic.clawgic.model.ClawgicMatchStatus;
 import com.clawgic.clawgic.model.ClawgicTournamentEntryStatus;
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import com.clawgic.clawgic.model.DebatePhase;
+import com.clawgic.clawgic.model.TournamentEntrySubmissionState;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.clawgic.clawgic.service.ClawgicTournamentService;
 import com.clawgic.clawgic.web.TournamentEntryConflictException;
+import com.clawgic.service.ImmutableResponseCache;
+import com.clawgic.service.KeysetCursor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
@@ -26,14 +33,17 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ClawgicTournamentController.class)
+@Import(ImmutableResponseCache.class)
 class ClawgicTournamentControllerTest {
 
     @Autowired
@@ -119,14 +129,69 @@ class ClawgicTournamentControllerTest {
     @Test
     void listTournamentsForResultsReturnsSummaries() throws Exception {
         UUID completedId = UUID.fromString("00000000-0000-0000-0000-000000000413");
-        when(clawgicTournamentService.listTournamentsForResults())
-                .thenReturn(List.of(sampleSummary(completedId, "Completed Debate")));
+        when(clawgicTournamentService.listTournamentsForResults(null, 50))
+                .thenReturn(new ClawgicTournamentResponses.TournamentSummaryPage(
+                        List.of(sampleSummary(completedId, "Completed Debate")),
+                        "next-page"
+                ));
 
         mockMvc.perform(get("/api/clawgic/tournaments/results"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].tournamentId").value(completedId.toString()))
-                .andExpect(jsonPath("$[0].topic").value("Completed Debate"));
+                .andExpect(jsonPath("$[0].topic").value("Completed Debate"))
+                .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER, "next-page"));
+    }
+
+    @Test
+    void getTournamentResultsServesCompletedTournamentFromImmutableCache() throws Exception {
+        UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000417");
+        UUID matchId = UUID.fromString("00000000-0000-0000-0000-000000000418");
+        ClawgicTournamentResponses.TournamentResults scheduled = sampleTournamentResults(tournamentId, matchId);
+        when(clawgicTournamentService.getTournamentResults(tournamentId))
+                .thenReturn(new ClawgicTournamentResponses.TournamentResults(
+                        sampleDetail(tournamentId, ClawgicTournamentStatus.COMPLETED),
+                        scheduled.entries(),
+                        scheduled.matches(),
+                        scheduled.settlement()
+                ));
+
+        MvcResult first = mockMvc.perform(get("/api/clawgic/tournaments/{tournamentId}/results", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.tournament.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.matches[0].matchId").value(matchId.toString()))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/clawgic/tournaments/{tournamentId}/results", tournamentId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mockMvc.perform(get("/api/clawgic/tournaments/{tournamentId}/results", tournamentId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(clawgicTournamentService, times(1)).getTournamentResults(tournamentId);
+    }
+
+    @Test
+    void getTournamentResultsDoesNotCacheUnfinishedTournament() throws Exception {
+        UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000419");
+        UUID matchId = UUID.fromString("00000000-0000-0000-0000-000000000420");
+        when(clawgicTournamentService.getTournamentResults(tournamentId))
+                .thenReturn(sampleTournamentResults(tournamentId, matchId));
+
+        mockMvc.perform(get("/api/clawgic/tournaments/{tournamentId}/results", tournamentId))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/clawgic/tournaments/{tournamentId}/results", tournamentId))
+                .andExpect(status().isOk());
+
+        verify(clawgicTournamentService, times(2)).getTournamentResults(tournamentId);
     }
 
     @Test
@@ -207,6 +272,64 @@ class ClawgicTournamentControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    void enterTournamentWithAsyncVerificationReturnsAcceptedWithStatusLocation() throws Exception {
+        UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000424");
+        UUID agentId = UUID.fromString("00000000-0000-0000-0000-000000000421");
+        UUID paymentAuthorizationId = UUID.fromString("00000000-0000-0000-0000-000000000425");
+        when(clawgicTournamentService.isAsyncPaymentVerificationEnabled()).thenReturn(true);
+        when(clawgicTournamentService.submitTournamentEntry(any(), any(), any()))
+                .thenReturn(new ClawgicTournamentResponses.TournamentEntrySubmission(
+                        paymentAuthorizationId,
+                        tournamentId,
+                        agentId,
+                        TournamentEntrySubmissionState.PENDING,
+                        null,
+                        null
+                ));
+
+        mockMvc.perform(post("/api/clawgic/tournaments/{tournamentId}/enter", tournamentId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "agentId": "00000000-0000-0000-0000-000000000421"
+                                }
+                                """))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(
+                        HttpHeaders.LOCATION,
+                        "/api/clawgic/tournaments/" + tournamentId + "/entry-submissions/" + paymentAuthorizationId
+                ))
+                .andExpect(jsonPath("$.state").value("PENDING"))
+                .andExpect(jsonPath("$.paymentAuthorizationId").value(paymentAuthorizationId.toString()));
+        verify(clawgicTournamentService, never()).enterTournament(any(), any(), any());
+    }
+
+    @Test
+    void getEntrySubmissionReturnsConfirmedEntry() throws Exception {
+        UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000426");
+        UUID agentId = UUID.fromString("00000000-0000-0000-0000-000000000421");
+        UUID paymentAuthorizationId = UUID.fromString("00000000-0000-0000-0000-000000000427");
+        when(clawgicTournamentService.getEntrySubmission(tournamentId, paymentAuthorizationId))
+                .thenReturn(new ClawgicTournamentResponses.TournamentEntrySubmission(
+                        paymentAuthorizationId,
+                        tournamentId,
+                        agentId,
+                        TournamentEntrySubmissionState.CONFIRMED,
+                        null,
+                        sampleEntry(tournamentId, agentId)
+                ));
+
+        mockMvc.perform(get(
+                        "/api/clawgic/tournaments/{tournamentId}/entry-submissions/{paymentAuthorizationId}",
+                        tournamentId,
+                        paymentAuthorizationId
+                ))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CONFIRMED"))
+                .andExpect(jsonPath("$.entry.status").value("CONFIRMED"));
+    }
+
     @Test
     void createMvpBracketReturnsCreatedPayload() throws Exception {
         UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000430");
@@ -241,11 +364,18 @@ class ClawgicTournamentControllerTest {
     }
 
     private static ClawgicTournamentResponses.TournamentDetail sampleDetail(UUID tournamentId) {
+        return sampleDetail(tournamentId, ClawgicTournamentStatus.SCHEDULED);
+    }
+
+    private static ClawgicTournamentResponses.TournamentDetail sampleDetail(
+            UUID tournamentId,
+            ClawgicTournamentStatus status
+    ) {
         OffsetDateTime created = OffsetDateTime.parse("2026-05-01T12:00:00Z");
         return new ClawgicTournamentResponses.TournamentDetail(
                 tournamentId,
                 "Should judges reveal chain-of-thought?",
-                ClawgicTournamentStatus.SCHEDULED,
+                status,
                 4,
                 4,
                 OffsetDateTime.parse("2026-06-01T14:00:00Z"),
@@ -257,6 +387,8 @@ class ClawgicTournamentControllerTest {
                 created,
                 created,
                 null,
+                null,
+                ClawgicTournamentFormat.SINGLE_ELIMINATION,
                 null
         );
     }
@@ -294,6 +426,7 @@ class ClawgicTournamentControllerTest {
                 ClawgicTournamentEntryStatus.CONFIRMED,
                 null,
                 1000,
+                0,
                 now,
                 now
         );
@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AnthropicResponseParserTest {
@@ -35,6 +36,33 @@ class AnthropicResponseParserTest {
         assertEquals("Anthropic response content[] did not include text segments", ex.getMessage());
     }
 
+    @Test
+    void extractsStreamDeltaFromTextDeltaEvents() {
+        String textDelta = """
+                {"type":"content_block_delta","index":0,"delta":{"type":"text_delta","text":"Claims need"}}
+                """;
+        String blockStart = """
+                {"type":"content_block_start","index":0,"content_block":{"type":"text","text":""}}
+                """;
+
+        assertEquals("Claims need", AnthropicResponseParser.extractStreamDelta(objectMapper, textDelta));
+        assertNull(AnthropicResponseParser.extractStreamDelta(objectMapper, blockStart));
+    }
+
+    @Test
+    void rejectsStreamErrorEvents() {
+        String errorEvent = """
+                {"type":"error","error":{"type":"overloaded_error","message":"Overloaded"}}
+                """;
+
+        IllegalStateException ex = assertThrows(
+                IllegalStateException.class,
+                () -> AnthropicResponseParser.extractStreamDelta(objectMapper, errorEvent)
+        );
+
+        assertEquals("Anthropic stream error: Overloaded", ex.getMessage());
+    }
+
     private static String fixture(String resourcePath) throws IOException {
         try (InputStream inputStream = AnthropicResponseParserTest.class.getClassLoader().getResourceAsStream(resourcePath)) {
             if (inputStream == null) {
@@ -0,0 +1,112 @@
+package com.clawgic.clawgic.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClawgicProviderStreamCollectorTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Test
+    void acceptStopsWhenWordPastLimitStartsMidChunk() {
+        ClawgicProviderStreamCollector collector = new ClawgicProviderStreamCollector(4, null);
+
+        assertTrue(collector.accept("Evidence beats"));
+        assertTrue(collector.accept(" rhetoric, every"));
+        assertFalse(collector.accept(" time we test it."));
+
+        ClawgicProviderTurnResponse response = collector.toResponse("Test", "model-x");
+        assertEquals("Evidence beats rhetoric, every time", response.content());
+        assertEquals(ClawgicProviderTurnResponse.Cutoff.WORD_LIMIT, response.cutoff());
+        assertNotNull(response.timeToFirstToken());
+    }
+
+    @Test
+    void acceptCountsWordSplitAcrossChunksOnce() {
+        ClawgicProviderStreamCollector collector = new ClawgicProviderStreamCollector(2, null);
+
+        assertTrue(collector.accept("falsi"));
+        assertTrue(collector.accept("fiable claims"));
+        assertTrue(collector.accept("\n"));
+        assertFalse(collector.accept("only"));
+
+        assertEquals("falsifiable claims", collector.toResponse("Test", "model-x").content());
+    }
+
+    @Test
+    void acceptForwardsOnlyKeptTextToListenerWithOffsets() {
+        List<String> deltas = new ArrayList<>();
+        ClawgicProviderStreamCollector collector = new ClawgicProviderStreamCollector(
+                3,
+                null,
+                (offset, delta) -> deltas.add(offset + ":" + delta)
+        );
+
+        assertTrue(collector.accept("Evidence "));
+        assertTrue(collector.accept(""));
+        assertFalse(collector.accept("beats rhetoric always"));
+
+        assertEquals(List.of("0:Evidence ", "9:beats rhetoric "), deltas);
+    }
+
+    @Test
+    void acceptStopsOnceDeadlinePassesAndKeepsCollectedText() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        ClawgicProviderStreamCollector collector = new ClawgicProviderStreamCollector(50, NOW, clock);
+
+        assertFalse(collector.accept("Partial argument"));
+
+        ClawgicProviderTurnResponse response = collector.toResponse("Test", "model-x");
+        assertEquals("Partial argument", response.content());
+        assertEquals(ClawgicProviderTurnResponse.Cutoff.DEADLINE, response.cutoff());
+    }
+
+    @Test
+    void keepAliveEventsDoNotStartTheFirstTokenClock() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        ClawgicProviderStreamCollector collector =
+                new ClawgicProviderStreamCollector(50, NOW.plusSeconds(5), clock);
+
+        assertTrue(collector.accept(null));
+        assertTrue(collector.accept(""));
+
+        IllegalArgumentException ex = assertThrows(
+                IllegalArgumentException.class,
+                () -> collector.toResponse("Test", "model-x")
+        );
+        assertEquals("Test provider stream did not include any text", ex.getMessage());
+    }
+
+    @Test
+    void toResponseFailsWhenDeadlinePassesBeforeAnyText() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        ClawgicProviderStreamCollector collector = new ClawgicProviderStreamCollector(50, NOW, clock);
+
+        assertFalse(collector.accept(null));
+
+        assertThrows(IllegalStateException.class, () -> collector.toResponse("Test", "model-x"));
+    }
+
+    @Test
+    void responsesWithinBudgetAreNotMarkedAsCutOff() {
+        ClawgicProviderStreamCollector collector = new ClawgicProviderStreamCollector(10, null);
+
+        assertTrue(collector.accept("Short and complete."));
+
+        ClawgicProviderTurnResponse response = collector.toResponse("Test", "model-x");
+        assertEquals(ClawgicProviderTurnResponse.Cutoff.NONE, response.cutoff());
+        assertNull(new ClawgicProviderTurnResponse("Blocking turn.", "model-x").timeToFirstToken());
+    }
+}
@@ -0,0 +1,140 @@
+package com.clawgic.clawgic.provider;
+
+import com.clawgic.clawgic.config.ClawgicProviderProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClawgicProviderStreamSupportTest {
+
+    @Test
+    void readEventsParsesNamedAndMultiLineEvents() throws IOException {
+        String body = """
+                : keep-alive comment
+                event: content_block_delta
+                data: {"first":true}
+
+                data: line one
+                data: line two
+
+                data:[DONE]
+                """;
+
+        List<ClawgicProviderStreamSupport.SseEvent> events = new ArrayList<>();
+        ClawgicProviderStreamSupport.readEvents(stream(body), events::add);
+
+        assertEquals(
+                List.of(
+                        new ClawgicProviderStreamSupport.SseEvent("content_block_delta", "{\"first\":true}"),
+                        new ClawgicProviderStreamSupport.SseEvent(null, "line one\nline two"),
+                        new ClawgicProviderStreamSupport.SseEvent(null, "[DONE]")
+                ),
+                events
+        );
+    }
+
+    @Test
+    void readEventsStopsReadingWhenHandlerDeclines() throws IOException {
+        String body = """
+                data: one
+
+                data: two
+
+                data: three
+
+                """;
+
+        List<String> seen = new ArrayList<>();
+        ClawgicProviderStreamSupport.readEvents(stream(body), event -> {
+            seen.add(event.data());
+            return seen.size() < 2;
+        });
+
+        assertEquals(List.of("one", "two"), seen);
+    }
+
+    @Test
+    void hedgingForcesTheStreamingPath() {
+        ClawgicProviderProperties properties = new ClawgicProviderProperties();
+        properties.setStreamingEnabled(false);
+        assertFalse(ClawgicProviderStreamSupport.useStreaming(properties));
+
+        properties.getHedging().setEnabled(true);
+        assertTrue(ClawgicProviderStreamSupport.useStreaming(properties));
+    }
+
+    @Test
+    void interruptAbortsStreamingReadBlockedOnStalledProvider() throws Exception {
+        CountDownLatch providerReleased = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/stream", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream body = exchange.getResponseBody();
+            body.write("data: first\n\n".getBytes(StandardCharsets.UTF_8));
+            body.flush();
+            try {
+                providerReleased.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            ClawgicProviderProperties properties = new ClawgicProviderProperties();
+            properties.setReadTimeoutMs(60_000);
+            RestClient restClient = RestClient.builder()
+                    .requestFactory(ClawgicProviderStreamSupport.newStreamingRequestFactory(properties))
+                    .baseUrl("http://localhost:" + server.getAddress().getPort())
+                    .build();
+
+            CountDownLatch firstEventRead = new CountDownLatch(1);
+            CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+            Thread reader = Thread.ofVirtual().start(() -> {
+                try {
+                    restClient.get().uri("/stream").exchange((_, response) -> {
+                        ClawgicProviderStreamSupport.readEvents(response.getBody(), _ -> {
+                            firstEventRead.countDown();
+                            return true;
+                        });
+                        return null;
+                    });
+                    outcome.complete(null);
+                } catch (RuntimeException ex) {
+                    outcome.complete(ex);
+                }
+            });
+
+            assertTrue(firstEventRead.await(5, TimeUnit.SECONDS));
+            reader.interrupt();
+
+            assertInstanceOf(ResourceAccessException.class, outcome.get(5, TimeUnit.SECONDS));
+        } finally {
+            providerReleased.countDown();
+            server.stop(0);
+        }
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
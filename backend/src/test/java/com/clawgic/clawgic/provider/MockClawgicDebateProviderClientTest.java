@@ -1,15 +1,18 @@
 package com.clawgic.clawgic.provider;
 
+import com.clawgic.clawgic.config.ClawgicProviderProperties;
 import com.clawgic.clawgic.model.DebatePhase;
 import com.clawgic.clawgic.model.DebateTranscriptMessage;
 import com.clawgic.clawgic.model.DebateTranscriptRole;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MockClawgicDebateProviderClientTest {
@@ -27,7 +30,9 @@ class MockClawgicDebateProviderClientTest {
         ClawgicProviderTurnResponse first = mockProviderClient.generateTurn(request);
         ClawgicProviderTurnResponse second = mockProviderClient.generateTurn(request);
 
-        assertEquals(first, second);
+        assertEquals(first.content(), second.content());
+        assertEquals(first.model(), second.model());
+        assertEquals(first.cutoff(), second.cutoff());
     }
 
     @Test
@@ -63,7 +68,49 @@ class MockClawgicDebateProviderClientTest {
         assertTrue(wordCount <= 14, "expected <= 14 words but got " + wordCount);
     }
 
+    @Test
+    void generateTurnStreamsChunksAndStopsAtWordLimit() {
+        ClawgicProviderTurnRequest request = request(
+                UUID.fromString("00000000-0000-0000-0000-000000000705"),
+                DebatePhase.ARGUMENTATION,
+                6
+        );
+
+        ClawgicProviderTurnResponse response = mockProviderClient.generateTurn(request);
+
+        assertEquals(6, response.content().split("\\s+").length);
+        assertEquals(ClawgicProviderTurnResponse.Cutoff.WORD_LIMIT, response.cutoff());
+        assertNotNull(response.timeToFirstToken());
+    }
+
+    @Test
+    void generateTurnKeepsChunksStreamedBeforeDeadline() {
+        ClawgicProviderProperties properties = new ClawgicProviderProperties();
+        properties.setMockStreamChunkWords(3);
+        MockClawgicDebateProviderClient chunkedClient = new MockClawgicDebateProviderClient(properties);
+        ClawgicProviderTurnRequest request = request(
+                UUID.fromString("00000000-0000-0000-0000-000000000706"),
+                DebatePhase.CONCLUSION,
+                80,
+                Instant.now().minusMillis(1)
+        );
+
+        ClawgicProviderTurnResponse response = chunkedClient.generateTurn(request);
+
+        assertEquals(3, response.content().split("\\s+").length);
+        assertEquals(ClawgicProviderTurnResponse.Cutoff.DEADLINE, response.cutoff());
+    }
+
     private static ClawgicProviderTurnRequest request(UUID agentId, DebatePhase phase, int maxWords) {
+        return request(agentId, phase, maxWords, null);
+    }
+
+    private static ClawgicProviderTurnRequest request(
+            UUID agentId,
+            DebatePhase phase,
+            int maxWords,
+            Instant deadline
+    ) {
         ClawgicProviderTurnInput input = new ClawgicProviderTurnInput(
                 UUID.fromString("00000000-0000-0000-0000-000000000799"),
                 agentId,
@@ -82,7 +129,8 @@ class MockClawgicDebateProviderClientTest {
                                 "Live variance reveals whether a strategy survives production uncertainty."
                         )
                 ),
-                maxWords
+                maxWords,
+                deadline
         );
 
         return ClawgicProviderTurnRequest.fromInput(input, "clawgic-mock-v1", null, null);
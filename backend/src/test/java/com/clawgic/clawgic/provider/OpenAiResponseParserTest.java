@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class OpenAiResponseParserTest {
@@ -44,6 +45,33 @@ class OpenAiResponseParserTest {
         assertEquals("OpenAI response missing choices[0].message.content text", ex.getMessage());
     }
 
+    @Test
+    void extractsStreamDeltaFromCompletionChunks() {
+        String contentChunk = """
+                {"object":"chat.completion.chunk","choices":[{"index":0,"delta":{"content":" falsifiable"}}]}
+                """;
+        String roleChunk = """
+                {"object":"chat.completion.chunk","choices":[{"index":0,"delta":{"role":"assistant"}}]}
+                """;
+
+        assertEquals(" falsifiable", OpenAiResponseParser.extractStreamDelta(objectMapper, contentChunk));
+        assertNull(OpenAiResponseParser.extractStreamDelta(objectMapper, roleChunk));
+    }
+
+    @Test
+    void rejectsStreamErrorChunks() {
+        String errorChunk = """
+                {"error":{"message":"Rate limit reached","type":"rate_limit_error"}}
+                """;
+
+        IllegalStateException ex = assertThrows(
+                IllegalStateException.class,
+                () -> OpenAiResponseParser.extractStreamDelta(objectMapper, errorChunk)
+        );
+
+        assertEquals("OpenAI stream error: Rate limit reached", ex.getMessage());
+    }
+
     private static String fixture(String resourcePath) throws IOException {
         try (InputStream inputStream = OpenAiResponseParserTest.class.getClassLoader().getResourceAsStream(resourcePath)) {
             if (inputStream == null) {
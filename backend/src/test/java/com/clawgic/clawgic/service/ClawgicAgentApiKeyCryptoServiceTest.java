@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -111,6 +112,22 @@ class ClawgicAgentApiKeyCryptoServiceTest {
         assertEquals("sk-repeatable-input", service.decryptFromStorage(encryptedTwo.encryptedValue(), encryptedTwo.keyId()));
     }
 
+    @Test
+    void agentDecryptionIsCachedPerEnvelope() {
+        ClawgicAgentApiKeyCryptoService service = new ClawgicAgentApiKeyCryptoService(configuredProperties());
+        ClawgicAgent agent = new ClawgicAgent();
+        agent.setAgentId(UUID.fromString("00000000-0000-0000-0000-000000000442"));
+        service.applyEncryptedApiKey(agent, "sk-live-cached-turns");
+
+        assertEquals("sk-live-cached-turns", service.decryptFromStorage(agent));
+        assertEquals("sk-live-cached-turns", service.decryptFromStorage(agent));
+        assertEquals(1L, service.decryptedKeyCacheStats().hits());
+
+        service.applyEncryptedApiKey(agent, "sk-live-rotated-key");
+        assertEquals("sk-live-rotated-key", service.decryptFromStorage(agent));
+        assertEquals(2L, service.decryptedKeyCacheStats().misses());
+    }
+
     private static ClawgicAgentKeyEncryptionProperties configuredProperties() {
         ClawgicAgentKeyEncryptionProperties properties = new ClawgicAgentKeyEncryptionProperties();
         properties.setActiveKeyId("v1");
@@ -23,6 +23,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -247,6 +248,62 @@ class ClawgicAgentServiceIntegrationTest {
         assertEquals(thirdRankId, leaderboard.entries().get(1).agentId());
     }
 
+    @Test
+    void getLeaderboardAfterContinuesFromKeysetCursor() {
+        OffsetDateTime baseTime = OffsetDateTime.parse("2026-02-28T12:00:00Z");
+        UUID firstId = createAgentWithEloStats(
+                "0x3000000000000000000000000000000000000001",
+                "Cursor 1",
+                baseTime.minusMinutes(3),
+                9900,
+                10,
+                6,
+                0
+        );
+        UUID secondId = createAgentWithEloStats(
+                "0x3000000000000000000000000000000000000002",
+                "Cursor 2",
+                baseTime.minusMinutes(2),
+                9800,
+                10,
+                5,
+                0
+        );
+        UUID thirdId = createAgentWithEloStats(
+                "0x3000000000000000000000000000000000000003",
+                "Cursor 3",
+                baseTime.minusMinutes(1),
+                9800,
+                10,
+                4,
+                0
+        );
+
+        ClawgicAgentResponses.AgentLeaderboardPage firstPage = clawgicAgentService.getLeaderboard(0, 1);
+        assertEquals(firstId, firstPage.entries().getFirst().agentId());
+        assertNotNull(firstPage.nextCursor());
+
+        ClawgicAgentResponses.AgentLeaderboardPage secondPage =
+                clawgicAgentService.getLeaderboardAfter(firstPage.nextCursor(), 2);
+
+        assertNull(secondPage.total());
+        assertEquals(1, secondPage.offset());
+        assertEquals(2, secondPage.entries().size());
+        assertEquals(2, secondPage.entries().get(0).rank());
+        assertEquals(secondId, secondPage.entries().get(0).agentId());
+        assertEquals(3, secondPage.entries().get(1).rank());
+        assertEquals(thirdId, secondPage.entries().get(1).agentId());
+    }
+
+    @Test
+    void getLeaderboardAfterRejectsMalformedCursor() {
+        ResponseStatusException ex = assertThrows(
+                ResponseStatusException.class,
+                () -> clawgicAgentService.getLeaderboardAfter("not-a-cursor", 25)
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
     @Test
     void getLeaderboardRejectsInvalidPaginationParams() {
         ResponseStatusException negativeOffset = assertThrows(
@@ -56,6 +56,7 @@ import static org.mockito.Mockito.verify;
         "clawgic.mock-provider=true",
         "clawgic.debate.provider-timeout-seconds=1",
         "clawgic.worker.queue-mode=in-memory",
+        "clawgic.worker.notify-enabled=false",
         "clawgic.judge.keys[0]=mock-judge-primary",
         "clawgic.judge.keys[1]=mock-judge-secondary"
 })
@@ -265,6 +266,104 @@ class ClawgicDebateExecutionServiceIntegrationTest {
         assertTrue(receivedMessages.stream().allMatch(message -> scheduledMatch.getMatchId().equals(message.matchId())));
     }
 
+    @Test
+    void resumeExpiredExecutionContinuesFromLastPersistedTurn() {
+        String walletOne = randomWalletAddress();
+        String walletTwo = randomWalletAddress();
+        createUser(walletOne);
+        createUser(walletTwo);
+
+        UUID agent1Id = createAgent(walletOne, "Resume Agent One");
+        UUID agent2Id = createAgent(walletTwo, "Resume Agent Two");
+        ClawgicTournament tournament = createTournament("Should a node restart replay the whole debate?");
+        List<DebateTranscriptMessage> persistedTurns = List.of(
+                new DebateTranscriptMessage(DebateTranscriptRole.AGENT_1, DebatePhase.THESIS_DISCOVERY, "first"),
+                new DebateTranscriptMessage(DebateTranscriptRole.AGENT_2, DebatePhase.THESIS_DISCOVERY, "second"),
+                new DebateTranscriptMessage(DebateTranscriptRole.AGENT_1, DebatePhase.ARGUMENTATION, "third")
+        );
+        ClawgicMatch abandonedMatch = createInProgressMatch(
+                tournament.getTournamentId(),
+                agent1Id,
+                agent2Id,
+                persistedTurns,
+                OffsetDateTime.now().minusSeconds(5)
+        );
+
+        ClawgicMatch resumedMatch =
+                clawgicDebateExecutionService.resumeExpiredExecution(abandonedMatch.getMatchId()).orElseThrow();
+        ClawgicMatch persistedMatch = clawgicMatchRepository.findById(resumedMatch.getMatchId()).orElseThrow();
+
+        int expectedTurns = DebatePhase.orderedValues().size() * 2;
+        List<DebateTranscriptMessage> transcriptMessages =
+                DebateTranscriptJsonCodec.fromJson(persistedMatch.getTranscriptJson());
+        assertEquals(ClawgicMatchStatus.PENDING_JUDGE, persistedMatch.getStatus());
+        assertEquals(expectedTurns, transcriptMessages.size());
+        assertEquals(persistedTurns, transcriptMessages.subList(0, persistedTurns.size()));
+        assertEquals(DebateTranscriptRole.AGENT_2, transcriptMessages.get(persistedTurns.size()).role());
+        assertEquals(DebatePhase.ARGUMENTATION, transcriptMessages.get(persistedTurns.size()).phase());
+        assertNull(persistedMatch.getExecutionLeaseToken());
+        assertNull(persistedMatch.getExecutionLeaseExpiresAt());
+        verify(mockClawgicDebateProviderClient, times(expectedTurns - persistedTurns.size())).generateTurn(any());
+    }
+
+    @Test
+    void resumeExpiredExecutionLeavesMatchWithLiveLeaseAlone() {
+        String walletOne = randomWalletAddress();
+        String walletTwo = randomWalletAddress();
+        createUser(walletOne);
+        createUser(walletTwo);
+
+        UUID agent1Id = createAgent(walletOne, "Live Lease Agent One");
+        UUID agent2Id = createAgent(walletTwo, "Live Lease Agent Two");
+        ClawgicTournament tournament = createTournament("Should a live lease block recovery?");
+        ClawgicMatch runningMatch = createInProgressMatch(
+                tournament.getTournamentId(),
+                agent1Id,
+                agent2Id,
+                List.of(),
+                OffsetDateTime.now().plusMinutes(1)
+        );
+
+        assertTrue(clawgicDebateExecutionService.resumeExpiredExecution(runningMatch.getMatchId()).isEmpty());
+
+        ClawgicMatch persistedMatch = clawgicMatchRepository.findById(runningMatch.getMatchId()).orElseThrow();
+        assertEquals(ClawgicMatchStatus.IN_PROGRESS, persistedMatch.getStatus());
+        assertEquals(runningMatch.getExecutionLeaseToken(), persistedMatch.getExecutionLeaseToken());
+        verify(mockClawgicDebateProviderClient, times(0)).generateTurn(any());
+    }
+
+    @Test
+    void executeMatchStopsAtNextTurnOnceAnotherWorkerTakesOverTheLease() {
+        String walletOne = randomWalletAddress();
+        String walletTwo = randomWalletAddress();
+        createUser(walletOne);
+        createUser(walletTwo);
+
+        UUID agent1Id = createAgent(walletOne, "Fenced Agent One");
+        UUID agent2Id = createAgent(walletTwo, "Fenced Agent Two");
+        ClawgicTournament tournament = createTournament("Should a stale worker overwrite its successor?");
+        ClawgicMatch scheduledMatch = createScheduledMatch(tournament.getTournamentId(), agent1Id, agent2Id);
+        UUID successorLeaseToken = UUID.randomUUID();
+
+        doAnswer(invocation -> {
+            ClawgicProviderTurnRequest providerTurnRequest = invocation.getArgument(0);
+            ClawgicMatch takenOverMatch =
+                    clawgicMatchRepository.findById(providerTurnRequest.matchId()).orElseThrow();
+            takenOverMatch.setExecutionLeaseToken(successorLeaseToken);
+            takenOverMatch.setExecutionLeaseExpiresAt(OffsetDateTime.now().plusMinutes(1));
+            clawgicMatchRepository.saveAndFlush(takenOverMatch);
+            return invocation.callRealMethod();
+        }).when(mockClawgicDebateProviderClient).generateTurn(any());
+
+        ClawgicMatch abandonedMatch = clawgicDebateExecutionService.executeMatch(scheduledMatch.getMatchId());
+        ClawgicMatch persistedMatch = clawgicMatchRepository.findById(abandonedMatch.getMatchId()).orElseThrow();
+
+        assertEquals(ClawgicMatchStatus.IN_PROGRESS, persistedMatch.getStatus());
+        assertEquals(successorLeaseToken, persistedMatch.getExecutionLeaseToken());
+        assertEquals(0, DebateTranscriptJsonCodec.fromJson(persistedMatch.getTranscriptJson()).size());
+        verify(mockClawgicDebateProviderClient, times(1)).generateTurn(any());
+    }
+
     private void createUser(String walletAddress) {
         ClawgicUser user = new ClawgicUser();
         user.setWalletAddress(walletAddress);
@@ -321,6 +420,34 @@ class ClawgicDebateExecutionServiceIntegrationTest {
         return clawgicMatchRepository.saveAndFlush(match);
     }
 
+    private ClawgicMatch createInProgressMatch(
+            UUID tournamentId,
+            UUID agent1Id,
+            UUID agent2Id,
+            List<DebateTranscriptMessage> transcript,
+            OffsetDateTime leaseExpiresAt
+    ) {
+        ClawgicMatch match = new ClawgicMatch();
+        OffsetDateTime now = OffsetDateTime.now();
+        match.setMatchId(UUID.randomUUID());
+        match.setTournamentId(tournamentId);
+        match.setAgent1Id(agent1Id);
+        match.setAgent2Id(agent2Id);
+        match.setBracketRound(1);
+        match.setBracketPosition(1);
+        match.setStatus(ClawgicMatchStatus.IN_PROGRESS);
+        match.setPhase(transcript.isEmpty() ? DebatePhase.THESIS_DISCOVERY : transcript.getLast().phase());
+        match.setTranscriptJson(DebateTranscriptJsonCodec.toJson(transcript));
+        match.setJudgeRetryCount(0);
+        match.setStartedAt(now.minusMinutes(1));
+        match.setExecutionDeadlineAt(now.plusMinutes(1));
+        match.setExecutionLeaseToken(UUID.randomUUID());
+        match.setExecutionLeaseExpiresAt(leaseExpiresAt);
+        match.setCreatedAt(now.minusMinutes(2));
+        match.setUpdatedAt(now.minusMinutes(1));
+        return clawgicMatchRepository.saveAndFlush(match);
+    }
+
     private static String randomWalletAddress() {
         String hex = UUID.randomUUID().toString().replace("-", "")
                 + UUID.randomUUID().toString().replace("-", "");
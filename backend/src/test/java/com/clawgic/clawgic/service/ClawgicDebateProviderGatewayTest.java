@@ -9,6 +9,8 @@ import com.clawgic.clawgic.provider.ClawgicDebateProviderClient;
 import com.clawgic.clawgic.provider.ClawgicProviderTurnInput;
 import com.clawgic.clawgic.provider.ClawgicProviderTurnRequest;
 import com.clawgic.clawgic.provider.ClawgicProviderTurnResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,12 +18,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -46,6 +54,7 @@ class ClawgicDebateProviderGatewayTest {
     private ClawgicRuntimeProperties clawgicRuntimeProperties;
     private ClawgicProviderProperties clawgicProviderProperties;
     private ClawgicDebateProviderGateway clawgicDebateProviderGateway;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
@@ -53,6 +62,7 @@ class ClawgicDebateProviderGatewayTest {
         clawgicRuntimeProperties.setMockProvider(false);
 
         clawgicProviderProperties = new ClawgicProviderProperties();
+        meterRegistry = new SimpleMeterRegistry();
 
         when(mockProviderClient.providerType()).thenReturn(ClawgicProviderType.MOCK);
         when(openaiProviderClient.providerType()).thenReturn(ClawgicProviderType.OPENAI);
@@ -62,7 +72,8 @@ class ClawgicDebateProviderGatewayTest {
                 List.of(mockProviderClient, openaiProviderClient, anthropicProviderClient),
                 clawgicRuntimeProperties,
                 clawgicProviderProperties,
-                clawgicAgentApiKeyCryptoService
+                clawgicAgentApiKeyCryptoService,
+                meterRegistry
         );
     }
 
@@ -159,13 +170,132 @@ class ClawgicDebateProviderGatewayTest {
         verify(anthropicProviderClient, never()).generateTurn(any());
     }
 
+    @Test
+    void generateTurnRecordsTimeToFirstTokenAndCutoffForStreamedTurns() {
+        ClawgicAgent agent = agent(
+                UUID.fromString("00000000-0000-0000-0000-000000000816"),
+                ClawgicProviderType.ANTHROPIC,
+                null
+        );
+        ClawgicProviderTurnInput input = turnInput(agent.getAgentId());
+
+        when(clawgicAgentApiKeyCryptoService.decryptFromStorage(agent)).thenReturn("sk-ant-stream");
+        when(anthropicProviderClient.generateTurn(any())).thenReturn(new ClawgicProviderTurnResponse(
+                "Streamed turn cut at the word budget.",
+                "claude-3-5-sonnet-latest",
+                Duration.ofMillis(180),
+                ClawgicProviderTurnResponse.Cutoff.WORD_LIMIT
+        ));
+
+        clawgicDebateProviderGateway.generateTurn(agent, input);
+
+        Timer timeToFirstToken = meterRegistry.get(ClawgicDebateProviderGateway.TIME_TO_FIRST_TOKEN_METRIC)
+                .tag("provider", "ANTHROPIC")
+                .timer();
+        assertEquals(1L, timeToFirstToken.count());
+        assertEquals(180.0, timeToFirstToken.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1.0, meterRegistry.get(ClawgicDebateProviderGateway.STREAM_CUTOFF_METRIC)
+                .tags("provider", "ANTHROPIC", "reason", "WORD_LIMIT")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void generateTurnHedgesSlowTurnWithFallbackModelAndCancelsPrimary() throws Exception {
+        ClawgicProviderProperties.Hedging hedging = clawgicProviderProperties.getHedging();
+        hedging.setEnabled(true);
+        hedging.setMinSamples(1);
+        hedging.setMinDelayMs(50);
+        hedging.getFallbackModels().put("gpt-4o-mini", "gpt-4.1-mini");
+        clawgicProviderProperties.getKeyRefModels().put("team/openai/backup", "gpt-4.1-mini");
+        ClawgicAgent agent = agent(
+                UUID.fromString("00000000-0000-0000-0000-000000000817"),
+                ClawgicProviderType.OPENAI,
+                null
+        );
+        ClawgicProviderTurnInput input = turnInput(agent.getAgentId());
+
+        List<ClawgicProviderTurnRequest> requests = new CopyOnWriteArrayList<>();
+        AtomicBoolean warmedUp = new AtomicBoolean();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        when(clawgicAgentApiKeyCryptoService.decryptFromStorage(agent)).thenReturn("sk-live-hedge");
+        when(openaiProviderClient.generateTurn(any())).thenAnswer(invocation -> {
+            ClawgicProviderTurnRequest request = invocation.getArgument(0);
+            requests.add(request);
+            if (request.model().equals("gpt-4.1-mini")) {
+                return new ClawgicProviderTurnResponse("Hedged turn.", request.model());
+            }
+            if (warmedUp.compareAndSet(false, true)) {
+                return new ClawgicProviderTurnResponse("Warm-up turn.", request.model());
+            }
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                primaryCancelled.countDown();
+            }
+            throw new IllegalStateException("Primary turn was not cancelled");
+        });
+
+        assertEquals("Warm-up turn.", clawgicDebateProviderGateway.generateTurn(agent, input).content());
+        ClawgicProviderTurnResponse response = clawgicDebateProviderGateway.generateTurn(agent, input);
+
+        assertEquals("Hedged turn.", response.content());
+        assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS));
+        ClawgicProviderTurnRequest hedgeRequest = requests.getLast();
+        assertEquals("gpt-4.1-mini", hedgeRequest.model());
+        assertEquals("team/openai/backup", hedgeRequest.providerKeyRef());
+        assertEquals("sk-live-hedge", hedgeRequest.providerApiKey());
+        assertEquals(1.0, meterRegistry.get(ClawgicDebateProviderGateway.HEDGE_METRIC)
+                .tags("provider", "OPENAI", "outcome", "HEDGE_WON")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void generateTurnWaitsForPrimaryWhenHedgeBudgetIsExhausted() {
+        ClawgicProviderProperties.Hedging hedging = clawgicProviderProperties.getHedging();
+        hedging.setEnabled(true);
+        hedging.setMinSamples(1);
+        hedging.setMinDelayMs(10);
+        hedging.setBudgetBurst(0);
+        ClawgicAgent agent = agent(
+                UUID.fromString("00000000-0000-0000-0000-000000000818"),
+                ClawgicProviderType.OPENAI,
+                null
+        );
+        ClawgicProviderTurnInput input = turnInput(agent.getAgentId());
+
+        List<ClawgicProviderTurnRequest> requests = new CopyOnWriteArrayList<>();
+        AtomicBoolean warmedUp = new AtomicBoolean();
+        when(clawgicAgentApiKeyCryptoService.decryptFromStorage(agent)).thenReturn("sk-live-budget");
+        when(openaiProviderClient.generateTurn(any())).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            if (warmedUp.compareAndSet(false, true)) {
+                return new ClawgicProviderTurnResponse("Warm-up turn.", "gpt-4o-mini");
+            }
+            Thread.sleep(150);
+            return new ClawgicProviderTurnResponse("Slow primary turn.", "gpt-4o-mini");
+        });
+
+        clawgicDebateProviderGateway.generateTurn(agent, input);
+        ClawgicProviderTurnResponse response = clawgicDebateProviderGateway.generateTurn(agent, input);
+
+        assertEquals("Slow primary turn.", response.content());
+        assertEquals(2, requests.size());
+        assertEquals(1.0, meterRegistry.get(ClawgicDebateProviderGateway.HEDGE_METRIC)
+                .tags("provider", "OPENAI", "outcome", "BUDGET_EXHAUSTED")
+                .counter()
+                .count());
+    }
+
     @Test
     void resolveSelectionFailsWhenProviderClientIsMissing() {
         ClawgicDebateProviderGateway gatewayWithoutOpenai = new ClawgicDebateProviderGateway(
                 List.of(mockProviderClient),
                 clawgicRuntimeProperties,
                 clawgicProviderProperties,
-                clawgicAgentApiKeyCryptoService
+                clawgicAgentApiKeyCryptoService,
+                meterRegistry
         );
 
         ClawgicAgent openaiAgent = agent(
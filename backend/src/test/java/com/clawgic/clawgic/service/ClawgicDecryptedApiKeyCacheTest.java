@@ -0,0 +1,100 @@
+package com.clawgic.clawgic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClawgicDecryptedApiKeyCacheTest {
+
+    private static final UUID AGENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000441");
+
+    @Test
+    void servesCachedKeyAndWipesItOnExpiry() {
+        MutableClock clock = new MutableClock();
+        ClawgicDecryptedApiKeyCache cache = new ClawgicDecryptedApiKeyCache(10, Duration.ofSeconds(30), clock);
+        ClawgicDecryptedApiKeyCache.CacheKey key = new ClawgicDecryptedApiKeyCache.CacheKey(AGENT_ID, "v1", "hash-a");
+        char[] plaintext = "sk-live-cached".toCharArray();
+        AtomicInteger decryptions = new AtomicInteger();
+
+        assertEquals("sk-live-cached", cache.get(key, () -> {
+            decryptions.incrementAndGet();
+            return plaintext;
+        }));
+        assertEquals("sk-live-cached", cache.get(key, () -> {
+            decryptions.incrementAndGet();
+            return "unexpected".toCharArray();
+        }));
+        assertEquals(1, decryptions.get());
+        assertEquals(1L, cache.hitCount());
+        assertEquals(1L, cache.missCount());
+
+        clock.advance(Duration.ofSeconds(31));
+        assertEquals("sk-live-rotated", cache.get(key, "sk-live-rotated"::toCharArray));
+        assertArrayEquals(new char[plaintext.length], plaintext);
+        assertEquals(1L, cache.evictionCount());
+    }
+
+    @Test
+    void lruEvictionAndClearWipePlaintext() {
+        ClawgicDecryptedApiKeyCache cache =
+                new ClawgicDecryptedApiKeyCache(1, Duration.ofMinutes(5), new MutableClock());
+        char[] first = "sk-first".toCharArray();
+        char[] second = "sk-second".toCharArray();
+
+        cache.get(new ClawgicDecryptedApiKeyCache.CacheKey(AGENT_ID, "v1", "hash-a"), () -> first);
+        cache.get(new ClawgicDecryptedApiKeyCache.CacheKey(AGENT_ID, "v1", "hash-b"), () -> second);
+
+        assertArrayEquals(new char[first.length], first);
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertArrayEquals(new char[second.length], second);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void zeroEntriesDisablesCacheAndStillWipesDecryptedCopy() {
+        ClawgicDecryptedApiKeyCache cache =
+                new ClawgicDecryptedApiKeyCache(0, Duration.ofMinutes(5), new MutableClock());
+        char[] plaintext = "sk-pass-through".toCharArray();
+        ClawgicDecryptedApiKeyCache.CacheKey key = new ClawgicDecryptedApiKeyCache.CacheKey(AGENT_ID, "v1", "hash-a");
+
+        assertEquals("sk-pass-through", cache.get(key, () -> plaintext));
+
+        assertArrayEquals(new char[plaintext.length], plaintext);
+        assertEquals(0, cache.size());
+        assertEquals(1L, cache.missCount());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
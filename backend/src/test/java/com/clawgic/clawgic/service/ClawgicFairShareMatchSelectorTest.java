@@ -0,0 +1,150 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.model.ClawgicMatch;
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
+import com.clawgic.clawgic.repository.ClawgicMatchRepository;
+import com.clawgic.clawgic.repository.ClawgicReadyMatchQueueRepository;
+import com.clawgic.clawgic.repository.ClawgicReadyMatchQueueRepository.ReadyMatchCandidate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClawgicFairShareMatchSelectorTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now();
+
+    @Mock
+    private ClawgicReadyMatchQueueRepository clawgicReadyMatchQueueRepository;
+
+    @Mock
+    private ClawgicMatchRepository clawgicMatchRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClawgicFairShareMatchSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        ClawgicRuntimeProperties clawgicRuntimeProperties = new ClawgicRuntimeProperties();
+        clawgicRuntimeProperties.getWorker().setSchedulingTierWeights(Map.of("STANDARD", 1.0, "FEATURED", 3.0));
+        meterRegistry = new SimpleMeterRegistry();
+        selector = new ClawgicFairShareMatchSelector(
+                clawgicReadyMatchQueueRepository,
+                clawgicMatchRepository,
+                new ClawgicMatchSchedulingMetrics(meterRegistry),
+                clawgicRuntimeProperties
+        );
+    }
+
+    @Test
+    void claimNextReadyMatchSharesClaimsByTierWeight() {
+        UUID olderStandard = UUID.randomUUID();
+        UUID newerFeatured = UUID.randomUUID();
+        List<ReadyMatchCandidate> candidates = List.of(
+                candidate(olderStandard, 1, 4, "STANDARD", NOW.minusHours(2)),
+                candidate(newerFeatured, 1, 4, "FEATURED", NOW.minusMinutes(5))
+        );
+        when(clawgicReadyMatchQueueRepository.findReadyQueueHeads(anyInt())).thenReturn(candidates);
+        when(clawgicMatchRepository.claimReadyMatchForExecution(any())).thenAnswer(invocation -> {
+            ClawgicMatch match = new ClawgicMatch();
+            match.setMatchId(invocation.getArgument(0));
+            return List.of(match);
+        });
+
+        Map<UUID, Integer> claimsByMatchId = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            ClawgicMatch claimed = selector.claimNextReadyMatch().orElseThrow();
+            claimsByMatchId.merge(claimed.getMatchId(), 1, Integer::sum);
+        }
+
+        assertEquals(6, claimsByMatchId.get(candidates.get(1).matchId()));
+        assertEquals(2, claimsByMatchId.get(candidates.get(0).matchId()));
+        assertEquals(8L, meterRegistry.get(ClawgicMatchSchedulingMetrics.QUEUE_WAIT_METRIC).timers().stream()
+                .mapToLong(timer -> timer.count())
+                .sum());
+    }
+
+    @Test
+    void claimNextReadyMatchPrefersTournamentClosestToItsFinalOnEqualShare() {
+        UUID firstRoundTournament = UUID.randomUUID();
+        UUID finalTournament = UUID.randomUUID();
+        ReadyMatchCandidate firstRound = candidate(firstRoundTournament, 1, 8, "STANDARD", NOW.minusHours(3));
+        ReadyMatchCandidate finalMatch = candidate(finalTournament, 3, 8, "STANDARD", NOW.minusHours(1));
+        when(clawgicReadyMatchQueueRepository.findReadyQueueHeads(anyInt()))
+                .thenReturn(List.of(firstRound, finalMatch));
+        when(clawgicMatchRepository.claimReadyMatchForExecution(finalMatch.matchId()))
+                .thenReturn(List.of(match(finalMatch)));
+
+        Optional<ClawgicMatch> claimed = selector.claimNextReadyMatch();
+
+        assertEquals(finalMatch.matchId(), claimed.orElseThrow().getMatchId());
+    }
+
+    @Test
+    void claimNextReadyMatchSkipsMatchesLockedByAnotherWorker() {
+        UUID tournamentId = UUID.randomUUID();
+        ReadyMatchCandidate lockedElsewhere = candidate(tournamentId, 2, 8, "STANDARD", NOW.minusHours(1));
+        ReadyMatchCandidate nextInQueue = candidate(tournamentId, 2, 8, "STANDARD", NOW.minusHours(1));
+        when(clawgicReadyMatchQueueRepository.findReadyQueueHeads(anyInt()))
+                .thenReturn(List.of(lockedElsewhere, nextInQueue));
+        when(clawgicMatchRepository.claimReadyMatchForExecution(lockedElsewhere.matchId())).thenReturn(List.of());
+        when(clawgicMatchRepository.claimReadyMatchForExecution(nextInQueue.matchId()))
+                .thenReturn(List.of(match(nextInQueue)));
+
+        Optional<ClawgicMatch> claimed = selector.claimNextReadyMatch();
+
+        assertEquals(nextInQueue.matchId(), claimed.orElseThrow().getMatchId());
+    }
+
+    @Test
+    void claimNextReadyMatchReturnsEmptyWhenNothingIsReady() {
+        when(clawgicReadyMatchQueueRepository.findReadyQueueHeads(anyInt())).thenReturn(new ArrayList<>());
+
+        assertTrue(selector.claimNextReadyMatch().isEmpty());
+    }
+
+    private static ReadyMatchCandidate candidate(
+            UUID tournamentId,
+            int bracketRound,
+            int bracketSize,
+            String schedulingTier,
+            OffsetDateTime tournamentStartTime
+    ) {
+        return new ReadyMatchCandidate(
+                UUID.randomUUID(),
+                tournamentId,
+                bracketRound,
+                NOW.minusSeconds(30),
+                ClawgicTournamentFormat.SINGLE_ELIMINATION,
+                bracketSize,
+                null,
+                schedulingTier,
+                tournamentStartTime
+        );
+    }
+
+    private static ClawgicMatch match(ReadyMatchCandidate candidate) {
+        ClawgicMatch match = new ClawgicMatch();
+        match.setMatchId(candidate.matchId());
+        match.setTournamentId(candidate.tournamentId());
+        return match;
+    }
+}
@@ -58,6 +58,7 @@ import static org.mockito.Mockito.verify;
         "clawgic.enabled=true",
         "clawgic.worker.enabled=true",
         "clawgic.worker.queue-mode=in-memory",
+        "clawgic.worker.notify-enabled=false",
         "clawgic.mock-judge=true",
         "clawgic.judge.enabled=true",
         "clawgic.judge.max-retries=1",
@@ -0,0 +1,98 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClawgicMatchLifecycleSchedulerTest {
+
+    private static final ClawgicMatchLifecycleService.TickSummary IDLE_TICK =
+            new ClawgicMatchLifecycleService.TickSummary(0, 0, 0, 0, 0);
+
+    @Mock
+    private ClawgicMatchLifecycleService clawgicMatchLifecycleService;
+
+    private ClawgicRuntimeProperties clawgicRuntimeProperties;
+    private ClawgicMatchLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clawgicRuntimeProperties = new ClawgicRuntimeProperties();
+        clawgicRuntimeProperties.getWorker().setFallbackPollIntervalMs(60_000);
+        scheduler = new ClawgicMatchLifecycleScheduler(clawgicRuntimeProperties, clawgicMatchLifecycleService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stopWakeExecutor();
+    }
+
+    @Test
+    void polledTickRunsWhileNotificationsAreInactive() {
+        when(clawgicMatchLifecycleService.processLifecycleTick()).thenReturn(IDLE_TICK);
+
+        scheduler.processLifecycleTick();
+
+        verify(clawgicMatchLifecycleService).processLifecycleTick();
+        verify(clawgicMatchLifecycleService, never()).findNextTournamentActivationTime();
+    }
+
+    @Test
+    void polledTickIsSkippedWhileNotificationsAreActive() {
+        when(clawgicMatchLifecycleService.processLifecycleTick()).thenReturn(IDLE_TICK);
+
+        scheduler.setNotificationsActive(true);
+        verify(clawgicMatchLifecycleService, timeout(1_000)).processLifecycleTick();
+
+        scheduler.processLifecycleTick();
+
+        verify(clawgicMatchLifecycleService, times(1)).processLifecycleTick();
+    }
+
+    @Test
+    void wakeRunsTickAndSchedulesDueTournamentActivation() {
+        when(clawgicMatchLifecycleService.processLifecycleTick()).thenReturn(IDLE_TICK);
+        when(clawgicMatchLifecycleService.findNextTournamentActivationTime())
+                .thenReturn(Optional.of(OffsetDateTime.now().plusNanos(200_000_000L)), Optional.empty());
+
+        scheduler.setNotificationsActive(true);
+
+        verify(clawgicMatchLifecycleService, timeout(2_000).times(2)).processLifecycleTick();
+    }
+
+    @Test
+    void wakeRunsTickAndSchedulesExpiringExecutionLease() {
+        when(clawgicMatchLifecycleService.processLifecycleTick()).thenReturn(IDLE_TICK);
+        when(clawgicMatchLifecycleService.findNextTournamentActivationTime()).thenReturn(Optional.empty());
+        when(clawgicMatchLifecycleService.findNextExecutionLeaseExpiry())
+                .thenReturn(Optional.of(OffsetDateTime.now().plusNanos(200_000_000L)), Optional.empty());
+
+        scheduler.setNotificationsActive(true);
+
+        verify(clawgicMatchLifecycleService, timeout(2_000).times(2)).processLifecycleTick();
+    }
+
+    @Test
+    void wakeIsIgnoredWhenWorkerIsDisabled() {
+        clawgicRuntimeProperties.getWorker().setEnabled(false);
+
+        scheduler.wake();
+        scheduler.processLifecycleTick();
+
+        verify(clawgicMatchLifecycleService, never()).processLifecycleTick();
+    }
+}
@@ -7,7 +7,10 @@ import com.clawgic.clawgic.model.ClawgicProviderType;
 import com.clawgic.clawgic.model.ClawgicTournament;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import com.clawgic.clawgic.model.ClawgicUser;
+import com.clawgic.clawgic.model.DebatePhase;
 import com.clawgic.clawgic.model.DebateTranscriptJsonCodec;
+import com.clawgic.clawgic.model.DebateTranscriptMessage;
+import com.clawgic.clawgic.model.DebateTranscriptRole;
 import com.clawgic.clawgic.repository.ClawgicAgentRepository;
 import com.clawgic.clawgic.repository.ClawgicMatchRepository;
 import com.clawgic.clawgic.repository.ClawgicTournamentRepository;
@@ -16,11 +19,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,6 +66,9 @@ class ClawgicMatchLifecycleServiceIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @BeforeEach
     void isolateClawgicTables() {
         jdbcTemplate.execute("""
@@ -374,6 +382,149 @@ class ClawgicMatchLifecycleServiceIntegrationTest {
         assertNotNull(persistedTournament.getCompletedAt());
     }
 
+    @Test
+    void processLifecycleTickMarksSweptWinnersSoLaterTicksSkipThem() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ClawgicTournament tournament = createTournament(ClawgicTournamentStatus.IN_PROGRESS, now.minusMinutes(5));
+
+        UUID semifinalWinner = createUserAndAgent("sweep marker winner");
+        UUID semifinalLoser = createUserAndAgent("sweep marker loser");
+
+        ClawgicMatch finalMatch = createMatch(
+                tournament.getTournamentId(),
+                null,
+                null,
+                2,
+                1,
+                ClawgicMatchStatus.SCHEDULED
+        );
+        ClawgicMatch semifinal = createMatch(
+                tournament.getTournamentId(),
+                semifinalWinner,
+                semifinalLoser,
+                1,
+                1,
+                ClawgicMatchStatus.COMPLETED,
+                finalMatch.getMatchId(),
+                1,
+                semifinalWinner
+        );
+
+        ClawgicMatchLifecycleService.TickSummary firstTick = clawgicMatchLifecycleService.processLifecycleTick();
+        ClawgicMatchLifecycleService.TickSummary secondTick = clawgicMatchLifecycleService.processLifecycleTick();
+
+        assertEquals(1, firstTick.winnersPropagated());
+        assertEquals(0, secondTick.winnersPropagated());
+        assertNotNull(clawgicMatchRepository.findById(semifinal.getMatchId()).orElseThrow().getWinnerPropagatedAt());
+        assertEquals(semifinalWinner, clawgicMatchRepository.findById(finalMatch.getMatchId()).orElseThrow().getAgent1Id());
+    }
+
+    @Test
+    void processLifecycleTickResumesMatchWhoseExecutionLeaseExpired() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ClawgicTournament tournament = createTournament(ClawgicTournamentStatus.IN_PROGRESS, now.minusMinutes(5));
+
+        UUID agentOne = createUserAndAgent("abandoned agent one");
+        UUID agentTwo = createUserAndAgent("abandoned agent two");
+        ClawgicMatch abandonedMatch = createMatch(
+                tournament.getTournamentId(),
+                agentOne,
+                agentTwo,
+                1,
+                1,
+                ClawgicMatchStatus.IN_PROGRESS
+        );
+        abandonedMatch.setTranscriptJson(DebateTranscriptJsonCodec.toJson(List.of(
+                new DebateTranscriptMessage(DebateTranscriptRole.AGENT_1, DebatePhase.THESIS_DISCOVERY, "opening")
+        )));
+        abandonedMatch.setStartedAt(now.minusMinutes(2));
+        abandonedMatch.setExecutionLeaseToken(UUID.randomUUID());
+        abandonedMatch.setExecutionLeaseExpiresAt(now.minusSeconds(30));
+        clawgicMatchRepository.saveAndFlush(abandonedMatch);
+
+        ClawgicMatchLifecycleService.TickSummary summary = clawgicMatchLifecycleService.processLifecycleTick();
+
+        assertEquals(1, summary.matchesResumed());
+        assertEquals(0, summary.matchesExecuted());
+        assertTrue(summary.hasWork());
+        ClawgicMatch resumedMatch = clawgicMatchRepository.findById(abandonedMatch.getMatchId()).orElseThrow();
+        assertEquals(ClawgicMatchStatus.PENDING_JUDGE, resumedMatch.getStatus());
+        List<DebateTranscriptMessage> transcript = DebateTranscriptJsonCodec.fromJson(resumedMatch.getTranscriptJson());
+        assertEquals(DebatePhase.orderedValues().size() * 2, transcript.size());
+        assertEquals("opening", transcript.getFirst().content());
+        assertNull(resumedMatch.getExecutionLeaseToken());
+    }
+
+    @Test
+    void matchResolvedEventPropagatesWinnerAndCompletesTournamentWithoutTick() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ClawgicTournament tournament = createTournament(ClawgicTournamentStatus.IN_PROGRESS, now.minusMinutes(5));
+
+        UUID semifinalOneWinner = createUserAndAgent("event semifinal one winner");
+        UUID semifinalOneLoser = createUserAndAgent("event semifinal one loser");
+        UUID semifinalTwoWinner = createUserAndAgent("event semifinal two winner");
+        UUID semifinalTwoLoser = createUserAndAgent("event semifinal two loser");
+
+        ClawgicMatch finalMatch = createMatch(
+                tournament.getTournamentId(),
+                semifinalOneWinner,
+                null,
+                2,
+                1,
+                ClawgicMatchStatus.SCHEDULED
+        );
+        ClawgicMatch semifinalOne = createMatch(
+                tournament.getTournamentId(),
+                semifinalOneWinner,
+                semifinalOneLoser,
+                1,
+                1,
+                ClawgicMatchStatus.COMPLETED,
+                finalMatch.getMatchId(),
+                1,
+                semifinalOneWinner
+        );
+        semifinalOne.setWinnerPropagatedAt(now.minusMinutes(1));
+        clawgicMatchRepository.saveAndFlush(semifinalOne);
+        ClawgicMatch semifinalTwo = createMatch(
+                tournament.getTournamentId(),
+                semifinalTwoWinner,
+                semifinalTwoLoser,
+                1,
+                2,
+                ClawgicMatchStatus.FORFEITED,
+                finalMatch.getMatchId(),
+                2,
+                semifinalTwoWinner
+        );
+
+        applicationEventPublisher.publishEvent(
+                new ClawgicMatchResolvedEvent(semifinalTwo.getMatchId(), tournament.getTournamentId())
+        );
+
+        ClawgicMatch filledFinal = clawgicMatchRepository.findById(finalMatch.getMatchId()).orElseThrow();
+        assertEquals(semifinalTwoWinner, filledFinal.getAgent2Id());
+        assertNotNull(clawgicMatchRepository.findById(semifinalTwo.getMatchId()).orElseThrow().getWinnerPropagatedAt());
+
+        filledFinal.setStatus(ClawgicMatchStatus.COMPLETED);
+        filledFinal.setWinnerAgentId(semifinalTwoWinner);
+        filledFinal.setCompletedAt(OffsetDateTime.now());
+        clawgicMatchRepository.saveAndFlush(filledFinal);
+
+        applicationEventPublisher.publishEvent(
+                new ClawgicMatchResolvedEvent(filledFinal.getMatchId(), tournament.getTournamentId())
+        );
+
+        ClawgicTournament persistedTournament =
+                clawgicTournamentRepository.findById(tournament.getTournamentId()).orElseThrow();
+        assertEquals(ClawgicTournamentStatus.COMPLETED, persistedTournament.getStatus());
+        assertEquals(semifinalTwoWinner, persistedTournament.getWinnerAgentId());
+
+        ClawgicMatchLifecycleService.TickSummary summary = clawgicMatchLifecycleService.processLifecycleTick();
+        assertEquals(0, summary.winnersPropagated());
+        assertEquals(0, summary.tournamentsCompleted());
+    }
+
     private ClawgicTournament createTournament(ClawgicTournamentStatus status, OffsetDateTime startTime) {
         ClawgicTournament tournament = new ClawgicTournament();
         tournament.setTournamentId(UUID.randomUUID());
@@ -0,0 +1,204 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.model.ClawgicMatchStatus;
+import com.clawgic.clawgic.model.DebatePhase;
+import com.clawgic.clawgic.model.DebateTranscriptRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClawgicMatchSpectatorFeedTest {
+
+    private static final UUID MATCH_ID = UUID.fromString("00000000-0000-0000-0000-000000000851");
+    private static final String DESTINATION = ClawgicMatchSpectatorFeed.STOMP_TOPIC_PREFIX + MATCH_ID;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Message<?>> sentMessages = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private CountDownLatch releaseSends = new CountDownLatch(0);
+
+    private ClawgicMatchSpectatorFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        ClawgicRuntimeProperties clawgicRuntimeProperties = new ClawgicRuntimeProperties();
+        clawgicRuntimeProperties.getSpectator().setSubscriberBufferSize(2);
+        MessageChannel clientOutboundChannel = (message, _) -> {
+            firstSendStarted.countDown();
+            try {
+                releaseSends.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sentMessages.add(message);
+            return true;
+        };
+        feed = new ClawgicMatchSpectatorFeed(clientOutboundChannel, objectMapper, clawgicRuntimeProperties, null);
+    }
+
+    @Test
+    void slowSubscriberDropsOldestEventsWithoutBlockingPublisher() throws Exception {
+        releaseSends = new CountDownLatch(1);
+        feed.onStompSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0")));
+
+        feed.turnStarted(MATCH_ID, DebateTranscriptRole.AGENT_1, DebatePhase.THESIS_DISCOVERY);
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (int i = 0; i < 5; i++) {
+                feed.turnListener(MATCH_ID, DebateTranscriptRole.AGENT_1, DebatePhase.THESIS_DISCOVERY)
+                        .onTextDelta(i * 6, "chunk ");
+            }
+        });
+        releaseSends.countDown();
+
+        List<JsonNode> events = awaitEvents(3);
+        assertEquals(List.of(1L, 5L, 6L), events.stream().map(event -> event.get("sequence").asLong()).toList());
+        assertEquals(List.of(0L, 3L, 0L), events.stream().map(event -> event.get("dropped").asLong()).toList());
+        assertEquals("TURN_STARTED", events.getFirst().get("type").asText());
+        assertEquals(24, events.getLast().get("offset").asInt());
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sentMessages.getFirst());
+        assertEquals(SimpMessageType.MESSAGE, headers.getMessageType());
+        assertEquals("session-1", headers.getSessionId());
+        assertEquals("sub-0", headers.getSubscriptionId());
+        assertEquals(DESTINATION, headers.getDestination());
+    }
+
+    @Test
+    void publishWithoutSubscribersSendsNothing() {
+        feed.turnCompleted(MATCH_ID, DebateTranscriptRole.AGENT_2, DebatePhase.COUNTER_ARGUMENTATION, "Rebuttal.");
+        feed.matchEnded(MATCH_ID, ClawgicMatchStatus.PENDING_JUDGE);
+
+        assertEquals(0, feed.subscriberCount(MATCH_ID));
+        assertTrue(sentMessages.isEmpty());
+    }
+
+    @Test
+    void unsubscribeAndDisconnectRemoveStompSubscribers() {
+        feed.onStompSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0")));
+        feed.onStompSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "session-2", "sub-0")));
+        feed.onStompSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "session-2", "sub-1")));
+        assertEquals(3, feed.subscriberCount(MATCH_ID));
+
+        feed.onStompUnsubscribe(
+                new SessionUnsubscribeEvent(this, frame(SimpMessageType.UNSUBSCRIBE, "session-1", "sub-0"))
+        );
+        assertEquals(2, feed.subscriberCount(MATCH_ID));
+
+        Message<byte[]> disconnect = frame(SimpMessageType.DISCONNECT, "session-2", null);
+        feed.onStompDisconnect(new SessionDisconnectEvent(this, disconnect, "session-2", CloseStatus.NORMAL));
+        assertEquals(0, feed.subscriberCount(MATCH_ID));
+    }
+
+    @Test
+    void subscribeIgnoresOtherDestinations() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/topic/rounds");
+
+        feed.onStompSubscribe(new SessionSubscribeEvent(
+                this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())
+        ));
+
+        assertEquals(0, feed.subscriberCount(MATCH_ID));
+    }
+
+    @Test
+    void sseSubscriberToEndedMatchIsSentMatchEndedAndClosed() throws Exception {
+        feed.subscribe(MATCH_ID, () -> ClawgicMatchStatus.COMPLETED);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (feed.subscriberCount(MATCH_ID) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, feed.subscriberCount(MATCH_ID));
+    }
+
+    @Test
+    void sseSubscriberToLiveMatchStaysSubscribed() {
+        feed.subscribe(MATCH_ID, () -> ClawgicMatchStatus.IN_PROGRESS);
+
+        assertEquals(1, feed.subscriberCount(MATCH_ID));
+    }
+
+    @Test
+    void failedStatusLookupUnregistersSseSubscriber() {
+        assertThrows(IllegalStateException.class, () -> feed.subscribe(MATCH_ID, () -> {
+            throw new IllegalStateException("lookup failed");
+        }));
+
+        assertEquals(0, feed.subscriberCount(MATCH_ID));
+    }
+
+    @Test
+    void relayedEventsAreNumberedInThisNodesSequence() throws Exception {
+        feed.onStompSubscribe(new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, "session-1", "sub-0")));
+
+        feed.deliver(new ClawgicMatchSpectatorFeed.SpectatorEvent(
+                MATCH_ID,
+                41,
+                ClawgicMatchSpectatorFeed.EventType.TURN_STARTED,
+                DebateTranscriptRole.AGENT_2,
+                DebatePhase.ARGUMENTATION,
+                null,
+                null,
+                null,
+                2,
+                1L
+        ));
+
+        JsonNode event = awaitEvents(1).getFirst();
+        assertEquals(1L, event.get("sequence").asLong());
+        assertEquals(2L, event.get("dropped").asLong());
+        assertEquals("AGENT_2", event.get("role").asText());
+    }
+
+    private List<JsonNode> awaitEvents(int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sentMessages.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        List<JsonNode> events = new CopyOnWriteArrayList<>();
+        for (Message<?> message : sentMessages) {
+            events.add(objectMapper.readTree((byte[]) message.getPayload()));
+        }
+        assertEquals(expected, events.size());
+        return events;
+    }
+
+    private static Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (type == SimpMessageType.SUBSCRIBE) {
+            accessor.setDestination(DESTINATION);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
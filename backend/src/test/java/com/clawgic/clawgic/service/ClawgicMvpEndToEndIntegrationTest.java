@@ -67,6 +67,7 @@ import static org.mockito.Mockito.reset;
         "clawgic.worker.redis-pop-timeout-seconds=1",
         "clawgic.worker.poll-interval-ms=600000",
         "clawgic.worker.initial-delay-ms=600000",
+        "clawgic.worker.notify-enabled=false",
         "clawgic.mock-provider=true",
         "clawgic.mock-judge=true",
         "clawgic.judge.enabled=true",
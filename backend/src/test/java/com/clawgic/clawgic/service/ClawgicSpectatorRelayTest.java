@@ -0,0 +1,149 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.ClawgicRuntimeProperties;
+import com.clawgic.clawgic.model.ClawgicMatchStatus;
+import com.clawgic.clawgic.model.DebatePhase;
+import com.clawgic.clawgic.model.DebateTranscriptRole;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClawgicSpectatorRelayTest {
+
+    private static final UUID MATCH_ID = UUID.fromString("00000000-0000-0000-0000-000000000852");
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private ClawgicSpectatorRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ClawgicSpectatorRelay(dataSource, new ObjectMapper(), new ClawgicRuntimeProperties());
+    }
+
+    @Test
+    void publishNotifiesOtherNodesOnTheSpectatorChannel() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT pg_notify(?, ?)")).thenReturn(statement);
+
+        relay.publish(event(ClawgicMatchSpectatorFeed.EventType.MATCH_ENDED, null, ClawgicMatchStatus.PENDING_JUDGE));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.captor();
+        verify(statement, timeout(5_000)).setString(2, payload.capture());
+        verify(statement, timeout(5_000)).execute();
+        verify(statement).setString(1, ClawgicSpectatorRelay.CHANNEL);
+
+        ClawgicSpectatorRelay.RelayedEvent relayed = relay.decode(payload.getValue());
+        assertEquals(MATCH_ID, relayed.event().matchId());
+        assertEquals(ClawgicMatchSpectatorFeed.EventType.MATCH_ENDED, relayed.event().type());
+        assertEquals(ClawgicMatchStatus.PENDING_JUDGE, relayed.event().status());
+    }
+
+    @Test
+    void publishKeepsTurnDeltasLocal() {
+        relay.publish(event(ClawgicMatchSpectatorFeed.EventType.TURN_DELTA, "Opening", null));
+
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void publishIsANoOpWhileClawgicIsDisabled() {
+        ClawgicRuntimeProperties disabled = new ClawgicRuntimeProperties();
+        disabled.setEnabled(false);
+        ClawgicSpectatorRelay disabledRelay = new ClawgicSpectatorRelay(dataSource, new ObjectMapper(), disabled);
+
+        disabledRelay.publish(
+                event(ClawgicMatchSpectatorFeed.EventType.MATCH_ENDED, null, ClawgicMatchStatus.FORFEITED));
+
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void unserializableEventIsCountedAsDroppedWithoutStallingTheRelay() throws Exception {
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        ObjectMapper failingOnceMapper = new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (failedOnce.compareAndSet(false, true)) {
+                    throw new JsonProcessingException("unserializable") {
+                    };
+                }
+                return super.writeValueAsString(value);
+            }
+        };
+        ClawgicSpectatorRelay failingRelay =
+                new ClawgicSpectatorRelay(dataSource, failingOnceMapper, new ClawgicRuntimeProperties());
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT pg_notify(?, ?)")).thenReturn(statement);
+
+        failingRelay.publish(event(ClawgicMatchSpectatorFeed.EventType.TURN_STARTED, null, null));
+        failingRelay.publish(event(ClawgicMatchSpectatorFeed.EventType.TURN_COMPLETED, "Opening claim", null));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.captor();
+        verify(statement, timeout(5_000)).setString(2, payload.capture());
+        verify(statement, timeout(5_000)).execute();
+
+        ClawgicSpectatorRelay.RelayedEvent relayed = failingRelay.decode(payload.getValue());
+        assertEquals(ClawgicMatchSpectatorFeed.EventType.TURN_COMPLETED, relayed.event().type());
+        assertEquals(1, relayed.event().dropped());
+    }
+
+    @Test
+    void encodeRoundTripsAndRefusesPayloadsOverTheNotifyLimit() {
+        ClawgicMatchSpectatorFeed.SpectatorEvent delta =
+                event(ClawgicMatchSpectatorFeed.EventType.TURN_DELTA, "Opening claim", null);
+
+        ClawgicSpectatorRelay.RelayedEvent relayed = relay.decode(relay.encode("node-a", delta));
+
+        assertEquals("node-a", relayed.origin());
+        assertEquals(delta, relayed.event());
+        assertNull(relay.encode("node-a",
+                event(ClawgicMatchSpectatorFeed.EventType.TURN_COMPLETED, "x".repeat(8_000), null)));
+        assertNull(relay.decode("not json"));
+    }
+
+    private static ClawgicMatchSpectatorFeed.SpectatorEvent event(
+            ClawgicMatchSpectatorFeed.EventType type,
+            String text,
+            ClawgicMatchStatus status
+    ) {
+        return new ClawgicMatchSpectatorFeed.SpectatorEvent(
+                MATCH_ID,
+                0,
+                type,
+                DebateTranscriptRole.AGENT_1,
+                DebatePhase.ARGUMENTATION,
+                3,
+                text,
+                status,
+                0,
+                1_700_000_000_000L
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package com.clawgic.clawgic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClawgicSwissPairingEngineTest {
+
+    private final ClawgicSwissPairingEngine pairingEngine = new ClawgicSwissPairingEngine();
+
+    @Test
+    void pairRequiresAtLeastTwoAgents() {
+        List<ClawgicSwissPairingEngine.SwissStanding> standings = List.of(standing(agentId(1), 0, 1000, 0, 0, List.of()));
+
+        assertThrows(IllegalArgumentException.class, () -> pairingEngine.pair(standings));
+    }
+
+    @Test
+    void pairMatchesNeighboursByScoreThenElo() {
+        UUID leader = agentId(1);
+        UUID runnerUp = agentId(2);
+        UUID strongLoser = agentId(3);
+        UUID weakLoser = agentId(4);
+
+        ClawgicSwissPairingEngine.RoundPairing roundPairing = pairingEngine.pair(List.of(
+                standing(weakLoser, 0, 1010, 0, 1, List.of(runnerUp)),
+                standing(strongLoser, 0, 1200, 0, 1, List.of(leader)),
+                standing(runnerUp, 1, 990, 0, 0, List.of(weakLoser)),
+                standing(leader, 1, 1050, 0, 0, List.of(strongLoser))
+        ));
+
+        assertNull(roundPairing.byeAgentId());
+        assertEquals(
+                List.of(
+                        new ClawgicSwissPairingEngine.Pairing(leader, runnerUp),
+                        new ClawgicSwissPairingEngine.Pairing(strongLoser, weakLoser)
+                ),
+                roundPairing.pairings()
+        );
+    }
+
+    @Test
+    void pairSwapsLeftoverAgentsIntoEarlierPairingsToAvoidRematches() {
+        UUID first = agentId(1);
+        UUID second = agentId(2);
+        UUID third = agentId(3);
+        UUID fourth = agentId(4);
+
+        // Greedy pairs first-second, leaving third and fourth, who already met.
+        ClawgicSwissPairingEngine.RoundPairing roundPairing = pairingEngine.pair(List.of(
+                standing(first, 1, 1300, 0, 1, List.of(fourth)),
+                standing(second, 1, 1200, 0, 1, List.of(third)),
+                standing(third, 1, 1100, 0, 0, List.of(second, fourth)),
+                standing(fourth, 0, 1000, 0, 0, List.of(first, third))
+        ));
+
+        assertNoRematches(roundPairing, Map.of(
+                first, Set.of(fourth),
+                second, Set.of(third),
+                third, Set.of(second, fourth),
+                fourth, Set.of(first, third)
+        ));
+        assertEquals(2, roundPairing.pairings().size());
+    }
+
+    @Test
+    void pairGivesByeToLowestRankedAgentWithoutOne() {
+        UUID first = agentId(1);
+        UUID second = agentId(2);
+        UUID third = agentId(3);
+        UUID withoutBye = agentId(4);
+        UUID withBye = agentId(5);
+
+        ClawgicSwissPairingEngine.RoundPairing roundPairing = pairingEngine.pair(List.of(
+                standing(first, 2, 1100, 0, 1, List.of()),
+                standing(second, 2, 1000, 0, 1, List.of()),
+                standing(third, 1, 1100, 0, 1, List.of()),
+                standing(withoutBye, 1, 1000, 0, 1, List.of()),
+                standing(withBye, 1, 900, 1, 0, List.of())
+        ));
+
+        assertEquals(withoutBye, roundPairing.byeAgentId());
+        assertEquals(
+                List.of(
+                        new ClawgicSwissPairingEngine.Pairing(first, second),
+                        new ClawgicSwissPairingEngine.Pairing(withBye, third)
+                ),
+                roundPairing.pairings()
+        );
+    }
+
+    @Test
+    void pairGivesAgentOneSlotToAgentThatHeldItLess() {
+        UUID higher = agentId(1);
+        UUID lower = agentId(2);
+
+        ClawgicSwissPairingEngine.RoundPairing roundPairing = pairingEngine.pair(List.of(
+                standing(higher, 1, 1100, 0, 2, List.of()),
+                standing(lower, 1, 1000, 0, 1, List.of())
+        ));
+
+        assertEquals(List.of(new ClawgicSwissPairingEngine.Pairing(lower, higher)), roundPairing.pairings());
+    }
+
+    @Test
+    void pairRunsFullSwissEventForThousandsOfAgentsWithoutRematches() {
+        int agentCount = 4_001;
+        int rounds = 12;
+        Random random = new Random(42);
+
+        List<UUID> agentIds = new ArrayList<>(agentCount);
+        Map<UUID, Integer> elos = new HashMap<>();
+        Map<UUID, Integer> scores = new HashMap<>();
+        Map<UUID, Integer> byes = new HashMap<>();
+        Map<UUID, Integer> agent1Counts = new HashMap<>();
+        Map<UUID, Set<UUID>> opponents = new HashMap<>();
+        for (int i = 0; i < agentCount; i++) {
+            UUID agentId = UUID.randomUUID();
+            agentIds.add(agentId);
+            elos.put(agentId, 800 + random.nextInt(800));
+            scores.put(agentId, 0);
+            byes.put(agentId, 0);
+            agent1Counts.put(agentId, 0);
+            opponents.put(agentId, new HashSet<>());
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int round = 1; round <= rounds; round++) {
+                List<ClawgicSwissPairingEngine.SwissStanding> standings = new ArrayList<>(agentCount);
+                for (UUID agentId : agentIds) {
+                    standings.add(standing(
+                            agentId,
+                            scores.get(agentId),
+                            elos.get(agentId),
+                            byes.get(agentId),
+                            agent1Counts.get(agentId),
+                            List.copyOf(opponents.get(agentId))
+                    ));
+                }
+
+                ClawgicSwissPairingEngine.RoundPairing roundPairing = pairingEngine.pair(standings);
+
+                assertEquals(agentCount / 2, roundPairing.pairings().size());
+                assertNoRematches(roundPairing, opponents);
+                byes.merge(roundPairing.byeAgentId(), 1, Integer::sum);
+                scores.merge(roundPairing.byeAgentId(), 1, Integer::sum);
+                for (ClawgicSwissPairingEngine.Pairing pairing : roundPairing.pairings()) {
+                    opponents.get(pairing.agent1Id()).add(pairing.agent2Id());
+                    opponents.get(pairing.agent2Id()).add(pairing.agent1Id());
+                    agent1Counts.merge(pairing.agent1Id(), 1, Integer::sum);
+                    UUID winner = random.nextBoolean() ? pairing.agent1Id() : pairing.agent2Id();
+                    scores.merge(winner, 1, Integer::sum);
+                }
+            }
+        });
+
+        assertTrue(byes.values().stream().allMatch(count -> count <= 1));
+    }
+
+    private static void assertNoRematches(
+            ClawgicSwissPairingEngine.RoundPairing roundPairing,
+            Map<UUID, Set<UUID>> previousOpponents
+    ) {
+        Set<UUID> pairedAgents = new HashSet<>();
+        for (ClawgicSwissPairingEngine.Pairing pairing : roundPairing.pairings()) {
+            assertTrue(pairedAgents.add(pairing.agent1Id()));
+            assertTrue(pairedAgents.add(pairing.agent2Id()));
+            assertTrue(
+                    !previousOpponents.getOrDefault(pairing.agent1Id(), Set.of()).contains(pairing.agent2Id()),
+                    "Rematch between " + pairing.agent1Id() + " and " + pairing.agent2Id()
+            );
+        }
+    }
+
+    private static ClawgicSwissPairingEngine.SwissStanding standing(
+            UUID agentId,
+            int score,
+            int elo,
+            int byes,
+            int agent1Count,
+            List<UUID> previousOpponentIds
+    ) {
+        return new ClawgicSwissPairingEngine.SwissStanding(agentId, score, elo, byes, agent1Count, previousOpponentIds);
+    }
+
+    private static UUID agentId(int suffix) {
+        return UUID.fromString(String.format("00000000-0000-0000-0000-%012d", suffix));
+    }
+}
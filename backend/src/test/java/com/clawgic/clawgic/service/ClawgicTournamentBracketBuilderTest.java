@@ -4,12 +4,21 @@ import com.clawgic.clawgic.model.ClawgicTournamentEntry;
 import org.junit.jupiter.api.Test;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ClawgicTournamentBracketBuilderTest {
 
@@ -100,22 +109,110 @@ class ClawgicTournamentBracketBuilderTest {
     }
 
     @Test
-    void buildRequiresExactlyFourEntries() {
+    void buildRequiresAtLeastTwoEntries() {
         UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000903");
         OffsetDateTime generatedAt = OffsetDateTime.parse("2026-02-27T12:00:00Z");
 
-        List<ClawgicTournamentEntry> tooFewEntries = List.of(
-                entry("00000000-0000-0000-0000-000000000C01", UUID.randomUUID(), 1100, "2026-02-27T11:00:00Z"),
-                entry("00000000-0000-0000-0000-000000000C02", UUID.randomUUID(), 1090, "2026-02-27T11:01:00Z"),
-                entry("00000000-0000-0000-0000-000000000C03", UUID.randomUUID(), 1080, "2026-02-27T11:02:00Z")
+        List<ClawgicTournamentEntry> singleEntry = List.of(
+                entry("00000000-0000-0000-0000-000000000C01", UUID.randomUUID(), 1100, "2026-02-27T11:00:00Z")
         );
 
         IllegalArgumentException ex = assertThrows(
                 IllegalArgumentException.class,
-                () -> bracketBuilder.build(tournamentId, tooFewEntries, generatedAt)
+                () -> bracketBuilder.build(tournamentId, singleEntry, generatedAt)
         );
 
-        assertEquals("Deterministic MVP bracket requires exactly 4 confirmed entries", ex.getMessage());
+        assertEquals("Bracket requires between 2 and 1024 confirmed entries", ex.getMessage());
+    }
+
+    @Test
+    void standardSeedOrderKeepsTopSeedsApartUntilLateRounds() {
+        assertArrayEquals(new int[]{1, 2}, ClawgicTournamentBracketBuilder.standardSeedOrder(2));
+        assertArrayEquals(new int[]{1, 4, 2, 3}, ClawgicTournamentBracketBuilder.standardSeedOrder(4));
+        assertArrayEquals(new int[]{1, 8, 4, 5, 2, 7, 3, 6}, ClawgicTournamentBracketBuilder.standardSeedOrder(8));
+        assertEquals(8, ClawgicTournamentBracketBuilder.drawSize(5));
+        assertEquals(8, ClawgicTournamentBracketBuilder.drawSize(8));
+        assertEquals(2, ClawgicTournamentBracketBuilder.drawSize(2));
+    }
+
+    @Test
+    void buildGivesByesToTopSeedsAndSkipsByeMatches() {
+        UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000904");
+        OffsetDateTime generatedAt = OffsetDateTime.parse("2026-02-27T12:00:00Z");
+        List<ClawgicTournamentEntry> entries = rankedEntries(5);
+
+        ClawgicTournamentBracketBuilder.BracketPlan plan = bracketBuilder.build(tournamentId, entries, generatedAt);
+
+        assertEquals(4, plan.matches().size());
+        ClawgicTournamentBracketBuilder.PlannedMatch fourVsFive = plan.matches().get(0);
+        ClawgicTournamentBracketBuilder.PlannedMatch upperSemifinal = plan.matches().get(1);
+        ClawgicTournamentBracketBuilder.PlannedMatch lowerSemifinal = plan.matches().get(2);
+        ClawgicTournamentBracketBuilder.PlannedMatch finalMatch = plan.matches().get(3);
+
+        assertEquals(1, fourVsFive.bracketRound());
+        assertEquals(2, fourVsFive.bracketPosition());
+        assertEquals(entries.get(3).getAgentId(), fourVsFive.agent1Id());
+        assertEquals(entries.get(4).getAgentId(), fourVsFive.agent2Id());
+        assertEquals(upperSemifinal.matchId(), fourVsFive.nextMatchId());
+        assertEquals(2, fourVsFive.nextMatchAgentSlot());
+
+        assertEquals(entries.get(0).getAgentId(), upperSemifinal.agent1Id());
+        assertNull(upperSemifinal.agent2Id());
+        assertEquals(entries.get(1).getAgentId(), lowerSemifinal.agent1Id());
+        assertEquals(entries.get(2).getAgentId(), lowerSemifinal.agent2Id());
+        assertEquals(finalMatch.matchId(), lowerSemifinal.nextMatchId());
+        assertEquals(2, lowerSemifinal.nextMatchAgentSlot());
+        assertNull(finalMatch.nextMatchId());
+    }
+
+    @Test
+    void buildLinksEveryMatchOfLargeBracketIntoSingleTree() {
+        UUID tournamentId = UUID.fromString("00000000-0000-0000-0000-000000000905");
+        OffsetDateTime generatedAt = OffsetDateTime.parse("2026-02-27T12:00:00Z");
+        List<ClawgicTournamentEntry> entries = rankedEntries(100);
+
+        ClawgicTournamentBracketBuilder.BracketPlan plan = bracketBuilder.build(tournamentId, entries, generatedAt);
+
+        assertEquals(99, plan.matches().size());
+        Map<UUID, ClawgicTournamentBracketBuilder.PlannedMatch> matchesById = plan.matches().stream()
+                .collect(Collectors.toMap(ClawgicTournamentBracketBuilder.PlannedMatch::matchId, Function.identity()));
+        Map<UUID, Set<Integer>> filledSlots = new HashMap<>();
+        int finals = 0;
+        for (ClawgicTournamentBracketBuilder.PlannedMatch match : plan.matches()) {
+            if (match.nextMatchId() == null) {
+                finals++;
+                assertEquals(7, match.bracketRound());
+                continue;
+            }
+            ClawgicTournamentBracketBuilder.PlannedMatch next = matchesById.get(match.nextMatchId());
+            assertEquals(match.bracketRound() + 1, next.bracketRound());
+            assertTrue(filledSlots.computeIfAbsent(next.matchId(), _ -> new HashSet<>()).add(match.nextMatchAgentSlot()));
+        }
+        assertEquals(1, finals);
+
+        Set<UUID> placedAgents = new HashSet<>();
+        for (ClawgicTournamentBracketBuilder.PlannedMatch match : plan.matches()) {
+            if (match.agent1Id() != null) {
+                assertTrue(placedAgents.add(match.agent1Id()));
+            }
+            if (match.agent2Id() != null) {
+                assertTrue(placedAgents.add(match.agent2Id()));
+            }
+        }
+        assertEquals(100, placedAgents.size());
+    }
+
+    private static List<ClawgicTournamentEntry> rankedEntries(int count) {
+        List<ClawgicTournamentEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(entry(
+                    String.format("00000000-0000-0000-0000-%012d", i + 1),
+                    UUID.randomUUID(),
+                    2000 - i,
+                    "2026-02-27T11:00:00Z"
+            ));
+        }
+        return entries;
     }
 
     private static ClawgicTournamentEntry entry(String entryId, UUID agentId, int elo, String createdAt) {
@@ -0,0 +1,209 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.dto.ClawgicTournamentRequests;
+import com.clawgic.clawgic.model.ClawgicAgent;
+import com.clawgic.clawgic.model.ClawgicProviderType;
+import com.clawgic.clawgic.model.ClawgicTournament;
+import com.clawgic.clawgic.model.ClawgicTournamentStatus;
+import com.clawgic.clawgic.model.ClawgicUser;
+import com.clawgic.clawgic.repository.ClawgicAgentRepository;
+import com.clawgic.clawgic.repository.ClawgicTournamentEntryRepository;
+import com.clawgic.clawgic.repository.ClawgicTournamentRepository;
+import com.clawgic.clawgic.repository.ClawgicUserRepository;
+import com.clawgic.clawgic.web.TournamentEntryConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Not {@code @Transactional}: entrants race on separate connections, so every slot claim is committed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=${C10_TEST_DB_URL:jdbc:postgresql://localhost:5432/clawgic}",
+        "spring.datasource.username=${C10_TEST_DB_USERNAME:clawgic}",
+        "spring.datasource.password=${C10_TEST_DB_PASSWORD:changeme}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration",
+        "x402.enabled=false",
+        "x402.dev-bypass-enabled=true",
+})
+class ClawgicTournamentEntryReservationIntegrationTest {
+
+    private static final int MAX_ENTRIES = 4;
+    private static final int ENTRANTS = 24;
+
+    @Autowired
+    private ClawgicTournamentService clawgicTournamentService;
+
+    @Autowired
+    private ClawgicTournamentEntryReservationService clawgicTournamentEntryReservationService;
+
+    @Autowired
+    private ClawgicTournamentRepository clawgicTournamentRepository;
+
+    @Autowired
+    private ClawgicTournamentEntryRepository clawgicTournamentEntryRepository;
+
+    @Autowired
+    private ClawgicUserRepository clawgicUserRepository;
+
+    @Autowired
+    private ClawgicAgentRepository clawgicAgentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void isolateClawgicTables() {
+        jdbcTemplate.execute("""
+                TRUNCATE TABLE
+                    clawgic_tournament_entry_reservations,
+                    clawgic_tournament_entries,
+                    clawgic_payment_authorizations,
+                    clawgic_staking_ledger,
+                    clawgic_tournaments,
+                    clawgic_agents,
+                    clawgic_users
+                CASCADE
+                """);
+    }
+
+    @Test
+    void concurrentEntrantsNeverOverbookTheTournament() throws Exception {
+        ClawgicTournament tournament = insertTournament("Reservation race", MAX_ENTRIES);
+        List<UUID> agentIds = new ArrayList<>();
+        for (int i = 0; i < ENTRANTS; i++) {
+            agentIds.add(createAgent("0x%040x".formatted(0x4100 + i), "racer-" + i));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> outcomes = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(ENTRANTS)) {
+            for (UUID agentId : agentIds) {
+                outcomes.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        clawgicTournamentService.enterTournament(
+                                tournament.getTournamentId(),
+                                new ClawgicTournamentRequests.EnterTournamentRequest(agentId)
+                        );
+                        return "created";
+                    } catch (TournamentEntryConflictException ex) {
+                        return ex.getCode();
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        List<String> results = new ArrayList<>();
+        for (Future<String> outcome : outcomes) {
+            results.add(outcome.get(30, TimeUnit.SECONDS));
+        }
+        assertEquals(MAX_ENTRIES, results.stream().filter("created"::equals).count());
+        assertEquals(ENTRANTS - MAX_ENTRIES, results.stream().filter("capacity_reached"::equals).count());
+        assertEquals(
+                MAX_ENTRIES,
+                clawgicTournamentEntryRepository.findByTournamentIdOrderByCreatedAtAsc(tournament.getTournamentId())
+                        .size()
+        );
+        assertEquals(MAX_ENTRIES, currentEntries(tournament.getTournamentId()));
+        assertEquals(0, reservationCount(tournament.getTournamentId()));
+    }
+
+    @Test
+    void expiredReservationSlotIsReclaimedByTheNextEntrant() {
+        ClawgicTournament tournament = insertTournament("Reservation expiry", 1);
+        UUID abandonedAgentId = createAgent("0x0000000000000000000000000000000000004201", "abandoned");
+        UUID nextAgentId = createAgent("0x0000000000000000000000000000000000004202", "next");
+
+        assertTrue(clawgicTournamentEntryReservationService.reserve(tournament.getTournamentId(), abandonedAgentId)
+                .isPresent());
+        assertTrue(clawgicTournamentEntryReservationService.reserve(tournament.getTournamentId(), nextAgentId)
+                .isEmpty());
+
+        jdbcTemplate.update(
+                "UPDATE clawgic_tournament_entry_reservations SET expires_at = ? WHERE agent_id = ?",
+                OffsetDateTime.now().minusSeconds(1),
+                abandonedAgentId
+        );
+        clawgicTournamentService.enterTournament(
+                tournament.getTournamentId(),
+                new ClawgicTournamentRequests.EnterTournamentRequest(nextAgentId)
+        );
+
+        assertEquals(1, currentEntries(tournament.getTournamentId()));
+        assertEquals(0, reservationCount(tournament.getTournamentId()));
+    }
+
+    private int currentEntries(UUID tournamentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_entries FROM clawgic_tournaments WHERE tournament_id = ?",
+                Integer.class,
+                tournamentId
+        );
+    }
+
+    private int reservationCount(UUID tournamentId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM clawgic_tournament_entry_reservations WHERE tournament_id = ?",
+                Integer.class,
+                tournamentId
+        );
+    }
+
+    private UUID createAgent(String walletAddress, String name) {
+        ClawgicUser user = new ClawgicUser();
+        user.setWalletAddress(walletAddress);
+        user.setCreatedAt(OffsetDateTime.now());
+        user.setUpdatedAt(OffsetDateTime.now());
+        clawgicUserRepository.saveAndFlush(user);
+
+        UUID agentId = UUID.randomUUID();
+        ClawgicAgent agent = new ClawgicAgent();
+        agent.setAgentId(agentId);
+        agent.setWalletAddress(walletAddress);
+        agent.setName(name);
+        agent.setSystemPrompt("Reservation test prompt.");
+        agent.setApiKeyEncrypted("enc:test-key");
+        agent.setProviderType(ClawgicProviderType.OPENAI);
+        agent.setCreatedAt(OffsetDateTime.now());
+        agent.setUpdatedAt(OffsetDateTime.now());
+        clawgicAgentRepository.saveAndFlush(agent);
+        return agentId;
+    }
+
+    private ClawgicTournament insertTournament(String topic, int maxEntries) {
+        OffsetDateTime now = OffsetDateTime.now();
+        ClawgicTournament tournament = new ClawgicTournament();
+        tournament.setTournamentId(UUID.randomUUID());
+        tournament.setTopic(topic);
+        tournament.setStatus(ClawgicTournamentStatus.SCHEDULED);
+        tournament.setBracketSize(MAX_ENTRIES);
+        tournament.setMaxEntries(maxEntries);
+        tournament.setStartTime(now.plusHours(2));
+        tournament.setEntryCloseTime(now.plusHours(1));
+        tournament.setBaseEntryFeeUsdc(new BigDecimal("5.000000"));
+        tournament.setCreatedAt(now);
+        tournament.setUpdatedAt(now);
+        return clawgicTournamentRepository.saveAndFlush(tournament);
+    }
+}
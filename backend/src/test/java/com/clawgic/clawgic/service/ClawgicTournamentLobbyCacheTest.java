@@ -0,0 +1,102 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.repository.ClawgicTournamentLobbyRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ClawgicTournamentLobbyCacheTest {
+
+    @Test
+    void servesSnapshotUntilTtlExpires() {
+        MutableClock clock = new MutableClock();
+        ClawgicTournamentLobbyCache cache = new ClawgicTournamentLobbyCache(Duration.ofSeconds(2), clock);
+        AtomicInteger loads = new AtomicInteger();
+        List<ClawgicTournamentLobbyRow> rows = List.of(mock(ClawgicTournamentLobbyRow.class));
+
+        cache.get(() -> {
+            loads.incrementAndGet();
+            return rows;
+        });
+        List<ClawgicTournamentLobbyRow> cached = cache.get(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(rows, cached);
+
+        clock.advance(Duration.ofSeconds(3));
+        assertEquals(List.of(), cache.get(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        }));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        ClawgicTournamentLobbyCache cache = new ClawgicTournamentLobbyCache(Duration.ofMinutes(1), new MutableClock());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        cache.invalidate();
+        cache.get(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void zeroTtlDisablesSnapshot() {
+        ClawgicTournamentLobbyCache cache = new ClawgicTournamentLobbyCache(Duration.ZERO, new MutableClock());
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(() -> {
+                loads.incrementAndGet();
+                return List.of();
+            });
+        }
+
+        assertEquals(3, loads.get());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-01T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
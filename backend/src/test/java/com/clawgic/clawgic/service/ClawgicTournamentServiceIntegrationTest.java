@@ -20,6 +20,7 @@ import com.clawgic.clawgic.model.ClawgicStakingLedgerStatus;
 import com.clawgic.clawgic.model.ClawgicTournament;
 import com.clawgic.clawgic.model.ClawgicTournamentEntry;
 import com.clawgic.clawgic.model.ClawgicTournamentEntryStatus;
+import com.clawgic.clawgic.model.ClawgicTournamentFormat;
 import com.clawgic.clawgic.model.ClawgicTournamentStatus;
 import com.clawgic.clawgic.model.ClawgicUser;
 import com.clawgic.clawgic.model.DebatePhase;
@@ -46,6 +47,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -64,6 +66,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
         "spring.jpa.hibernate.ddl-auto=validate",
         "spring.flyway.enabled=true",
         "spring.flyway.locations=classpath:db/migration",
+        // Fixtures are inserted straight through repositories and rolled back, so the lobby snapshot is disabled
+        "clawgic.tournament.lobby-snapshot-ttl-ms=0",
 })
 @Transactional
 class ClawgicTournamentServiceIntegrationTest {
@@ -544,6 +548,126 @@ class ClawgicTournamentServiceIntegrationTest {
         );
     }
 
+    @Test
+    void createMvpBracketGivesTopSeedsByesForNonPowerOfTwoEntries() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ClawgicTournament tournament = insertTournament(
+                "Six entry bracket with byes",
+                ClawgicTournamentStatus.SCHEDULED,
+                now.plusHours(2),
+                now.plusHours(1),
+                6
+        );
+
+        List<UUID> agentsBySeed = new ArrayList<>();
+        for (int seed = 1; seed <= 6; seed++) {
+            UUID agentId = createUserAndAgentWithElo(
+                    "0x11111111111111111111111111111111111114" + String.format("%02d", seed),
+                    "bye seed " + seed,
+                    1400 - seed * 10
+            );
+            agentsBySeed.add(agentId);
+        }
+        for (int i = agentsBySeed.size() - 1; i >= 0; i--) {
+            clawgicTournamentService.enterTournament(
+                    tournament.getTournamentId(),
+                    new ClawgicTournamentRequests.EnterTournamentRequest(agentsBySeed.get(i))
+            );
+        }
+
+        clawgicTournamentService.createMvpBracket(tournament.getTournamentId());
+
+        List<ClawgicMatch> persistedMatches =
+                clawgicMatchRepository.findByTournamentIdOrderByBracketRoundAscBracketPositionAscCreatedAtAsc(
+                        tournament.getTournamentId()
+                );
+        assertEquals(5, persistedMatches.size());
+
+        // Draw of eight in seed order 1-8, 4-5, 2-7, 3-6: seeds 1 and 2 have byes.
+        ClawgicMatch fourVsFive = persistedMatches.get(0);
+        ClawgicMatch threeVsSix = persistedMatches.get(1);
+        ClawgicMatch upperSemifinal = persistedMatches.get(2);
+        ClawgicMatch lowerSemifinal = persistedMatches.get(3);
+        ClawgicMatch finalMatch = persistedMatches.get(4);
+
+        assertEquals(1, fourVsFive.getBracketRound());
+        assertEquals(2, fourVsFive.getBracketPosition());
+        assertEquals(agentsBySeed.get(3), fourVsFive.getAgent1Id());
+        assertEquals(agentsBySeed.get(4), fourVsFive.getAgent2Id());
+        assertEquals(upperSemifinal.getMatchId(), fourVsFive.getNextMatchId());
+        assertEquals(2, fourVsFive.getNextMatchAgentSlot());
+
+        assertEquals(4, threeVsSix.getBracketPosition());
+        assertEquals(agentsBySeed.get(2), threeVsSix.getAgent1Id());
+        assertEquals(agentsBySeed.get(5), threeVsSix.getAgent2Id());
+        assertEquals(lowerSemifinal.getMatchId(), threeVsSix.getNextMatchId());
+
+        assertEquals(agentsBySeed.get(0), upperSemifinal.getAgent1Id());
+        assertNull(upperSemifinal.getAgent2Id());
+        assertEquals(agentsBySeed.get(1), lowerSemifinal.getAgent1Id());
+        assertNull(lowerSemifinal.getAgent2Id());
+        assertEquals(finalMatch.getMatchId(), upperSemifinal.getNextMatchId());
+        assertEquals(finalMatch.getMatchId(), lowerSemifinal.getNextMatchId());
+        assertNull(finalMatch.getNextMatchId());
+        assertEquals(3, finalMatch.getBracketRound());
+    }
+
+    @Test
+    void createMvpBracketPairsFirstSwissRoundAndRecordsBye() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ClawgicTournament tournament = insertTournament(
+                "Five entry Swiss tournament",
+                ClawgicTournamentStatus.SCHEDULED,
+                now.plusHours(2),
+                now.plusHours(1),
+                5
+        );
+        tournament.setFormat(ClawgicTournamentFormat.SWISS);
+        tournament.setSwissRounds(3);
+        clawgicTournamentRepository.saveAndFlush(tournament);
+
+        List<UUID> agentsBySeed = new ArrayList<>();
+        for (int seed = 1; seed <= 5; seed++) {
+            UUID agentId = createUserAndAgentWithElo(
+                    "0x11111111111111111111111111111111111115" + String.format("%02d", seed),
+                    "swiss seed " + seed,
+                    1300 - seed * 10
+            );
+            agentsBySeed.add(agentId);
+            clawgicTournamentService.enterTournament(
+                    tournament.getTournamentId(),
+                    new ClawgicTournamentRequests.EnterTournamentRequest(agentId)
+            );
+        }
+
+        clawgicTournamentService.createMvpBracket(tournament.getTournamentId());
+
+        List<ClawgicMatch> persistedMatches =
+                clawgicMatchRepository.findByTournamentIdOrderByBracketRoundAscBracketPositionAscCreatedAtAsc(
+                        tournament.getTournamentId()
+                );
+        assertEquals(2, persistedMatches.size());
+        assertEquals(agentsBySeed.get(0), persistedMatches.get(0).getAgent1Id());
+        assertEquals(agentsBySeed.get(1), persistedMatches.get(0).getAgent2Id());
+        assertEquals(agentsBySeed.get(2), persistedMatches.get(1).getAgent1Id());
+        assertEquals(agentsBySeed.get(3), persistedMatches.get(1).getAgent2Id());
+        for (ClawgicMatch match : persistedMatches) {
+            assertEquals(1, match.getBracketRound());
+            assertNull(match.getNextMatchId());
+            assertEquals(ClawgicMatchStatus.SCHEDULED, match.getStatus());
+        }
+
+        ClawgicTournamentEntry byeEntry = clawgicTournamentEntryRepository
+                .findByTournamentIdAndAgentId(tournament.getTournamentId(), agentsBySeed.get(4))
+                .orElseThrow();
+        assertEquals(1, byeEntry.getSwissByes());
+        assertEquals(5, byeEntry.getSeedPosition());
+        assertEquals(
+                ClawgicTournamentStatus.LOCKED,
+                clawgicTournamentRepository.findById(tournament.getTournamentId()).orElseThrow().getStatus()
+        );
+    }
+
     @Test
     void getTournamentResultsReturnsTranscriptJudgeRowsAndEloSnapshots() {
         OffsetDateTime now = OffsetDateTime.now();
@@ -694,7 +818,7 @@ class ClawgicTournamentServiceIntegrationTest {
         tournament.setTournamentId(UUID.randomUUID());
         tournament.setTopic(topic);
         tournament.setStatus(status);
-        tournament.setBracketSize(4);
+        tournament.setBracketSize(Math.max(4, maxEntries));
         tournament.setMaxEntries(maxEntries);
         tournament.setStartTime(startTime);
         tournament.setEntryCloseTime(entryCloseTime);
@@ -87,6 +87,35 @@ class X402Eip3009SignatureVerifierTest {
         assertEquals("x402_verification_failed", ex.getCode());
     }
 
+    @Test
+    void retriedHeaderReusesRecoveredSignerButFieldChangesAreRecoveredAgain() throws Exception {
+        X402Eip3009SignatureVerifier verifier = new X402Eip3009SignatureVerifier(baseProperties());
+        long now = Instant.now().getEpochSecond();
+
+        ObjectNode header = buildSignedHeader(
+                "req-c33-unit-cache-01",
+                "idem-c33-unit-cache-01",
+                now - 60,
+                now + 600,
+                "0x3333333333333333333333333333333333333333333333333333333333333333"
+        );
+
+        verifier.verify(header, SIGNER_WALLET, new BigDecimal("5.000000"));
+        X402Eip3009SignatureVerifier.VerifiedTransferWithAuthorization retried =
+                verifier.verify(header.deepCopy(), SIGNER_WALLET, new BigDecimal("5.000000"));
+        assertEquals(SIGNER_WALLET, retried.recoveredSigner());
+        assertEquals(1L, verifier.recoveryCacheHitCount());
+
+        ObjectNode extendedWindow = header.deepCopy();
+        ((ObjectNode) extendedWindow.path("payload").path("authorization")).put("validBefore", now + 601);
+        X402PaymentRequestException ex = assertThrows(
+                X402PaymentRequestException.class,
+                () -> verifier.verify(extendedWindow, SIGNER_WALLET, new BigDecimal("5.000000"))
+        );
+
+        assertEquals("x402_verification_failed", ex.getCode());
+    }
+
     private static X402Properties baseProperties() {
         X402Properties properties = new X402Properties();
         properties.setEnabled(true);
@@ -0,0 +1,80 @@
+package com.clawgic.clawgic.service;
+
+import com.clawgic.clawgic.config.X402Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class X402PaymentVerificationPipelineTest {
+
+    private final CountDownLatch workerStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseWorker = new CountDownLatch(1);
+
+    private X402PaymentVerificationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        X402Properties x402Properties = new X402Properties();
+        x402Properties.setVerifierPoolSize(1);
+        x402Properties.setVerifierQueueCapacity(1);
+        pipeline = new X402PaymentVerificationPipeline(x402Properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWorker.countDown();
+        pipeline.stopExecutor();
+    }
+
+    @Test
+    void submitRejectsWorkBeyondTheQueueCapacity() throws Exception {
+        assertTrue(pipeline.submit(UUID.randomUUID(), this::blockWorker));
+        assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(pipeline.submit(UUID.randomUUID(), () -> { }));
+
+        assertFalse(pipeline.submit(UUID.randomUUID(), () -> { }));
+        assertEquals(1, pipeline.queuedCount());
+    }
+
+    @Test
+    void submitDoesNotQueueAnAuthorizationThatIsAlreadyInFlight() throws Exception {
+        UUID paymentAuthorizationId = UUID.randomUUID();
+        AtomicInteger runs = new AtomicInteger();
+        assertTrue(pipeline.submit(paymentAuthorizationId, () -> {
+            runs.incrementAndGet();
+            blockWorker();
+        }));
+        assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+
+        assertTrue(pipeline.submit(paymentAuthorizationId, runs::incrementAndGet));
+        assertEquals(0, pipeline.queuedCount());
+
+        releaseWorker.countDown();
+        CountDownLatch rerun = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (rerun.getCount() > 0 && System.nanoTime() < deadline) {
+            pipeline.submit(paymentAuthorizationId, rerun::countDown);
+            rerun.await(10, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(0, rerun.getCount());
+        assertEquals(1, runs.get());
+    }
+
+    private void blockWorker() {
+        workerStarted.countDown();
+        try {
+            releaseWorker.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
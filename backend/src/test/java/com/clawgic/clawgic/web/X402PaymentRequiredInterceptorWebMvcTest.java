@@ -96,6 +96,7 @@ class X402PaymentRequiredInterceptorWebMvcTest {
                         ClawgicTournamentEntryStatus.CONFIRMED,
                         null,
                         1000,
+                        0,
                         OffsetDateTime.parse("2026-06-01T10:00:00Z"),
                         OffsetDateTime.parse("2026-06-01T10:00:00Z")
                 ));
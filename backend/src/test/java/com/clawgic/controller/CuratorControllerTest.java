@@ -2,13 +2,15 @@ package com.clawgic.controller;
 
 import com.clawgic.model.Curator;
 import com.clawgic.model.CuratorId;
+import com.clawgic.repository.CuratorLeaderboardRow;
 import com.clawgic.repository.CuratorRepository;
 import com.clawgic.service.CuratorScoringService;
+import com.clawgic.service.KeysetCursor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -102,8 +104,8 @@ class CuratorControllerTest {
         Curator c2 = buildCurator("wallet2aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", 1);
         c2.setCuratorScore(new BigDecimal("0.7000"));
 
-        when(curatorRepository.findByMarketId(eq(1), any(PageRequest.class)))
-                .thenReturn(List.of(c1, c2));
+        when(curatorRepository.findLeaderboardRows(eq(1), any(Limit.class)))
+                .thenReturn(List.of(leaderboardRow(c1), leaderboardRow(c2)));
 
         mockMvc.perform(get("/api/leaderboard"))
                 .andExpect(status().isOk())
@@ -116,8 +118,8 @@ class CuratorControllerTest {
     void getLeaderboard_respectsLimitParam() throws Exception {
         Curator c1 = buildCurator("wallet1aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", 1);
 
-        when(curatorRepository.findByMarketId(eq(1), any(PageRequest.class)))
-                .thenReturn(List.of(c1));
+        when(curatorRepository.findLeaderboardRows(eq(1), any(Limit.class)))
+                .thenReturn(List.of(leaderboardRow(c1)));
 
         mockMvc.perform(get("/api/leaderboard")
                         .param("limit", "1"))
@@ -127,11 +129,75 @@ class CuratorControllerTest {
 
     @Test
     void getLeaderboard_returnsEmptyListForNoData() throws Exception {
-        when(curatorRepository.findByMarketId(eq(1), any(PageRequest.class)))
+        when(curatorRepository.findLeaderboardRows(eq(1), any(Limit.class)))
                 .thenReturn(List.of());
 
         mockMvc.perform(get("/api/leaderboard"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
     }
+
+    @Test
+    void getLeaderboard_omitsEntityOnlyColumns() throws Exception {
+        Curator curator = buildCurator(WALLET, 1);
+        when(curatorRepository.findLeaderboardRows(eq(1), any(Limit.class)))
+                .thenReturn(List.of(leaderboardRow(curator)));
+
+        mockMvc.perform(get("/api/leaderboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].wallet").value(WALLET))
+                .andExpect(jsonPath("$[0].earned").value(5000))
+                .andExpect(jsonPath("$[0].pairsThisEpoch").doesNotExist());
+    }
+
+    @Test
+    void getLeaderboard_pagesWithCursor() throws Exception {
+        Curator first = buildCurator("wallet1aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", 1);
+        first.setCuratorScore(new BigDecimal("0.9500"));
+        Curator second = buildCurator("wallet2aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", 1);
+        second.setCuratorScore(new BigDecimal("0.7000"));
+        Curator third = buildCurator("wallet3aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", 1);
+        third.setCuratorScore(new BigDecimal("0.7000"));
+
+        when(curatorRepository.findLeaderboardRows(1, Limit.of(2)))
+                .thenReturn(List.of(leaderboardRow(first), leaderboardRow(second)));
+        String nextCursor = KeysetCursor.encode("0.9500", first.getWallet());
+
+        mockMvc.perform(get("/api/leaderboard").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER, nextCursor));
+
+        when(curatorRepository.findLeaderboardRowsAfter(1, new BigDecimal("0.9500"), first.getWallet(), Limit.of(3)))
+                .thenReturn(List.of(leaderboardRow(second), leaderboardRow(third)));
+
+        mockMvc.perform(get("/api/leaderboard")
+                        .param("limit", "2")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].wallet").value(second.getWallet()))
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getLeaderboard_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/leaderboard").param("cursor", KeysetCursor.encode("not-a-number", WALLET)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static CuratorLeaderboardRow leaderboardRow(Curator curator) {
+        return new CuratorLeaderboardRow(
+                curator.getWallet(),
+                curator.getMarketId(),
+                curator.getIdentityId(),
+                curator.getCuratorScore(),
+                curator.getCalibrationRate(),
+                curator.getAuditPassRate(),
+                curator.getAlignmentStability(),
+                curator.getEarned(),
+                curator.getLost(),
+                curator.getFraudFlags()
+        );
+    }
 }
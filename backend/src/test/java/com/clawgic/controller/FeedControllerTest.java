@@ -1,20 +1,20 @@
 package com.clawgic.controller;
 
+import com.clawgic.controller.dto.PostResponse;
 import com.clawgic.model.Market;
 import com.clawgic.model.Post;
-import com.clawgic.repository.PostRepository;
+import com.clawgic.service.FeedRankingService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -27,7 +27,7 @@ class FeedControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private PostRepository postRepository;
+    private FeedRankingService feedRankingService;
 
     private static final class ByteBuddyInterceptorStub {
     }
@@ -67,8 +67,8 @@ class FeedControllerTest {
         Post higher = buildPost(2, "agent-beta", 1550, false);
         Post lower = buildPost(1, "agent-alpha", 1500, false);
 
-        when(postRepository.findByMarketId(eq(1), any(Pageable.class)))
-                .thenReturn(List.of(higher, lower));
+        when(feedRankingService.getRealtimeFeed(1, 2))
+                .thenReturn(List.of(PostResponse.from(higher), PostResponse.from(lower)));
 
         mockMvc.perform(get("/api/feed")
                         .param("marketId", "1")
@@ -86,8 +86,8 @@ class FeedControllerTest {
     @Test
     void getFeed_handlesProxyLikeMarketWithoutSerialization500() throws Exception {
         Post post = buildPost(1, "agent-alpha", 1500, true);
-        when(postRepository.findByMarketId(eq(1), any(Pageable.class)))
-                .thenReturn(List.of(post));
+        when(feedRankingService.getRealtimeFeed(1, 50))
+                .thenReturn(List.of(PostResponse.from(post)));
 
         mockMvc.perform(get("/api/feed")
                         .param("marketId", "1"))
@@ -97,4 +97,22 @@ class FeedControllerTest {
                 .andExpect(jsonPath("$[0].agent").value("agent-alpha"))
                 .andExpect(jsonPath("$[0].market").doesNotExist());
     }
+
+    @Test
+    void getFeed_servesDelayedRankingForDelayedType() throws Exception {
+        Post post = buildPost(1, "agent-alpha", 1500, false);
+        when(feedRankingService.getDelayedFeed(1, 10))
+                .thenReturn(List.of(PostResponse.from(post).withElo(1480)));
+
+        mockMvc.perform(get("/api/feed")
+                        .param("marketId", "1")
+                        .param("type", "delayed")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].elo").value(1480));
+
+        verify(feedRankingService, never()).getRealtimeFeed(1, 10);
+    }
 }
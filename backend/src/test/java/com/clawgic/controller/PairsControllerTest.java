@@ -2,12 +2,13 @@ package com.clawgic.controller;
 
 import com.clawgic.model.*;
 import com.clawgic.repository.CommitmentRepository;
-import com.clawgic.repository.IdentityRepository;
 import com.clawgic.repository.PairRepository;
 import com.clawgic.service.CommitSecurityService;
+import com.clawgic.service.CurationLookupCache;
 import com.clawgic.service.CuratorParticipationService;
 import com.clawgic.service.PairSelectionService;
 import com.clawgic.service.PairSkipService;
+import com.clawgic.service.VoteTallyService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -52,7 +53,7 @@ class PairsControllerTest {
     private CommitmentRepository commitmentRepository;
 
     @MockitoBean
-    private IdentityRepository identityRepository;
+    private CurationLookupCache curationLookupCache;
 
     @MockitoBean
     private PairSkipService pairSkipService;
@@ -63,6 +64,9 @@ class PairsControllerTest {
     @MockitoBean
     private CuratorParticipationService curatorParticipationService;
 
+    @MockitoBean
+    private VoteTallyService voteTallyService;
+
     private static final String WALLET = "4Nd1mYQzvgV8Vr3Z3nYb7pD6T8K9jF2eqWxY1S3Qh5Ro";
     private static final String NORMALIZED_HASH = "0xabcdef1234567890abcdef1234567890abcdef1234567890abcdef1234567890";
     private static final String STORAGE_ENVELOPE = "{\"version\":\"v2\",\"alg\":\"AES-256-GCM\",\"kid\":\"v1\",\"iv\":\"AA==\",\"ct\":\"AA==\"}";
@@ -128,15 +132,6 @@ class PairsControllerTest {
         return pair;
     }
 
-    private Identity buildIdentity(String wallet) {
-        Identity identity = new Identity();
-        identity.setId(1);
-        identity.setWallet(wallet);
-        identity.setXAccount("test-account");
-        identity.setVerified(true);
-        return identity;
-    }
-
     @BeforeEach
     void setUp() {
         lenient().when(curatorParticipationService.hasRemainingCapacity(anyString(), anyInt()))
@@ -149,7 +144,7 @@ class PairsControllerTest {
     void getNextPair_returnsPairForCurator() throws Exception {
         Pair pair = buildPair(false);
         pair.getRound().setStatus(RoundStatus.COMMIT);
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(pairSelectionService.findNextPairForCurator(WALLET, 1))
                 .thenReturn(Optional.of(pair));
 
@@ -168,7 +163,7 @@ class PairsControllerTest {
 
     @Test
     void getNextPair_returns404WhenNoPairsAvailable() throws Exception {
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(pairSelectionService.findNextPairForCurator(WALLET, 1))
                 .thenReturn(Optional.empty());
 
@@ -179,7 +174,7 @@ class PairsControllerTest {
 
     @Test
     void getNextPair_returns404WhenWalletIdentityDoesNotExist() throws Exception {
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.empty());
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/pairs/next")
                         .param("wallet", WALLET))
@@ -188,7 +183,7 @@ class PairsControllerTest {
 
     @Test
     void getNextPair_returns404WhenCuratorReachedParticipationCap() throws Exception {
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(curatorParticipationService.hasRemainingCapacity(WALLET, 1)).thenReturn(false);
 
         mockMvc.perform(get("/api/pairs/next")
@@ -200,7 +195,7 @@ class PairsControllerTest {
     void commitPair_createsCommitment() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any()))
                 .thenReturn(new CommitSecurityService.SecuredCommitmentPayload(NORMALIZED_HASH, STORAGE_ENVELOPE));
 
@@ -244,13 +239,14 @@ class PairsControllerTest {
         assertFalse(persisted.getRevealed());
         assertNotNull(persisted.getCommittedAt());
         assertSame(pair, persisted.getPair());
+        verify(voteTallyService).recordCommit(persisted);
     }
 
     @Test
     void commitPair_acceptsFrontendPayloadContract() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any()))
                 .thenReturn(new CommitSecurityService.SecuredCommitmentPayload(NORMALIZED_HASH, STORAGE_ENVELOPE));
         when(commitmentRepository.save(any(Commitment.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -308,7 +304,7 @@ class PairsControllerTest {
     void commitPair_returns400ForInvalidCommitmentHash() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any())).thenThrow(
                 new CommitSecurityService.CommitSecurityException(
                         CommitSecurityService.CommitSecurityError.BAD_REQUEST,
@@ -337,7 +333,7 @@ class PairsControllerTest {
     void commitPair_returns400WhenWalletIdentityDoesNotExist() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.empty());
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.empty());
 
         String requestBody = """
                 {
@@ -358,7 +354,7 @@ class PairsControllerTest {
     void commitPair_returns409WhenCuratorReachedParticipationCap() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any()))
                 .thenReturn(new CommitSecurityService.SecuredCommitmentPayload(NORMALIZED_HASH, STORAGE_ENVELOPE));
         when(curatorParticipationService.tryConsumePairEvaluationSlot(WALLET, 1)).thenReturn(false);
@@ -405,7 +401,7 @@ class PairsControllerTest {
     void getNextPair_handlesProxyLikeEntityGraphWithoutSerialization500() throws Exception {
         Pair pair = buildPair(true);
         pair.getRound().setStatus(RoundStatus.COMMIT);
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(pairSelectionService.findNextPairForCurator(WALLET, 1))
                 .thenReturn(Optional.of(pair));
 
@@ -422,7 +418,7 @@ class PairsControllerTest {
         Pair pair = buildPair(false);
         pair.getRound().setStatus(RoundStatus.COMMIT);
 
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(pairSelectionService.findNextPairForCurator(WALLET, 1))
                 .thenReturn(Optional.empty())
                 .thenReturn(Optional.of(pair))
@@ -446,7 +442,7 @@ class PairsControllerTest {
     void commitPair_handlesProxyLikeEntityGraphWithoutSerialization500() throws Exception {
         Pair pair = buildPair(true);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any()))
                 .thenReturn(new CommitSecurityService.SecuredCommitmentPayload(NORMALIZED_HASH, STORAGE_ENVELOPE));
 
@@ -485,7 +481,7 @@ class PairsControllerTest {
     void commitPair_returns401ForInvalidSignature() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any())).thenThrow(
                 new CommitSecurityService.CommitSecurityException(
                         CommitSecurityService.CommitSecurityError.UNAUTHORIZED,
@@ -514,7 +510,7 @@ class PairsControllerTest {
     void commitPair_returns409ForReplayNonce() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
         when(commitSecurityService.secureCommitPayload(eq(1), any())).thenThrow(
                 new CommitSecurityService.CommitSecurityException(
                         CommitSecurityService.CommitSecurityError.REPLAY,
@@ -543,7 +539,7 @@ class PairsControllerTest {
     void skipPair_recordsSkipAndReturns204() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
 
         String requestBody = """
                 {
@@ -564,7 +560,7 @@ class PairsControllerTest {
     void skipPair_acceptsLegacyCuratorWalletAlias() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(buildIdentity(WALLET)));
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.of(1));
 
         String requestBody = """
                 {
@@ -617,7 +613,7 @@ class PairsControllerTest {
     void skipPair_returns400WhenWalletIdentityDoesNotExist() throws Exception {
         Pair pair = buildPair(false);
         when(pairRepository.findById(1)).thenReturn(Optional.of(pair));
-        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.empty());
+        when(curationLookupCache.findIdentityId(WALLET)).thenReturn(Optional.empty());
 
         String requestBody = """
                 {
@@ -1,27 +1,47 @@
 package com.clawgic.controller;
 
 import com.clawgic.model.Market;
+import com.clawgic.model.Pair;
+import com.clawgic.model.PairWinner;
+import com.clawgic.model.Post;
 import com.clawgic.model.Round;
 import com.clawgic.model.RoundStatus;
+import com.clawgic.model.SettlementPayout;
 import com.clawgic.repository.CommitmentRepository;
 import com.clawgic.repository.CuratorRepository;
+import com.clawgic.repository.PairRepository;
 import com.clawgic.repository.RoundRepository;
+import com.clawgic.repository.SettlementPayoutRepository;
 import com.clawgic.service.CuratorSupplyService;
+import com.clawgic.service.ImmutableResponseCache;
+import com.clawgic.service.KeysetCursor;
+import com.clawgic.service.RoundContentMerkleService;
+import com.clawgic.service.SettlementPayoutMerkleService;
+import com.clawgic.service.VoteTallyService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,7 +51,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Verifies the rounds page can retrieve data without crashes.
  */
 @WebMvcTest(RoundController.class)
-@Import(CuratorSupplyService.class)
+@Import({
+        CuratorSupplyService.class,
+        ImmutableResponseCache.class,
+        RoundContentMerkleService.class,
+        SettlementPayoutMerkleService.class
+})
 class RoundControllerTest {
 
     @Autowired
@@ -46,6 +71,18 @@ class RoundControllerTest {
     @MockitoBean
     private CuratorRepository curatorRepository;
 
+    @MockitoBean
+    private VoteTallyService voteTallyService;
+
+    @MockitoBean
+    private PairRepository pairRepository;
+
+    @MockitoBean
+    private SettlementPayoutRepository settlementPayoutRepository;
+
+    @Autowired
+    private RoundContentMerkleService roundContentMerkleService;
+
     private static final class ByteBuddyInterceptorStub {
     }
 
@@ -218,6 +255,64 @@ class RoundControllerTest {
                 .andExpect(jsonPath("$[0].id").value(10));
     }
 
+    @Test
+    void listRounds_returnsNextCursorHeaderWhenMoreRoundsExist() throws Exception {
+        Market market = buildMarket();
+        Round newest = buildRound(3, RoundStatus.OPEN, market);
+        Round middle = buildRound(2, RoundStatus.SETTLED, market);
+        Round oldest = buildRound(1, RoundStatus.SETTLED, market);
+
+        when(roundRepository.findByMarketIdOrderByCreatedAtDescIdDesc(eq(1), eq(Limit.of(3))))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        mockMvc.perform(get("/api/rounds").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER,
+                        KeysetCursor.encode(middle.getCreatedAt(), 2)));
+    }
+
+    @Test
+    void listRounds_fetchesPageAfterCursor() throws Exception {
+        Market market = buildMarket();
+        Round older = buildRound(1, RoundStatus.SETTLED, market);
+        OffsetDateTime createdAt = OffsetDateTime.parse("2026-03-01T10:00:00Z");
+
+        when(roundRepository.findPageByMarketIdAfter(1, createdAt, 2, Limit.of(101)))
+                .thenReturn(List.of(older));
+
+        mockMvc.perform(get("/api/rounds").param("cursor", KeysetCursor.encode(createdAt, 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void listRounds_returnsEveryRoundNewestFirstWhenNotPaging() throws Exception {
+        when(roundRepository.findByMarketId(eq(1), any(Sort.class))).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/rounds"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+
+        verify(roundRepository).findByMarketId(1, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        verify(roundRepository, never()).findByMarketIdOrderByCreatedAtDescIdDesc(any(), any());
+    }
+
+    @Test
+    void listRounds_rejectsPageSizeOverMaximum() throws Exception {
+        mockMvc.perform(get("/api/rounds").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listRounds_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/rounds").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getRoundDetail_returnsRound() throws Exception {
         Market market = buildMarket();
@@ -237,6 +332,45 @@ class RoundControllerTest {
                 .andExpect(jsonPath("$.premiumPerPair").value(2000000));
     }
 
+    @Test
+    void getRoundDetail_servesSettledRoundFromImmutableCacheWithETag() throws Exception {
+        Round round = buildRound(21, RoundStatus.SETTLED, buildMarket());
+        round.setSettledAt(OffsetDateTime.now());
+        when(roundRepository.findById(21)).thenReturn(Optional.of(round));
+
+        MvcResult first = mockMvc.perform(get("/api/rounds/{id}", 21))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.id").value(21))
+                .andExpect(jsonPath("$.status").value("SETTLED"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/rounds/{id}", 21).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/rounds/{id}", 21).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+
+        verify(roundRepository, times(1)).findById(21);
+    }
+
+    @Test
+    void getRoundDetail_doesNotCacheActiveRound() throws Exception {
+        Round round = buildRound(22, RoundStatus.COMMIT, buildMarket());
+        when(roundRepository.findById(22)).thenReturn(Optional.of(round));
+
+        mockMvc.perform(get("/api/rounds/{id}", 22))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        mockMvc.perform(get("/api/rounds/{id}", 22))
+                .andExpect(status().isOk());
+
+        verify(roundRepository, times(2)).findById(22);
+    }
+
     @Test
     void getRoundDetail_returns404WhenNotFound() throws Exception {
         when(roundRepository.findById(999)).thenReturn(Optional.empty());
@@ -280,4 +414,167 @@ class RoundControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].market.name").value("tech"));
     }
+
+    @Test
+    void getProvisionalResults_returnsRunningTalliesDuringReveal() throws Exception {
+        Round round = buildRound(12, RoundStatus.REVEAL, buildMarket());
+        Map<Integer, VoteTallyService.PairTally> tallies = new LinkedHashMap<>();
+        tallies.put(101, new VoteTallyService.PairTally(
+                101, 3, 4_500L, 2, 3_000L, 0L, 0L, new BigDecimal("1.5000"), Map.of()));
+        tallies.put(102, new VoteTallyService.PairTally(
+                102, 2, 2_000L, 2, 1_000L, 1_000L, 0L, new BigDecimal("1.0000"), Map.of()));
+
+        when(roundRepository.findById(12)).thenReturn(Optional.of(round));
+        when(voteTallyService.loadRoundTallies(12)).thenReturn(tallies);
+
+        mockMvc.perform(get("/api/rounds/{id}/provisional", 12))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roundId").value(12))
+                .andExpect(jsonPath("$.status").value("REVEAL"))
+                .andExpect(jsonPath("$.pairs.length()").value(2))
+                .andExpect(jsonPath("$.pairs[0].pairId").value(101))
+                .andExpect(jsonPath("$.pairs[0].committedCount").value(3))
+                .andExpect(jsonPath("$.pairs[0].revealedCount").value(2))
+                .andExpect(jsonPath("$.pairs[0].stakeA").value(3000))
+                .andExpect(jsonPath("$.pairs[0].leadingChoice").value(PairWinner.A.name()))
+                .andExpect(jsonPath("$.pairs[0].averageCuratorScore").value(0.75))
+                .andExpect(jsonPath("$.pairs[1].leadingChoice").value(PairWinner.TIE.name()));
+    }
+
+    @Test
+    void getProvisionalResults_returns409BeforeRevealPhase() throws Exception {
+        Round round = buildRound(13, RoundStatus.COMMIT, buildMarket());
+        when(roundRepository.findById(13)).thenReturn(Optional.of(round));
+
+        mockMvc.perform(get("/api/rounds/{id}/provisional", 13))
+                .andExpect(status().isConflict());
+
+        verify(voteTallyService, never()).loadRoundTallies(any());
+    }
+
+    @Test
+    void getProvisionalResults_returns404WhenRoundMissing() throws Exception {
+        when(roundRepository.findById(404)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/rounds/{id}/provisional", 404))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getContentProof_returnsInclusionProofAgainstRoundRoot() throws Exception {
+        List<Pair> pairs = List.of(
+                buildPair(1, buildPost(30, "third"), buildPost(10, "first")),
+                buildPair(2, buildPost(20, "second"), buildPost(40, "fourth")),
+                buildPair(3, buildPost(10, "first"), buildPost(50, "fifth"))
+        );
+        Round round = buildRound(14, RoundStatus.OPEN, buildMarket());
+        round.setContentMerkleRoot(roundContentMerkleService.computeRootHex(pairs));
+        when(roundRepository.findById(14)).thenReturn(Optional.of(round));
+        when(pairRepository.findByRoundId(14)).thenReturn(pairs);
+
+        mockMvc.perform(get("/api/rounds/{id}/content-proof", 14).param("postId", "40"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roundId").value(14))
+                .andExpect(jsonPath("$.postId").value(40))
+                .andExpect(jsonPath("$.leafIndex").value(3))
+                .andExpect(jsonPath("$.leafCount").value(5))
+                .andExpect(jsonPath("$.siblings.length()").value(3))
+                .andExpect(jsonPath("$.contentMerkleRoot").value(round.getContentMerkleRoot()));
+    }
+
+    @Test
+    void getContentProof_returns409WhenContentNoLongerMatchesStoredRoot() throws Exception {
+        List<Pair> pairs = List.of(buildPair(1, buildPost(1, "a"), buildPost(2, "b")));
+        Round round = buildRound(17, RoundStatus.OPEN, buildMarket());
+        round.setContentMerkleRoot(roundContentMerkleService.computeRootHex(pairs));
+        pairs.getFirst().getPostB().setContent("b, edited");
+        when(roundRepository.findById(17)).thenReturn(Optional.of(round));
+        when(pairRepository.findByRoundId(17)).thenReturn(pairs);
+
+        mockMvc.perform(get("/api/rounds/{id}/content-proof", 17).param("postId", "1"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getContentProof_returns404WhenRoundHasNoStoredRoot() throws Exception {
+        when(roundRepository.findById(18)).thenReturn(Optional.of(buildRound(18, RoundStatus.OPEN, buildMarket())));
+
+        mockMvc.perform(get("/api/rounds/{id}/content-proof", 18).param("postId", "1"))
+                .andExpect(status().isNotFound());
+
+        verify(pairRepository, never()).findByRoundId(18);
+    }
+
+    @Test
+    void getContentProof_returns404WhenPostNotInRound() throws Exception {
+        List<Pair> pairs = List.of(buildPair(1, buildPost(1, "a"), buildPost(2, "b")));
+        Round round = buildRound(15, RoundStatus.OPEN, buildMarket());
+        round.setContentMerkleRoot(roundContentMerkleService.computeRootHex(pairs));
+        when(roundRepository.findById(15)).thenReturn(Optional.of(round));
+        when(pairRepository.findByRoundId(15)).thenReturn(pairs);
+
+        mockMvc.perform(get("/api/rounds/{id}/content-proof", 15).param("postId", "3"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getPayoutProof_returnsInclusionProofAgainstPayoutRoot() throws Exception {
+        List<SettlementPayout> payouts = List.of(
+                buildPayout(16, 0, "wallet-a", 120L, 0L, 1, 3),
+                buildPayout(16, 1, "wallet-b", 0L, 40L, 2),
+                buildPayout(16, 2, "wallet-c", 75L, 10L, 1, 2, 3)
+        );
+        when(roundRepository.existsById(16)).thenReturn(true);
+        when(settlementPayoutRepository.findByRoundIdOrderByLeafIndexAsc(16)).thenReturn(payouts);
+
+        mockMvc.perform(get("/api/rounds/{id}/payout-proof", 16).param("wallet", "wallet-c"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roundId").value(16))
+                .andExpect(jsonPath("$.wallet").value("wallet-c"))
+                .andExpect(jsonPath("$.leafIndex").value(2))
+                .andExpect(jsonPath("$.leafCount").value(3))
+                .andExpect(jsonPath("$.earned").value(75))
+                .andExpect(jsonPath("$.lost").value(10))
+                .andExpect(jsonPath("$.pairIds.length()").value(3))
+                .andExpect(jsonPath("$.siblings.length()").value(1))
+                .andExpect(jsonPath("$.payoutMerkleRoot")
+                        .value(SettlementPayoutMerkleService.payoutTree(payouts).rootHex()));
+    }
+
+    @Test
+    void getPayoutProof_returns404WhenWalletHasNoPayout() throws Exception {
+        when(roundRepository.existsById(17)).thenReturn(true);
+        when(settlementPayoutRepository.findByRoundIdOrderByLeafIndexAsc(17))
+                .thenReturn(List.of(buildPayout(17, 0, "wallet-a", 1L, 0L, 1)));
+
+        mockMvc.perform(get("/api/rounds/{id}/payout-proof", 17).param("wallet", "wallet-z"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static Pair buildPair(Integer id, Post postA, Post postB) {
+        Pair pair = new Pair();
+        pair.setId(id);
+        pair.setPostA(postA);
+        pair.setPostB(postB);
+        return pair;
+    }
+
+    private static Post buildPost(Integer id, String content) {
+        Post post = new Post();
+        post.setId(id);
+        post.setContent(content);
+        return post;
+    }
+
+    private static SettlementPayout buildPayout(Integer roundId, int leafIndex, String wallet,
+                                                Long earned, Long lost, int... pairIds) {
+        SettlementPayout payout = new SettlementPayout();
+        payout.setRoundId(roundId);
+        payout.setLeafIndex(leafIndex);
+        payout.setCuratorWallet(wallet);
+        payout.setEarned(earned);
+        payout.setLost(lost);
+        payout.setPairIds(pairIds);
+        return payout;
+    }
 }
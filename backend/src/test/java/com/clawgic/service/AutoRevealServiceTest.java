@@ -60,6 +60,9 @@ class AutoRevealServiceTest {
     @Mock
     private CommitSecurityProperties commitSecurityProperties;
 
+    @Mock
+    private VoteTallyService voteTallyService;
+
     @InjectMocks
     private AutoRevealService autoRevealService;
 
@@ -123,6 +126,7 @@ class AutoRevealServiceTest {
         assertNull(saved.getAutoRevealFailureReason());
         assertNull(saved.getAutoRevealFailedAt());
         assertNotNull(saved.getRevealedAt());
+        verify(voteTallyService).recordReveal(saved);
     }
 
     @Test
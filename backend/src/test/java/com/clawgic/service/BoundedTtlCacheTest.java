@@ -0,0 +1,145 @@
+package com.clawgic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedTtlCacheTest {
+
+    @Test
+    void get_loadsOnceAndServesHitsUntilTtlExpires() {
+        MutableClock clock = new MutableClock();
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 10, Duration.ofSeconds(30), clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get("a", _ -> loads.incrementAndGet()));
+        assertEquals(1, cache.get("a", _ -> loads.incrementAndGet()));
+        clock.advance(Duration.ofSeconds(31));
+        assertEquals(2, cache.get("a", _ -> loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void get_doesNotCacheNullResults() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 10, Duration.ofSeconds(30), new MutableClock());
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("a", _ -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(7, cache.get("a", _ -> {
+            loads.incrementAndGet();
+            return 7;
+        }));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedEntryBeyondCapacity() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 2, Duration.ofSeconds(30), new MutableClock());
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.getIfPresent("a");
+        cache.put("c", 3);
+
+        assertEquals(Optional.of(1), cache.getIfPresent("a"));
+        assertEquals(Optional.empty(), cache.getIfPresent("b"));
+        assertEquals(Optional.of(3), cache.getIfPresent("c"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void get_doesNotStoreValueLoadedConcurrentlyWithInvalidation() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 10, Duration.ofSeconds(30), new MutableClock());
+
+        Integer loaded = cache.get("a", key -> {
+            cache.invalidate(key);
+            return 1;
+        });
+
+        assertEquals(1, loaded);
+        assertEquals(Optional.empty(), cache.getIfPresent("a"));
+    }
+
+    @Test
+    void invalidateIf_removesMatchingKeysOnly() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 10, Duration.ofSeconds(30), new MutableClock());
+        cache.put("market-1:a", 1);
+        cache.put("market-1:b", 2);
+        cache.put("market-2:a", 3);
+
+        cache.invalidateIf(key -> key.startsWith("market-1:"));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.getIfPresent("market-2:a").isPresent());
+    }
+
+    @Test
+    void disabledCacheIsPassThrough() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 0, Duration.ofSeconds(30), new MutableClock());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", _ -> loads.incrementAndGet());
+        cache.get("a", _ -> loads.incrementAndGet());
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void stats_reportsHitRate() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>("test", 10, Duration.ofSeconds(30), new MutableClock());
+
+        cache.get("a", _ -> 1);
+        cache.get("a", _ -> 1);
+        cache.get("a", _ -> 1);
+        cache.get("b", _ -> 2);
+
+        BoundedTtlCache.Stats stats = cache.stats();
+        assertEquals("test", stats.name());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import javax.crypto.spec.SecretKeySpec;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Map;
@@ -55,7 +56,12 @@ class CommitSecurityServiceTest {
         properties.setAllowLegacyRevealDecode(true);
 
         revealEnvelopeCryptoService = new CommitRevealEnvelopeCryptoService(properties);
-        commitSecurityService = new CommitSecurityService(replayGuardRepository, revealEnvelopeCryptoService, properties);
+        commitSecurityService = new CommitSecurityService(
+                replayGuardRepository,
+                revealEnvelopeCryptoService,
+                properties,
+                new JdkWalletSignatureVerifier(16, Clock.systemUTC())
+        );
     }
 
     @Test
@@ -0,0 +1,99 @@
+package com.clawgic.service;
+
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CryptoPrimitivesTest {
+
+    @Test
+    void hexRoundTripsAllByteValues() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        String hex = CryptoPrimitives.toHex(bytes);
+
+        assertEquals(HexFormat.of().formatHex(bytes), hex);
+        assertArrayEquals(bytes, CryptoPrimitives.fromHex(hex));
+        assertArrayEquals(bytes, CryptoPrimitives.fromHex(hex.toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> CryptoPrimitives.fromHex("abc"));
+        assertThrows(IllegalArgumentException.class, () -> CryptoPrimitives.fromHex("zz"));
+    }
+
+    @Test
+    void byteBufferVariantsReadInPlaceWithoutMovingPosition() {
+        byte[] payload = "prefix|settlement-payload".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(payload).position(7);
+        ByteBuffer direct = ByteBuffer.allocateDirect(payload.length).put(payload).flip().position(7);
+        byte[] expectedDigest = CryptoPrimitives.sha256("settlement-payload");
+
+        assertArrayEquals(expectedDigest, CryptoPrimitives.sha256(heap));
+        assertArrayEquals(expectedDigest, CryptoPrimitives.sha256(direct));
+        assertEquals(HexFormat.of().formatHex(payload, 7, payload.length), CryptoPrimitives.toHex(heap));
+        assertEquals(HexFormat.of().formatHex(payload, 7, payload.length), CryptoPrimitives.toHex(direct));
+        assertEquals(7, heap.position());
+        assertEquals(7, direct.position());
+    }
+
+    @Test
+    void pooledDigestsMatchFreshInstancesUnderConcurrency() throws Exception {
+        List<Callable<Boolean>> tasks = IntStream.range(0, 64)
+                .mapToObj(i -> (Callable<Boolean>) () -> {
+                    byte[] input = ("payload-" + i).getBytes(StandardCharsets.UTF_8);
+                    boolean sha = MessageDigest.isEqual(
+                            MessageDigest.getInstance("SHA-256").digest(input),
+                            CryptoPrimitives.sha256(input)
+                    );
+                    boolean keccak = MessageDigest.isEqual(
+                            new Keccak.Digest256().digest(input),
+                            CryptoPrimitives.keccak256(input)
+                    );
+                    return sha && keccak;
+                })
+                .toList();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertEquals(Boolean.TRUE, result.get());
+            }
+        }
+    }
+
+    @Test
+    void pooledCipherIsReinitializedPerOperation() throws Exception {
+        SecretKeySpec key = new SecretKeySpec(new byte[32], "AES");
+        byte[] plaintext = "reveal".getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 3; i++) {
+            GCMParameterSpec iv = new GCMParameterSpec(128, new byte[]{(byte) i, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11});
+            byte[] ciphertext = CryptoPrimitives.withCipher(CryptoPrimitives.AES_GCM, cipher -> {
+                cipher.init(Cipher.ENCRYPT_MODE, key, iv);
+                return cipher.doFinal(plaintext);
+            });
+            byte[] decrypted = CryptoPrimitives.withCipher(CryptoPrimitives.AES_GCM, cipher -> {
+                cipher.init(Cipher.DECRYPT_MODE, key, iv);
+                return cipher.doFinal(ciphertext);
+            });
+            assertArrayEquals(plaintext, decrypted);
+        }
+    }
+}
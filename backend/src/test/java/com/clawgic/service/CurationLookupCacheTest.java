@@ -0,0 +1,125 @@
+package com.clawgic.service;
+
+import com.clawgic.model.Curator;
+import com.clawgic.model.Identity;
+import com.clawgic.repository.CuratorRepository;
+import com.clawgic.repository.IdentityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurationLookupCacheTest {
+
+    private static final String WALLET = "wallet-1";
+
+    @Mock
+    private IdentityRepository identityRepository;
+
+    @Mock
+    private CuratorRepository curatorRepository;
+
+    private CurationLookupCache curationLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        curationLookupCache = new CurationLookupCache(
+                identityRepository, curatorRepository, 100,
+                Duration.ofMinutes(5), Duration.ofSeconds(15), Clock.systemUTC());
+    }
+
+    @Test
+    void findIdentityId_cachesKnownWallets() {
+        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(identity(7)));
+
+        assertEquals(Optional.of(7), curationLookupCache.findIdentityId(WALLET));
+        assertEquals(Optional.of(7), curationLookupCache.findIdentityId(WALLET));
+
+        verify(identityRepository, times(1)).findByWallet(WALLET);
+    }
+
+    @Test
+    void findIdentityId_doesNotCacheUnknownWallets() {
+        when(identityRepository.findByWallet(WALLET))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(identity(7)));
+
+        assertEquals(Optional.empty(), curationLookupCache.findIdentityId(WALLET));
+        assertEquals(Optional.of(7), curationLookupCache.findIdentityId(WALLET));
+    }
+
+    @Test
+    void invalidateIdentity_forcesReloadAfterLinking() {
+        when(identityRepository.findByWallet(WALLET))
+                .thenReturn(Optional.of(identity(7)))
+                .thenReturn(Optional.of(identity(8)));
+
+        curationLookupCache.findIdentityId(WALLET);
+        curationLookupCache.invalidateIdentity(WALLET);
+
+        assertEquals(Optional.of(8), curationLookupCache.findIdentityId(WALLET));
+    }
+
+    @Test
+    void pairsThisEpoch_defaultsToZeroWithoutCurator() {
+        when(curatorRepository.findByWalletAndMarketId(WALLET, 1)).thenReturn(Optional.empty());
+
+        assertEquals(0, curationLookupCache.pairsThisEpoch(WALLET, 1));
+    }
+
+    @Test
+    void invalidateMarketCapacity_dropsOnlyThatMarket() {
+        when(curatorRepository.findByWalletAndMarketId(WALLET, 1)).thenReturn(Optional.of(curator(2)));
+        when(curatorRepository.findByWalletAndMarketId(WALLET, 2)).thenReturn(Optional.of(curator(5)));
+
+        curationLookupCache.pairsThisEpoch(WALLET, 1);
+        curationLookupCache.pairsThisEpoch(WALLET, 2);
+        curationLookupCache.invalidateMarketCapacity(1);
+        curationLookupCache.pairsThisEpoch(WALLET, 1);
+        curationLookupCache.pairsThisEpoch(WALLET, 2);
+
+        verify(curatorRepository, times(2)).findByWalletAndMarketId(WALLET, 1);
+        verify(curatorRepository, times(1)).findByWalletAndMarketId(WALLET, 2);
+    }
+
+    @Test
+    void bindTo_exposesHitAndMissCounters() {
+        when(identityRepository.findByWallet(WALLET)).thenReturn(Optional.of(identity(7)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        curationLookupCache.bindTo(registry);
+
+        curationLookupCache.findIdentityId(WALLET);
+        curationLookupCache.findIdentityId(WALLET);
+
+        assertEquals(1.0, registry.get("clawgic.curation.lookup.cache.requests")
+                .tag("cache", "identity").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("clawgic.curation.lookup.cache.requests")
+                .tag("cache", "identity").tag("result", "miss").functionCounter().count());
+    }
+
+    private static Identity identity(int id) {
+        Identity identity = new Identity();
+        identity.setId(id);
+        identity.setWallet(WALLET);
+        return identity;
+    }
+
+    private static Curator curator(int pairsThisEpoch) {
+        Curator curator = new Curator();
+        curator.setWallet(WALLET);
+        curator.setPairsThisEpoch(pairsThisEpoch);
+        return curator;
+    }
+}
@@ -8,11 +8,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,11 +39,14 @@ class CuratorParticipationServiceTest {
     @Mock
     private IdentityRepository identityRepository;
 
-    @InjectMocks
     private CuratorParticipationService curatorParticipationService;
 
     @BeforeEach
     void setUp() {
+        CurationLookupCache curationLookupCache = new CurationLookupCache(
+                identityRepository, curatorRepository, 100,
+                Duration.ofMinutes(5), Duration.ofSeconds(15), Clock.systemUTC());
+        curatorParticipationService = new CuratorParticipationService(curatorRepository, curationLookupCache);
         ReflectionTestUtils.setField(curatorParticipationService, "maxPairsPerCuratorPerRound", 3);
     }
 
@@ -65,6 +70,54 @@ class CuratorParticipationServiceTest {
         assertFalse(result);
     }
 
+    @Test
+    void hasRemainingCapacity_servesRepeatedChecksFromCache() {
+        Curator curator = new Curator();
+        curator.setPairsThisEpoch(1);
+        when(curatorRepository.findByWalletAndMarketId(WALLET, 1)).thenReturn(Optional.of(curator));
+
+        assertTrue(curatorParticipationService.hasRemainingCapacity(WALLET, 1));
+        assertTrue(curatorParticipationService.hasRemainingCapacity(WALLET, 1));
+
+        verify(curatorRepository, times(1)).findByWalletAndMarketId(WALLET, 1);
+    }
+
+    @Test
+    void hasRemainingCapacity_reloadsAfterSlotConsumed() {
+        Curator below = new Curator();
+        below.setPairsThisEpoch(2);
+        Curator atCap = new Curator();
+        atCap.setPairsThisEpoch(3);
+        when(curatorRepository.findByWalletAndMarketId(WALLET, 1))
+                .thenReturn(Optional.of(below))
+                .thenReturn(Optional.of(atCap));
+        when(curatorRepository.incrementPairsThisEpochIfBelowCap(eq(WALLET), eq(1), eq(3), any()))
+                .thenReturn(1);
+
+        assertTrue(curatorParticipationService.hasRemainingCapacity(WALLET, 1));
+        assertTrue(curatorParticipationService.tryConsumePairEvaluationSlot(WALLET, 1));
+
+        assertFalse(curatorParticipationService.hasRemainingCapacity(WALLET, 1));
+        verify(curatorRepository, times(2)).findByWalletAndMarketId(WALLET, 1);
+    }
+
+    @Test
+    void hasRemainingCapacity_reloadsAfterMarketReset() {
+        Curator atCap = new Curator();
+        atCap.setPairsThisEpoch(3);
+        Curator reset = new Curator();
+        reset.setPairsThisEpoch(0);
+        when(curatorRepository.findByWalletAndMarketId(WALLET, 1))
+                .thenReturn(Optional.of(atCap))
+                .thenReturn(Optional.of(reset));
+        when(curatorRepository.findByMarketId(1)).thenReturn(List.of());
+
+        assertFalse(curatorParticipationService.hasRemainingCapacity(WALLET, 1));
+        curatorParticipationService.resetPairsThisEpochForMarket(1);
+
+        assertTrue(curatorParticipationService.hasRemainingCapacity(WALLET, 1));
+    }
+
     @Test
     void tryConsumePairEvaluationSlot_incrementsExistingCuratorBelowCap() {
         when(curatorRepository.incrementPairsThisEpochIfBelowCap(eq(WALLET), eq(1), eq(3), any()))
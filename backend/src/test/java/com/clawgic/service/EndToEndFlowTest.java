@@ -5,14 +5,25 @@ import com.clawgic.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,11 +46,16 @@ class EndToEndFlowTest {
     @Mock private GlobalPoolRepository globalPoolRepository;
     @Mock private RoundRepository roundRepository;
     @Mock private MarketRepository marketRepository;
+    @Mock private PairVoteTallyRepository pairVoteTallyRepository;
+    @Mock private FeedRankingService feedRankingService;
+    @Mock private ImmutableResponseCache immutableResponseCache;
+    @Mock private SettlementPayoutRepository settlementPayoutRepository;
 
     private EloService eloService;
     private PoolService poolService;
     private CuratorScoringService curatorScoringService;
     private PairGenerationService pairGenerationService;
+    private VoteTallyService voteTallyService;
     private SettlementService settlementService;
 
     private Market market;
@@ -53,10 +69,14 @@ class EndToEndFlowTest {
         poolService = new PoolService(globalPoolRepository, marketRepository);
         curatorScoringService = new CuratorScoringService(curatorRepository);
         pairGenerationService = new PairGenerationService(postRepository, pairRepository, goldenSetItemRepository);
+        voteTallyService = new VoteTallyService(pairVoteTallyRepository, curatorRepository);
+        SettlementPayoutMerkleService settlementPayoutMerkleService = new SettlementPayoutMerkleService(
+                settlementPayoutRepository, 16, Duration.ofHours(1), Clock.systemUTC());
         settlementService = new SettlementService(
                 pairRepository, commitmentRepository, curatorRepository,
                 globalPoolRepository, roundRepository,
-                poolService, eloService);
+                poolService, eloService, voteTallyService, feedRankingService, immutableResponseCache,
+                settlementPayoutMerkleService);
         ReflectionTestUtils.setField(settlementService, "gracePeriodMinutes", 30);
 
         ReflectionTestUtils.setField(pairGenerationService, "pairsPerSubscriber", 5);
@@ -150,7 +170,7 @@ class EndToEndFlowTest {
         when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
         when(marketRepository.findAll()).thenReturn(List.of(market));
         when(pairRepository.findByRoundId(1)).thenReturn(List.of(testPair));
-        when(commitmentRepository.findByPairId(testPair.getId())).thenReturn(List.of(commit1, commit2, commit3));
+        stubRevealedTallies(1, List.of(commit1, commit2, commit3), List.of(curator1, curator2, curator3));
         when(curatorRepository.findById(any(CuratorId.class))).thenAnswer(inv -> {
             CuratorId id = inv.getArgument(0);
             if ("wallet-1".equals(id.getWallet())) return Optional.of(curator1);
@@ -177,6 +197,8 @@ class EndToEndFlowTest {
 
         assertEquals(RoundStatus.SETTLED, round.getStatus(), "Round should be marked SETTLED");
         assertNotNull(round.getSettledAt(), "settledAt should be set");
+        verify(feedRankingService).recordRoundSettled(1, market.getId());
+        verify(immutableResponseCache).putAfterCommit(eq("round-detail:1"), any());
 
         // Verify ELO was updated (majority was A)
         assertEquals(PairWinner.A, testPair.getWinner(), "Majority vote should be A");
@@ -191,6 +213,17 @@ class EndToEndFlowTest {
         // Minority voter should have lost (20% penalty)
         assertTrue(curator3.getLost() > 0, "Minority voter should incur loss");
 
+        // Payout records mirror the curator ledger, one leaf per wallet in wallet order, under the round's root
+        ArgumentCaptor<List<SettlementPayout>> payouts = ArgumentCaptor.captor();
+        verify(settlementPayoutRepository).saveAll(payouts.capture());
+        assertEquals(List.of("wallet-1", "wallet-2", "wallet-3"),
+                payouts.getValue().stream().map(SettlementPayout::getCuratorWallet).toList());
+        assertEquals(curator1.getEarned(), payouts.getValue().get(0).getEarned());
+        assertEquals(curator3.getLost(), payouts.getValue().get(2).getLost());
+        assertArrayEquals(new int[]{testPair.getId()}, payouts.getValue().get(2).getPairIds());
+        assertEquals(SettlementPayoutMerkleService.payoutTree(payouts.getValue()).rootHex(),
+                round.getPayoutMerkleRoot());
+
         // === STEP 6: Scoring ===
         BigDecimal score1 = curatorScoringService.calculateCuratorScore(curator1);
         assertNotNull(score1, "Curator score should be calculable");
@@ -226,7 +259,7 @@ class EndToEndFlowTest {
         when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
         when(marketRepository.findAll()).thenReturn(List.of(market));
         when(pairRepository.findByRoundId(2)).thenReturn(List.of(pair));
-        when(commitmentRepository.findByPairId(100)).thenReturn(List.of(revealed, nonRevealed));
+        stubRevealedTallies(2, List.of(revealed, nonRevealed), List.of(revealedCurator, nonRevealCurator));
         when(curatorRepository.findById(any(CuratorId.class))).thenAnswer(inv -> {
             CuratorId id = inv.getArgument(0);
             if ("wallet-revealed".equals(id.getWallet())) return Optional.of(revealedCurator);
@@ -281,7 +314,7 @@ class EndToEndFlowTest {
         when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
         when(marketRepository.findAll()).thenReturn(List.of(market));
         when(pairRepository.findByRoundId(6)).thenReturn(List.of(pair));
-        when(commitmentRepository.findByPairId(102)).thenReturn(List.of(revealed, nonRevealed));
+        stubRevealedTallies(6, List.of(revealed, nonRevealed), List.of(revealedCurator, nonRevealCurator));
         when(curatorRepository.findById(any(CuratorId.class))).thenAnswer(inv -> {
             CuratorId id = inv.getArgument(0);
             if ("wallet-revealed-3".equals(id.getWallet())) return Optional.of(revealedCurator);
@@ -337,7 +370,7 @@ class EndToEndFlowTest {
         when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
         when(marketRepository.findAll()).thenReturn(List.of(market));
         when(pairRepository.findByRoundId(5)).thenReturn(List.of(pair));
-        when(commitmentRepository.findByPairId(101)).thenReturn(List.of(revealed, nonRevealed));
+        stubRevealedTallies(5, List.of(revealed, nonRevealed), List.of(revealedCurator, nonRevealCurator));
         when(curatorRepository.findById(any(CuratorId.class))).thenAnswer(inv -> {
             CuratorId id = inv.getArgument(0);
             if ("wallet-revealed-2".equals(id.getWallet())) return Optional.of(revealedCurator);
@@ -359,6 +392,139 @@ class EndToEndFlowTest {
                 "Already-penalized non-reveal should not be charged twice");
     }
 
+    @Test
+    void fullFlow_identityLessVotersShareTheSameQuadraticPool() {
+        Round round = new Round();
+        round.setId(7);
+        round.setMarket(market);
+        round.setStatus(RoundStatus.SETTLING);
+        round.setPairs(1);
+
+        Pair pair = new Pair();
+        pair.setId(103);
+        pair.setRound(round);
+        pair.setPostA(posts.get(0));
+        pair.setPostB(posts.get(1));
+        pair.setIsGolden(false);
+        pair.setIsAudit(false);
+
+        // Two wallets behind identity 20, one wallet with no identity: both groups stake 4 SOL on A
+        Curator sharedSmall = createCurator("wallet-shared-1", 1, 20, new BigDecimal("0.80"));
+        Curator sharedLarge = createCurator("wallet-shared-2", 1, 20, new BigDecimal("0.80"));
+        Curator solo = createCurator("wallet-solo", 1, 0, new BigDecimal("0.80"));
+        solo.setIdentityId(null);
+        Curator minority = createCurator("wallet-minority", 1, 21, new BigDecimal("0.80"));
+        List<Curator> curators = List.of(sharedSmall, sharedLarge, solo, minority);
+
+        List<Commitment> commitments = List.of(
+                createCommitment(pair, "wallet-shared-1", PairWinner.A, 1_000_000_000L, true),
+                createCommitment(pair, "wallet-shared-2", PairWinner.A, 3_000_000_000L, true),
+                createCommitment(pair, "wallet-solo", PairWinner.A, 4_000_000_000L, true),
+                createCommitment(pair, "wallet-minority", PairWinner.B, 1_000_000_000L, true)
+        );
+
+        when(roundRepository.findById(7)).thenReturn(Optional.of(round));
+        when(roundRepository.findByStatus(RoundStatus.SETTLING)).thenReturn(List.of(round));
+        when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
+        when(marketRepository.findAll()).thenReturn(List.of(market));
+        when(pairRepository.findByRoundId(7)).thenReturn(List.of(pair));
+        stubRevealedTallies(7, commitments, curators);
+        when(curatorRepository.findById(any(CuratorId.class))).thenAnswer(inv -> {
+            CuratorId id = inv.getArgument(0);
+            return curators.stream().filter(c -> c.getWallet().equals(id.getWallet())).findFirst();
+        });
+        when(postRepository.findById(posts.get(0).getId())).thenReturn(Optional.of(posts.get(0)));
+        when(postRepository.findById(posts.get(1).getId())).thenReturn(Optional.of(posts.get(1)));
+        when(postRepository.save(any(Post.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(pairRepository.save(any(Pair.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(curatorRepository.save(any(Curator.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(globalPoolRepository.save(any(GlobalPool.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(roundRepository.save(any(Round.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        settlementService.settleRound(7);
+
+        long pairReward = round.getBasePerPair() + round.getPremiumPerPair();
+        assertTrue(pairReward > 0, "Round should carry a reward to split");
+        long identityEarned = sharedSmall.getEarned() + sharedLarge.getEarned();
+        assertTrue(identityEarned + solo.getEarned() <= pairReward,
+                "Majority rewards must never exceed the pair reward");
+        assertTrue(Math.abs(pairReward / 2 - solo.getEarned()) <= 1,
+                "Equal group stakes should earn equal quadratic shares");
+        assertTrue(Math.abs(pairReward / 2 - identityEarned) <= 2,
+                "Wallets behind one identity share a single quadratic share");
+        assertTrue(Math.abs(3 * sharedSmall.getEarned() - sharedLarge.getEarned()) <= 3,
+                "An identity's share is split across its wallets by stake");
+        assertEquals(0L, minority.getEarned());
+    }
+
+    @Test
+    void fullFlow_payoutLeavesRecordEveryForfeitedStake() {
+        Round round = new Round();
+        round.setId(8);
+        round.setMarket(market);
+        round.setStatus(RoundStatus.SETTLING);
+        round.setPairs(1);
+
+        // Golden pair whose known answer is B, yet the stake majority picks A
+        Pair pair = new Pair();
+        pair.setId(104);
+        pair.setRound(round);
+        pair.setPostA(posts.get(0));
+        pair.setPostB(posts.get(1));
+        pair.setIsGolden(true);
+        pair.setGoldenAnswer(PairWinner.B);
+        pair.setIsAudit(false);
+
+        Curator goldenWrong = createCurator("wallet-golden-wrong", 1, 30, new BigDecimal("0.80"));
+        Curator minority = createCurator("wallet-golden-right", 1, 31, new BigDecimal("0.80"));
+        Curator penalized = createCurator("wallet-job-penalized", 1, 32, new BigDecimal("0.80"));
+        List<Curator> curators = List.of(goldenWrong, minority, penalized);
+
+        Commitment nonRevealed = createCommitment(pair, "wallet-job-penalized", null, 3_000_000_000L, false);
+        nonRevealed.setNonRevealPenalized(true);
+        nonRevealed.setNonRevealPenalizedAt(OffsetDateTime.now().minusMinutes(5));
+        List<Commitment> commitments = List.of(
+                createCommitment(pair, "wallet-golden-wrong", PairWinner.A, 2_000_000_000L, true),
+                createCommitment(pair, "wallet-golden-right", PairWinner.B, 1_000_000_000L, true),
+                nonRevealed
+        );
+
+        when(roundRepository.findById(8)).thenReturn(Optional.of(round));
+        when(roundRepository.findByStatus(RoundStatus.SETTLING)).thenReturn(List.of(round));
+        when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
+        when(marketRepository.findAll()).thenReturn(List.of(market));
+        when(pairRepository.findByRoundId(8)).thenReturn(List.of(pair));
+        stubRevealedTallies(8, commitments, curators);
+        when(curatorRepository.findById(any(CuratorId.class))).thenAnswer(inv -> {
+            CuratorId id = inv.getArgument(0);
+            return curators.stream().filter(c -> c.getWallet().equals(id.getWallet())).findFirst();
+        });
+        when(postRepository.findById(posts.get(0).getId())).thenReturn(Optional.of(posts.get(0)));
+        when(postRepository.findById(posts.get(1).getId())).thenReturn(Optional.of(posts.get(1)));
+        when(postRepository.save(any(Post.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(pairRepository.save(any(Pair.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(curatorRepository.save(any(Curator.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(globalPoolRepository.save(any(GlobalPool.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(roundRepository.save(any(Round.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        settlementService.settleRound(8);
+
+        ArgumentCaptor<List<SettlementPayout>> saved = ArgumentCaptor.captor();
+        verify(settlementPayoutRepository).saveAll(saved.capture());
+        Map<String, SettlementPayout> leaves = new LinkedHashMap<>();
+        saved.getValue().forEach(payout -> leaves.put(payout.getCuratorWallet(), payout));
+
+        assertEquals(List.of("wallet-golden-right", "wallet-golden-wrong", "wallet-job-penalized"),
+                List.copyOf(leaves.keySet()));
+        assertEquals(400_000_000L, leaves.get("wallet-golden-wrong").getLost(),
+                "Golden-set-wrong majority slash belongs in the leaf");
+        assertEquals(goldenWrong.getEarned(), leaves.get("wallet-golden-wrong").getEarned());
+        assertEquals(200_000_000L, leaves.get("wallet-golden-right").getLost());
+        assertEquals(3_000_000_000L, leaves.get("wallet-job-penalized").getLost(),
+                "Stake forfeited by the reveal penalty job belongs in the leaf");
+        assertEquals(0L, penalized.getLost(), "The penalty job's forfeit is not charged again");
+    }
+
     @Test
     void fullFlow_idempotentSettlement() {
         Round round = new Round();
@@ -390,8 +556,169 @@ class EndToEndFlowTest {
                 () -> settlementService.settleRound(4));
     }
 
+    @Test
+    void fullFlow_snapshotIsPublishedOnlyOnceSettlementCommits(@TempDir Path snapshotDir) throws IOException {
+        ReflectionTestUtils.setField(settlementService, "snapshotDir", snapshotDir.toString());
+        stubEmptySettlingRound(9);
+        when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
+        when(globalPoolRepository.save(any(GlobalPool.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(roundRepository.save(any(Round.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            settlementService.settleRound(9);
+
+            assertFalse(Files.exists(snapshotDir.resolve("round-9.json.gz")),
+                    "Snapshot must not be published before the settlement commits");
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        try (var files = Files.list(snapshotDir)) {
+            assertEquals(List.of(snapshotDir.resolve("round-9.json.gz")), files.toList());
+        }
+    }
+
+    @Test
+    void fullFlow_rolledBackSettlementLeavesNoSnapshot(@TempDir Path snapshotDir) throws IOException {
+        ReflectionTestUtils.setField(settlementService, "snapshotDir", snapshotDir.toString());
+        stubEmptySettlingRound(10);
+        when(globalPoolRepository.findById(1)).thenReturn(Optional.of(globalPool));
+        when(globalPoolRepository.save(any(GlobalPool.class)))
+                .thenThrow(new IllegalStateException("pool update failed"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThrows(IllegalStateException.class, () -> settlementService.settleRound(10));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        try (var files = Files.list(snapshotDir)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+
     // === Helpers ===
 
+    private void stubEmptySettlingRound(int roundId) {
+        Round round = new Round();
+        round.setId(roundId);
+        round.setMarket(market);
+        round.setStatus(RoundStatus.SETTLING);
+        round.setPairs(0);
+        when(roundRepository.findById(roundId)).thenReturn(Optional.of(round));
+        when(roundRepository.findByStatus(RoundStatus.SETTLING)).thenReturn(List.of(round));
+    }
+
+    /**
+     * Stubs the round's commitments and the running tallies the reveal path would have written for them.
+     */
+    private void stubRevealedTallies(int roundId, List<Commitment> commitments, List<Curator> curators) {
+        when(commitmentRepository.findByPairRoundId(roundId)).thenReturn(commitments);
+
+        Map<Integer, PairVoteTally> tallies = new LinkedHashMap<>();
+        List<PairIdentityStakeRow> identityRows = new ArrayList<>();
+        List<PairWalletStakeRow> walletRows = new ArrayList<>();
+        for (Commitment commitment : commitments) {
+            PairVoteTally tally = tallies.computeIfAbsent(commitment.getPair().getId(), pairId -> {
+                PairVoteTally created = new PairVoteTally();
+                created.setPairId(pairId);
+                created.setRoundId(roundId);
+                return created;
+            });
+            tally.setCommittedCount(tally.getCommittedCount() + 1);
+            tally.setCommittedStake(tally.getCommittedStake() + commitment.getStake());
+            if (!commitment.getRevealed()) {
+                continue;
+            }
+
+            tally.setRevealedCount(tally.getRevealedCount() + 1);
+            switch (commitment.getChoice()) {
+                case A -> tally.setStakeA(tally.getStakeA() + commitment.getStake());
+                case B -> tally.setStakeB(tally.getStakeB() + commitment.getStake());
+                case TIE -> tally.setStakeTie(tally.getStakeTie() + commitment.getStake());
+            }
+            Curator curator = curators.stream()
+                    .filter(c -> c.getWallet().equals(commitment.getCuratorWallet()))
+                    .findFirst()
+                    .orElseThrow();
+            tally.setCuratorScoreSum(tally.getCuratorScoreSum().add(curator.getCuratorScore()));
+            if (curator.getIdentityId() != null) {
+                identityRows.add(identityRow(
+                        commitment.getPair().getId(),
+                        commitment.getChoice().name(),
+                        curator.getIdentityId(),
+                        commitment.getStake()));
+            } else {
+                walletRows.add(walletRow(
+                        commitment.getPair().getId(),
+                        commitment.getChoice().name(),
+                        commitment.getCuratorWallet(),
+                        commitment.getStake()));
+            }
+        }
+
+        when(pairVoteTallyRepository.findByRoundIdOrderByPairIdAsc(roundId)).thenReturn(new ArrayList<>(tallies.values()));
+        when(pairVoteTallyRepository.findIdentityStakesByRoundId(roundId)).thenReturn(identityRows);
+        when(pairVoteTallyRepository.findWalletStakesByRoundId(roundId)).thenReturn(walletRows);
+    }
+
+    private static PairIdentityStakeRow identityRow(Integer pairId, String choice, Integer identityId, Long stake) {
+        return new PairIdentityStakeRow() {
+            @Override
+            public Integer getPairId() {
+                return pairId;
+            }
+
+            @Override
+            public String getChoice() {
+                return choice;
+            }
+
+            @Override
+            public Integer getIdentityId() {
+                return identityId;
+            }
+
+            @Override
+            public Long getStake() {
+                return stake;
+            }
+        };
+    }
+
+    private static PairWalletStakeRow walletRow(Integer pairId, String choice, String wallet, Long stake) {
+        return new PairWalletStakeRow() {
+            @Override
+            public Integer getPairId() {
+                return pairId;
+            }
+
+            @Override
+            public String getChoice() {
+                return choice;
+            }
+
+            @Override
+            public String getCuratorWallet() {
+                return wallet;
+            }
+
+            @Override
+            public Long getStake() {
+                return stake;
+            }
+        };
+    }
+
     private Curator createCurator(String wallet, int marketId, int identityId, BigDecimal score) {
         Curator c = new Curator();
         c.setWallet(wallet);
@@ -0,0 +1,200 @@
+package com.clawgic.service;
+
+import com.clawgic.controller.dto.PostResponse;
+import com.clawgic.model.FeedRankSnapshot;
+import com.clawgic.model.Post;
+import com.clawgic.repository.FeedRankSnapshotRepository;
+import com.clawgic.repository.PostRankRow;
+import com.clawgic.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FeedRankingServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private FeedRankSnapshotRepository feedRankSnapshotRepository;
+
+    private FeedRankingService feedRankingService;
+
+    @BeforeEach
+    void setUp() {
+        feedRankingService = new FeedRankingService(postRepository, feedRankSnapshotRepository, 100, 1,
+                16, Duration.ofMinutes(1), 50, Duration.ofMinutes(10), Clock.systemUTC());
+    }
+
+    @Test
+    void getRealtimeFeed_buildsRankingOnceAndServesContentFromHotCache() {
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(2, 1550), rankRow(1, 1500)));
+        when(postRepository.findAllById(List.of(2, 1))).thenReturn(List.of(post(1, 1500), post(2, 1550)));
+
+        List<PostResponse> first = feedRankingService.getRealtimeFeed(1, 10);
+        List<PostResponse> second = feedRankingService.getRealtimeFeed(1, 10);
+
+        assertEquals(List.of(2, 1), first.stream().map(PostResponse::id).toList());
+        assertEquals(first, second);
+        verify(postRepository, times(1)).findRankingByMarketId(eq(1), any(Pageable.class));
+        verify(postRepository, times(1)).findAllById(any());
+        assertEquals(2, feedRankingService.hotPostStats().hits());
+    }
+
+    @Test
+    void getRealtimeFeed_truncatesToLimit() {
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(2, 1550), rankRow(1, 1500)));
+        when(postRepository.findAllById(List.of(2))).thenReturn(List.of(post(2, 1550)));
+
+        List<PostResponse> feed = feedRankingService.getRealtimeFeed(1, 1);
+
+        assertEquals(List.of(2), feed.stream().map(PostResponse::id).toList());
+    }
+
+    @Test
+    void recordRoundSettled_persistsSnapshotAndReplacesCachedRanking() {
+        when(feedRankSnapshotRepository.findLatestRoundIdByMarketId(1)).thenReturn(null).thenReturn(7);
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(1, 1500), rankRow(2, 1490)))
+                .thenReturn(List.of(rankRow(2, 1520), rankRow(1, 1480)));
+        when(postRepository.findAllById(any())).thenReturn(List.of(post(1, 1480), post(2, 1520)));
+
+        assertEquals(List.of(1, 2), feedRankingService.getRealtimeFeed(1, 10).stream().map(PostResponse::id).toList());
+
+        feedRankingService.recordRoundSettled(7, 1);
+
+        ArgumentCaptor<FeedRankSnapshot> captor = ArgumentCaptor.forClass(FeedRankSnapshot.class);
+        verify(feedRankSnapshotRepository).save(captor.capture());
+        assertEquals(7, captor.getValue().getRoundId());
+        assertEquals(1, captor.getValue().getMarketId());
+        assertArrayEquals(new int[]{2, 1}, captor.getValue().getPostIds());
+        assertArrayEquals(new int[]{1520, 1480}, captor.getValue().getElos());
+
+        assertEquals(List.of(2, 1), feedRankingService.getRealtimeFeed(1, 10).stream().map(PostResponse::id).toList());
+        verify(postRepository, times(2)).findRankingByMarketId(eq(1), any(Pageable.class));
+    }
+
+    @Test
+    void getRealtimeFeed_replacesRankingAndPostsSettledOnAnotherNode() {
+        when(feedRankSnapshotRepository.findLatestRoundIdByMarketId(1)).thenReturn(6).thenReturn(6).thenReturn(7);
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(1, 1500), rankRow(2, 1490)))
+                .thenReturn(List.of(rankRow(2, 1520), rankRow(1, 1480)));
+        when(postRepository.findAllById(any()))
+                .thenReturn(List.of(post(1, 1500, 3), post(2, 1490, 3)))
+                .thenReturn(List.of(post(1, 1480, 4), post(2, 1520, 4)));
+
+        feedRankingService.getRealtimeFeed(1, 10);
+        feedRankingService.getRealtimeFeed(1, 10);
+        List<PostResponse> settled = feedRankingService.getRealtimeFeed(1, 10);
+
+        assertEquals(List.of(2, 1), settled.stream().map(PostResponse::id).toList());
+        assertEquals(List.of(1520, 1480), settled.stream().map(PostResponse::elo).toList());
+        assertEquals(List.of(4, 4), settled.stream().map(PostResponse::matchups).toList());
+        verify(postRepository, times(2)).findRankingByMarketId(eq(1), any(Pageable.class));
+        verify(postRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void getRealtimeFeed_servesEloOfTheRankingNotOfTheHotPost() {
+        when(feedRankSnapshotRepository.findLatestRoundIdByMarketId(1)).thenReturn(6);
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(1, 1500)));
+        when(postRepository.findAllById(List.of(1))).thenReturn(List.of(post(1, 1530)));
+
+        List<PostResponse> feed = feedRankingService.getRealtimeFeed(1, 10);
+
+        assertEquals(List.of(1500), feed.stream().map(PostResponse::elo).toList());
+    }
+
+    @Test
+    void getDelayedFeed_servesSnapshotOrderWithHistoricalElo() {
+        when(feedRankSnapshotRepository.findLatestRoundIdByMarketId(1)).thenReturn(6);
+        FeedRankSnapshot snapshot = new FeedRankSnapshot();
+        snapshot.setRoundId(5);
+        snapshot.setMarketId(1);
+        snapshot.setPostIds(new int[]{1, 2});
+        snapshot.setElos(new int[]{1510, 1490});
+        when(feedRankSnapshotRepository.findByMarketIdRoundsBack(1, 1)).thenReturn(Optional.of(snapshot));
+        when(postRepository.findAllById(List.of(1, 2))).thenReturn(List.of(post(1, 1480), post(2, 1520)));
+
+        List<PostResponse> feed = feedRankingService.getDelayedFeed(1, 10);
+
+        assertEquals(List.of(1, 2), feed.stream().map(PostResponse::id).toList());
+        assertEquals(List.of(1510, 1490), feed.stream().map(PostResponse::elo).toList());
+    }
+
+    @Test
+    void getDelayedFeed_fallsBackToRealtimeWithoutSnapshots() {
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(1, 1500)));
+        when(postRepository.findAllById(List.of(1))).thenReturn(List.of(post(1, 1500)));
+
+        List<PostResponse> feed = feedRankingService.getDelayedFeed(1, 10);
+
+        assertEquals(List.of(1), feed.stream().map(PostResponse::id).toList());
+        verify(feedRankSnapshotRepository, never()).findByMarketIdRoundsBack(any(), anyInt());
+    }
+
+    @Test
+    void getRealtimeFeed_skipsPostsDeletedSinceRankingWasBuilt() {
+        when(postRepository.findRankingByMarketId(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(rankRow(2, 1550), rankRow(1, 1500)));
+        when(postRepository.findAllById(List.of(2, 1))).thenReturn(List.of(post(1, 1500)));
+
+        List<PostResponse> feed = feedRankingService.getRealtimeFeed(1, 10);
+
+        assertEquals(List.of(1), feed.stream().map(PostResponse::id).toList());
+    }
+
+    private static Post post(int id, int elo) {
+        return post(id, elo, 0);
+    }
+
+    private static Post post(int id, int elo, int matchups) {
+        Post post = new Post();
+        post.setId(id);
+        post.setMoltbookId("post-" + id);
+        post.setAgent("agent-" + id);
+        post.setContent("Content " + id);
+        post.setElo(elo);
+        post.setMatchups(matchups);
+        return post;
+    }
+
+    private static PostRankRow rankRow(Integer id, Integer elo) {
+        return new PostRankRow() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getElo() {
+                return elo;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.clawgic.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImmutableResponseCacheTest {
+
+    private final ImmutableResponseCache cache = new ImmutableResponseCache(
+            JsonMapper.builder().build(),
+            null,
+            16,
+            Duration.ofHours(1),
+            Duration.ofMinutes(5),
+            Clock.systemUTC()
+    );
+
+    @Test
+    void putStoresJsonGzipAndStrongETag() throws IOException {
+        ImmutableResponseCache.CachedResponse cached = cache.put("round-detail:1", new Body(1, "SETTLED"));
+
+        assertEquals("{\"id\":1,\"status\":\"SETTLED\"}", new String(cached.json(), StandardCharsets.UTF_8));
+        assertArrayEquals(cached.json(), gunzip(cached.gzippedJson()));
+        assertTrue(cached.etag().startsWith("\"") && cached.etag().endsWith("\""));
+        assertFalse(cached.etag().startsWith("W/"));
+        assertTrue(cache.get("round-detail:1").isPresent());
+    }
+
+    @Test
+    void sameBodyProducesSameETag() {
+        String first = cache.put("a", new Body(7, "SETTLED")).etag();
+        String second = cache.put("b", new Body(7, "SETTLED")).etag();
+        String different = cache.put("c", new Body(8, "SETTLED")).etag();
+
+        assertEquals(first, second);
+        assertFalse(first.equals(different));
+    }
+
+    @Test
+    void serveReturnsNotModifiedWhenETagMatches() {
+        ImmutableResponseCache.CachedResponse cached = cache.put("round-detail:2", new Body(2, "SETTLED"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.IF_NONE_MATCH, "\"stale\", " + cached.etag());
+
+        ResponseEntity<byte[]> response = cache.serve(cached, headers);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(cached.etag(), response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void serveReturnsGzipOnlyWhenAccepted() {
+        ImmutableResponseCache.CachedResponse cached = cache.put("round-detail:3", new Body(3, "SETTLED"));
+        HttpHeaders gzipHeaders = new HttpHeaders();
+        gzipHeaders.set(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+
+        ResponseEntity<byte[]> gzipped = cache.serve(cached, gzipHeaders);
+        ResponseEntity<byte[]> plain = cache.serve(cached, new HttpHeaders());
+
+        assertEquals(HttpStatus.OK, gzipped.getStatusCode());
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(cached.gzippedJson(), gzipped.getBody());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(cached.json(), plain.getBody());
+    }
+
+    @Test
+    void matchesETagUsesWeakComparisonAndWildcard() {
+        assertTrue(ImmutableResponseCache.matchesETag("W/\"abc\"", "\"abc\""));
+        assertTrue(ImmutableResponseCache.matchesETag("*", "\"abc\""));
+        assertFalse(ImmutableResponseCache.matchesETag("\"abd\"", "\"abc\""));
+        assertFalse(ImmutableResponseCache.matchesETag(null, "\"abc\""));
+    }
+
+    @Test
+    void acceptsGzipHonoursZeroQuality() {
+        assertTrue(ImmutableResponseCache.acceptsGzip("gzip, deflate"));
+        assertTrue(ImmutableResponseCache.acceptsGzip("*"));
+        assertFalse(ImmutableResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ImmutableResponseCache.acceptsGzip("gzip;q=0, *"));
+        assertFalse(ImmutableResponseCache.acceptsGzip("identity"));
+        assertFalse(ImmutableResponseCache.acceptsGzip(null));
+    }
+
+    @Test
+    void putAfterCommitWarmsImmediatelyWithoutTransaction() {
+        cache.putAfterCommit("round-detail:4", () -> new Body(4, "SETTLED"));
+        cache.putAfterCommit("round-detail:5", () -> null);
+
+        assertTrue(cache.get("round-detail:4").isPresent());
+        assertFalse(cache.get("round-detail:5").isPresent());
+    }
+
+    @Test
+    void putAfterCommitSwallowsLoaderFailure() {
+        cache.putAfterCommit("round-detail:6", () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        assertFalse(cache.get("round-detail:6").isPresent());
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+
+    record Body(int id, String status) {
+    }
+}
@@ -10,12 +10,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,16 +39,24 @@ class IngestionFlowIntegrationTest {
     @Mock
     private MarketRepository marketRepository;
 
+    @Mock
+    private FeedRankingService feedRankingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private IngestionOrchestratorService orchestratorService;
 
     @BeforeEach
     void setUp() {
-        ScraperService scraperService = new ScraperService(moltbookClient, postRepository, marketRepository);
+        ScraperService scraperService = new ScraperService(moltbookClient, postRepository, marketRepository,
+                feedRankingService, new TransactionTemplate(transactionManager));
         orchestratorService = new IngestionOrchestratorService(scraperService, marketRepository);
 
         ReflectionTestUtils.setField(orchestratorService, "ingestionEnabled", true);
         ReflectionTestUtils.setField(orchestratorService, "runOnStartup", true);
         ReflectionTestUtils.setField(orchestratorService, "fetchLimit", 10);
+        ReflectionTestUtils.setField(orchestratorService, "maxPagesPerCycle", 3);
     }
 
     @Test
@@ -55,18 +70,46 @@ class IngestionFlowIntegrationTest {
                 "mb-trigger-1", "agent-trigger", "triggered content", 5, 2, 1);
 
         when(marketRepository.findAll()).thenReturn(List.of(market));
-        when(moltbookClient.fetchPosts("tech", 10)).thenReturn(List.of(fetched));
-        when(postRepository.findByMoltbookId("mb-trigger-1")).thenReturn(Optional.empty());
-        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
-            Post post = invocation.getArgument(0);
-            post.setId(101);
-            return post;
+        when(moltbookClient.fetchPage("tech", null, 10))
+                .thenReturn(new MoltbookClient.MoltbookPage(List.of(fetched), null));
+        when(postRepository.findExistingMoltbookIds(Set.of("mb-trigger-1"))).thenReturn(Set.of());
+        when(postRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            posts.forEach(post -> post.setId(101));
+            return posts;
         });
 
         int inserted = orchestratorService.runIngestionCycle("test-trigger");
 
         assertEquals(1, inserted);
-        verify(postRepository).save(any(Post.class));
+        verify(postRepository).saveAll(anyList());
+    }
+
+    @Test
+    void runIngestionCycle_fetchesMarketsConcurrently() {
+        Market tech = market(1, "Tech", "tech");
+        Market science = market(2, "Science", "science");
+        CountDownLatch bothFetching = new CountDownLatch(2);
+
+        when(marketRepository.findAll()).thenReturn(List.of(tech, science));
+        when(moltbookClient.fetchPage(any(), isNull(), eq(10))).thenAnswer(invocation -> {
+            bothFetching.countDown();
+            // Each market's fetch waits for the other to start, so a serial cycle would time out here.
+            if (!bothFetching.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("markets were fetched serially");
+            }
+            String submoltId = invocation.getArgument(0);
+            return new MoltbookClient.MoltbookPage(List.of(new MoltbookClient.MoltbookPost(
+                    "mb-" + submoltId, "agent", submoltId + " content", 1, 0, 0)), null);
+        });
+        when(postRepository.findExistingMoltbookIds(any())).thenReturn(Set.of());
+        when(postRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int inserted = orchestratorService.runIngestionCycle("test-concurrent");
+
+        assertEquals(2, inserted);
+        verify(feedRankingService).invalidateMarket(1);
+        verify(feedRankingService).invalidateMarket(2);
     }
 
     @Test
@@ -78,4 +121,12 @@ class IngestionFlowIntegrationTest {
         assertEquals(0, inserted);
         verify(marketRepository, never()).findAll();
     }
+
+    private static Market market(Integer id, String name, String submoltId) {
+        Market market = new Market();
+        market.setId(id);
+        market.setName(name);
+        market.setSubmoltId(submoltId);
+        return market;
+    }
 }
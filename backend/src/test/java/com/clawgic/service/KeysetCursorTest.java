@@ -0,0 +1,50 @@
+package com.clawgic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTripsKeyParts() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2026-02-28T12:00:00Z");
+
+        String cursor = KeysetCursor.encode(createdAt, 42);
+
+        assertEquals(List.of("2026-02-28T12:00Z", "42"), KeysetCursor.decode(cursor, 2));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = KeysetCursor.encode("0.9500", "wallet/with+chars?");
+
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+        assertFalse(cursor.contains("="));
+    }
+
+    @Test
+    void decodeRejectsWrongNumberOfParts() {
+        String cursor = KeysetCursor.encode("a", "b", "c");
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, 2));
+    }
+
+    @Test
+    void decodeRejectsEmptyParts() {
+        String cursor = KeysetCursor.encode("", "b");
+
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, 2));
+    }
+
+    @Test
+    void decodeRejectsNonBase64Input() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!", 2));
+    }
+}
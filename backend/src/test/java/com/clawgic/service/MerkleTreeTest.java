@@ -0,0 +1,100 @@
+package com.clawgic.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleTreeTest {
+
+    @Test
+    void incrementalAppendsMatchBulkBuildAtEverySize() {
+        MerkleTree incremental = MerkleTree.empty();
+        List<byte[]> leaves = new ArrayList<>();
+        assertArrayEquals(MerkleTree.build(leaves).root(), incremental.root());
+
+        for (int i = 0; i < 70; i++) {
+            leaves.add(leaf(i));
+            incremental.append(leaf(i));
+            assertArrayEquals(MerkleTree.build(leaves).root(), incremental.root(), "size " + leaves.size());
+        }
+    }
+
+    @Test
+    void parallelBuildMatchesSequentialAppendsAboveThreshold() {
+        int size = MerkleTree.PARALLEL_THRESHOLD * 2 + 37;
+        List<byte[]> leaves = new ArrayList<>(size);
+        MerkleTree incremental = MerkleTree.empty();
+        for (int i = 0; i < size; i++) {
+            leaves.add(leaf(i));
+            incremental.append(leaf(i));
+        }
+
+        MerkleTree built = MerkleTree.build(leaves);
+
+        assertEquals(size, built.size());
+        assertArrayEquals(incremental.root(), built.root());
+        assertArrayEquals(MerkleTree.hashLeaf(leaf(size - 1)), built.leafHash(size - 1));
+    }
+
+    @Test
+    void everyLeafProofVerifiesAgainstTheRoot() {
+        for (int size = 1; size <= 33; size++) {
+            List<byte[]> leaves = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                leaves.add(leaf(i));
+            }
+            MerkleTree tree = MerkleTree.build(leaves);
+
+            for (int index = 0; index < size; index++) {
+                List<byte[]> proof = tree.proof(index);
+                assertTrue(MerkleTree.verify(tree.leafHash(index), index, size, proof, tree.root()),
+                        "size " + size + " index " + index);
+                assertFalse(MerkleTree.verify(MerkleTree.hashLeaf(leaf(-1)), index, size, proof, tree.root()));
+            }
+        }
+    }
+
+    @Test
+    void tamperedOrTruncatedProofIsRejected() {
+        List<byte[]> leaves = List.of(leaf(0), leaf(1), leaf(2), leaf(3), leaf(4));
+        MerkleTree tree = MerkleTree.build(leaves);
+        List<byte[]> proof = new ArrayList<>(tree.proof(1));
+
+        byte[] flipped = proof.getFirst().clone();
+        flipped[0] ^= 0x01;
+        List<byte[]> tampered = new ArrayList<>(proof);
+        tampered.set(0, flipped);
+
+        assertFalse(MerkleTree.verify(tree.leafHash(1), 1, 5, tampered, tree.root()));
+        assertFalse(MerkleTree.verify(tree.leafHash(1), 1, 5, proof.subList(0, proof.size() - 1), tree.root()));
+        assertFalse(MerkleTree.verify(tree.leafHash(1), 2, 5, proof, tree.root()));
+        assertFalse(MerkleTree.verify(tree.leafHash(1), 5, 5, proof, tree.root()));
+    }
+
+    @Test
+    void duplicatedTrailingLeafChangesTheRoot() {
+        MerkleTree odd = MerkleTree.build(List.of(leaf(0), leaf(1), leaf(2)));
+        MerkleTree padded = MerkleTree.build(List.of(leaf(0), leaf(1), leaf(2), leaf(2)));
+
+        assertNotEquals(odd.rootHex(), padded.rootHex());
+        assertEquals(64, odd.rootHex().length());
+    }
+
+    @Test
+    void emptyTreeRootIsTheHashOfNoInput() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", MerkleTree.empty().rootHex());
+        assertEquals(MerkleTree.empty().rootHex(), MerkleTree.build(List.of()).rootHex());
+    }
+
+    private static byte[] leaf(int i) {
+        return ("post-content-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+}
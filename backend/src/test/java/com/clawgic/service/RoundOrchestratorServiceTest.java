@@ -33,6 +33,7 @@ class RoundOrchestratorServiceTest {
     @Mock private AutoRevealService autoRevealService;
     @Mock private SettlementService settlementService;
     @Mock private CuratorParticipationService curatorParticipationService;
+    @Mock private RoundContentMerkleService roundContentMerkleService;
 
     @InjectMocks
     private RoundOrchestratorService orchestrator;
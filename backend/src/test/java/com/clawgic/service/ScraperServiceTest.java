@@ -7,15 +7,25 @@ import com.clawgic.repository.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,12 +42,19 @@ class ScraperServiceTest {
     @Mock
     private MarketRepository marketRepository;
 
+    @Mock
+    private FeedRankingService feedRankingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ScraperService scraperService;
     private Market market;
 
     @BeforeEach
     void setUp() {
-        scraperService = new ScraperService(moltbookClient, postRepository, marketRepository);
+        scraperService = new ScraperService(moltbookClient, postRepository, marketRepository, feedRankingService,
+                new TransactionTemplate(transactionManager));
 
         market = new Market();
         market.setId(1);
@@ -52,18 +69,14 @@ class ScraperServiceTest {
         MoltbookClient.MoltbookPost fresh = new MoltbookClient.MoltbookPost(
                 "mb-new", "agent-2", "fresh content", 20, 3, 4);
 
-        when(moltbookClient.fetchPosts("tech", 25)).thenReturn(List.of(duplicate, fresh));
-
-        Post existingPost = new Post();
-        existingPost.setId(11);
-        existingPost.setMoltbookId("mb-dup");
-        when(postRepository.findByMoltbookId("mb-dup")).thenReturn(Optional.of(existingPost));
-        when(postRepository.findByMoltbookId("mb-new")).thenReturn(Optional.empty());
-
-        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> {
-            Post post = invocation.getArgument(0);
-            post.setId(22);
-            return post;
+        when(moltbookClient.fetchPage("tech", null, 25))
+                .thenReturn(new MoltbookClient.MoltbookPage(List.of(duplicate, fresh), null));
+        when(postRepository.findExistingMoltbookIds(Set.of("mb-dup", "mb-new")))
+                .thenReturn(Set.of("mb-dup"));
+        when(postRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            posts.forEach(post -> post.setId(22));
+            return posts;
         });
 
         List<Post> ingested = scraperService.scrapePosts(market, 25);
@@ -72,16 +85,94 @@ class ScraperServiceTest {
         assertEquals("mb-new", ingested.getFirst().getMoltbookId());
         assertEquals("agent-2", ingested.getFirst().getAgent());
         assertEquals(market, ingested.getFirst().getMarket());
-        verify(postRepository, times(1)).save(any(Post.class));
+        verify(postRepository, times(1)).saveAll(anyList());
+        verify(feedRankingService).invalidateMarket(market.getId());
+        verify(marketRepository, never()).updateIngestionCursor(any(), any(), any());
+    }
+
+    @Test
+    void scrapePosts_pagesFromCursorAndAdvancesIt() {
+        market.setIngestionCursor("c1");
+        MoltbookClient.MoltbookPost first = new MoltbookClient.MoltbookPost("mb-1", "agent-1", "one", 1, 0, 0);
+        MoltbookClient.MoltbookPost second = new MoltbookClient.MoltbookPost("mb-2", "agent-2", "two", 2, 0, 0);
+        MoltbookClient.MoltbookPost third = new MoltbookClient.MoltbookPost("mb-3", "agent-3", "three", 3, 0, 0);
+        when(moltbookClient.fetchPage("tech", "c1", 2))
+                .thenReturn(new MoltbookClient.MoltbookPage(List.of(first, second), "c2"));
+        when(moltbookClient.fetchPage("tech", "c2", 2))
+                .thenReturn(new MoltbookClient.MoltbookPage(List.of(second, third), "c3"));
+        when(moltbookClient.fetchPage("tech", "c3", 2))
+                .thenReturn(new MoltbookClient.MoltbookPage(List.of(), "c3"));
+        when(postRepository.findExistingMoltbookIds(any())).thenReturn(Set.of());
+        when(postRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Post> ingested = scraperService.scrapePosts(market, 2, 10);
+
+        assertEquals(List.of("mb-1", "mb-2", "mb-3"), ingested.stream().map(Post::getMoltbookId).toList());
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.captor();
+        verify(postRepository).findExistingMoltbookIds(ids.capture());
+        assertEquals(List.of("mb-1", "mb-2", "mb-3"), List.copyOf(ids.getValue()));
+        verify(marketRepository).updateIngestionCursor(eq(1), eq("c3"), any());
+        assertEquals("c3", market.getIngestionCursor());
+    }
+
+    @Test
+    void scrapePosts_stopsAtMaxPages() {
+        when(moltbookClient.fetchPage("tech", null, 1)).thenReturn(new MoltbookClient.MoltbookPage(
+                List.of(new MoltbookClient.MoltbookPost("mb-1", "agent-1", "one", 1, 0, 0)), "c1"));
+        when(postRepository.findExistingMoltbookIds(any())).thenReturn(Set.of("mb-1"));
+
+        List<Post> ingested = scraperService.scrapePosts(market, 1, 1);
+
+        assertTrue(ingested.isEmpty());
+        verify(moltbookClient, times(1)).fetchPage(any(), any(), anyInt());
+        verify(postRepository, never()).saveAll(anyList());
+        verify(marketRepository).updateIngestionCursor(eq(1), eq("c1"), any());
     }
 
     @Test
     void scrapePosts_usesDefaultFetchLimit() {
-        when(moltbookClient.fetchPosts("tech", 100)).thenReturn(List.of());
+        when(moltbookClient.fetchPage("tech", null, 100)).thenReturn(new MoltbookClient.MoltbookPage(List.of(), null));
 
         List<Post> ingested = scraperService.scrapePosts(market);
 
         assertTrue(ingested.isEmpty());
-        verify(moltbookClient).fetchPosts("tech", 100);
+        verify(moltbookClient).fetchPage("tech", null, 100);
+        verify(postRepository, never()).findExistingMoltbookIds(any());
+        verify(feedRankingService, never()).invalidateMarket(any());
+    }
+
+    @Test
+    void scrapePosts_fetchesAllPagesBeforeOpeningTheStoreTransaction() {
+        when(moltbookClient.fetchPage("tech", null, 1)).thenReturn(new MoltbookClient.MoltbookPage(
+                List.of(new MoltbookClient.MoltbookPost("mb-1", "agent-1", "one", 1, 0, 0)), "c1"));
+        when(moltbookClient.fetchPage("tech", "c1", 1)).thenReturn(new MoltbookClient.MoltbookPage(
+                List.of(new MoltbookClient.MoltbookPost("mb-2", "agent-2", "two", 2, 0, 0)), "c2"));
+        when(postRepository.findExistingMoltbookIds(any())).thenReturn(Set.of("mb-1", "mb-2"));
+
+        scraperService.scrapePosts(market, 1, 2);
+
+        InOrder order = inOrder(moltbookClient, transactionManager, postRepository, marketRepository);
+        order.verify(moltbookClient).fetchPage("tech", "c1", 1);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(postRepository).findExistingMoltbookIds(any());
+        order.verify(marketRepository).updateIngestionCursor(eq(1), eq("c2"), any());
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void computeMerkleRoot_ordersPostsByIdLikeTheRoundContentRoot() {
+        Post first = post(1, "first");
+        Post second = post(2, "second");
+
+        String root = scraperService.computeMerkleRoot(List.of(second, first, second));
+
+        assertEquals(RoundContentMerkleService.contentTree(List.of(first, second)).rootHex(), root);
+    }
+
+    private static Post post(int id, String content) {
+        Post post = new Post();
+        post.setId(id);
+        post.setContent(content);
+        return post;
     }
 }
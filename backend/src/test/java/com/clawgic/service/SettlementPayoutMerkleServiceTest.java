@@ -0,0 +1,141 @@
+package com.clawgic.service;
+
+import com.clawgic.model.SettlementPayout;
+import com.clawgic.repository.SettlementPayoutRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementPayoutMerkleServiceTest {
+
+    @Mock
+    private SettlementPayoutRepository settlementPayoutRepository;
+
+    private SettlementPayoutMerkleService settlementPayoutMerkleService;
+
+    @BeforeEach
+    void setUp() {
+        settlementPayoutMerkleService = new SettlementPayoutMerkleService(
+                settlementPayoutRepository, 16, Duration.ofHours(1), Clock.systemUTC());
+    }
+
+    @Test
+    void publish_aggregatesLedgerPerWalletInWalletOrder() {
+        SettlementPayoutMerkleService.PayoutLedger ledger = new SettlementPayoutMerkleService.PayoutLedger();
+        ledger.credit("wallet-c", 7, 100L);
+        ledger.debit("wallet-a", 9, 40L);
+        ledger.credit("wallet-c", 3, 25L);
+        ledger.debit("wallet-c", 3, 5L);
+        ledger.credit("wallet-b", 7, 0L);
+
+        String root = settlementPayoutMerkleService.publish(12, ledger);
+
+        ArgumentCaptor<List<SettlementPayout>> saved = ArgumentCaptor.captor();
+        verify(settlementPayoutRepository).saveAll(saved.capture());
+        List<SettlementPayout> payouts = saved.getValue();
+        assertEquals(List.of("wallet-a", "wallet-b", "wallet-c"),
+                payouts.stream().map(SettlementPayout::getCuratorWallet).toList());
+        assertEquals(List.of(0, 1, 2), payouts.stream().map(SettlementPayout::getLeafIndex).toList());
+        SettlementPayout walletC = payouts.get(2);
+        assertEquals(12, walletC.getRoundId());
+        assertEquals(125L, walletC.getEarned());
+        assertEquals(5L, walletC.getLost());
+        assertArrayEquals(new int[]{3, 7}, walletC.getPairIds());
+        assertEquals(SettlementPayoutMerkleService.payoutTree(payouts).rootHex(), root);
+        assertEquals(64, root.length());
+    }
+
+    @Test
+    void leafData_isCanonicalPipeSeparatedRecord() {
+        SettlementPayout payout = payout(0, "wallet-a", 125L, 5L, 3, 7, 11);
+
+        assertEquals("wallet-a|125|5|3,7,11",
+                new String(SettlementPayoutMerkleService.leafData(payout), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void proveInclusion_returnsProofThatVerifiesAgainstRoot() {
+        List<SettlementPayout> payouts = List.of(
+                payout(0, "wallet-a", 10L, 0L, 1),
+                payout(1, "wallet-b", 0L, 20L, 1, 2),
+                payout(2, "wallet-c", 30L, 0L, 2),
+                payout(3, "wallet-d", 0L, 0L, 3),
+                payout(4, "wallet-e", 50L, 5L, 1, 3)
+        );
+        when(settlementPayoutRepository.findByRoundIdOrderByLeafIndexAsc(5)).thenReturn(payouts);
+
+        SettlementPayoutMerkleService.PayoutInclusionProof proof =
+                settlementPayoutMerkleService.proveInclusion(5, "wallet-b").orElseThrow();
+
+        assertEquals(1, proof.leafIndex());
+        assertEquals(5, proof.leafCount());
+        assertEquals(20L, proof.lost());
+        assertEquals(List.of(1, 2), proof.pairIds());
+
+        byte[] leafHash = MerkleTree.hashLeaf(SettlementPayoutMerkleService.leafData(
+                payout(proof.leafIndex(), proof.wallet(), proof.earned(), proof.lost(),
+                        proof.pairIds().stream().mapToInt(Integer::intValue).toArray())));
+        assertEquals(proof.leafHash(), CryptoPrimitives.toHex(leafHash));
+        assertTrue(MerkleTree.verify(
+                leafHash,
+                proof.leafIndex(),
+                proof.leafCount(),
+                proof.siblings().stream().map(CryptoPrimitives::fromHex).toList(),
+                CryptoPrimitives.fromHex(proof.root())
+        ));
+        assertFalse(MerkleTree.verify(
+                MerkleTree.hashLeaf("wallet-b|0|0|1,2".getBytes(StandardCharsets.UTF_8)),
+                proof.leafIndex(),
+                proof.leafCount(),
+                proof.siblings().stream().map(CryptoPrimitives::fromHex).toList(),
+                CryptoPrimitives.fromHex(proof.root())
+        ));
+    }
+
+    @Test
+    void proveInclusion_reusesTreeOfSettledRound() {
+        when(settlementPayoutRepository.findByRoundIdOrderByLeafIndexAsc(8))
+                .thenReturn(List.of(payout(0, "wallet-a", 1L, 0L, 1), payout(1, "wallet-b", 0L, 1L, 1)));
+
+        assertTrue(settlementPayoutMerkleService.proveInclusion(8, "wallet-a").isPresent());
+        assertTrue(settlementPayoutMerkleService.proveInclusion(8, "wallet-b").isPresent());
+        assertTrue(settlementPayoutMerkleService.proveInclusion(8, "wallet-z").isEmpty());
+
+        verify(settlementPayoutRepository, times(1)).findByRoundIdOrderByLeafIndexAsc(8);
+    }
+
+    @Test
+    void proveInclusion_isEmptyForRoundWithoutPayouts() {
+        when(settlementPayoutRepository.findByRoundIdOrderByLeafIndexAsc(9)).thenReturn(List.of());
+
+        assertTrue(settlementPayoutMerkleService.proveInclusion(9, "wallet-a").isEmpty());
+    }
+
+    private static SettlementPayout payout(int leafIndex, String wallet, Long earned, Long lost, int... pairIds) {
+        SettlementPayout payout = new SettlementPayout();
+        payout.setRoundId(5);
+        payout.setLeafIndex(leafIndex);
+        payout.setCuratorWallet(wallet);
+        payout.setEarned(earned);
+        payout.setLost(lost);
+        payout.setPairIds(pairIds);
+        return payout;
+    }
+}
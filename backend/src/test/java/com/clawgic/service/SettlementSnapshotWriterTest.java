@@ -0,0 +1,154 @@
+package com.clawgic.service;
+
+import com.clawgic.model.PairWinner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SettlementSnapshotWriterTest {
+
+    private static final PairWinner[] WINNERS = {PairWinner.A, PairWinner.B, PairWinner.TIE, null};
+
+    @TempDir
+    Path storageDir;
+
+    @Test
+    void hashMatchesLegacyFormattedSnapshot() {
+        List<Row> rows = rows(2_500);
+
+        String hash = write(42, 1_000_000L, 250_000L, rows, null);
+
+        assertEquals("0x" + CryptoPrimitives.sha256Hex(legacyJson(42, 1_000_000L, 250_000L, rows)), hash);
+    }
+
+    @Test
+    void emptyRoundAndEdgeValuesMatchLegacyFormattedSnapshot() {
+        assertEquals("0x" + CryptoPrimitives.sha256Hex(legacyJson(7, 0L, 0L, List.of())),
+                write(7, 0L, 0L, List.of(), null));
+
+        List<Row> rows = List.of(
+                new Row(1, null, null, null),
+                new Row(2, PairWinner.TIE, Long.MIN_VALUE, Long.MAX_VALUE),
+                new Row(3, PairWinner.A, -10L, 9L)
+        );
+        assertEquals("0x" + CryptoPrimitives.sha256Hex(legacyJson(8, null, -1L, rows)),
+                write(8, null, -1L, rows, null));
+    }
+
+    @Test
+    void storedSnapshotDecompressesToTheHashedDocument() throws IOException {
+        List<Row> rows = rows(300);
+
+        String hash = write(9, 500L, 40L, rows, storageDir);
+
+        Path stored = storageDir.resolve("round-9.json.gz");
+        String json;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(stored))) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertEquals(legacyJson(9, 500L, 40L, rows), json);
+        assertEquals("0x" + CryptoPrimitives.sha256Hex(json), hash);
+        try (var files = Files.list(storageDir)) {
+            assertEquals(List.of(stored), files.toList());
+        }
+    }
+
+    @Test
+    void abandonedWriterLeavesNoSnapshotBehind() throws IOException {
+        try (SettlementSnapshotWriter writer = SettlementSnapshotWriter.open(3, 1L, 1L, storageDir)) {
+            writer.writePair(1, PairWinner.A, 0L, 10L);
+        }
+
+        try (var files = Files.list(storageDir)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    @Test
+    void finishedSnapshotStaysStagedUntilPublishedOrDiscarded() throws IOException {
+        Path snapshotFile = storageDir.resolve("round-5.json.gz");
+        try (SettlementSnapshotWriter writer = SettlementSnapshotWriter.open(5, 1L, 1L, storageDir)) {
+            writer.writePair(1, PairWinner.A, 0L, 10L);
+            writer.finish();
+
+            assertFalse(Files.exists(snapshotFile));
+            writer.discard();
+        }
+
+        try (var files = Files.list(storageDir)) {
+            assertFalse(files.findAny().isPresent());
+        }
+        try (SettlementSnapshotWriter writer = SettlementSnapshotWriter.open(5, 1L, 1L, storageDir)) {
+            writer.finish();
+            writer.publish();
+            writer.discard();
+        }
+        try (var files = Files.list(storageDir)) {
+            assertEquals(List.of(snapshotFile), files.toList());
+        }
+    }
+
+    @Test
+    void finishIsIdempotentAndClosesTheDocument() {
+        try (SettlementSnapshotWriter writer = SettlementSnapshotWriter.open(4, 1L, 1L, null)) {
+            writer.writePair(1, PairWinner.B, 2L, 3L);
+            String hash = writer.finish();
+
+            assertEquals(hash, writer.finish());
+            assertNull(writer.snapshotFile());
+            assertThrows(IllegalStateException.class, () -> writer.writePair(2, PairWinner.A, 0L, 0L));
+            assertTrue(hash.startsWith("0x"));
+        }
+    }
+
+    private static String write(Integer roundId, Long base, Long premium, List<Row> rows, Path dir) {
+        try (SettlementSnapshotWriter writer = SettlementSnapshotWriter.open(roundId, base, premium, dir)) {
+            for (Row row : rows) {
+                writer.writePair(row.pairId(), row.majority(), row.slashed(), row.rewards());
+            }
+            String hash = writer.finish();
+            writer.publish();
+            return hash;
+        }
+    }
+
+    /**
+     * The {@code String.format} rendering settlement hashes were originally computed over.
+     */
+    private static String legacyJson(Integer roundId, Long base, Long premium, List<Row> rows) {
+        return String.format(
+                "{\"roundId\":%d,\"basePerPair\":%d,\"premiumPerPair\":%d,\"pairs\":[%s]}",
+                roundId, base, premium,
+                rows.stream()
+                        .map(p -> String.format("{\"pairId\":%d,\"majority\":\"%s\",\"slashed\":%d,\"rewards\":%d}",
+                                p.pairId(), p.majority(), p.slashed(), p.rewards()))
+                        .collect(Collectors.joining(","))
+        );
+    }
+
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(i + 1, WINNERS[i % WINNERS.length], i * 7_919L, i * 1_000_003L));
+        }
+        return rows;
+    }
+
+    private record Row(Integer pairId, PairWinner majority, Long slashed, Long rewards) {
+    }
+}
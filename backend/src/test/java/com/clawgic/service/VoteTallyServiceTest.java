@@ -0,0 +1,246 @@
+package com.clawgic.service;
+
+import com.clawgic.model.Commitment;
+import com.clawgic.model.Curator;
+import com.clawgic.model.CuratorId;
+import com.clawgic.model.Market;
+import com.clawgic.model.Pair;
+import com.clawgic.model.PairVoteTally;
+import com.clawgic.model.PairWinner;
+import com.clawgic.model.Round;
+import com.clawgic.repository.CuratorRepository;
+import com.clawgic.repository.PairIdentityStakeRow;
+import com.clawgic.repository.PairWalletStakeRow;
+import com.clawgic.repository.PairVoteTallyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTallyServiceTest {
+
+    @Mock
+    private PairVoteTallyRepository pairVoteTallyRepository;
+
+    @Mock
+    private CuratorRepository curatorRepository;
+
+    @InjectMocks
+    private VoteTallyService voteTallyService;
+
+    @Test
+    void recordCommit_incrementsCommittedStakeForPair() {
+        Commitment commitment = buildCommitment(PairWinner.A, 700L);
+
+        voteTallyService.recordCommit(commitment);
+
+        verify(pairVoteTallyRepository).incrementCommitted(11, 3, 700L);
+    }
+
+    @Test
+    void recordReveal_addsStakeToChoiceCuratorScoreAndIdentityAggregate() {
+        Commitment commitment = buildCommitment(PairWinner.B, 900L);
+        Curator curator = new Curator();
+        curator.setWallet("wallet-1");
+        curator.setMarketId(1);
+        curator.setIdentityId(42);
+        curator.setCuratorScore(new BigDecimal("0.7500"));
+        when(curatorRepository.findById(new CuratorId("wallet-1", 1))).thenReturn(Optional.of(curator));
+
+        voteTallyService.recordReveal(commitment);
+
+        verify(pairVoteTallyRepository).incrementRevealed(11, 3, 0L, 900L, 0L, new BigDecimal("0.7500"));
+        verify(pairVoteTallyRepository).incrementIdentityStake(11, 3, "B", 42, 900L);
+        verify(pairVoteTallyRepository, never())
+                .incrementWalletStake(anyInt(), anyInt(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    void recordReveal_withoutCuratorAggregatesStakeByWallet() {
+        Commitment commitment = buildCommitment(PairWinner.TIE, 300L);
+        when(curatorRepository.findById(any(CuratorId.class))).thenReturn(Optional.empty());
+
+        voteTallyService.recordReveal(commitment);
+
+        verify(pairVoteTallyRepository).incrementRevealed(11, 3, 0L, 0L, 300L, BigDecimal.ZERO);
+        verify(pairVoteTallyRepository).incrementWalletStake(11, 3, "TIE", "wallet-1", 300L);
+        verify(pairVoteTallyRepository, never())
+                .incrementIdentityStake(anyInt(), anyInt(), anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void recordReveal_curatorWithoutIdentityAggregatesStakeByWallet() {
+        Commitment commitment = buildCommitment(PairWinner.A, 500L);
+        Curator curator = new Curator();
+        curator.setWallet("wallet-1");
+        curator.setMarketId(1);
+        curator.setCuratorScore(new BigDecimal("0.5000"));
+        when(curatorRepository.findById(new CuratorId("wallet-1", 1))).thenReturn(Optional.of(curator));
+
+        voteTallyService.recordReveal(commitment);
+
+        verify(pairVoteTallyRepository).incrementWalletStake(11, 3, "A", "wallet-1", 500L);
+        verify(pairVoteTallyRepository, never())
+                .incrementIdentityStake(anyInt(), anyInt(), anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    void recordReveal_rejectsCommitmentWithoutChoice() {
+        Commitment commitment = buildCommitment(null, 300L);
+
+        assertThrows(IllegalArgumentException.class, () -> voteTallyService.recordReveal(commitment));
+    }
+
+    @Test
+    void loadRoundTallies_mergesIdentityStakesByPairAndChoice() {
+        PairVoteTally tally = new PairVoteTally();
+        tally.setPairId(11);
+        tally.setRoundId(3);
+        tally.setCommittedCount(3);
+        tally.setCommittedStake(600L);
+        tally.setRevealedCount(2);
+        tally.setStakeA(500L);
+        tally.setCuratorScoreSum(new BigDecimal("1.0000"));
+
+        when(pairVoteTallyRepository.findByRoundIdOrderByPairIdAsc(3)).thenReturn(List.of(tally));
+        when(pairVoteTallyRepository.findIdentityStakesByRoundId(3)).thenReturn(List.of(
+                identityRow(11, "A", 7, 200L),
+                identityRow(11, "A", 8, 300L)
+        ));
+        when(pairVoteTallyRepository.findWalletStakesByRoundId(3)).thenReturn(List.of(
+                walletRow(11, "A", "wallet-solo", 100L)
+        ));
+
+        Map<Integer, VoteTallyService.PairTally> tallies = voteTallyService.loadRoundTallies(3);
+
+        VoteTallyService.PairTally loaded = tallies.get(11);
+        assertEquals(600L, loaded.committedStake());
+        assertEquals(PairWinner.A, loaded.majority());
+        assertEquals(new BigDecimal("0.5000"), loaded.averageCuratorScore());
+        assertEquals(Map.of(7, 200L, 8, 300L), loaded.identityStakes(PairWinner.A));
+        assertEquals(Map.of(), loaded.identityStakes(PairWinner.B));
+        assertEquals(Map.of("wallet-solo", 100L), loaded.walletStakes(PairWinner.A));
+        assertEquals(Math.sqrt(200) + Math.sqrt(300) + Math.sqrt(100), loaded.sqrtStakeTotal(PairWinner.A), 1e-9);
+    }
+
+    @Test
+    void pairTally_sqrtStakeSharesNeverExceedTotal() {
+        VoteTallyService.PairTally tally = new VoteTallyService.PairTally(
+                1, 4, 1_000L, 4, 1_000L, 0L, 0L, BigDecimal.ZERO,
+                Map.of(PairWinner.A, Map.of(7, 400L)),
+                Map.of(PairWinner.A, Map.of("wallet-solo", 600L)));
+
+        double identityShares = tally.sqrtStakeShare(PairWinner.A, 7, "wallet-1", 100L)
+                + tally.sqrtStakeShare(PairWinner.A, 7, "wallet-2", 300L);
+        double walletShare = tally.sqrtStakeShare(PairWinner.A, null, "wallet-solo", 600L);
+
+        assertEquals(Math.sqrt(400), identityShares, 1e-9);
+        assertEquals(Math.sqrt(600), walletShare, 1e-9);
+        assertEquals(tally.sqrtStakeTotal(PairWinner.A), identityShares + walletShare, 1e-9);
+        assertEquals(0.0, tally.sqrtStakeShare(PairWinner.A, null, "wallet-unknown", 50L));
+    }
+
+    @Test
+    void pairTally_majorityResolvesEqualLeadingStakesToTie() {
+        VoteTallyService.PairTally tally = new VoteTallyService.PairTally(
+                1, 2, 200L, 2, 100L, 100L, 0L, BigDecimal.ZERO, Map.of(), Map.of());
+
+        assertEquals(PairWinner.TIE, tally.majority());
+    }
+
+    @Test
+    void pairTally_majorityIsNullWithoutReveals() {
+        VoteTallyService.PairTally tally = VoteTallyService.PairTally.empty(1);
+
+        assertNull(tally.majority());
+        assertEquals(BigDecimal.ZERO, tally.averageCuratorScore());
+    }
+
+    private Commitment buildCommitment(PairWinner choice, long stake) {
+        Market market = new Market();
+        market.setId(1);
+
+        Round round = new Round();
+        round.setId(3);
+        round.setMarket(market);
+
+        Pair pair = new Pair();
+        pair.setId(11);
+        pair.setRound(round);
+
+        Commitment commitment = new Commitment();
+        commitment.setId(99);
+        commitment.setPair(pair);
+        commitment.setCuratorWallet("wallet-1");
+        commitment.setStake(stake);
+        commitment.setChoice(choice);
+        commitment.setRevealed(choice != null);
+        return commitment;
+    }
+
+    private static PairIdentityStakeRow identityRow(Integer pairId, String choice, Integer identityId, Long stake) {
+        return new PairIdentityStakeRow() {
+            @Override
+            public Integer getPairId() {
+                return pairId;
+            }
+
+            @Override
+            public String getChoice() {
+                return choice;
+            }
+
+            @Override
+            public Integer getIdentityId() {
+                return identityId;
+            }
+
+            @Override
+            public Long getStake() {
+                return stake;
+            }
+        };
+    }
+
+    private static PairWalletStakeRow walletRow(Integer pairId, String choice, String wallet, Long stake) {
+        return new PairWalletStakeRow() {
+            @Override
+            public Integer getPairId() {
+                return pairId;
+            }
+
+            @Override
+            public String getChoice() {
+                return choice;
+            }
+
+            @Override
+            public String getCuratorWallet() {
+                return wallet;
+            }
+
+            @Override
+            public Long getStake() {
+                return stake;
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.clawgic.service;
+
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WalletSignatureVerifierTest {
+
+    private static final String BASE58_ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+    private static final byte[] MESSAGE = "clawgic-commit-v1|wallet|7|0xabc".getBytes(StandardCharsets.UTF_8);
+
+    static Stream<WalletSignatureVerifier> verifiers() {
+        return Stream.of(
+                new JdkWalletSignatureVerifier(16, Clock.systemUTC()),
+                new BouncyCastleWalletSignatureVerifier()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("verifiers")
+    void verifyAcceptsValidAndRejectsTamperedSignatures(WalletSignatureVerifier verifier) {
+        Ed25519PrivateKeyParameters key = privateKey(1);
+        String wallet = wallet(key);
+        byte[] signature = sign(key, MESSAGE);
+        byte[] tampered = Arrays.copyOf(signature, signature.length);
+        tampered[0] ^= 0x01;
+
+        assertTrue(verifier.verify(wallet, MESSAGE, signature));
+        assertFalse(verifier.verify(wallet, MESSAGE, tampered));
+        assertFalse(verifier.verify(wallet, MESSAGE, Arrays.copyOf(signature, 10)));
+        assertFalse(verifier.verify(wallet(privateKey(2)), MESSAGE, signature));
+        assertThrows(IllegalArgumentException.class, () -> verifier.verify("not-base58-0OIl", MESSAGE, signature));
+    }
+
+    @ParameterizedTest
+    @MethodSource("verifiers")
+    void verifyAllReportsEachMessageIndependently(WalletSignatureVerifier verifier) {
+        Ed25519PrivateKeyParameters first = privateKey(1);
+        Ed25519PrivateKeyParameters second = privateKey(2);
+        byte[] otherMessage = "other".getBytes(StandardCharsets.UTF_8);
+
+        boolean[] results = verifier.verifyAll(List.of(
+                new WalletSignatureVerifier.SignedMessage(wallet(first), MESSAGE, sign(first, MESSAGE)),
+                new WalletSignatureVerifier.SignedMessage(wallet(second), MESSAGE, sign(first, MESSAGE)),
+                new WalletSignatureVerifier.SignedMessage("bad-wallet-0OIl", MESSAGE, sign(first, MESSAGE)),
+                new WalletSignatureVerifier.SignedMessage(wallet(first), otherMessage, sign(first, otherMessage)),
+                new WalletSignatureVerifier.SignedMessage(wallet(second), otherMessage, sign(second, otherMessage))
+        ));
+
+        assertArrayEquals(new boolean[]{true, false, false, true, true}, results);
+    }
+
+    @Test
+    void jdkVerifierDecodesEachWalletKeyOnce() {
+        JdkWalletSignatureVerifier verifier = new JdkWalletSignatureVerifier(16, Clock.systemUTC());
+        Ed25519PrivateKeyParameters key = privateKey(3);
+        String wallet = wallet(key);
+        byte[] signature = sign(key, MESSAGE);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(verifier.verify(wallet, MESSAGE, signature));
+        }
+
+        assertEquals(1L, verifier.publicKeyCacheStats().misses());
+        assertEquals(4L, verifier.publicKeyCacheStats().hits());
+    }
+
+    private static Ed25519PrivateKeyParameters privateKey(int seedByte) {
+        byte[] seed = new byte[32];
+        Arrays.fill(seed, (byte) seedByte);
+        return new Ed25519PrivateKeyParameters(seed, 0);
+    }
+
+    private static String wallet(Ed25519PrivateKeyParameters privateKey) {
+        return encodeBase58(privateKey.generatePublicKey().getEncoded());
+    }
+
+    private static byte[] sign(Ed25519PrivateKeyParameters privateKey, byte[] message) {
+        Ed25519Signer signer = new Ed25519Signer();
+        signer.init(true, privateKey);
+        signer.update(message, 0, message.length);
+        return signer.generateSignature();
+    }
+
+    private static String encodeBase58(byte[] bytes) {
+        BigInteger value = new BigInteger(1, bytes);
+        StringBuilder result = new StringBuilder();
+        while (value.compareTo(BigInteger.ZERO) > 0) {
+            BigInteger[] divRem = value.divideAndRemainder(BigInteger.valueOf(58));
+            result.append(BASE58_ALPHABET.charAt(divRem[1].intValue()));
+            value = divRem[0];
+        }
+        for (byte b : bytes) {
+            if (b == 0) {
+                result.append('1');
+            } else {
+                break;
+            }
+        }
+        return result.reverse().toString();
+    }
+}
@@ -66,6 +66,7 @@ export interface Round {
   basePerPair: number
   premiumPerPair: number
   contentMerkleRoot: string | null
+  payoutMerkleRoot: string | null
   startedAt: string | null
   commitDeadline: string | null
   revealDeadline: string | null